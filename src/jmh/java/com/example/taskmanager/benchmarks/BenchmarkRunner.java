@@ -0,0 +1,60 @@
+package com.example.taskmanager.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks once per thread count.
+ * Accepts the usual JMH command line (benchmark regexp, -p, -f, -wi ...).
+ * Thread counts come from the {@code bench.threads} system property, a
+ * comma-separated list defaulting to {@code 1,4}. Runs with more than one
+ * thread only use repository backends that are safe to share.
+ *
+ * <p>Quick run: {@code mvn -Pbenchmarks test-compile exec:exec
+ * -Djmh.args="Repository -p size=1000 -wi 1 -i 2"}
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Benchmark entry point.
+   *
+   * @param args JMH command line arguments
+   * @throws CommandLineOptionException if the arguments are invalid
+   * @throws RunnerException if a benchmark fails
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    CommandLineOptions commandLine = new CommandLineOptions(args);
+    String[] sharedBackends = threadSafeBackends();
+
+    for (String value : System.getProperty("bench.threads", "1,4").split(",")) {
+      int threads = Integer.parseInt(value.trim());
+      ChainedOptionsBuilder options = new OptionsBuilder()
+          .parent(commandLine)
+          .threads(threads);
+      if (threads > 1 && !commandLine.getParameter("backend").hasValue()) {
+        options.param("backend", sharedBackends);
+      }
+      new Runner(options.build()).run();
+    }
+  }
+
+  private static String[] threadSafeBackends() {
+    List<String> names = new ArrayList<>();
+    for (RepositoryBackend backend : RepositoryBackend.values()) {
+      if (backend.isThreadSafe()) {
+        names.add(backend.name());
+      }
+    }
+    return names.toArray(new String[0]);
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.taskmanager.benchmarks;
+
+import com.example.taskmanager.events.TaskChangePublisher;
+import com.example.taskmanager.events.TaskChangeStream;
+import com.example.taskmanager.events.WaitStrategy;
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskIdGenerator;
+import com.example.taskmanager.repositories.InMemoryTaskRepository;
+import com.example.taskmanager.repositories.TaskRepository;
+import com.example.taskmanager.services.TaskService;
+import com.example.taskmanager.services.TaskServiceImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Write-path cost of publishing changes: completing a task with no
+ * publisher, and with a {@link TaskChangeStream} feeding one subscriber
+ * under each backpressure policy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChangeStreamBenchmark {
+
+  @Param({"none", "block", "drop"})
+  public String publisher;
+
+  @Param({"10000"})
+  public int size;
+
+  private TaskService service;
+  private TaskChangeStream stream;
+  private String[] ids;
+  private long consumed;
+
+  /**
+   * Fills the repository and subscribes a counting listener.
+   */
+  @Setup
+  public void setUp() {
+    TaskRepository repository = new InMemoryTaskRepository();
+    ids = new String[size];
+    for (int i = 0; i < size; i++) {
+      ids[i] = repository.save(new Task("Task " + i, "")).getId();
+    }
+    TaskChangePublisher changes = TaskChangePublisher.NONE;
+    if (!publisher.equals("none")) {
+      stream = new TaskChangeStream(8192, WaitStrategy.sleeping(),
+          TaskChangeStream.Backpressure.valueOf(publisher.toUpperCase()));
+      stream.subscribe((event, endOfBatch) -> consumed++);
+      changes = stream;
+    }
+    service = new TaskServiceImpl(repository, TaskIdGenerator.sequential(), changes);
+  }
+
+  /**
+   * Stops the subscriber.
+   */
+  @TearDown
+  public void tearDown() {
+    if (stream != null) {
+      stream.close();
+    }
+  }
+
+  /**
+   * Completes a task, publishing a COMPLETED event.
+   *
+   * @return whether the task was found
+   */
+  @Benchmark
+  public boolean completeTask() {
+    return service.completeTask(ids[size / 2]);
+  }
+}
@@ -0,0 +1,80 @@
+package com.example.taskmanager.benchmarks;
+
+import com.example.taskmanager.metrics.MetricsRegistry;
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.InMemoryTaskRepository;
+import com.example.taskmanager.repositories.InstrumentedTaskRepository;
+import com.example.taskmanager.repositories.TaskRepository;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link InstrumentedTaskRepository} on the cheapest repository
+ * call, a lookup by id, from one thread and from four threads sharing
+ * the same histograms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationBenchmark {
+
+  @Param({"false", "true"})
+  public boolean instrumented;
+
+  @Param({"10000"})
+  public int size;
+
+  private TaskRepository repository;
+  private String[] ids;
+
+  /**
+   * Fills the repository, wrapping it if instrumented.
+   */
+  @Setup
+  public void setUp() {
+    TaskRepository tasks = new InMemoryTaskRepository();
+    ids = new String[size];
+    for (int i = 0; i < size; i++) {
+      ids[i] = tasks.save(new Task("Task " + i, "")).getId();
+    }
+    repository = instrumented
+        ? new InstrumentedTaskRepository(tasks, new MetricsRegistry())
+        : tasks;
+  }
+
+  /**
+   * Looks up a task by id from one thread.
+   *
+   * @return the task
+   */
+  @Benchmark
+  public Optional<Task> findById() {
+    return repository.findById(ids[size / 2]);
+  }
+
+  /**
+   * Looks up a task by id from four threads.
+   *
+   * @return the task
+   */
+  @Benchmark
+  @Threads(4)
+  public Optional<Task> findByIdContended() {
+    return repository.findById(ids[size / 2]);
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.taskmanager.benchmarks;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.TaskRepository;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures deleting the first task of a large repository.
+ * The removed task is appended again so the size stays constant
+ * across invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PositionalDeleteBenchmark {
+
+  @Param({"INMEMORY", "TREE"})
+  public RepositoryBackend backend;
+
+  @Param({"1000000"})
+  public int size;
+
+  private TaskRepository repository;
+
+  /**
+   * Fills the repository with {@code size} tasks.
+   */
+  @Setup
+  public void setUp() {
+    repository = backend.create(size);
+  }
+
+  /**
+   * Deletes the task at position 0 and re-appends it.
+   *
+   * @return the moved task
+   */
+  @Benchmark
+  public Task deleteFirst() {
+    Task first = repository.findByIndex(0).orElseThrow();
+    repository.deleteByIndex(0);
+    return repository.save(first);
+  }
+}
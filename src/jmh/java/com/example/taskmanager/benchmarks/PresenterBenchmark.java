@@ -0,0 +1,61 @@
+package com.example.taskmanager.benchmarks;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.presentation.ConsoleTaskPresenter;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rendering cost of ConsoleTaskPresenter, writing to a discarding stream
+ * so only formatting and encoding are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PresenterBenchmark {
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int size;
+
+  private ConsoleTaskPresenter presenter;
+  private List<Task> tasks;
+
+  /**
+   * Builds the task list, completing every other task.
+   */
+  @Setup
+  public void setUp() {
+    presenter = new ConsoleTaskPresenter(new PrintStream(OutputStream.nullOutputStream()));
+    tasks = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Task task = new Task("Task " + i, i % 3 == 0 ? "" : "Description " + i);
+      task.setCompleted(i % 2 == 0);
+      tasks.add(task);
+    }
+  }
+
+  /**
+   * Renders the whole list.
+   */
+  @Benchmark
+  public void displayTasks() {
+    presenter.displayTasks(tasks);
+  }
+}
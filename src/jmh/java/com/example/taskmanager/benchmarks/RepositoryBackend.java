@@ -0,0 +1,62 @@
+package com.example.taskmanager.benchmarks;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.ColumnarTaskRepository;
+import com.example.taskmanager.repositories.ConcurrentTaskRepository;
+import com.example.taskmanager.repositories.CopyOnWriteTaskRepository;
+import com.example.taskmanager.repositories.InMemoryTaskRepository;
+import com.example.taskmanager.repositories.OffHeapTaskRepository;
+import com.example.taskmanager.repositories.ShardedTaskRepository;
+import com.example.taskmanager.repositories.TaskRepository;
+import com.example.taskmanager.repositories.TreeTaskRepository;
+import java.util.function.Supplier;
+
+/**
+ * TaskRepository implementations that benchmarks can be parameterized by.
+ * New backends are added here so they are measured against the same
+ * baseline as the existing ones.
+ */
+public enum RepositoryBackend {
+  INMEMORY(InMemoryTaskRepository::new, false),
+  TREE(TreeTaskRepository::new, false),
+  CONCURRENT(ConcurrentTaskRepository::new, true),
+  COLUMNAR(ColumnarTaskRepository::new, false),
+  OFFHEAP(OffHeapTaskRepository::new, false),
+  COPY_ON_WRITE(CopyOnWriteTaskRepository::new, true),
+  SHARDED(() -> new ShardedTaskRepository(
+      Runtime.getRuntime().availableProcessors()), true);
+
+  private final Supplier<TaskRepository> factory;
+  private final boolean threadSafe;
+
+  RepositoryBackend(Supplier<TaskRepository> factory, boolean threadSafe) {
+    this.factory = factory;
+    this.threadSafe = threadSafe;
+  }
+
+  /**
+   * Creates a repository pre-filled with {@code size} tasks, one in a
+   * hundred of them completed.
+   *
+   * @param size the number of tasks to insert
+   * @return the filled repository
+   */
+  public TaskRepository create(int size) {
+    TaskRepository repository = factory.get();
+    for (int i = 0; i < size; i++) {
+      Task task = new Task("Task " + i, "Description " + i);
+      task.setCompleted(i % 100 == 0);
+      repository.save(task);
+    }
+    return repository;
+  }
+
+  /**
+   * Whether several benchmark threads may share one instance.
+   *
+   * @return true if the backend is thread-safe
+   */
+  public boolean isThreadSafe() {
+    return threadSafe;
+  }
+}
@@ -0,0 +1,124 @@
+package com.example.taskmanager.benchmarks;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.TaskRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hot paths of TaskRepository, shared by all benchmark threads.
+ * Mutating benchmarks keep the repository size constant so results stay
+ * comparable across iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryBenchmark {
+
+  @Param({"INMEMORY", "TREE", "CONCURRENT", "COLUMNAR", "OFFHEAP", "COPY_ON_WRITE",
+      "SHARDED"})
+  public RepositoryBackend backend;
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int size;
+
+  private TaskRepository repository;
+  private String[] ids;
+
+  /**
+   * Fills the repository and records the ids of its tasks.
+   */
+  @Setup
+  public void setUp() {
+    repository = backend.create(size);
+    ids = new String[size];
+    for (int i = 0; i < size; i++) {
+      ids[i] = repository.findByIndex(i).orElseThrow().getId();
+    }
+  }
+
+  /**
+   * Upserts an existing task, the write done by every service update.
+   *
+   * @return the saved task
+   */
+  @Benchmark
+  public Task save() {
+    Optional<Task> task = repository.findById(randomId());
+    return task.map(repository::save).orElse(null);
+  }
+
+  /**
+   * Looks up a random task by id.
+   *
+   * @return the lookup result
+   */
+  @Benchmark
+  public Optional<Task> findById() {
+    return repository.findById(randomId());
+  }
+
+  /**
+   * Looks up a random task by position.
+   *
+   * @return the lookup result
+   */
+  @Benchmark
+  public Optional<Task> findByIndex() {
+    return repository.findByIndex(ThreadLocalRandom.current().nextInt(size));
+  }
+
+  /**
+   * Deletes the task at a random position and appends it again.
+   *
+   * @return whether the delete succeeded
+   */
+  @Benchmark
+  public boolean deleteByIndex() {
+    int index = ThreadLocalRandom.current().nextInt(size);
+    Optional<Task> task = repository.findByIndex(index);
+    boolean deleted = repository.deleteByIndex(index);
+    task.ifPresent(repository::save);
+    return deleted;
+  }
+
+  /**
+   * Copies out every task.
+   *
+   * @return all tasks
+   */
+  @Benchmark
+  public List<Task> findAll() {
+    return repository.findAll();
+  }
+
+  /**
+   * Lists the completed tasks, one in a hundred.
+   *
+   * @return the completed tasks
+   */
+  @Benchmark
+  public List<Task> findCompleted() {
+    return repository.findByStatus(true);
+  }
+
+  private String randomId() {
+    return ids[ThreadLocalRandom.current().nextInt(size)];
+  }
+}
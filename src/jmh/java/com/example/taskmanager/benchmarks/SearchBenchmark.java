@@ -0,0 +1,81 @@
+package com.example.taskmanager.benchmarks;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.InMemoryTaskRepository;
+import com.example.taskmanager.repositories.IndexedTaskRepository;
+import com.example.taskmanager.repositories.TaskRepository;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a two-word search answered by scanning every task with the same
+ * search answered by {@link IndexedTaskRepository}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+
+  private static final String[] WORDS = {
+    "report", "email", "invoice", "meeting", "review", "deploy", "backup", "release",
+    "budget", "client", "design", "draft", "audit", "payroll", "survey", "training"
+  };
+
+  @Param({"false", "true"})
+  public boolean indexed;
+
+  @Param({"1000000"})
+  public int size;
+
+  private TaskRepository repository;
+
+  /**
+   * Fills the repository with tasks named from a small vocabulary, and a
+   * unique word per task in the description.
+   */
+  @Setup
+  public void setUp() {
+    TaskRepository tasks = new InMemoryTaskRepository();
+    SplittableRandom random = new SplittableRandom(42);
+    for (int i = 0; i < size; i++) {
+      tasks.save(new Task(WORDS[random.nextInt(WORDS.length)] + " "
+          + WORDS[random.nextInt(WORDS.length)], "ticket" + i));
+    }
+    repository = indexed ? new IndexedTaskRepository(tasks) : tasks;
+  }
+
+  /**
+   * Searches for a rare word together with a common one.
+   *
+   * @return the matching tasks
+   */
+  @Benchmark
+  public List<Task> rareAndCommonTerm() {
+    return repository.search("ticket" + (size / 2) + " report");
+  }
+
+  /**
+   * Searches for two common words.
+   *
+   * @return the matching tasks
+   */
+  @Benchmark
+  public List<Task> twoCommonTerms() {
+    return repository.search("audit payroll");
+  }
+}
@@ -0,0 +1,108 @@
+package com.example.taskmanager.benchmarks;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.SnapshotTaskRepository;
+import com.example.taskmanager.repositories.WriteAheadLogTaskRepository;
+import com.example.taskmanager.repositories.WriteAheadLogTaskRepository.Durability;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to bring up a file-backed repository and read one task, either by
+ * replaying the whole write-ahead log or by mapping a snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+
+  @Param({"1000000"})
+  public int size;
+
+  private Path dir;
+  private Path fullLog;
+  private Path snapshot;
+
+  /**
+   * Writes the same task set once as a plain log and once as a snapshot.
+   *
+   * @throws IOException if the files cannot be written
+   */
+  @Setup
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("task-startup");
+    fullLog = dir.resolve("full.log");
+    try (WriteAheadLogTaskRepository log = WriteAheadLogTaskRepository.open(fullLog,
+            Durability.ASYNC);
+        WriteAheadLogTaskRepository checkpointed = WriteAheadLogTaskRepository.open(
+            dir.resolve("tasks.log"), dir.resolve("tasks.snapshot"), Durability.ASYNC)) {
+      for (int i = 0; i < size; i++) {
+        Task task = new Task("Task " + i, "Description " + i);
+        log.save(task);
+        checkpointed.save(task);
+      }
+      checkpointed.checkpoint();
+    }
+    // The first checkpoint of a new log covers generation 0
+    snapshot = dir.resolve("tasks.snapshot.0");
+  }
+
+  /**
+   * Deletes the benchmark files.
+   *
+   * @throws IOException if the files cannot be deleted
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(dir)) {
+      for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  /**
+   * Replays every record of the log.
+   *
+   * @return the task in the middle
+   * @throws IOException if the log cannot be read
+   */
+  @Benchmark
+  public Optional<Task> replayLog() throws IOException {
+    try (WriteAheadLogTaskRepository repository =
+        WriteAheadLogTaskRepository.open(fullLog, Durability.ASYNC)) {
+      return repository.findByIndex(size / 2);
+    }
+  }
+
+  /**
+   * Maps the snapshot and decodes a single task.
+   *
+   * @return the task in the middle
+   * @throws IOException if the snapshot cannot be mapped
+   */
+  @Benchmark
+  public Optional<Task> mapSnapshot() throws IOException {
+    return SnapshotTaskRepository.open(snapshot).findByIndex(size / 2);
+  }
+}
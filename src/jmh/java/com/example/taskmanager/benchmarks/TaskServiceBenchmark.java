@@ -0,0 +1,85 @@
+package com.example.taskmanager.benchmarks;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.services.TaskService;
+import com.example.taskmanager.services.TaskServiceImpl;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hot paths of TaskServiceImpl over each repository backend.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+  @Param({"INMEMORY", "TREE", "CONCURRENT"})
+  public RepositoryBackend backend;
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int size;
+
+  private TaskService service;
+  private String[] ids;
+
+  /**
+   * Builds a service over a filled repository.
+   */
+  @Setup
+  public void setUp() {
+    service = new TaskServiceImpl(backend.create(size));
+    ids = new String[size];
+    for (int i = 0; i < size; i++) {
+      ids[i] = service.getTaskByIndex(i + 1).orElseThrow().getId();
+    }
+  }
+
+  /**
+   * Creates a task, then removes the last task by position so the
+   * repository size stays constant.
+   *
+   * @return the created task
+   */
+  @Benchmark
+  public Task createTask() {
+    Task task = service.createTask("Benchmark task", "Created by JMH");
+    service.removeTaskByIndex(service.getTaskCount());
+    return task;
+  }
+
+  /**
+   * Completes a random task by id.
+   *
+   * @return whether the task was found
+   */
+  @Benchmark
+  public boolean completeTask() {
+    return service.completeTask(ids[ThreadLocalRandom.current().nextInt(size)]);
+  }
+
+  /**
+   * Renames a random task by its 1-based index.
+   *
+   * @return whether the task was updated
+   */
+  @Benchmark
+  public boolean updateTask() {
+    int index = ThreadLocalRandom.current().nextInt(size) + 1;
+    return service.updateTask(index, "Renamed " + index, "Updated by JMH");
+  }
+}
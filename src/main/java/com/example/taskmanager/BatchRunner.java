@@ -0,0 +1,190 @@
+package com.example.taskmanager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * Runs task operations read line by line from a script through a
+ * TaskManager, without any menu rendering.
+ * Follows the Single Responsibility Principle (SRP) - only parses
+ * commands; TaskManager performs and reports them.
+ *
+ * <p>One command per line; blank lines and lines starting with {@code #}
+ * are skipped. Names and descriptions are separated by {@code |}:
+ * <pre>
+ * add Buy milk | From the corner shop
+ * complete 1
+ * edit 1 Buy oat milk | Or soy
+ * remove 1
+ * list
+ * </pre>
+ * Indexes are 1-based, as in the interactive menu. Malformed lines are
+ * reported to the diagnostics stream with their line number, counted as
+ * rejected, and skipped.
+ */
+public final class BatchRunner {
+
+  private static final char FIELD_SEPARATOR = '|';
+
+  private final TaskManager taskManager;
+  private final PrintStream diagnostics;
+
+  /**
+   * Creates a BatchRunner.
+   *
+   * @param taskManager the TaskManager that runs and reports each command
+   * @param diagnostics the stream malformed lines are reported to
+   * @throws IllegalArgumentException if an argument is null
+   */
+  public BatchRunner(TaskManager taskManager, PrintStream diagnostics) {
+    if (taskManager == null || diagnostics == null) {
+      throw new IllegalArgumentException("TaskManager and diagnostics cannot be null");
+    }
+    this.taskManager = taskManager;
+    this.diagnostics = diagnostics;
+  }
+
+  /**
+   * Runs every command in the input.
+   *
+   * @param input the script
+   * @return counts and timing of the run
+   * @throws IOException if the input cannot be read
+   */
+  public Summary run(BufferedReader input) throws IOException {
+    long start = System.nanoTime();
+    long operations = 0;
+    long rejected = 0;
+    long lineNumber = 0;
+    for (String line = input.readLine(); line != null; line = input.readLine()) {
+      lineNumber++;
+      String command = line.strip();
+      if (command.isEmpty() || command.charAt(0) == '#') {
+        continue;
+      }
+      try {
+        execute(command);
+        operations++;
+      } catch (IllegalArgumentException e) {
+        rejected++;
+        diagnostics.println("Line " + lineNumber + ": " + e.getMessage());
+      }
+    }
+    return new Summary(operations, rejected, System.nanoTime() - start);
+  }
+
+  private void execute(String command) {
+    int space = command.indexOf(' ');
+    String verb = space < 0 ? command : command.substring(0, space);
+    String arguments = space < 0 ? "" : command.substring(space + 1).strip();
+    switch (verb.toLowerCase(Locale.ROOT)) {
+      case "add": {
+        int separator = arguments.indexOf(FIELD_SEPARATOR);
+        if (separator < 0) {
+          taskManager.addTask(arguments, "");
+        } else {
+          taskManager.addTask(arguments.substring(0, separator).strip(),
+              arguments.substring(separator + 1).strip());
+        }
+        break;
+      }
+      case "complete":
+        taskManager.completeTask(parseIndex(arguments));
+        break;
+      case "edit": {
+        int indexEnd = arguments.indexOf(' ');
+        if (indexEnd < 0) {
+          throw new IllegalArgumentException("edit needs an index and a name");
+        }
+        int index = parseIndex(arguments.substring(0, indexEnd));
+        String fields = arguments.substring(indexEnd + 1);
+        int separator = fields.indexOf(FIELD_SEPARATOR);
+        if (separator < 0) {
+          taskManager.editTask(index, fields.strip(), "");
+        } else {
+          taskManager.editTask(index, fields.substring(0, separator).strip(),
+              fields.substring(separator + 1).strip());
+        }
+        break;
+      }
+      case "remove":
+        taskManager.removeTask(parseIndex(arguments));
+        break;
+      case "list":
+        if (!arguments.isEmpty()) {
+          throw new IllegalArgumentException("list takes no arguments");
+        }
+        taskManager.listTasks();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown command: " + verb);
+    }
+  }
+
+  private static int parseIndex(String text) {
+    try {
+      return Integer.parseInt(text.strip());
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid task number: " + text);
+    }
+  }
+
+  /**
+   * Outcome of a batch run.
+   */
+  public static final class Summary {
+    private final long operations;
+    private final long rejected;
+    private final long elapsedNanos;
+
+    Summary(long operations, long rejected, long elapsedNanos) {
+      this.operations = operations;
+      this.rejected = rejected;
+      this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of commands run.
+     *
+     * @return the operation count
+     */
+    public long getOperations() {
+      return operations;
+    }
+
+    /**
+     * Returns the number of malformed lines skipped.
+     *
+     * @return the rejected count
+     */
+    public long getRejected() {
+      return rejected;
+    }
+
+    /**
+     * Returns the wall-clock time of the run.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+      return elapsedNanos;
+    }
+
+    /**
+     * Returns the commands run per second.
+     *
+     * @return the throughput
+     */
+    public double getOperationsPerSecond() {
+      return elapsedNanos > 0 ? operations * 1e9 / elapsedNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.ROOT, "%d operations, %d rejected in %.3f s (%.0f ops/s)",
+          operations, rejected, elapsedNanos / 1e9, getOperationsPerSecond());
+    }
+  }
+}
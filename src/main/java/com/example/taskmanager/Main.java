@@ -1,17 +1,40 @@
 package com.example.taskmanager;
 
 import com.example.taskmanager.config.ApplicationFactory;
+import com.example.taskmanager.io.TaskExporter;
+import com.example.taskmanager.io.TaskImporter;
+import com.example.taskmanager.presentation.ConsoleTaskPresenter;
+import com.example.taskmanager.repositories.TaskRepository;
+import com.example.taskmanager.server.TaskHttpServer;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
 import java.util.Scanner;
 
 /**
  * Main entry point for the Task Manager application.
  * Provides an interactive menu for task management operations
- * following SOLID principles.
+ * following SOLID principles, an HTTP/JSON server when started
+ * with {@code --server [port]}, or a batch run of a command script
+ * (see {@link BatchRunner}) when started with {@code --batch [file]}.
+ * {@code --import file} and {@code --export file} load or dump the
+ * write-ahead log named by {@code -Dtaskmanager.log} as CSV or JSON Lines;
+ * without one there is no store to transfer, so they fail.
  */
 public class Main {
 
+  private static final int BATCH_BUFFER_SIZE = 1 << 16;
   private static final Scanner scanner = new Scanner(System.in);
-  private static final TaskManager taskManager = ApplicationFactory.createTaskManager();
+  private static TaskManager taskManager;
 
   /**
    * Application entry point.
@@ -19,6 +42,19 @@ public class Main {
    * @param args command line arguments
    */
   public static void main(String[] args) {
+    if (args.length > 0 && args[0].equals("--server")) {
+      runServer(args);
+      return;
+    }
+    if (args.length > 0 && args[0].equals("--batch")) {
+      runBatch(args);
+      return;
+    }
+    if (args.length > 1 && (args[0].equals("--import") || args[0].equals("--export"))) {
+      runTransfer(args[0].equals("--import"), Paths.get(args[1]));
+      return;
+    }
+    taskManager = ApplicationFactory.createTaskManager();
     displayWelcome();
     boolean running = true;
 
@@ -54,6 +90,62 @@ public class Main {
     scanner.close();
   }
 
+  private static void runServer(String[] args) {
+    TaskHttpServer server = args.length > 1
+        ? ApplicationFactory.createTaskServer(Integer.parseInt(args[1]))
+        : ApplicationFactory.createTaskServer();
+    Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+    server.start();
+    System.out.println("Task Manager server listening on port " + server.getPort());
+  }
+
+  private static void runBatch(String[] args) {
+    // Output goes through one large buffer with no autoflush, instead of
+    // System.out's flush on every line
+    PrintStream out = new PrintStream(
+        new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), BATCH_BUFFER_SIZE),
+        false, StandardCharsets.UTF_8);
+    TaskManager batchManager = ApplicationFactory.createTaskManager(new ConsoleTaskPresenter(out));
+    BatchRunner.Summary summary;
+    try (BufferedReader input = args.length > 1 && !args[1].equals("-")
+        ? Files.newBufferedReader(Paths.get(args[1]), StandardCharsets.UTF_8)
+        : new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8),
+            BATCH_BUFFER_SIZE)) {
+      summary = new BatchRunner(batchManager, System.err).run(input);
+    } catch (IOException e) {
+      out.flush();
+      System.err.println("Cannot read batch input: " + e.getMessage());
+      System.exit(1);
+      return;
+    }
+    out.flush();
+    System.err.println(summary);
+  }
+
+  private static void runTransfer(boolean importing, Path file) {
+    String log = System.getProperty(ApplicationFactory.LOG_FILE_PROPERTY);
+    if (log == null || log.isBlank()) {
+      // The default in-memory store would be thrown away on exit
+      System.err.println("Cannot " + (importing ? "import" : "export") + " without a durable "
+          + "store; set -D" + ApplicationFactory.LOG_FILE_PROPERTY + "=<log file>");
+      System.exit(1);
+      return;
+    }
+    TaskRepository repository = ApplicationFactory.createTaskRepository();
+    long start = System.nanoTime();
+    try {
+      long count = importing
+          ? new TaskImporter(repository).importFrom(file)
+          : new TaskExporter(repository).exportTo(file);
+      System.err.printf(Locale.ROOT, "%s %d tasks in %.3f s%n",
+          importing ? "Imported" : "Exported", count, (System.nanoTime() - start) / 1e9);
+    } catch (IOException | IllegalArgumentException e) {
+      System.err.println("Cannot " + (importing ? "import " : "export ") + file + ": "
+          + e.getMessage());
+      System.exit(1);
+    }
+  }
+
   private static void displayWelcome() {
     System.out.println("\n" + "═".repeat(50));
     System.out.println("     📋 Welcome to Task Manager Application");
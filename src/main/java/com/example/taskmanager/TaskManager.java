@@ -1,9 +1,10 @@
 package com.example.taskmanager;
 
+import com.example.taskmanager.jfr.TaskOperationEvent;
 import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
 import com.example.taskmanager.presentation.TaskPresenter;
 import com.example.taskmanager.services.TaskService;
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,6 +17,8 @@ import java.util.Optional;
  */
 public class TaskManager {
 
+  private static final int LIST_PAGE_SIZE = 100;
+
   private final TaskService taskService;
   private final TaskPresenter presenter;
 
@@ -52,20 +55,50 @@ public class TaskManager {
    * @param description the description of the task
    */
   public void addTask(String taskName, String description) {
+    TaskOperationEvent event = TaskOperationEvent.inManager(TaskOperationEvent.CREATE);
+    Task task = null;
     try {
-      Task task = taskService.createTask(taskName, description);
+      task = taskService.createTask(taskName, description);
       presenter.displaySuccess("Task added: " + task.getName());
     } catch (IllegalArgumentException e) {
       presenter.displayError(e.getMessage());
+    } finally {
+      event.finish(task, task != null, taskService::getTaskCount);
     }
   }
 
   /**
-   * Lists all tasks.
+   * Lists all tasks, fetching and rendering them one page at a time.
    */
   public void listTasks() {
-    List<Task> tasks = taskService.getAllTasks();
-    presenter.displayTasks(tasks);
+    String cursor = null;
+    do {
+      cursor = listTaskPage(cursor, LIST_PAGE_SIZE);
+    } while (cursor != null);
+  }
+
+  /**
+   * Lists one page of tasks.
+   *
+   * @param cursor the cursor returned for the previous page,
+   *     or null for the first page
+   * @param pageSize the maximum number of tasks to list
+   * @return the cursor of the next page, or null if this was the last
+   */
+  public String listTaskPage(String cursor, int pageSize) {
+    TaskOperationEvent event = TaskOperationEvent.inManager(TaskOperationEvent.LIST);
+    TaskPage page = null;
+    try {
+      page = taskService.getTaskPage(cursor, pageSize);
+      presenter.displayTaskPage(page);
+      return page.getNextCursor();
+    } catch (IllegalArgumentException e) {
+      presenter.displayError(e.getMessage());
+      return null;
+    } finally {
+      event.finish(null, page != null ? page.getTasks().size() : 0, page != null,
+          taskService::getTaskCount);
+    }
   }
 
   /**
@@ -74,16 +107,23 @@ public class TaskManager {
    * @param index the 1-based index of the task to remove
    */
   public void removeTask(int index) {
+    TaskOperationEvent event = TaskOperationEvent.inManager(TaskOperationEvent.REMOVE);
     Optional<Task> task = taskService.getTaskByIndex(index);
-    if (task.isPresent()) {
-      String taskName = task.get().getName();
-      if (taskService.removeTaskByIndex(index)) {
-        presenter.displaySuccess("Task removed: " + taskName);
+    boolean removed = false;
+    try {
+      if (task.isPresent()) {
+        String taskName = task.get().getName();
+        removed = taskService.removeTaskByIndex(index);
+        if (removed) {
+          presenter.displaySuccess("Task removed: " + taskName);
+        } else {
+          presenter.displayError("Failed to remove task.");
+        }
       } else {
-        presenter.displayError("Failed to remove task.");
+        presenter.displayError("Task not found at index " + index);
       }
-    } else {
-      presenter.displayError("Task not found at index " + index);
+    } finally {
+      event.finish(task.orElse(null), removed, taskService::getTaskCount);
     }
   }
 
@@ -93,15 +133,22 @@ public class TaskManager {
    * @param index the 1-based index of the task to complete
    */
   public void completeTask(int index) {
+    TaskOperationEvent event = TaskOperationEvent.inManager(TaskOperationEvent.COMPLETE);
     Optional<Task> task = taskService.getTaskByIndex(index);
-    if (task.isPresent()) {
-      if (taskService.completeTask(task.get().getId())) {
-        presenter.displaySuccess("Task completed: " + task.get().getName());
+    boolean completed = false;
+    try {
+      if (task.isPresent()) {
+        completed = taskService.completeTask(task.get().getId());
+        if (completed) {
+          presenter.displaySuccess("Task completed: " + task.get().getName());
+        } else {
+          presenter.displayError("Failed to complete task.");
+        }
       } else {
-        presenter.displayError("Failed to complete task.");
+        presenter.displayError("Task not found at index " + index);
       }
-    } else {
-      presenter.displayError("Task not found at index " + index);
+    } finally {
+      event.finish(task.orElse(null), completed, taskService::getTaskCount);
     }
   }
 
@@ -113,15 +160,22 @@ public class TaskManager {
    * @param newDescription the new description for the task
    */
   public void editTask(int index, String newName, String newDescription) {
+    TaskOperationEvent event = TaskOperationEvent.inManager(TaskOperationEvent.UPDATE);
     Optional<Task> task = taskService.getTaskByIndex(index);
-    if (task.isPresent()) {
-      if (taskService.updateTask(index, newName, newDescription)) {
-        presenter.displaySuccess("Task updated successfully");
+    boolean updated = false;
+    try {
+      if (task.isPresent()) {
+        updated = taskService.updateTask(index, newName, newDescription);
+        if (updated) {
+          presenter.displaySuccess("Task updated successfully");
+        } else {
+          presenter.displayError("Failed to update task. Name cannot be empty.");
+        }
       } else {
-        presenter.displayError("Failed to update task. Name cannot be empty.");
+        presenter.displayError("Task not found at index " + index);
       }
-    } else {
-      presenter.displayError("Task not found at index " + index);
+    } finally {
+      event.finish(task.orElse(null), updated, taskService::getTaskCount);
     }
   }
 
@@ -1,12 +1,47 @@
 package com.example.taskmanager.config;
 
 import com.example.taskmanager.TaskManager;
+import com.example.taskmanager.events.TaskChangePublisher;
+import com.example.taskmanager.events.TaskChangeStream;
+import com.example.taskmanager.events.WaitStrategy;
+import com.example.taskmanager.metrics.MetricsRegistry;
+import com.example.taskmanager.models.TaskIdGenerator;
 import com.example.taskmanager.presentation.ConsoleTaskPresenter;
+import com.example.taskmanager.presentation.InstrumentedTaskPresenter;
 import com.example.taskmanager.presentation.TaskPresenter;
+import com.example.taskmanager.replication.LeaderTaskRepository;
+import com.example.taskmanager.replication.ReplicationFollower;
+import com.example.taskmanager.replication.ReplicationLog;
+import com.example.taskmanager.replication.ReplicationServer;
+import com.example.taskmanager.repositories.ConcurrentTaskRepository;
+import com.example.taskmanager.repositories.CopyOnWriteTaskRepository;
 import com.example.taskmanager.repositories.InMemoryTaskRepository;
+import com.example.taskmanager.repositories.InstrumentedTaskRepository;
+import com.example.taskmanager.repositories.IndexedTaskRepository;
+import com.example.taskmanager.repositories.ShardedTaskRepository;
 import com.example.taskmanager.repositories.TaskRepository;
+import com.example.taskmanager.repositories.WriteAheadLogTaskRepository;
+import com.example.taskmanager.repositories.WriteAheadLogTaskRepository.Durability;
+import com.example.taskmanager.server.TaskHttpServer;
+import com.example.taskmanager.services.AsyncTaskServiceImpl;
+import com.example.taskmanager.services.InstrumentedTaskService;
 import com.example.taskmanager.services.TaskService;
 import com.example.taskmanager.services.TaskServiceImpl;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Factory class for creating application components.
@@ -17,23 +52,166 @@ import com.example.taskmanager.services.TaskServiceImpl;
  */
 public final class ApplicationFactory {
 
+  /** System property naming a log file that makes the default repository durable. */
+  public static final String LOG_FILE_PROPERTY = "taskmanager.log";
+
+  /** System property selecting the {@link Durability} of the log file. */
+  public static final String DURABILITY_PROPERTY = "taskmanager.durability";
+
+  /** System property with the number of seconds between snapshots of the log. */
+  public static final String SNAPSHOT_INTERVAL_PROPERTY = "taskmanager.snapshotInterval";
+
+  /**
+   * System property selecting how new task ids are generated: {@code time}
+   * (time-ordered 128-bit, the default), {@code random} (random 128-bit)
+   * or {@code sequential} (monotonic 64-bit).
+   */
+  public static final String ID_STRATEGY_PROPERTY = "taskmanager.idStrategy";
+
+  /** System property with the number of asynchronous operations that may run at once. */
+  public static final String ASYNC_CONCURRENCY_PROPERTY = "taskmanager.async.maxConcurrency";
+
+  /** System property with the number of asynchronous operations that may be accepted at once. */
+  public static final String ASYNC_IN_FLIGHT_PROPERTY = "taskmanager.async.maxInFlight";
+
+  /** System property that turns on latency and error metrics for every layer. */
+  public static final String METRICS_PROPERTY = "taskmanager.metrics";
+
+  /** System property naming the file the metrics report is written to on shutdown. */
+  public static final String METRICS_FILE_PROPERTY = "taskmanager.metrics.file";
+
+  /**
+   * System property that, set to false, leaves out the inverted search
+   * index: searches then scan every task, and writes no longer pay for
+   * keeping the index up to date. Worth it for stores that are rarely
+   * searched.
+   */
+  public static final String SEARCH_INDEX_PROPERTY = "taskmanager.searchIndex";
+
+  /** System property with the port the HTTP server listens on. */
+  public static final String SERVER_PORT_PROPERTY = "taskmanager.port";
+
+  /**
+   * System property selecting the in-memory repository the HTTP server
+   * uses when there is no log file: {@code concurrent} (the default),
+   * {@code copyOnWrite}, which suits servers that mostly serve listings, or
+   * {@code sharded}, one concurrent shard per processor with parallel scans.
+   * The sharded repository does not keep insertion order, so page cursors
+   * can repeat or skip tasks while others are added; choose it only for
+   * clients that address tasks by id.
+   */
+  public static final String SERVER_REPOSITORY_PROPERTY = "taskmanager.server.repository";
+
+  /**
+   * System property making the HTTP server a replication {@code leader},
+   * which streams its changes to followers, or a {@code follower}, which
+   * applies a leader's changes and serves reads only. Unset, the server
+   * does not replicate.
+   */
+  public static final String REPLICATION_ROLE_PROPERTY = "taskmanager.replication.role";
+
+  /** System property with the port a replication leader streams its changes on. */
+  public static final String REPLICATION_PORT_PROPERTY = "taskmanager.replication.port";
+
+  /** System property with the {@code host:port} of the leader a follower replicates. */
+  public static final String REPLICATION_LEADER_PROPERTY = "taskmanager.replication.leader";
+
+  /** System property with the number of changes a leader keeps for followers to catch up. */
+  public static final String REPLICATION_LOG_CAPACITY_PROPERTY =
+      "taskmanager.replication.logCapacity";
+
+  /** System property with the number of slots in the change-event ring buffer. */
+  public static final String EVENTS_BUFFER_SIZE_PROPERTY = "taskmanager.events.bufferSize";
+
+  /**
+   * System property selecting how change-event subscribers wait:
+   * {@code blocking}, {@code sleeping} (the default), {@code yielding} or
+   * {@code busySpin}.
+   */
+  public static final String EVENTS_WAIT_STRATEGY_PROPERTY = "taskmanager.events.waitStrategy";
+
+  /**
+   * System property selecting what publishers do when the change-event
+   * buffer is full: {@code block} (the default) or {@code drop}.
+   */
+  public static final String EVENTS_BACKPRESSURE_PROPERTY = "taskmanager.events.backpressure";
+
+  private static final long DEFAULT_SNAPSHOT_INTERVAL_SECONDS = 300;
+  private static final int DEFAULT_SERVER_PORT = 8080;
+  private static final int DEFAULT_ASYNC_CONCURRENCY = 256;
+  private static final int DEFAULT_ASYNC_IN_FLIGHT = 65_536;
+  private static final int DEFAULT_EVENTS_BUFFER_SIZE = 8192;
+  private static final int DEFAULT_REPLICATION_PORT = 9090;
+  private static final int DEFAULT_REPLICATION_LOG_CAPACITY = 262_144;
+  private static final Logger LOG = Logger.getLogger(ApplicationFactory.class.getName());
+
   private ApplicationFactory() {
     // Prevent instantiation
   }
 
   /**
    * Creates a TaskManager with default configurations.
-   * Uses in-memory storage and console presentation.
+   * Uses in-memory storage with a search index, unless
+   * {@value #SEARCH_INDEX_PROPERTY} is false, and console presentation.
    *
    * @return a fully configured TaskManager
    */
   public static TaskManager createTaskManager() {
-    TaskRepository repository = createTaskRepository();
+    return createTaskManager(createTaskPresenter());
+  }
+
+  /**
+   * Creates a TaskManager with the default storage that reports through
+   * the given presenter.
+   *
+   * @param presenter the presenter to use
+   * @return a fully configured TaskManager
+   */
+  public static TaskManager createTaskManager(TaskPresenter presenter) {
+    TaskRepository repository = createSearchableRepository(createTaskRepository());
+    Optional<MetricsRegistry> metrics = createMetricsRegistry();
+    if (metrics.isPresent()) {
+      return createTaskManager(repository, presenter, metrics.get());
+    }
     TaskService service = createTaskService(repository);
-    TaskPresenter presenter = createTaskPresenter();
     return new TaskManager(service, presenter);
   }
 
+  /**
+   * Creates a TaskManager whose service, repository and presenter calls
+   * are all measured into the given registry.
+   *
+   * @param repository the task repository to use
+   * @param presenter the presenter to use
+   * @param metrics the registry to record into
+   * @return a configured, instrumented TaskManager
+   */
+  public static TaskManager createTaskManager(
+      TaskRepository repository,
+      TaskPresenter presenter,
+      MetricsRegistry metrics) {
+    TaskService service = new InstrumentedTaskService(
+        createTaskService(new InstrumentedTaskRepository(repository, metrics)), metrics);
+    return new TaskManager(service, new InstrumentedTaskPresenter(presenter, metrics));
+  }
+
+  /**
+   * Creates a MetricsRegistry if {@value #METRICS_PROPERTY} is true. Its
+   * report is written on JVM shutdown to the file named by
+   * {@value #METRICS_FILE_PROPERTY}, or to standard error.
+   *
+   * @return the registry, or empty if metrics are off
+   */
+  public static Optional<MetricsRegistry> createMetricsRegistry() {
+    if (!Boolean.getBoolean(METRICS_PROPERTY)) {
+      return Optional.empty();
+    }
+    MetricsRegistry metrics = new MetricsRegistry();
+    String file = System.getProperty(METRICS_FILE_PROPERTY);
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> writeMetricsReport(metrics, file)));
+    return Optional.of(metrics);
+  }
+
   /**
    * Creates a TaskManager with custom components.
    *
@@ -48,23 +226,364 @@ public final class ApplicationFactory {
     return new TaskManager(service, presenter);
   }
 
+  /**
+   * Creates an HTTP server over a thread-safe repository, indexed for
+   * search as set by {@value #SEARCH_INDEX_PROPERTY}, on the port set by
+   * {@value #SERVER_PORT_PROPERTY}. With metrics on, they are
+   * also served at {@code /metrics}. Tasks are kept in the
+   * configured write-ahead log, or in the repository selected by
+   * {@value #SERVER_REPOSITORY_PROPERTY} if there is none, and replicated
+   * as set by {@value #REPLICATION_ROLE_PROPERTY}; a follower's server
+   * refuses writes.
+   *
+   * @return a TaskHttpServer that has not been started
+   * @throws UncheckedIOException if the port cannot be bound
+   */
+  public static TaskHttpServer createTaskServer() {
+    return createTaskServer(Integer.getInteger(SERVER_PORT_PROPERTY, DEFAULT_SERVER_PORT));
+  }
+
+  /**
+   * Creates an HTTP server on the given port, as {@link #createTaskServer()}.
+   *
+   * @param port the port to listen on, 0 for any free port
+   * @return a TaskHttpServer that has not been started
+   * @throws UncheckedIOException if the port cannot be bound
+   */
+  public static TaskHttpServer createTaskServer(int port) {
+    String logFile = System.getProperty(LOG_FILE_PROPERTY);
+    TaskRepository repository = logFile == null || logFile.isBlank()
+        ? createSharedTaskRepository()
+        : createTaskRepository();
+    repository = createReplicatedRepository(createSearchableRepository(repository));
+    Optional<MetricsRegistry> metrics = createMetricsRegistry();
+    TaskService service = metrics.isPresent()
+        ? new InstrumentedTaskService(createTaskService(
+            new InstrumentedTaskRepository(repository, metrics.get())), metrics.get())
+        : createTaskService(repository);
+    TaskHttpServer server;
+    try {
+      server = new TaskHttpServer(service, new InetSocketAddress(port),
+          Runtime.getRuntime().availableProcessors() * 4);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot listen on port " + port, e);
+    }
+    metrics.ifPresent(server::exposeMetrics);
+    server.setReadOnly(replicationRole().equals("follower"));
+    return server;
+  }
+
   /**
    * Creates the default TaskRepository implementation.
+   * When the {@value #LOG_FILE_PROPERTY} system property is set, tasks are
+   * kept in that write-ahead log. A memory-mapped snapshot next to it is
+   * written every {@value #SNAPSHOT_INTERVAL_PROPERTY} seconds and on JVM
+   * shutdown, so startup only replays the log written since.
    *
-   * @return an InMemoryTaskRepository
+   * @return an InMemoryTaskRepository, or a WriteAheadLogTaskRepository
+   *     if a log file is configured
    */
   public static TaskRepository createTaskRepository() {
-    return new InMemoryTaskRepository();
+    String logFile = System.getProperty(LOG_FILE_PROPERTY);
+    if (logFile == null || logFile.isBlank()) {
+      return new InMemoryTaskRepository();
+    }
+    Durability durability = Durability.valueOf(System.getProperty(
+        DURABILITY_PROPERTY, Durability.PER_OPERATION.name()).toUpperCase(Locale.ROOT));
+    Path log = Paths.get(logFile);
+    WriteAheadLogTaskRepository repository = createTaskRepository(
+        log, log.resolveSibling(log.getFileName() + ".snapshot"), durability);
+
+    long interval = Long.getLong(SNAPSHOT_INTERVAL_PROPERTY, DEFAULT_SNAPSHOT_INTERVAL_SECONDS);
+    ScheduledExecutorService snapshots = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "task-snapshot");
+      thread.setDaemon(true);
+      return thread;
+    });
+    snapshots.scheduleWithFixedDelay(retrying(repository::checkpoint), interval, interval,
+        TimeUnit.SECONDS);
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      snapshots.shutdownNow();
+      repository.checkpoint();
+      repository.close();
+    }));
+    return repository;
+  }
+
+  /**
+   * Wraps a periodic checkpoint so that a failure is logged and the next
+   * run retries; a scheduled task that throws is never run again, which
+   * would let the log grow without bound.
+   *
+   * @param checkpoint the checkpoint to run
+   * @return a task that never throws a RuntimeException
+   */
+  static Runnable retrying(Runnable checkpoint) {
+    return () -> {
+      try {
+        checkpoint.run();
+      } catch (RuntimeException e) {
+        LOG.log(Level.WARNING, "Checkpoint failed; retrying at the next interval", e);
+      }
+    };
+  }
+
+  /**
+   * Creates the thread-safe in-memory repository selected by
+   * {@value #SERVER_REPOSITORY_PROPERTY}. The concurrent and copy-on-write
+   * repositories keep tasks in insertion order; the sharded one orders them
+   * shard by shard, which makes it unsuitable wherever tasks are addressed
+   * by position, such as index-based edits or paging while tasks are added.
+   *
+   * @return a ConcurrentTaskRepository, CopyOnWriteTaskRepository or
+   *     ShardedTaskRepository
+   * @throws IllegalArgumentException if the property names no repository
+   */
+  public static TaskRepository createSharedTaskRepository() {
+    String kind = System.getProperty(SERVER_REPOSITORY_PROPERTY, "concurrent");
+    switch (kind.toLowerCase(Locale.ROOT)) {
+      case "concurrent":
+        return new ConcurrentTaskRepository();
+      case "copyonwrite":
+        return new CopyOnWriteTaskRepository();
+      case "sharded":
+        return new ShardedTaskRepository(Runtime.getRuntime().availableProcessors());
+      default:
+        throw new IllegalArgumentException("Unknown server repository: " + kind);
+    }
+  }
+
+  /**
+   * Wraps a repository in an {@link IndexedTaskRepository} unless
+   * {@value #SEARCH_INDEX_PROPERTY} is false. The index adds no lock of its
+   * own, so a thread-safe repository stays as concurrent as it was.
+   *
+   * @param repository the repository to search
+   * @return the indexed repository, or the given one
+   */
+  public static TaskRepository createSearchableRepository(TaskRepository repository) {
+    if (!Boolean.parseBoolean(System.getProperty(SEARCH_INDEX_PROPERTY, "true"))) {
+      return repository;
+    }
+    return new IndexedTaskRepository(repository);
+  }
+
+  /**
+   * Wraps a thread-safe repository for the role set by
+   * {@value #REPLICATION_ROLE_PROPERTY}. A leader records changes in a log
+   * of {@value #REPLICATION_LOG_CAPACITY_PROPERTY} entries and streams them
+   * on {@value #REPLICATION_PORT_PROPERTY}; a follower applies the changes
+   * of the leader at {@value #REPLICATION_LEADER_PROPERTY} to the
+   * repository and returns a read-only view of it. Replication runs on
+   * daemon threads and stops on JVM shutdown.
+   *
+   * @param repository the local repository
+   * @return the repository to serve
+   * @throws IllegalArgumentException if the role or leader address is invalid
+   * @throws UncheckedIOException if a leader cannot bind its port
+   */
+  public static TaskRepository createReplicatedRepository(TaskRepository repository) {
+    String role = replicationRole();
+    switch (role) {
+      case "none":
+        return repository;
+      case "leader":
+        return createReplicationLeader(repository);
+      case "follower":
+        ReplicationFollower follower =
+            new ReplicationFollower(repository, parseLeaderAddress());
+        follower.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(follower::close));
+        return follower.getRepository();
+      default:
+        throw new IllegalArgumentException("Unknown replication role: " + role);
+    }
+  }
+
+  private static String replicationRole() {
+    return System.getProperty(REPLICATION_ROLE_PROPERTY, "none").toLowerCase(Locale.ROOT);
+  }
+
+  private static TaskRepository createReplicationLeader(TaskRepository repository) {
+    LeaderTaskRepository leader = new LeaderTaskRepository(repository, new ReplicationLog(
+        Integer.getInteger(REPLICATION_LOG_CAPACITY_PROPERTY, DEFAULT_REPLICATION_LOG_CAPACITY)));
+    int port = Integer.getInteger(REPLICATION_PORT_PROPERTY, DEFAULT_REPLICATION_PORT);
+    ReplicationServer server;
+    try {
+      server = new ReplicationServer(leader, new InetSocketAddress(port));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot listen on replication port " + port, e);
+    }
+    server.start();
+    Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+    return leader;
+  }
+
+  private static InetSocketAddress parseLeaderAddress() {
+    String leader = System.getProperty(REPLICATION_LEADER_PROPERTY, "");
+    int colon = leader.lastIndexOf(':');
+    if (colon <= 0) {
+      throw new IllegalArgumentException("Leader address must be host:port: " + leader);
+    }
+    try {
+      return new InetSocketAddress(leader.substring(0, colon),
+          Integer.parseInt(leader.substring(colon + 1)));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid leader address: " + leader, e);
+    }
+  }
+
+  /**
+   * Creates a durable TaskRepository that starts from a memory-mapped
+   * snapshot and replays the write-ahead log written after it.
+   *
+   * @param logFile the log file, created if missing
+   * @param snapshotFile the snapshot file, read if present
+   * @param durability the durability mode
+   * @return a WriteAheadLogTaskRepository holding the restored tasks
+   * @throws UncheckedIOException if the log or snapshot cannot be opened
+   */
+  public static WriteAheadLogTaskRepository createTaskRepository(
+      Path logFile,
+      Path snapshotFile,
+      Durability durability) {
+    try {
+      return WriteAheadLogTaskRepository.open(logFile, snapshotFile, durability);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot open task log " + logFile, e);
+    }
   }
 
   /**
-   * Creates a TaskService with the specified repository.
+   * Creates a durable TaskRepository backed by a write-ahead log.
+   *
+   * @param logFile the log file, created if missing
+   * @param durability the durability mode
+   * @return a WriteAheadLogTaskRepository holding the replayed tasks
+   * @throws UncheckedIOException if the log cannot be opened
+   */
+  public static WriteAheadLogTaskRepository createTaskRepository(
+      Path logFile,
+      Durability durability) {
+    try {
+      return WriteAheadLogTaskRepository.open(logFile, durability);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot open task log " + logFile, e);
+    }
+  }
+
+  /**
+   * Creates a TaskService with the specified repository, generating ids
+   * as selected by {@value #ID_STRATEGY_PROPERTY}.
    *
    * @param repository the repository to use
    * @return a TaskServiceImpl
    */
   public static TaskService createTaskService(TaskRepository repository) {
-    return new TaskServiceImpl(repository);
+    return new TaskServiceImpl(repository, createTaskIdGenerator());
+  }
+
+  /**
+   * Creates a TaskService that reports every change to a publisher, such
+   * as a stream from {@link #createTaskChangeStream()}.
+   *
+   * @param repository the repository to use
+   * @param publisher the receiver of task changes
+   * @return a TaskServiceImpl
+   */
+  public static TaskService createTaskService(TaskRepository repository,
+      TaskChangePublisher publisher) {
+    return new TaskServiceImpl(repository, createTaskIdGenerator(), publisher);
+  }
+
+  /**
+   * Creates a change-event stream configured by
+   * {@value #EVENTS_BUFFER_SIZE_PROPERTY}, {@value #EVENTS_WAIT_STRATEGY_PROPERTY}
+   * and {@value #EVENTS_BACKPRESSURE_PROPERTY}.
+   *
+   * @return a TaskChangeStream; close it to stop its subscribers
+   * @throws IllegalArgumentException if a property has an unknown value
+   */
+  public static TaskChangeStream createTaskChangeStream() {
+    return new TaskChangeStream(
+        Integer.getInteger(EVENTS_BUFFER_SIZE_PROPERTY, DEFAULT_EVENTS_BUFFER_SIZE),
+        createWaitStrategy(), createBackpressure());
+  }
+
+  private static WaitStrategy createWaitStrategy() {
+    String strategy = System.getProperty(EVENTS_WAIT_STRATEGY_PROPERTY, "sleeping");
+    switch (strategy.toLowerCase(Locale.ROOT)) {
+      case "blocking":
+        return WaitStrategy.blocking();
+      case "sleeping":
+        return WaitStrategy.sleeping();
+      case "yielding":
+        return WaitStrategy.yielding();
+      case "busyspin":
+        return WaitStrategy.busySpin();
+      default:
+        throw new IllegalArgumentException("Unknown wait strategy: " + strategy);
+    }
+  }
+
+  private static TaskChangeStream.Backpressure createBackpressure() {
+    String policy = System.getProperty(EVENTS_BACKPRESSURE_PROPERTY, "block");
+    switch (policy.toLowerCase(Locale.ROOT)) {
+      case "block":
+        return TaskChangeStream.Backpressure.BLOCK;
+      case "drop":
+        return TaskChangeStream.Backpressure.DROP;
+      default:
+        throw new IllegalArgumentException("Unknown backpressure policy: " + policy);
+    }
+  }
+
+  /**
+   * Creates an AsyncTaskService over the given thread-safe service, with
+   * the limits set by {@value #ASYNC_CONCURRENCY_PROPERTY} and
+   * {@value #ASYNC_IN_FLIGHT_PROPERTY}.
+   *
+   * @param service the service to run operations on
+   * @return an AsyncTaskServiceImpl; close it to stop its executor
+   */
+  public static AsyncTaskServiceImpl createAsyncTaskService(TaskService service) {
+    return new AsyncTaskServiceImpl(service,
+        Integer.getInteger(ASYNC_CONCURRENCY_PROPERTY, DEFAULT_ASYNC_CONCURRENCY),
+        Integer.getInteger(ASYNC_IN_FLIGHT_PROPERTY, DEFAULT_ASYNC_IN_FLIGHT));
+  }
+
+  /**
+   * Creates the TaskIdGenerator selected by {@value #ID_STRATEGY_PROPERTY}.
+   *
+   * @return the configured generator
+   * @throws IllegalArgumentException if the property names no strategy
+   */
+  public static TaskIdGenerator createTaskIdGenerator() {
+    String strategy = System.getProperty(ID_STRATEGY_PROPERTY, "time");
+    switch (strategy.toLowerCase(Locale.ROOT)) {
+      case "time":
+        return TaskIdGenerator.timeOrdered();
+      case "random":
+        return TaskIdGenerator.random();
+      case "sequential":
+        return TaskIdGenerator.sequential();
+      default:
+        throw new IllegalArgumentException("Unknown id strategy: " + strategy);
+    }
+  }
+
+  private static void writeMetricsReport(MetricsRegistry metrics, String file) {
+    try {
+      if (file == null || file.isBlank()) {
+        metrics.writeReport(System.err);
+        return;
+      }
+      try (Writer out = Files.newBufferedWriter(Paths.get(file), StandardCharsets.UTF_8)) {
+        metrics.writeReport(out);
+      }
+    } catch (IOException e) {
+      System.err.println("Cannot write metrics report: " + e.getMessage());
+    }
   }
 
   /**
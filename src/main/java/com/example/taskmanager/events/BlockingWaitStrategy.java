@@ -0,0 +1,43 @@
+package com.example.taskmanager.events;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock and condition based strategy.
+ */
+final class BlockingWaitStrategy implements WaitStrategy {
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition published = lock.newCondition();
+
+  @Override
+  public long waitFor(long sequence, LongSupplier available, BooleanSupplier running)
+      throws InterruptedException {
+    long value = available.getAsLong();
+    if (value >= sequence) {
+      return value;
+    }
+    lock.lock();
+    try {
+      while ((value = available.getAsLong()) < sequence && running.getAsBoolean()) {
+        published.await();
+      }
+    } finally {
+      lock.unlock();
+    }
+    return value;
+  }
+
+  @Override
+  public void signalAll() {
+    lock.lock();
+    try {
+      published.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.example.taskmanager.events;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Spin, then yield, then optionally park; shared by the non-blocking
+ * strategies.
+ */
+final class SpinningWaitStrategy implements WaitStrategy {
+
+  private static final int YIELD_TRIES = 100;
+  private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  private final int spinTries;
+  private final boolean park;
+
+  SpinningWaitStrategy(int spinTries, boolean park) {
+    this.spinTries = spinTries;
+    this.park = park;
+  }
+
+  @Override
+  public long waitFor(long sequence, LongSupplier available, BooleanSupplier running)
+      throws InterruptedException {
+    long value;
+    int tries = 0;
+    while ((value = available.getAsLong()) < sequence && running.getAsBoolean()) {
+      if (tries < spinTries) {
+        tries++;
+        Thread.onSpinWait();
+      } else if (!park || tries < spinTries + YIELD_TRIES) {
+        tries++;
+        Thread.yield();
+      } else {
+        LockSupport.parkNanos(PARK_NANOS);
+      }
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+    }
+    return value;
+  }
+
+  @Override
+  public void signalAll() {
+    // Waiters poll
+  }
+}
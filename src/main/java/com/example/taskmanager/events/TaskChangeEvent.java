@@ -0,0 +1,109 @@
+package com.example.taskmanager.events;
+
+/**
+ * One change made through the service layer, as seen by subscribers of a
+ * {@link TaskChangeStream}.
+ *
+ * <p>Events are preallocated slots of the ring buffer and are reused once
+ * every subscriber has passed them, so a listener must copy anything it
+ * needs to keep. The task's fields are copied when the event is published,
+ * so later changes to the task do not show through.
+ */
+public final class TaskChangeEvent {
+
+  /**
+   * Kind of change.
+   */
+  public enum Type {
+    /** A task was created. */
+    CREATED,
+    /** A task's name or description was changed. */
+    UPDATED,
+    /** A task was marked completed. */
+    COMPLETED,
+    /** A task was removed; only the id is set. */
+    REMOVED
+  }
+
+  private long sequence;
+  private Type type;
+  private String taskId;
+  private String name;
+  private String description;
+  private boolean completed;
+
+  TaskChangeEvent() {
+    // Preallocated by TaskChangeStream
+  }
+
+  void set(long sequence, Type type, String taskId, String name, String description,
+      boolean completed) {
+    this.sequence = sequence;
+    this.type = type;
+    this.taskId = taskId;
+    this.name = name;
+    this.description = description;
+    this.completed = completed;
+  }
+
+  /**
+   * Returns the position of this event in the stream; consecutive events
+   * have consecutive sequences.
+   *
+   * @return the sequence number
+   */
+  public long getSequence() {
+    return sequence;
+  }
+
+  /**
+   * Returns the kind of change.
+   *
+   * @return the type
+   */
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * Returns the id of the changed task.
+   *
+   * @return the task id
+   */
+  public String getTaskId() {
+    return taskId;
+  }
+
+  /**
+   * Returns the task's name after the change.
+   *
+   * @return the name, or null for {@link Type#REMOVED}
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the task's description after the change.
+   *
+   * @return the description, or null for {@link Type#REMOVED}
+   */
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Returns whether the task was completed after the change.
+   *
+   * @return the completion status, false for {@link Type#REMOVED}
+   */
+  public boolean isCompleted() {
+    return completed;
+  }
+
+  @Override
+  public String toString() {
+    return "TaskChangeEvent{sequence=" + sequence + ", type=" + type + ", taskId='" + taskId
+        + "'}";
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.taskmanager.events;
+
+/**
+ * Subscriber callback of a {@link TaskChangeStream}. Each subscription
+ * calls its listener from its own thread, one event at a time and in
+ * sequence order.
+ */
+@FunctionalInterface
+public interface TaskChangeListener {
+
+  /**
+   * Handles one event. The event object is reused after this returns.
+   *
+   * @param event the change
+   * @param endOfBatch true if no further event is available right now,
+   *     so work buffered across a batch can be flushed
+   */
+  void onEvent(TaskChangeEvent event, boolean endOfBatch);
+}
@@ -0,0 +1,25 @@
+package com.example.taskmanager.events;
+
+import com.example.taskmanager.models.Task;
+
+/**
+ * Receiver of changes made through the service layer.
+ * Follows the Dependency Inversion Principle (DIP) - TaskServiceImpl
+ * publishes through this abstraction, not through a concrete stream.
+ */
+@FunctionalInterface
+public interface TaskChangePublisher {
+
+  /** Publisher that discards every change. */
+  TaskChangePublisher NONE = (type, taskId, task) -> { };
+
+  /**
+   * Publishes one change. Implementations must copy what they need from
+   * the task before returning, since the caller may go on changing it.
+   *
+   * @param type the kind of change
+   * @param taskId the id of the changed task
+   * @param task the task after the change, or null for a removal
+   */
+  void publish(TaskChangeEvent.Type type, String taskId, Task task);
+}
@@ -0,0 +1,334 @@
+package com.example.taskmanager.events;
+
+import com.example.taskmanager.models.Task;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer of task changes with any number of subscribers.
+ * Follows the Single Responsibility Principle (SRP) - only moves change
+ * events from publishers to subscribers; what a subscriber does with them
+ * is up to its {@link TaskChangeListener}.
+ *
+ * <p>All events are preallocated, so publishing allocates nothing: a
+ * publisher claims the next sequence with a CAS, copies the change into
+ * that slot and marks the slot published. Every subscriber runs on its own
+ * thread, tracks its own sequence and receives whatever has been published
+ * since its last batch, so a slow subscriber catches up in large batches
+ * instead of one wake-up per event. A slot is reused only after every
+ * subscriber has passed it; when the buffer is full the {@link Backpressure}
+ * policy decides whether the publisher waits or the event is dropped.
+ */
+public final class TaskChangeStream implements TaskChangePublisher, AutoCloseable {
+
+  /**
+   * What a publisher does when the slowest subscriber is a whole buffer
+   * behind.
+   */
+  public enum Backpressure {
+    /** Wait for the subscriber, so no event is lost. */
+    BLOCK,
+    /** Drop the event and count it, so the write path never waits. */
+    DROP
+  }
+
+  private static final long INITIAL_SEQUENCE = -1L;
+
+  private final TaskChangeEvent[] slots;
+  private final int mask;
+  private final int indexShift;
+  private final AtomicIntegerArray publishedRounds;
+  private final AtomicLong claimed = new AtomicLong(INITIAL_SEQUENCE);
+  private final AtomicLong gatingCache = new AtomicLong(INITIAL_SEQUENCE);
+  private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+  private final WaitStrategy waitStrategy;
+  private final Backpressure backpressure;
+  private final LongAdder dropped = new LongAdder();
+  private final AtomicInteger subscriberNumber = new AtomicInteger();
+  private volatile boolean closed;
+
+  /**
+   * Creates a stream.
+   *
+   * @param bufferSize the number of slots, a power of two
+   * @param waitStrategy how subscribers wait for new events
+   * @param backpressure what publishers do when the buffer is full
+   */
+  public TaskChangeStream(int bufferSize, WaitStrategy waitStrategy,
+      Backpressure backpressure) {
+    if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+      throw new IllegalArgumentException("Buffer size must be a power of two");
+    }
+    if (waitStrategy == null) {
+      throw new IllegalArgumentException("WaitStrategy cannot be null");
+    }
+    if (backpressure == null) {
+      throw new IllegalArgumentException("Backpressure cannot be null");
+    }
+    this.slots = new TaskChangeEvent[bufferSize];
+    for (int i = 0; i < bufferSize; i++) {
+      slots[i] = new TaskChangeEvent();
+    }
+    this.mask = bufferSize - 1;
+    this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+    this.publishedRounds = new AtomicIntegerArray(bufferSize);
+    for (int i = 0; i < bufferSize; i++) {
+      publishedRounds.set(i, -1);
+    }
+    this.waitStrategy = waitStrategy;
+    this.backpressure = backpressure;
+  }
+
+  /**
+   * Publishes one change to every current subscriber. Safe to call from
+   * any number of threads; ignored once the stream is closed.
+   *
+   * @param type the kind of change
+   * @param taskId the id of the changed task
+   * @param task the task after the change, or null for a removal
+   */
+  @Override
+  public void publish(TaskChangeEvent.Type type, String taskId, Task task) {
+    if (closed) {
+      return;
+    }
+    long sequence = claim();
+    if (sequence < 0) {
+      dropped.increment();
+      return;
+    }
+    int index = (int) sequence & mask;
+    if (task == null) {
+      slots[index].set(sequence, type, taskId, null, null, false);
+    } else {
+      slots[index].set(sequence, type, taskId, task.getName(), task.getDescription(),
+          task.isCompleted());
+    }
+    publishedRounds.set(index, (int) (sequence >>> indexShift));
+    waitStrategy.signalAll();
+  }
+
+  /**
+   * Subscribes a listener to every event published from now on. The
+   * listener runs on a new daemon thread until the subscription or the
+   * stream is closed.
+   *
+   * @param listener the listener
+   * @return the subscription
+   */
+  public Subscription subscribe(TaskChangeListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null");
+    }
+    if (closed) {
+      throw new IllegalStateException("Stream is closed");
+    }
+    Subscription subscription = new Subscription(listener,
+        "task-change-" + subscriberNumber.incrementAndGet());
+    subscriptions.add(subscription);
+    // Read the cursor only once the subscription gates publishers, so no
+    // slot past this point can be reused before the subscriber sees it
+    subscription.sequence.set(claimed.get());
+    subscription.thread.start();
+    return subscription;
+  }
+
+  /**
+   * Returns the sequence of the most recently claimed event.
+   *
+   * @return the cursor, or -1 before the first publish
+   */
+  public long getCursor() {
+    return claimed.get();
+  }
+
+  /**
+   * Returns the number of events dropped by the {@link Backpressure#DROP}
+   * policy or published while closing.
+   *
+   * @return the drop count
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /**
+   * Returns the number of open subscriptions.
+   *
+   * @return the subscriber count
+   */
+  public int getSubscriberCount() {
+    return subscriptions.size();
+  }
+
+  /**
+   * Returns the number of slots.
+   *
+   * @return the buffer size
+   */
+  public int getBufferSize() {
+    return slots.length;
+  }
+
+  /**
+   * Stops every subscription and ignores later publishes.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (Subscription subscription : subscriptions) {
+      subscription.close();
+    }
+  }
+
+  private long claim() {
+    while (true) {
+      long current = claimed.get();
+      long next = current + 1;
+      long wrapPoint = next - slots.length;
+      if (wrapPoint > gatingCache.get()) {
+        long gating = minimumSequence(current);
+        gatingCache.set(gating);
+        if (wrapPoint > gating) {
+          if (backpressure == Backpressure.DROP || closed) {
+            return -1;
+          }
+          LockSupport.parkNanos(1);
+          continue;
+        }
+      }
+      if (claimed.compareAndSet(current, next)) {
+        return next;
+      }
+    }
+  }
+
+  private long minimumSequence(long defaultValue) {
+    long minimum = defaultValue;
+    for (Subscription subscription : subscriptions) {
+      minimum = Math.min(minimum, subscription.sequence.get());
+    }
+    return minimum;
+  }
+
+  private long highestPublished(long from) {
+    long upper = claimed.get();
+    for (long sequence = from; sequence <= upper; sequence++) {
+      if (publishedRounds.get((int) sequence & mask) != (int) (sequence >>> indexShift)) {
+        return sequence - 1;
+      }
+    }
+    return upper;
+  }
+
+  /**
+   * One subscriber's position in the stream and the thread feeding its
+   * listener.
+   */
+  public final class Subscription implements AutoCloseable {
+
+    private final TaskChangeListener listener;
+    private final AtomicLong sequence = new AtomicLong(INITIAL_SEQUENCE);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private Subscription(TaskChangeListener listener, String name) {
+      this.listener = listener;
+      this.thread = new Thread(this::run, name);
+      thread.setDaemon(true);
+    }
+
+    /**
+     * Returns the sequence of the last event this subscriber handled.
+     *
+     * @return the subscriber's sequence
+     */
+    public long getSequence() {
+      return sequence.get();
+    }
+
+    /**
+     * Returns how many claimed events this subscriber has yet to handle.
+     *
+     * @return the lag in events
+     */
+    public long getLag() {
+      return Math.max(0, claimed.get() - sequence.get());
+    }
+
+    /**
+     * Returns the number of events whose listener call threw.
+     *
+     * @return the error count
+     */
+    public long getErrorCount() {
+      return errors.sum();
+    }
+
+    /**
+     * Returns the number of batches delivered so far.
+     *
+     * @return the batch count
+     */
+    public long getBatchCount() {
+      return batches.sum();
+    }
+
+    /**
+     * Stops delivery and releases this subscriber's hold on the buffer.
+     * Waits for an in-progress batch unless called from the listener.
+     */
+    @Override
+    public void close() {
+      running = false;
+      subscriptions.remove(this);
+      waitStrategy.signalAll();
+      if (Thread.currentThread() != thread) {
+        try {
+          thread.join();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    private boolean isRunning() {
+      return running;
+    }
+
+    private void run() {
+      long next = sequence.get() + 1;
+      try {
+        while (running) {
+          long from = next;
+          long available = waitStrategy.waitFor(from, () -> highestPublished(from),
+              this::isRunning);
+          if (available < from) {
+            continue;
+          }
+          for (long current = from; current <= available; current++) {
+            try {
+              listener.onEvent(slots[(int) current & mask], current == available);
+            } catch (RuntimeException e) {
+              errors.increment();
+            }
+          }
+          batches.increment();
+          sequence.set(available);
+          next = available + 1;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        subscriptions.remove(this);
+      }
+    }
+  }
+}
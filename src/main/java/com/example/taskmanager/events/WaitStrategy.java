@@ -0,0 +1,70 @@
+package com.example.taskmanager.events;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * How a subscriber of a {@link TaskChangeStream} waits for new events.
+ * Follows the Strategy pattern - the trade-off between wake-up latency and
+ * CPU use is chosen per stream without touching the ring buffer.
+ */
+public interface WaitStrategy {
+
+  /**
+   * Waits until {@code available} reaches {@code sequence} or
+   * {@code running} turns false.
+   *
+   * @param sequence the sequence the subscriber wants next
+   * @param available supplies the highest published sequence
+   * @param running whether the subscriber should keep waiting
+   * @return the last value read from {@code available}
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  long waitFor(long sequence, LongSupplier available, BooleanSupplier running)
+      throws InterruptedException;
+
+  /**
+   * Wakes subscribers blocked in {@link #waitFor}; called after every publish
+   * and on close.
+   */
+  void signalAll();
+
+  /**
+   * Returns a strategy that spins on the CPU. Lowest latency, but each
+   * subscriber keeps a core busy.
+   *
+   * @return a busy-spin strategy
+   */
+  static WaitStrategy busySpin() {
+    return new SpinningWaitStrategy(Integer.MAX_VALUE, false);
+  }
+
+  /**
+   * Returns a strategy that spins briefly and then yields the CPU.
+   *
+   * @return a yielding strategy
+   */
+  static WaitStrategy yielding() {
+    return new SpinningWaitStrategy(100, false);
+  }
+
+  /**
+   * Returns a strategy that spins, yields and then parks for short periods.
+   * A good default when subscribers are often idle.
+   *
+   * @return a sleeping strategy
+   */
+  static WaitStrategy sleeping() {
+    return new SpinningWaitStrategy(100, true);
+  }
+
+  /**
+   * Returns a strategy that blocks on a condition until a publisher signals.
+   * Uses no CPU while idle, at the cost of a lock on every publish.
+   *
+   * @return a blocking strategy
+   */
+  static WaitStrategy blocking() {
+    return new BlockingWaitStrategy();
+  }
+}
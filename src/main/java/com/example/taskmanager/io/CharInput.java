@@ -0,0 +1,89 @@
+package com.example.taskmanager.io;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Character stream over a fixed, reused buffer, with one character of
+ * lookahead and line counting for error messages, which name the line
+ * the current record started on. Unlike
+ * {@link java.io.BufferedReader#readLine()}, it never allocates per line.
+ */
+final class CharInput {
+
+  static final int EOF = -1;
+
+  private final Reader reader;
+  private final char[] buffer;
+  private int position;
+  private int limit;
+  private long line;
+  private long recordLine;
+
+  CharInput(Reader reader, int bufferSize) {
+    this.reader = reader;
+    this.buffer = new char[bufferSize];
+    this.line = 1;
+    this.recordLine = 1;
+  }
+
+  /**
+   * Returns the next character without consuming it.
+   *
+   * @return the character, or {@link #EOF}
+   * @throws IOException if the reader fails
+   */
+  int peek() throws IOException {
+    if (position == limit && !fill()) {
+      return EOF;
+    }
+    return buffer[position];
+  }
+
+  /**
+   * Consumes and returns the next character.
+   *
+   * @return the character, or {@link #EOF}
+   * @throws IOException if the reader fails
+   */
+  int read() throws IOException {
+    if (position == limit && !fill()) {
+      return EOF;
+    }
+    char c = buffer[position++];
+    if (c == '\n') {
+      line++;
+    }
+    return c;
+  }
+
+  /**
+   * Marks the current line as the start of a record.
+   */
+  void startRecord() {
+    recordLine = line;
+  }
+
+  /**
+   * Creates an exception for malformed input in the current record.
+   *
+   * @param message what is wrong
+   * @return the exception to throw
+   */
+  IOException error(String message) {
+    return new IOException("Line " + recordLine + ": " + message);
+  }
+
+  private boolean fill() throws IOException {
+    int read;
+    do {
+      read = reader.read(buffer, 0, buffer.length);
+    } while (read == 0);
+    if (read < 0) {
+      return false;
+    }
+    position = 0;
+    limit = read;
+    return true;
+  }
+}
@@ -0,0 +1,139 @@
+package com.example.taskmanager.io;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import com.example.taskmanager.repositories.TaskRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes every task of a repository as CSV or JSON Lines.
+ * Follows the Single Responsibility Principle (SRP) - only serializes;
+ * the repository decides how pages are read.
+ *
+ * <p>Tasks are read one page at a time through
+ * {@link TaskRepository#findPage}, and each task is written straight to
+ * the Writer, so memory use does not grow with the number of tasks.
+ * Tasks added or removed during an export may or may not be included.
+ */
+public final class TaskExporter {
+
+  /** Number of tasks read from the repository at a time by default. */
+  public static final int DEFAULT_PAGE_SIZE = 1000;
+
+  private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+  private final TaskRepository repository;
+  private final int pageSize;
+
+  /**
+   * Creates a TaskExporter reading pages of {@value #DEFAULT_PAGE_SIZE}.
+   *
+   * @param repository the repository to export
+   * @throws IllegalArgumentException if repository is null
+   */
+  public TaskExporter(TaskRepository repository) {
+    this(repository, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Creates a TaskExporter.
+   *
+   * @param repository the repository to export
+   * @param pageSize the number of tasks read at a time
+   * @throws IllegalArgumentException if repository is null or pageSize is not positive
+   */
+  public TaskExporter(TaskRepository repository, int pageSize) {
+    if (repository == null) {
+      throw new IllegalArgumentException("TaskRepository cannot be null");
+    }
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be positive");
+    }
+    this.repository = repository;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Exports to a UTF-8 file, in the format given by its extension.
+   *
+   * @param file the file to create or replace
+   * @return the number of tasks written
+   * @throws IOException if the file cannot be written
+   * @throws IllegalArgumentException if the extension is not recognized
+   */
+  public long exportTo(Path file) throws IOException {
+    TaskFormat format = TaskFormat.forFile(file);
+    try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      return exportTo(out, format);
+    }
+  }
+
+  /**
+   * Exports to a Writer, which is flushed but not closed.
+   *
+   * @param out the destination
+   * @param format the format to write
+   * @return the number of tasks written
+   * @throws IOException if writing fails
+   */
+  public long exportTo(Writer out, TaskFormat format) throws IOException {
+    Writer buffered = out instanceof BufferedWriter
+        ? out
+        : new BufferedWriter(out, WRITE_BUFFER_SIZE);
+    if (format == TaskFormat.CSV) {
+      buffered.write("id,name,description,completed\n");
+    }
+    long written = 0;
+    String cursor = null;
+    do {
+      TaskPage page = repository.findPage(cursor, pageSize);
+      for (Task task : page.getTasks()) {
+        if (format == TaskFormat.CSV) {
+          writeCsv(buffered, task);
+        } else {
+          TaskJson.writeTask(buffered, task);
+          buffered.write('\n');
+        }
+        written++;
+      }
+      cursor = page.getNextCursor();
+    } while (cursor != null);
+    buffered.flush();
+    return written;
+  }
+
+  private static void writeCsv(Writer out, Task task) throws IOException {
+    writeCsvField(out, task.getId());
+    out.write(',');
+    writeCsvField(out, task.getName());
+    out.write(',');
+    writeCsvField(out, task.getDescription());
+    out.write(task.isCompleted() ? ",true\n" : ",false\n");
+  }
+
+  private static void writeCsvField(Writer out, String value) throws IOException {
+    boolean quote = false;
+    for (int i = 0, length = value.length(); i < length && !quote; i++) {
+      char c = value.charAt(i);
+      quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+    if (!quote) {
+      out.write(value);
+      return;
+    }
+    out.write('"');
+    int start = 0;
+    for (int i = value.indexOf('"'); i >= 0; i = value.indexOf('"', i + 1)) {
+      out.write(value, start, i + 1 - start);
+      out.write('"');
+      start = i + 1;
+    }
+    out.write(value, start, value.length() - start);
+    out.write('"');
+  }
+}
@@ -0,0 +1,42 @@
+package com.example.taskmanager.io;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Bulk transfer formats understood by {@link TaskImporter} and
+ * {@link TaskExporter}.
+ */
+public enum TaskFormat {
+
+  /**
+   * RFC 4180 comma-separated values with an {@code id,name,description,completed}
+   * header. Fields containing commas, quotes or line breaks are quoted.
+   */
+  CSV,
+
+  /**
+   * One JSON object per line, with {@code id}, {@code name},
+   * {@code description} and {@code completed} members.
+   */
+  JSON_LINES;
+
+  /**
+   * Picks the format from a file extension: {@code .csv}, or
+   * {@code .jsonl} or {@code .ndjson}.
+   *
+   * @param file the file
+   * @return the matching format
+   * @throws IllegalArgumentException if the extension is not recognized
+   */
+  public static TaskFormat forFile(Path file) {
+    String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+    if (name.endsWith(".csv")) {
+      return CSV;
+    }
+    if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+      return JSON_LINES;
+    }
+    throw new IllegalArgumentException("Unknown task file format: " + file);
+  }
+}
@@ -0,0 +1,483 @@
+package com.example.taskmanager.io;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.TaskRepository;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Loads tasks from CSV or JSON Lines into a repository.
+ * Follows the Single Responsibility Principle (SRP) - only parses;
+ * storage is left to {@link TaskRepository#saveAll}.
+ *
+ * <p>Input is parsed straight out of one reused character buffer, with
+ * one reused builder per field, and tasks are handed to the repository
+ * in batches, so memory use does not grow with the size of the input and
+ * a write-ahead log syncs once per batch rather than once per task. Tasks
+ * without an id get a new one; tasks whose id already exists replace the
+ * stored task.
+ *
+ * <p>Malformed input stops the import with an IOException naming the
+ * line. Batches saved before that point stay saved.
+ */
+public final class TaskImporter {
+
+  /** Number of tasks saved per {@link TaskRepository#saveAll} call by default. */
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  private static final int READ_BUFFER_SIZE = 1 << 16;
+
+  private final TaskRepository repository;
+  private final int batchSize;
+
+  /**
+   * Creates a TaskImporter saving batches of {@value #DEFAULT_BATCH_SIZE}.
+   *
+   * @param repository the repository to load into
+   * @throws IllegalArgumentException if repository is null
+   */
+  public TaskImporter(TaskRepository repository) {
+    this(repository, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Creates a TaskImporter.
+   *
+   * @param repository the repository to load into
+   * @param batchSize the number of tasks saved at a time
+   * @throws IllegalArgumentException if repository is null or batchSize is not positive
+   */
+  public TaskImporter(TaskRepository repository, int batchSize) {
+    if (repository == null) {
+      throw new IllegalArgumentException("TaskRepository cannot be null");
+    }
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    this.repository = repository;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Imports a UTF-8 file, in the format given by its extension.
+   *
+   * @param file the file to read
+   * @return the number of tasks imported
+   * @throws IOException if the file cannot be read or is malformed
+   * @throws IllegalArgumentException if the extension is not recognized
+   */
+  public long importFrom(Path file) throws IOException {
+    TaskFormat format = TaskFormat.forFile(file);
+    try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      return importFrom(in, format);
+    }
+  }
+
+  /**
+   * Imports from a Reader, which is not closed.
+   *
+   * @param in the source
+   * @param format the format to parse
+   * @return the number of tasks imported
+   * @throws IOException if reading fails or the input is malformed
+   */
+  public long importFrom(Reader in, TaskFormat format) throws IOException {
+    CharInput input = new CharInput(in, READ_BUFFER_SIZE);
+    RecordParser parser = format == TaskFormat.CSV
+        ? new CsvParser(input)
+        : new JsonLinesParser(input);
+    List<Task> batch = new ArrayList<>(batchSize);
+    long imported = 0;
+    for (Task task = parser.next(); task != null; task = parser.next()) {
+      batch.add(task);
+      if (batch.size() == batchSize) {
+        imported += save(batch);
+      }
+    }
+    if (!batch.isEmpty()) {
+      imported += save(batch);
+    }
+    return imported;
+  }
+
+  private int save(List<Task> batch) {
+    repository.saveAll(batch);
+    int saved = batch.size();
+    batch.clear();
+    return saved;
+  }
+
+  private static Task newTask(String id, String name, String description, boolean completed) {
+    Task task = id == null || id.isEmpty()
+        ? new Task(name, description)
+        : new Task(id, name, description);
+    task.setCompleted(completed);
+    return task;
+  }
+
+  /**
+   * Source of parsed tasks.
+   */
+  private interface RecordParser {
+    Task next() throws IOException;
+  }
+
+  /**
+   * RFC 4180 parser; columns are matched by the header's names, so they
+   * may come in any order and unknown columns are ignored.
+   */
+  private static final class CsvParser implements RecordParser {
+    private final CharInput input;
+    private final StringBuilder field;
+    private String[] values;
+    private int idColumn = -1;
+    private int nameColumn = -1;
+    private int descriptionColumn = -1;
+    private int completedColumn = -1;
+
+    private CsvParser(CharInput input) {
+      this.input = input;
+      this.field = new StringBuilder();
+    }
+
+    @Override
+    public Task next() throws IOException {
+      if (values == null) {
+        readHeader();
+      }
+      while (true) {
+        int c = input.peek();
+        if (c == CharInput.EOF) {
+          return null;
+        }
+        if (c == '\n' || c == '\r') {
+          // Blank line
+          input.read();
+          continue;
+        }
+        input.startRecord();
+        int columns = readRecord();
+        if (columns != values.length) {
+          throw input.error("Expected " + values.length + " fields but found " + columns);
+        }
+        String name = values[nameColumn];
+        String description = descriptionColumn >= 0 ? values[descriptionColumn] : "";
+        String id = idColumn >= 0 ? values[idColumn] : null;
+        boolean completed = completedColumn >= 0 && parseBoolean(values[completedColumn]);
+        try {
+          return newTask(id, name, description, completed);
+        } catch (IllegalArgumentException e) {
+          throw input.error(e.getMessage());
+        }
+      }
+    }
+
+    private void readHeader() throws IOException {
+      List<String> names = new ArrayList<>();
+      if (input.peek() == CharInput.EOF) {
+        throw input.error("Missing CSV header");
+      }
+      boolean more = true;
+      while (more) {
+        more = readField();
+        names.add(field.toString().strip().toLowerCase(Locale.ROOT));
+      }
+      values = new String[names.size()];
+      for (int i = 0; i < names.size(); i++) {
+        switch (names.get(i)) {
+          case "id":
+            idColumn = i;
+            break;
+          case "name":
+            nameColumn = i;
+            break;
+          case "description":
+            descriptionColumn = i;
+            break;
+          case "completed":
+            completedColumn = i;
+            break;
+          default:
+            break;
+        }
+      }
+      if (nameColumn < 0) {
+        throw input.error("CSV header has no name column");
+      }
+    }
+
+    private int readRecord() throws IOException {
+      int column = 0;
+      boolean more = true;
+      while (more) {
+        more = readField();
+        if (column < values.length) {
+          values[column] = isWanted(column) ? field.toString() : null;
+        }
+        column++;
+      }
+      return column;
+    }
+
+    private boolean isWanted(int column) {
+      return column == idColumn || column == nameColumn
+          || column == descriptionColumn || column == completedColumn;
+    }
+
+    /**
+     * Reads one field into the builder.
+     *
+     * @return true if another field follows on the same record
+     */
+    private boolean readField() throws IOException {
+      field.setLength(0);
+      if (input.peek() == '"') {
+        input.read();
+        while (true) {
+          int c = input.read();
+          if (c == CharInput.EOF) {
+            throw input.error("Unterminated quoted field");
+          }
+          if (c == '"') {
+            if (input.peek() != '"') {
+              break;
+            }
+            input.read();
+          }
+          field.append((char) c);
+        }
+        return endOfField();
+      }
+      while (true) {
+        int c = input.peek();
+        if (c == ',' || c == '\n' || c == '\r' || c == CharInput.EOF) {
+          return endOfField();
+        }
+        field.append((char) input.read());
+      }
+    }
+
+    private boolean endOfField() throws IOException {
+      int c = input.read();
+      if (c == ',') {
+        return true;
+      }
+      if (c == '\r') {
+        if (input.peek() == '\n') {
+          input.read();
+        }
+        return false;
+      }
+      if (c == '\n' || c == CharInput.EOF) {
+        return false;
+      }
+      throw input.error("Unexpected character after quoted field");
+    }
+
+    private boolean parseBoolean(String value) throws IOException {
+      String flag = value.strip();
+      if (flag.isEmpty() || flag.equalsIgnoreCase("false")) {
+        return false;
+      }
+      if (flag.equalsIgnoreCase("true")) {
+        return true;
+      }
+      throw input.error("Invalid completed value: " + value);
+    }
+  }
+
+  /**
+   * Parser for one flat JSON object per line. Unknown members with
+   * scalar values are skipped.
+   */
+  private static final class JsonLinesParser implements RecordParser {
+    private final CharInput input;
+    private final StringBuilder text;
+
+    private JsonLinesParser(CharInput input) {
+      this.input = input;
+      this.text = new StringBuilder();
+    }
+
+    @Override
+    public Task next() throws IOException {
+      skipWhitespace();
+      if (input.peek() == CharInput.EOF) {
+        return null;
+      }
+      input.startRecord();
+      expect('{');
+      String id = null;
+      String name = null;
+      String description = "";
+      boolean completed = false;
+      skipWhitespace();
+      if (input.peek() == '}') {
+        input.read();
+        throw input.error("Missing name");
+      }
+      while (true) {
+        skipWhitespace();
+        readString();
+        skipWhitespace();
+        expect(':');
+        skipWhitespace();
+        if (contentEquals("id")) {
+          id = readOptionalString();
+        } else if (contentEquals("name")) {
+          name = readOptionalString();
+        } else if (contentEquals("description")) {
+          String value = readOptionalString();
+          description = value != null ? value : "";
+        } else if (contentEquals("completed")) {
+          completed = readBoolean();
+        } else {
+          skipScalar();
+        }
+        skipWhitespace();
+        int c = input.read();
+        if (c == '}') {
+          break;
+        }
+        if (c != ',') {
+          throw input.error("Expected ',' or '}'");
+        }
+      }
+      if (name == null) {
+        throw input.error("Missing name");
+      }
+      try {
+        return newTask(id, name, description, completed);
+      } catch (IllegalArgumentException e) {
+        throw input.error(e.getMessage());
+      }
+    }
+
+    private boolean contentEquals(String key) {
+      return text.length() == key.length() && key.contentEquals(text);
+    }
+
+    private String readOptionalString() throws IOException {
+      if (input.peek() == 'n') {
+        expectLiteral("null");
+        return null;
+      }
+      readString();
+      return text.toString();
+    }
+
+    private boolean readBoolean() throws IOException {
+      if (input.peek() == 't') {
+        expectLiteral("true");
+        return true;
+      }
+      expectLiteral("false");
+      return false;
+    }
+
+    private void skipScalar() throws IOException {
+      int c = input.peek();
+      if (c == '"') {
+        readString();
+      } else if (c == 't') {
+        expectLiteral("true");
+      } else if (c == 'f') {
+        expectLiteral("false");
+      } else if (c == 'n') {
+        expectLiteral("null");
+      } else if (c == '-' || (c >= '0' && c <= '9')) {
+        while ("+-0123456789.eE".indexOf(input.peek()) >= 0) {
+          input.read();
+        }
+      } else {
+        throw input.error("Unsupported value");
+      }
+    }
+
+    private void readString() throws IOException {
+      expect('"');
+      text.setLength(0);
+      while (true) {
+        int c = input.read();
+        if (c == '"') {
+          return;
+        }
+        if (c == CharInput.EOF || c == '\n') {
+          throw input.error("Unterminated string");
+        }
+        if (c != '\\') {
+          text.append((char) c);
+          continue;
+        }
+        int escaped = input.read();
+        switch (escaped) {
+          case '"':
+          case '\\':
+          case '/':
+            text.append((char) escaped);
+            break;
+          case 'b':
+            text.append('\b');
+            break;
+          case 'f':
+            text.append('\f');
+            break;
+          case 'n':
+            text.append('\n');
+            break;
+          case 'r':
+            text.append('\r');
+            break;
+          case 't':
+            text.append('\t');
+            break;
+          case 'u':
+            text.append((char) readHex());
+            break;
+          default:
+            throw input.error("Invalid escape");
+        }
+      }
+    }
+
+    private int readHex() throws IOException {
+      int value = 0;
+      for (int i = 0; i < 4; i++) {
+        int digit = Character.digit(input.read(), 16);
+        if (digit < 0) {
+          throw input.error("Invalid unicode escape");
+        }
+        value = value * 16 + digit;
+      }
+      return value;
+    }
+
+    private void expectLiteral(String literal) throws IOException {
+      for (int i = 0; i < literal.length(); i++) {
+        if (input.read() != literal.charAt(i)) {
+          throw input.error("Expected " + literal);
+        }
+      }
+    }
+
+    private void expect(char c) throws IOException {
+      if (input.read() != c) {
+        throw input.error("Expected '" + c + "'");
+      }
+    }
+
+    private void skipWhitespace() throws IOException {
+      int c = input.peek();
+      while (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+        input.read();
+        c = input.peek();
+      }
+    }
+  }
+}
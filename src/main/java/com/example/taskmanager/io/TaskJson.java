@@ -0,0 +1,288 @@
+package com.example.taskmanager.io;
+
+import com.example.taskmanager.models.Task;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal JSON support shared by the HTTP front end and JSON Lines export:
+ * writes tasks straight to a Writer without building intermediate strings,
+ * and parses flat request objects.
+ * Follows the Single Responsibility Principle (SRP) - only handles the
+ * JSON wire format.
+ *
+ * <p>Request objects may hold strings, booleans, numbers, null and arrays
+ * of those; nested objects are rejected.
+ */
+public final class TaskJson {
+
+  private TaskJson() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Writes one task as a JSON object, including its version, so tasks read
+   * from a listing can be updated with the version as their ETag.
+   *
+   * @param out the writer to append to
+   * @param task the task to write
+   * @throws IOException if the writer fails
+   */
+  public static void writeTask(Writer out, Task task) throws IOException {
+    out.write("{\"id\":");
+    writeString(out, task.getId());
+    out.write(",\"name\":");
+    writeString(out, task.getName());
+    out.write(",\"description\":");
+    writeString(out, task.getDescription());
+    out.write(",\"completed\":");
+    out.write(task.isCompleted() ? "true" : "false");
+    out.write(",\"version\":");
+    out.write(Long.toString(task.getVersion()));
+    out.write('}');
+  }
+
+  /**
+   * Writes a string as a quoted, escaped JSON string, or null.
+   *
+   * @param out the writer to append to
+   * @param value the string to write
+   * @throws IOException if the writer fails
+   */
+  public static void writeString(Writer out, String value) throws IOException {
+    if (value == null) {
+      out.write("null");
+      return;
+    }
+    out.write('"');
+    int start = 0;
+    for (int i = 0, length = value.length(); i < length; i++) {
+      char c = value.charAt(i);
+      String escape;
+      if (c == '"') {
+        escape = "\\\"";
+      } else if (c == '\\') {
+        escape = "\\\\";
+      } else if (c == '\n') {
+        escape = "\\n";
+      } else if (c == '\r') {
+        escape = "\\r";
+      } else if (c == '\t') {
+        escape = "\\t";
+      } else if (c < 0x20) {
+        escape = String.format("\\u%04x", (int) c);
+      } else {
+        continue;
+      }
+      out.write(value, start, i - start);
+      out.write(escape);
+      start = i + 1;
+    }
+    out.write(value, start, value.length() - start);
+    out.write('"');
+  }
+
+  /**
+   * Parses a JSON object with scalar or array values.
+   *
+   * @param json the request body
+   * @return the members in document order; arrays become lists
+   * @throws IllegalArgumentException if the body is not such an object
+   */
+  public static Map<String, Object> parseObject(String json) {
+    Parser parser = new Parser(json);
+    parser.skipWhitespace();
+    Map<String, Object> members = parser.object();
+    parser.skipWhitespace();
+    if (!parser.atEnd()) {
+      throw parser.error("Unexpected trailing content");
+    }
+    return members;
+  }
+
+  /**
+   * Recursive-descent parser over the request body.
+   */
+  private static final class Parser {
+    private final String json;
+    private int position;
+
+    private Parser(String json) {
+      this.json = json;
+    }
+
+    private Map<String, Object> object() {
+      expect('{');
+      Map<String, Object> members = new LinkedHashMap<>();
+      skipWhitespace();
+      if (peek() == '}') {
+        position++;
+        return members;
+      }
+      while (true) {
+        skipWhitespace();
+        String key = string();
+        skipWhitespace();
+        expect(':');
+        skipWhitespace();
+        members.put(key, value(true));
+        skipWhitespace();
+        if (peek() == ',') {
+          position++;
+        } else {
+          expect('}');
+          return members;
+        }
+      }
+    }
+
+    private Object value(boolean allowArray) {
+      char c = peek();
+      if (c == '"') {
+        return string();
+      }
+      if (c == '[' && allowArray) {
+        return array();
+      }
+      if (json.startsWith("true", position)) {
+        position += 4;
+        return Boolean.TRUE;
+      }
+      if (json.startsWith("false", position)) {
+        position += 5;
+        return Boolean.FALSE;
+      }
+      if (json.startsWith("null", position)) {
+        position += 4;
+        return null;
+      }
+      if (c == '-' || (c >= '0' && c <= '9')) {
+        return number();
+      }
+      throw error("Unsupported value");
+    }
+
+    private List<Object> array() {
+      expect('[');
+      List<Object> values = new ArrayList<>();
+      skipWhitespace();
+      if (peek() == ']') {
+        position++;
+        return values;
+      }
+      while (true) {
+        skipWhitespace();
+        values.add(value(false));
+        skipWhitespace();
+        if (peek() == ',') {
+          position++;
+        } else {
+          expect(']');
+          return values;
+        }
+      }
+    }
+
+    private String string() {
+      expect('"');
+      StringBuilder value = new StringBuilder();
+      while (true) {
+        if (atEnd()) {
+          throw error("Unterminated string");
+        }
+        char c = json.charAt(position++);
+        if (c == '"') {
+          return value.toString();
+        }
+        if (c != '\\') {
+          value.append(c);
+          continue;
+        }
+        if (atEnd()) {
+          throw error("Unterminated escape");
+        }
+        char escaped = json.charAt(position++);
+        switch (escaped) {
+          case '"':
+          case '\\':
+          case '/':
+            value.append(escaped);
+            break;
+          case 'b':
+            value.append('\b');
+            break;
+          case 'f':
+            value.append('\f');
+            break;
+          case 'n':
+            value.append('\n');
+            break;
+          case 'r':
+            value.append('\r');
+            break;
+          case 't':
+            value.append('\t');
+            break;
+          case 'u':
+            if (position + 4 > json.length()) {
+              throw error("Truncated unicode escape");
+            }
+            try {
+              value.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+            } catch (NumberFormatException e) {
+              throw error("Invalid unicode escape");
+            }
+            position += 4;
+            break;
+          default:
+            throw error("Invalid escape");
+        }
+      }
+    }
+
+    private Number number() {
+      int start = position;
+      while (!atEnd() && "+-0123456789.eE".indexOf(json.charAt(position)) >= 0) {
+        position++;
+      }
+      String text = json.substring(start, position);
+      try {
+        if (text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+          return Long.parseLong(text);
+        }
+        return Double.parseDouble(text);
+      } catch (NumberFormatException e) {
+        throw error("Invalid number");
+      }
+    }
+
+    private void expect(char c) {
+      if (peek() != c) {
+        throw error("Expected '" + c + "'");
+      }
+      position++;
+    }
+
+    private char peek() {
+      return atEnd() ? '\0' : json.charAt(position);
+    }
+
+    private boolean atEnd() {
+      return position >= json.length();
+    }
+
+    private void skipWhitespace() {
+      while (!atEnd() && Character.isWhitespace(json.charAt(position))) {
+        position++;
+      }
+    }
+
+    private IllegalArgumentException error(String message) {
+      return new IllegalArgumentException(message + " at offset " + position);
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package com.example.taskmanager.jfr;
+
+import com.example.taskmanager.models.Task;
+import java.util.function.IntSupplier;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder event for one task operation in {@code TaskManager}
+ * or {@code TaskServiceImpl}.
+ * Follows the Single Responsibility Principle (SRP) - only describes and
+ * commits the event; callers decide what to time.
+ *
+ * <p>Only operations slower than the threshold, 1 ms by default, are
+ * recorded, so the event can stay enabled in production and still show
+ * which operation a lock or I/O stall belongs to. Set the threshold of
+ * {@value #NAME} to 0 ms in a recording's settings to see every operation.
+ * The repository size is only read, and the task id only rendered, for
+ * events that are actually committed.
+ */
+@Name(TaskOperationEvent.NAME)
+@Label("Task Operation")
+@Category("Task Manager")
+@Description("A task operation, with the task it touched and the repository size")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class TaskOperationEvent extends Event {
+
+  /** The event type name shown in JMC and used in recording settings. */
+  public static final String NAME = "com.example.taskmanager.TaskOperation";
+
+  /** Layer value for operations started by TaskManager. */
+  public static final String MANAGER = "TaskManager";
+
+  /** Layer value for operations in TaskServiceImpl. */
+  public static final String SERVICE = "TaskService";
+
+  /** Operation value for creating tasks. */
+  public static final String CREATE = "create";
+
+  /** Operation value for marking tasks completed. */
+  public static final String COMPLETE = "complete";
+
+  /** Operation value for editing a task. */
+  public static final String UPDATE = "update";
+
+  /** Operation value for removing tasks. */
+  public static final String REMOVE = "remove";
+
+  /** Operation value for listing tasks. */
+  public static final String LIST = "list";
+
+  @Label("Layer")
+  private String layer;
+
+  @Label("Operation")
+  @Description("One of create, complete, update, remove or list")
+  private String operation;
+
+  @Label("Task Id")
+  @Description("The task operated on, if the operation targets a single task")
+  private String taskId;
+
+  @Label("Task Count")
+  @Description("The number of tasks created, changed, removed or listed")
+  private int taskCount;
+
+  @Label("Repository Size")
+  @Description("The number of tasks in the repository when the operation ended")
+  private int repositorySize;
+
+  @Label("Succeeded")
+  private boolean succeeded;
+
+  private TaskOperationEvent(String layer, String operation) {
+    this.layer = layer;
+    this.operation = operation;
+  }
+
+  /**
+   * Starts timing an operation in TaskServiceImpl.
+   *
+   * @param operation the operation name, such as {@link #CREATE}
+   * @return the started event
+   */
+  public static TaskOperationEvent inService(String operation) {
+    return start(SERVICE, operation);
+  }
+
+  /**
+   * Starts timing an operation in TaskManager.
+   *
+   * @param operation the operation name, such as {@link #CREATE}
+   * @return the started event
+   */
+  public static TaskOperationEvent inManager(String operation) {
+    return start(MANAGER, operation);
+  }
+
+  /**
+   * Ends timing and commits the event if it is enabled and over its
+   * threshold.
+   *
+   * @param taskId the task operated on, or null
+   * @param taskCount the number of tasks affected
+   * @param succeeded whether the operation succeeded
+   * @param size supplies the repository size, only if the event is committed
+   */
+  public void finish(String taskId, int taskCount, boolean succeeded, IntSupplier size) {
+    end();
+    if (shouldCommit()) {
+      this.taskId = taskId;
+      record(taskCount, succeeded, size);
+    }
+  }
+
+  /**
+   * Ends timing and commits the event if it is enabled and over its
+   * threshold.
+   *
+   * @param task the task operated on, or null
+   * @param succeeded whether the operation succeeded
+   * @param size supplies the repository size, only if the event is committed
+   */
+  public void finish(Task task, boolean succeeded, IntSupplier size) {
+    end();
+    if (shouldCommit()) {
+      this.taskId = task != null ? task.getId() : null;
+      record(task != null ? 1 : 0, succeeded, size);
+    }
+  }
+
+  private static TaskOperationEvent start(String layer, String operation) {
+    TaskOperationEvent event = new TaskOperationEvent(layer, operation);
+    event.begin();
+    return event;
+  }
+
+  private void record(int taskCount, boolean succeeded, IntSupplier size) {
+    this.taskCount = taskCount;
+    this.succeeded = succeeded;
+    this.repositorySize = size.getAsInt();
+    commit();
+  }
+}
@@ -0,0 +1,144 @@
+package com.example.taskmanager.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of latencies in nanoseconds, with fixed
+ * log-linear buckets.
+ * Follows the Single Responsibility Principle (SRP) - only counts
+ * values; naming and reporting belong to {@link MetricsRegistry}.
+ *
+ * <p>Values below 32 get a bucket each; above that, every power of two
+ * is split into 32 equal buckets. Any value from 0 to {@link Long#MAX_VALUE}
+ * is therefore recorded with a relative error of at most 1/32 (about 3%),
+ * in 1888 counters allocated once. Recording is one array increment plus
+ * two contention-free adders, with no allocation and no locking.
+ * Percentiles are read while writers are active and may miss values
+ * being recorded concurrently.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts;
+  private final LongAdder total;
+  private final LongAccumulator max;
+
+  /**
+   * Creates an empty histogram.
+   */
+  public LatencyHistogram() {
+    this.counts = new AtomicLongArray(BUCKETS);
+    this.total = new LongAdder();
+    this.max = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Records one value; negative values are recorded as zero.
+   *
+   * @param nanos the latency in nanoseconds
+   */
+  public void record(long nanos) {
+    long value = Math.max(0, nanos);
+    counts.incrementAndGet(bucketOf(value));
+    total.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * Returns the number of recorded values.
+   *
+   * @return the count
+   */
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      count += counts.get(i);
+    }
+    return count;
+  }
+
+  /**
+   * Returns the sum of all recorded values.
+   *
+   * @return the total in nanoseconds
+   */
+  public long getTotal() {
+    return total.sum();
+  }
+
+  /**
+   * Returns the largest recorded value, exactly.
+   *
+   * @return the maximum in nanoseconds, or 0 if empty
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Returns the value below or at which the given percentage of recorded
+   * values fall, rounded up to the top of its bucket.
+   *
+   * @param percentile the percentile, from 0 to 100
+   * @return the value in nanoseconds, or 0 if empty
+   * @throws IllegalArgumentException if percentile is out of range
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+    long[] snapshot = new long[BUCKETS];
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      count += snapshot[i];
+    }
+    if (count == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        return Math.min(highestValueIn(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Clears all recorded values.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0);
+    }
+    total.reset();
+    max.reset();
+  }
+
+  static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+    return (shift + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  static long highestValueIn(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    return lowest + ((1L << shift) - 1);
+  }
+}
@@ -0,0 +1,138 @@
+package com.example.taskmanager.metrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Named collection of per-operation metrics, shared by the instrumented
+ * decorators of one application.
+ * Follows the Single Responsibility Principle (SRP) - holds and exports
+ * metrics; the decorators decide what to measure.
+ *
+ * <p>Metrics can be exported as a human-readable table with
+ * {@link #writeReport} or in the Prometheus text format with
+ * {@link #writePrometheus}. Throughput is the operation count divided by
+ * the time since the registry was created or last reset.
+ */
+public final class MetricsRegistry {
+
+  private static final double NANOS_PER_MICRO = 1_000.0;
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+  private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+
+  private final ConcurrentMap<String, OperationMetrics> operations;
+  private volatile long startNanos;
+
+  /**
+   * Creates an empty registry.
+   */
+  public MetricsRegistry() {
+    this.operations = new ConcurrentHashMap<>();
+    this.startNanos = System.nanoTime();
+  }
+
+  /**
+   * Returns the metrics for an operation, creating them on first use.
+   *
+   * @param name the operation name, for example {@code service.createTask}
+   * @return the operation's metrics
+   * @throws IllegalArgumentException if name is null or blank
+   */
+  public OperationMetrics operation(String name) {
+    if (name == null || name.isBlank()) {
+      throw new IllegalArgumentException("Operation name cannot be empty");
+    }
+    return operations.computeIfAbsent(name, OperationMetrics::new);
+  }
+
+  /**
+   * Returns the metrics of every operation, sorted by name.
+   *
+   * @return a snapshot list of the registered operations
+   */
+  public List<OperationMetrics> getOperations() {
+    List<OperationMetrics> sorted = new ArrayList<>(operations.values());
+    sorted.sort(Comparator.comparing(OperationMetrics::getName));
+    return sorted;
+  }
+
+  /**
+   * Clears all recorded values and restarts the throughput clock.
+   */
+  public void reset() {
+    for (OperationMetrics metrics : operations.values()) {
+      metrics.reset();
+    }
+    startNanos = System.nanoTime();
+  }
+
+  /**
+   * Writes a table with one row per operation that has been called:
+   * count, errors, throughput and latency percentiles in microseconds.
+   *
+   * @param out the destination
+   * @throws IOException if writing fails
+   */
+  public void writeReport(Appendable out) throws IOException {
+    double seconds = Math.max(1e-9, (System.nanoTime() - startNanos) / NANOS_PER_SECOND);
+    out.append(String.format(Locale.ROOT, "%-32s %10s %8s %10s %10s %10s %10s %10s%n",
+        "operation", "count", "errors", "ops/s", "p50(us)", "p99(us)", "p999(us)", "max(us)"));
+    for (OperationMetrics metrics : getOperations()) {
+      LatencyHistogram latency = metrics.getLatency();
+      long count = latency.getCount();
+      if (count == 0) {
+        continue;
+      }
+      out.append(String.format(Locale.ROOT,
+          "%-32s %10d %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+          metrics.getName(), count, metrics.getErrorCount(), count / seconds,
+          latency.getValueAtPercentile(50) / NANOS_PER_MICRO,
+          latency.getValueAtPercentile(99) / NANOS_PER_MICRO,
+          latency.getValueAtPercentile(99.9) / NANOS_PER_MICRO,
+          latency.getMax() / NANOS_PER_MICRO));
+    }
+  }
+
+  /**
+   * Writes every operation in the Prometheus text exposition format, as a
+   * latency summary, a maximum gauge and an error counter.
+   *
+   * @param out the destination
+   * @throws IOException if writing fails
+   */
+  public void writePrometheus(Appendable out) throws IOException {
+    List<OperationMetrics> all = getOperations();
+    out.append("# TYPE taskmanager_operation_latency_seconds summary\n");
+    for (OperationMetrics metrics : all) {
+      LatencyHistogram latency = metrics.getLatency();
+      String label = "operation=\"" + metrics.getName() + "\"";
+      for (double quantile : QUANTILES) {
+        out.append(String.format(Locale.ROOT,
+            "taskmanager_operation_latency_seconds{%s,quantile=\"%s\"} %.9f\n", label, quantile,
+            latency.getValueAtPercentile(quantile * 100) / NANOS_PER_SECOND));
+      }
+      out.append(String.format(Locale.ROOT,
+          "taskmanager_operation_latency_seconds_sum{%s} %.9f\n", label,
+          latency.getTotal() / NANOS_PER_SECOND));
+      out.append(String.format(Locale.ROOT,
+          "taskmanager_operation_latency_seconds_count{%s} %d\n", label, latency.getCount()));
+    }
+    out.append("# TYPE taskmanager_operation_latency_max_seconds gauge\n");
+    for (OperationMetrics metrics : all) {
+      out.append(String.format(Locale.ROOT,
+          "taskmanager_operation_latency_max_seconds{operation=\"%s\"} %.9f\n",
+          metrics.getName(), metrics.getLatency().getMax() / NANOS_PER_SECOND));
+    }
+    out.append("# TYPE taskmanager_operation_errors_total counter\n");
+    for (OperationMetrics metrics : all) {
+      out.append(String.format(Locale.ROOT,
+          "taskmanager_operation_errors_total{operation=\"%s\"} %d\n",
+          metrics.getName(), metrics.getErrorCount()));
+    }
+  }
+}
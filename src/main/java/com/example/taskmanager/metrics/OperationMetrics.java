@@ -0,0 +1,90 @@
+package com.example.taskmanager.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Latency histogram and error count for one named operation.
+ * Instances are created by {@link MetricsRegistry#operation(String)}.
+ */
+public final class OperationMetrics {
+
+  private final String name;
+  private final LatencyHistogram latency;
+  private final LongAdder errors;
+
+  OperationMetrics(String name) {
+    this.name = name;
+    this.latency = new LatencyHistogram();
+    this.errors = new LongAdder();
+  }
+
+  /**
+   * Runs an operation, recording its latency, and an error if it throws.
+   *
+   * @param <T> the result type
+   * @param operation the operation to run
+   * @return the operation's result
+   */
+  public <T> T time(Supplier<T> operation) {
+    long start = System.nanoTime();
+    try {
+      return operation.get();
+    } catch (RuntimeException | Error e) {
+      errors.increment();
+      throw e;
+    } finally {
+      latency.record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Runs an operation without a result, recording its latency, and an
+   * error if it throws.
+   *
+   * @param operation the operation to run
+   */
+  public void time(Runnable operation) {
+    long start = System.nanoTime();
+    try {
+      operation.run();
+    } catch (RuntimeException | Error e) {
+      errors.increment();
+      throw e;
+    } finally {
+      latency.record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Returns the operation name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the latency histogram, which counts every call, failed or not.
+   *
+   * @return the histogram
+   */
+  public LatencyHistogram getLatency() {
+    return latency;
+  }
+
+  /**
+   * Returns the number of calls that threw.
+   *
+   * @return the error count
+   */
+  public long getErrorCount() {
+    return errors.sum();
+  }
+
+  void reset() {
+    latency.reset();
+    errors.reset();
+  }
+}
@@ -1,31 +1,38 @@
 package com.example.taskmanager.models;
 
-import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Represents a task entity in the task management system.
  * This class follows the Single Responsibility Principle (SRP)
  * by only handling task data representation.
+ *
+ * <p>The id is held as a compact {@link TaskId}; {@link #getId()} renders
+ * its string form on demand.
+ *
+ * <p>The version counts the updates a repository has accepted through
+ * {@code TaskRepository.compareAndSet}. Writers that must not overwrite
+ * each other take a {@link #copy()}, change it and hand it back with the
+ * version they read; the repository refuses it if someone else got there
+ * first, so the shared instance is never mutated.
  */
 public class Task {
 
-  private final String id;
+  private static final TaskIdGenerator DEFAULT_ID_GENERATOR = TaskIdGenerator.timeOrdered();
+
+  private final TaskId id;
   private String name;
   private String description;
   private boolean completed;
+  private final long version;
 
   /**
-   * Creates a new Task with auto-generated ID.
+   * Creates a new Task with a time-ordered auto-generated ID.
    *
    * @param name the name of the task
    * @param description the description of the task
    */
   public Task(String name, String description) {
-    this.id = UUID.randomUUID().toString();
-    this.name = validateName(name);
-    this.description = description != null ? description : "";
-    this.completed = false;
+    this(DEFAULT_ID_GENERATOR.nextId(), name, description);
   }
 
   /**
@@ -34,12 +41,47 @@ public class Task {
    * @param id the unique identifier for the task
    * @param name the name of the task
    * @param description the description of the task
+   * @throws IllegalArgumentException if id is null
    */
   public Task(String id, String name, String description) {
+    this(TaskId.parse(id), name, description);
+  }
+
+  /**
+   * Creates a new Task with specified ID.
+   *
+   * @param id the unique identifier for the task
+   * @param name the name of the task
+   * @param description the description of the task
+   * @throws IllegalArgumentException if id is null
+   */
+  public Task(TaskId id, String name, String description) {
+    this(id, name, description, false, 0);
+  }
+
+  /**
+   * Creates a Task with every field given, as when a repository rebuilds
+   * a stored task.
+   *
+   * @param id the unique identifier for the task
+   * @param name the name of the task
+   * @param description the description of the task
+   * @param completed whether the task is completed
+   * @param version the number of accepted updates
+   * @throws IllegalArgumentException if id is null or version is negative
+   */
+  public Task(TaskId id, String name, String description, boolean completed, long version) {
+    if (id == null) {
+      throw new IllegalArgumentException("Task id cannot be null");
+    }
+    if (version < 0) {
+      throw new IllegalArgumentException("Task version cannot be negative");
+    }
     this.id = id;
     this.name = validateName(name);
     this.description = description != null ? description : "";
-    this.completed = false;
+    this.completed = completed;
+    this.version = version;
   }
 
   private String validateName(String name) {
@@ -50,6 +92,10 @@ public class Task {
   }
 
   public String getId() {
+    return id.toString();
+  }
+
+  public TaskId getTaskId() {
     return id;
   }
 
@@ -77,6 +123,28 @@ public class Task {
     this.completed = completed;
   }
 
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Returns an independent copy of this task with the same version.
+   *
+   * @return the copy
+   */
+  public Task copy() {
+    return new Task(id, name, description, completed, version);
+  }
+
+  /**
+   * Returns a copy of this task carrying the version after this one.
+   *
+   * @return the copy
+   */
+  public Task nextVersion() {
+    return new Task(id, name, description, completed, version + 1);
+  }
+
   /**
    * Marks this task as completed.
    */
@@ -93,16 +161,17 @@ public class Task {
       return false;
     }
     Task task = (Task) o;
-    return Objects.equals(id, task.id);
+    return id.equals(task.id);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(id);
+    return id.hashCode();
   }
 
   @Override
   public String toString() {
-    return String.format("Task{id='%s', name='%s', completed=%s}", id, name, completed);
+    return String.format("Task{id='%s', name='%s', completed=%s, version=%d}", id, name,
+        completed, version);
   }
 }
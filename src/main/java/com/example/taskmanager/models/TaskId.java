@@ -0,0 +1,210 @@
+package com.example.taskmanager.models;
+
+import java.util.Objects;
+
+/**
+ * Compact identifier of a task.
+ * Generated ids are held as one or two longs instead of a string, so they
+ * cost a small fixed-size object and compare with a couple of long
+ * comparisons. The string form is only built by {@link #toString()}, at the
+ * edges where ids are shown, logged or written out.
+ *
+ * <p>There are three forms, each with one canonical string:
+ * <ul>
+ *   <li>128-bit ids, written as a lower-case UUID
+ *       ({@code 8-4-4-4-12} hex digits);</li>
+ *   <li>64-bit ids, written as 16 lower-case hex digits;</li>
+ *   <li>any other string, kept as is.</li>
+ * </ul>
+ * {@link #parse(String)} maps every string to the form whose canonical
+ * string it is, so two ids are equal exactly when their strings are equal.
+ */
+public final class TaskId implements Comparable<TaskId> {
+
+  private static final int WIDE = 0;
+  private static final int NARROW = 1;
+  private static final int LITERAL = 2;
+
+  private static final int UUID_LENGTH = 36;
+  private static final int LONG_LENGTH = 16;
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final int form;
+  private final long high;
+  private final long low;
+  private final String literal;
+
+  private TaskId(int form, long high, long low, String literal) {
+    this.form = form;
+    this.high = high;
+    this.low = low;
+    this.literal = literal;
+  }
+
+  /**
+   * Creates a 128-bit id.
+   *
+   * @param high the most significant 64 bits
+   * @param low the least significant 64 bits
+   * @return the id
+   */
+  public static TaskId of(long high, long low) {
+    return new TaskId(WIDE, high, low, null);
+  }
+
+  /**
+   * Creates a 64-bit id.
+   *
+   * @param value the id bits
+   * @return the id
+   */
+  public static TaskId of(long value) {
+    return new TaskId(NARROW, 0, value, null);
+  }
+
+  /**
+   * Converts an id string back to its id.
+   *
+   * @param id the id string
+   * @return the id whose {@link #toString()} equals {@code id}
+   * @throws IllegalArgumentException if id is null
+   */
+  public static TaskId parse(String id) {
+    if (id == null) {
+      throw new IllegalArgumentException("Task id cannot be null");
+    }
+    if (id.length() == UUID_LENGTH && isCanonicalUuid(id)) {
+      long high = (hex(id, 0, 8) << 32) | (hex(id, 9, 13) << 16) | hex(id, 14, 18);
+      long low = (hex(id, 19, 23) << 48) | hex(id, 24, 36);
+      return of(high, low);
+    }
+    if (id.length() == LONG_LENGTH && isLowerHex(id, 0, LONG_LENGTH)) {
+      return of(hex(id, 0, LONG_LENGTH));
+    }
+    return new TaskId(LITERAL, 0, 0, id);
+  }
+
+  /**
+   * Returns whether this id is held as bits rather than as a string.
+   *
+   * @return false for ids parsed from arbitrary strings
+   */
+  public boolean isBinary() {
+    return form != LITERAL;
+  }
+
+  /**
+   * Returns whether this is a 128-bit id.
+   *
+   * @return true for 128-bit ids, false for 64-bit and string ids
+   */
+  public boolean isWide() {
+    return form == WIDE;
+  }
+
+  /**
+   * Returns the most significant 64 bits of a 128-bit id.
+   *
+   * @return the high bits; 0 for other forms
+   */
+  public long getHigh() {
+    return high;
+  }
+
+  /**
+   * Returns the least significant 64 bits of a binary id.
+   *
+   * @return the low bits; 0 for string ids
+   */
+  public long getLow() {
+    return low;
+  }
+
+  @Override
+  public int compareTo(TaskId other) {
+    if (form != other.form) {
+      return Integer.compare(form, other.form);
+    }
+    if (form == LITERAL) {
+      return literal.compareTo(other.literal);
+    }
+    int byHigh = Long.compareUnsigned(high, other.high);
+    return byHigh != 0 ? byHigh : Long.compareUnsigned(low, other.low);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    TaskId other = (TaskId) o;
+    return form == other.form && high == other.high && low == other.low
+        && Objects.equals(literal, other.literal);
+  }
+
+  @Override
+  public int hashCode() {
+    if (form == LITERAL) {
+      return literal.hashCode();
+    }
+    long bits = high * 0x9E3779B97F4A7C15L ^ low;
+    return (int) (bits ^ (bits >>> 32));
+  }
+
+  @Override
+  public String toString() {
+    if (form == LITERAL) {
+      return literal;
+    }
+    if (form == NARROW) {
+      char[] chars = new char[LONG_LENGTH];
+      writeHex(chars, 0, low, LONG_LENGTH);
+      return new String(chars);
+    }
+    char[] chars = new char[UUID_LENGTH];
+    writeHex(chars, 0, high >>> 32, 8);
+    chars[8] = '-';
+    writeHex(chars, 9, high >>> 16, 4);
+    chars[13] = '-';
+    writeHex(chars, 14, high, 4);
+    chars[18] = '-';
+    writeHex(chars, 19, low >>> 48, 4);
+    chars[23] = '-';
+    writeHex(chars, 24, low, 12);
+    return new String(chars);
+  }
+
+  private static boolean isCanonicalUuid(String id) {
+    return id.charAt(8) == '-' && id.charAt(13) == '-' && id.charAt(18) == '-'
+        && id.charAt(23) == '-' && isLowerHex(id, 0, 8) && isLowerHex(id, 9, 13)
+        && isLowerHex(id, 14, 18) && isLowerHex(id, 19, 23) && isLowerHex(id, 24, 36);
+  }
+
+  private static boolean isLowerHex(String s, int from, int to) {
+    for (int i = from; i < to; i++) {
+      char c = s.charAt(i);
+      if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long hex(String s, int from, int to) {
+    long value = 0;
+    for (int i = from; i < to; i++) {
+      value = (value << 4) | Character.digit(s.charAt(i), 16);
+    }
+    return value;
+  }
+
+  private static void writeHex(char[] chars, int offset, long value, int digits) {
+    for (int i = offset + digits - 1; i >= offset; i--) {
+      chars[i] = HEX[(int) value & 0xF];
+      value >>>= 4;
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.example.taskmanager.models;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Strategy for generating new task ids.
+ * Follows the Strategy pattern - the id scheme can be swapped without
+ * touching the code that creates tasks.
+ * Implementations must be thread-safe.
+ */
+@FunctionalInterface
+public interface TaskIdGenerator {
+
+  /**
+   * Generates a new, unique id.
+   *
+   * @return the id
+   */
+  TaskId nextId();
+
+  /**
+   * Returns a generator of random 128-bit ids in UUID version 4 layout.
+   * Unlike {@link java.util.UUID#randomUUID()} it draws from a per-thread
+   * pseudo-random generator instead of {@link java.security.SecureRandom},
+   * so ids are unique but not unguessable.
+   *
+   * @return the generator
+   */
+  static TaskIdGenerator random() {
+    return () -> {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      long high = (random.nextLong() & ~0xF000L) | 0x4000L;
+      long low = (random.nextLong() & ~(0xC000000000000000L)) | 0x8000000000000000L;
+      return TaskId.of(high, low);
+    };
+  }
+
+  /**
+   * Returns a generator of time-ordered 128-bit ids in UUID version 7
+   * layout: 48 bits of Unix milliseconds, then a 12-bit sequence and 62
+   * random bits. The sequence keeps ids from one generator strictly
+   * increasing even within a millisecond, so ids sort by creation time.
+   * Past 4096 ids in one millisecond the timestamp runs ahead of the clock
+   * until the clock catches up.
+   *
+   * @return the generator
+   */
+  static TaskIdGenerator timeOrdered() {
+    // Upper 52 bits: milliseconds then sequence; both advance together
+    AtomicLong last = new AtomicLong();
+    return () -> {
+      long now = System.currentTimeMillis() << 12;
+      long stamp = last.updateAndGet(previous -> Math.max(previous + 1, now));
+      long high = ((stamp >>> 12) << 16) | 0x7000L | (stamp & 0xFFFL);
+      long low = (ThreadLocalRandom.current().nextLong() & ~(0xC000000000000000L))
+          | 0x8000000000000000L;
+      return TaskId.of(high, low);
+    };
+  }
+
+  /**
+   * Returns a generator of monotonic 64-bit ids. The counter starts from
+   * the current time in milliseconds shifted left by 20 bits, so ids stay
+   * unique across restarts unless more than a million ids per millisecond
+   * were generated before the restart.
+   *
+   * @return the generator
+   */
+  static TaskIdGenerator sequential() {
+    AtomicLong next = new AtomicLong(System.currentTimeMillis() << 20);
+    return () -> TaskId.of(next.getAndIncrement());
+  }
+}
@@ -0,0 +1,57 @@
+package com.example.taskmanager.models;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of tasks returned by a paginated query.
+ * Carries the position of its first task and an opaque cursor for the
+ * next page, so callers never need the whole task list at once.
+ */
+public final class TaskPage {
+
+  private final List<Task> tasks;
+  private final int offset;
+  private final int totalCount;
+  private final String nextCursor;
+
+  /**
+   * Creates a page.
+   *
+   * @param tasks the tasks on this page
+   * @param offset the zero-based position of the first task
+   * @param totalCount the number of tasks in the whole result
+   * @param nextCursor the cursor of the next page, or null if this is the last
+   */
+  public TaskPage(List<Task> tasks, int offset, int totalCount, String nextCursor) {
+    this.tasks = Collections.unmodifiableList(tasks);
+    this.offset = offset;
+    this.totalCount = totalCount;
+    this.nextCursor = nextCursor;
+  }
+
+  public List<Task> getTasks() {
+    return tasks;
+  }
+
+  public int getOffset() {
+    return offset;
+  }
+
+  public int getTotalCount() {
+    return totalCount;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  /**
+   * Whether another page follows this one.
+   *
+   * @return true if {@link #getNextCursor()} is not null
+   */
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
@@ -1,6 +1,7 @@
 package com.example.taskmanager.presentation;
 
 import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
 import java.io.PrintStream;
 import java.util.List;
 
@@ -57,9 +58,7 @@ public class ConsoleTaskPresenter implements TaskPresenter {
       return;
     }
 
-    output.println(SEPARATOR);
-    output.println("📋 Task List (" + tasks.size() + " tasks)");
-    output.println(SEPARATOR);
+    displayHeader(tasks.size());
 
     for (int i = 0; i < tasks.size(); i++) {
       displayTask(tasks.get(i), i + 1);
@@ -68,6 +67,35 @@ public class ConsoleTaskPresenter implements TaskPresenter {
     output.println(SEPARATOR);
   }
 
+  @Override
+  public void displayTaskPage(TaskPage page) {
+    if (page == null) {
+      return;
+    }
+    if (page.getOffset() == 0) {
+      if (page.getTasks().isEmpty()) {
+        displayInfo("No tasks found.");
+        return;
+      }
+      displayHeader(page.getTotalCount());
+    }
+
+    List<Task> tasks = page.getTasks();
+    for (int i = 0; i < tasks.size(); i++) {
+      displayTask(tasks.get(i), page.getOffset() + i + 1);
+    }
+
+    if (!page.hasNext()) {
+      output.println(SEPARATOR);
+    }
+  }
+
+  private void displayHeader(int taskCount) {
+    output.println(SEPARATOR);
+    output.println("📋 Task List (" + taskCount + " tasks)");
+    output.println(SEPARATOR);
+  }
+
   @Override
   public void displaySuccess(String message) {
     output.println("✅ " + message);
@@ -0,0 +1,74 @@
+package com.example.taskmanager.presentation;
+
+import com.example.taskmanager.metrics.MetricsRegistry;
+import com.example.taskmanager.metrics.OperationMetrics;
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import java.util.List;
+
+/**
+ * TaskPresenter decorator that records how long each display call takes.
+ * Follows the Open/Closed Principle (OCP) - adds measurement to any
+ * presenter without modifying it.
+ */
+public class InstrumentedTaskPresenter implements TaskPresenter {
+
+  private final TaskPresenter delegate;
+  private final OperationMetrics displayTask;
+  private final OperationMetrics displayTasks;
+  private final OperationMetrics displayTaskPage;
+  private final OperationMetrics displaySuccess;
+  private final OperationMetrics displayError;
+  private final OperationMetrics displayInfo;
+
+  /**
+   * Creates an InstrumentedTaskPresenter recording into the given registry under
+   * operation names prefixed with {@code presenter.}.
+   *
+   * @param delegate the TaskPresenter to measure
+   * @param metrics the registry to record into
+   * @throws IllegalArgumentException if an argument is null
+   */
+  public InstrumentedTaskPresenter(TaskPresenter delegate, MetricsRegistry metrics) {
+    if (delegate == null || metrics == null) {
+      throw new IllegalArgumentException("TaskPresenter and MetricsRegistry cannot be null");
+    }
+    this.delegate = delegate;
+    this.displayTask = metrics.operation("presenter.displayTask");
+    this.displayTasks = metrics.operation("presenter.displayTasks");
+    this.displayTaskPage = metrics.operation("presenter.displayTaskPage");
+    this.displaySuccess = metrics.operation("presenter.displaySuccess");
+    this.displayError = metrics.operation("presenter.displayError");
+    this.displayInfo = metrics.operation("presenter.displayInfo");
+  }
+
+  @Override
+  public void displayTask(Task task, int index) {
+    displayTask.time(() -> delegate.displayTask(task, index));
+  }
+
+  @Override
+  public void displayTasks(List<Task> tasks) {
+    displayTasks.time(() -> delegate.displayTasks(tasks));
+  }
+
+  @Override
+  public void displayTaskPage(TaskPage page) {
+    displayTaskPage.time(() -> delegate.displayTaskPage(page));
+  }
+
+  @Override
+  public void displaySuccess(String message) {
+    displaySuccess.time(() -> delegate.displaySuccess(message));
+  }
+
+  @Override
+  public void displayError(String message) {
+    displayError.time(() -> delegate.displayError(message));
+  }
+
+  @Override
+  public void displayInfo(String message) {
+    displayInfo.time(() -> delegate.displayInfo(message));
+  }
+}
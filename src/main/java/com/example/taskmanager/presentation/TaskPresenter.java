@@ -1,6 +1,7 @@
 package com.example.taskmanager.presentation;
 
 import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
 import java.util.List;
 
 /**
@@ -27,6 +28,22 @@ public interface TaskPresenter {
    */
   void displayTasks(List<Task> tasks);
 
+  /**
+   * Displays one page of a longer task listing. Tasks are numbered by
+   * their position in the whole listing.
+   *
+   * @param page the page to display
+   */
+  default void displayTaskPage(TaskPage page) {
+    if (page == null) {
+      return;
+    }
+    List<Task> tasks = page.getTasks();
+    for (int i = 0; i < tasks.size(); i++) {
+      displayTask(tasks.get(i), page.getOffset() + i + 1);
+    }
+  }
+
   /**
    * Displays a success message.
    *
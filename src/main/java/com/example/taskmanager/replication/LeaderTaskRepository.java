@@ -0,0 +1,214 @@
+package com.example.taskmanager.replication;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import com.example.taskmanager.repositories.TaskRecords;
+import com.example.taskmanager.repositories.TaskRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * TaskRepository decorator that records every mutation in a
+ * {@link ReplicationLog}, from which a {@link ReplicationServer} streams
+ * them to followers.
+ * Follows the Decorator pattern - the delegate stores the tasks; this
+ * class only adds the log.
+ *
+ * <p>Mutations are applied to the delegate and appended to the log under
+ * this repository's monitor, so the log order is exactly the order in
+ * which the delegate changed and a follower replaying it ends in the
+ * same state. Only changes that took effect are logged: a delete of a
+ * missing task or a failed compare-and-set appends nothing. Reads go
+ * straight to the delegate without locking. The delegate must be
+ * thread-safe if reads run concurrently with writes.
+ *
+ * <p>A delegate that already holds tasks is said to be seeded: the log
+ * starts after those tasks, so replaying it from offset 0 does not
+ * reproduce them, and new followers must start from a snapshot.
+ */
+public class LeaderTaskRepository implements TaskRepository {
+
+  private final TaskRepository delegate;
+  private final ReplicationLog log;
+  private final boolean seeded;
+
+  /**
+   * Creates a leader over the given repository.
+   *
+   * @param delegate the repository holding the tasks
+   * @param log the log mutations are appended to
+   */
+  public LeaderTaskRepository(TaskRepository delegate, ReplicationLog log) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("Repository cannot be null");
+    }
+    if (log == null) {
+      throw new IllegalArgumentException("ReplicationLog cannot be null");
+    }
+    this.delegate = delegate;
+    this.log = log;
+    this.seeded = delegate.count() > 0;
+  }
+
+  /**
+   * Returns the log mutations are appended to.
+   *
+   * @return the replication log
+   */
+  public ReplicationLog getLog() {
+    return log;
+  }
+
+  @Override
+  public synchronized Task save(Task task) {
+    Task saved = delegate.save(task);
+    log.append(TaskRecords.save(saved));
+    return saved;
+  }
+
+  @Override
+  public synchronized List<Task> saveAll(Collection<Task> tasks) {
+    List<Task> saved = delegate.saveAll(tasks);
+    for (Task task : saved) {
+      log.append(TaskRecords.save(task));
+    }
+    return saved;
+  }
+
+  @Override
+  public synchronized Optional<Task> compareAndSet(Task task) {
+    Optional<Task> updated = delegate.compareAndSet(task);
+    updated.ifPresent(stored -> log.append(TaskRecords.save(stored)));
+    return updated;
+  }
+
+  @Override
+  public synchronized List<Task> compareAndSetAll(Collection<Task> tasks) {
+    List<Task> stored = delegate.compareAndSetAll(tasks);
+    for (Task task : stored) {
+      log.append(TaskRecords.save(task));
+    }
+    return stored;
+  }
+
+  @Override
+  public Optional<Task> findById(String id) {
+    return delegate.findById(id);
+  }
+
+  @Override
+  public List<Task> findAllById(Collection<String> ids) {
+    return delegate.findAllById(ids);
+  }
+
+  @Override
+  public Optional<Task> findByIndex(int index) {
+    return delegate.findByIndex(index);
+  }
+
+  @Override
+  public List<Task> findAll() {
+    return delegate.findAll();
+  }
+
+  @Override
+  public TaskPage findPage(String cursor, int pageSize) {
+    return delegate.findPage(cursor, pageSize);
+  }
+
+  @Override
+  public List<Task> findByStatus(boolean completed) {
+    return delegate.findByStatus(completed);
+  }
+
+  @Override
+  public int countByStatus(boolean completed) {
+    return delegate.countByStatus(completed);
+  }
+
+  @Override
+  public List<Task> search(String query) {
+    return delegate.search(query);
+  }
+
+  @Override
+  public synchronized boolean deleteById(String id) {
+    if (!delegate.deleteById(id)) {
+      return false;
+    }
+    log.append(TaskRecords.delete(id));
+    return true;
+  }
+
+  @Override
+  public synchronized int deleteAllById(Collection<String> ids) {
+    if (ids == null) {
+      return 0;
+    }
+    // Log only the ids that exist; no other writer can interleave
+    Set<String> existing = new LinkedHashSet<>();
+    for (String id : ids) {
+      if (id != null && delegate.existsById(id)) {
+        existing.add(id);
+      }
+    }
+    int deleted = delegate.deleteAllById(existing);
+    for (String id : existing) {
+      log.append(TaskRecords.delete(id));
+    }
+    return deleted;
+  }
+
+  @Override
+  public synchronized boolean deleteByIndex(int index) {
+    Optional<Task> task = delegate.findByIndex(index);
+    return task.isPresent() && deleteById(task.get().getId());
+  }
+
+  @Override
+  public int count() {
+    return delegate.count();
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return delegate.existsById(id);
+  }
+
+  /**
+   * Returns whether the delegate held tasks before the first logged
+   * mutation, so that the log alone cannot rebuild it.
+   */
+  boolean isSeeded() {
+    return seeded;
+  }
+
+  /**
+   * Encodes every task as a save record, together with the log offset
+   * they reflect, so a follower that loads them can continue from there.
+   */
+  synchronized Snapshot snapshot() {
+    List<byte[]> records = new ArrayList<>(delegate.count());
+    for (Task task : delegate.findAll()) {
+      records.add(TaskRecords.save(task));
+    }
+    return new Snapshot(records, log.getEndOffset());
+  }
+
+  /**
+   * The tasks as of one log offset.
+   */
+  static final class Snapshot {
+    final List<byte[]> records;
+    final long offset;
+
+    private Snapshot(List<byte[]> records, long offset) {
+      this.records = records;
+      this.offset = offset;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.example.taskmanager.replication;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import com.example.taskmanager.repositories.TaskRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+/**
+ * Read-only view of a follower's repository: reads are forwarded, writes
+ * throw, because only the leader's log may change a follower.
+ *
+ * <p>Every read holds the given lock, which the follower excludes while it
+ * replaces its tasks with a snapshot, so no read sees a half-loaded
+ * repository.
+ */
+final class ReadOnlyTaskRepository implements TaskRepository {
+
+  private final TaskRepository delegate;
+  private final Lock readLock;
+
+  ReadOnlyTaskRepository(TaskRepository delegate, Lock readLock) {
+    this.delegate = delegate;
+    this.readLock = readLock;
+  }
+
+  @Override
+  public Task save(Task task) {
+    throw readOnly();
+  }
+
+  @Override
+  public List<Task> saveAll(Collection<Task> tasks) {
+    throw readOnly();
+  }
+
+  @Override
+  public Optional<Task> compareAndSet(Task task) {
+    throw readOnly();
+  }
+
+  @Override
+  public List<Task> compareAndSetAll(Collection<Task> tasks) {
+    throw readOnly();
+  }
+
+  @Override
+  public Optional<Task> findById(String id) {
+    return read(() -> delegate.findById(id));
+  }
+
+  @Override
+  public List<Task> findAllById(Collection<String> ids) {
+    return read(() -> delegate.findAllById(ids));
+  }
+
+  @Override
+  public Optional<Task> findByIndex(int index) {
+    return read(() -> delegate.findByIndex(index));
+  }
+
+  @Override
+  public List<Task> findAll() {
+    return read(() -> delegate.findAll());
+  }
+
+  @Override
+  public TaskPage findPage(String cursor, int pageSize) {
+    return read(() -> delegate.findPage(cursor, pageSize));
+  }
+
+  @Override
+  public List<Task> findByStatus(boolean completed) {
+    return read(() -> delegate.findByStatus(completed));
+  }
+
+  @Override
+  public int countByStatus(boolean completed) {
+    return read(() -> delegate.countByStatus(completed));
+  }
+
+  @Override
+  public List<Task> search(String query) {
+    return read(() -> delegate.search(query));
+  }
+
+  @Override
+  public boolean deleteById(String id) {
+    throw readOnly();
+  }
+
+  @Override
+  public int deleteAllById(Collection<String> ids) {
+    throw readOnly();
+  }
+
+  @Override
+  public boolean deleteByIndex(int index) {
+    throw readOnly();
+  }
+
+  @Override
+  public int count() {
+    return read(() -> delegate.count());
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return read(() -> delegate.existsById(id));
+  }
+
+  private <T> T read(Supplier<T> query) {
+    readLock.lock();
+    try {
+      return query.get();
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  private static UnsupportedOperationException readOnly() {
+    return new UnsupportedOperationException("Follower is read-only; write to the leader");
+  }
+}
@@ -0,0 +1,330 @@
+package com.example.taskmanager.replication;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.TaskRecords;
+import com.example.taskmanager.repositories.TaskRepository;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps a local TaskRepository in step with a leader by applying the
+ * records its {@link ReplicationServer} streams.
+ * Follows the Single Responsibility Principle (SRP) - only applies the
+ * leader's changes; local reads are served through
+ * {@link #getRepository()}, which refuses writes.
+ *
+ * <p>A daemon thread connects to the leader and asks for records from
+ * the follower's offset, so after a dropped connection or a restart from
+ * a known offset it catches up with exactly the records it missed. The
+ * offset is sent with the epoch of the leader log it counts in; if the
+ * leader has restarted since, or no longer retains the records, it sends
+ * a snapshot, which replaces the local tasks; reads through {@link #getRepository()} wait while a
+ * snapshot is loaded, so they see either the old tasks or the new ones,
+ * never a mix. Records must arrive in offset order; anything else closes
+ * the connection and the follower reconnects after a short delay.
+ */
+public final class ReplicationFollower implements AutoCloseable {
+
+  private static final int CONNECT_TIMEOUT_MILLIS = 5_000;
+  private static final long RETRY_MILLIS = 500;
+
+  private final TaskRepository repository;
+  private final TaskRepository readOnly;
+  private final ReadWriteLock loading = new ReentrantReadWriteLock();
+  private final InetSocketAddress leader;
+  private final Thread thread;
+  private final LongAdder connects = new LongAdder();
+  private final LongAdder snapshots = new LongAdder();
+  private volatile long epoch;
+  private volatile long offset;
+  private volatile long leaderOffset;
+  private volatile long appliedTimestampMillis;
+  private volatile boolean connected;
+  private volatile boolean closed;
+  private volatile Socket socket;
+
+  /**
+   * Creates a follower that starts from an empty repository.
+   *
+   * @param repository the local repository the records are applied to
+   * @param leader the address of the leader's replication server
+   */
+  public ReplicationFollower(TaskRepository repository, InetSocketAddress leader) {
+    this(repository, leader, 0, 0);
+  }
+
+  /**
+   * Creates a follower whose repository already reflects every record
+   * before the given offset of the given leader log, for example one
+   * restored from a backup taken with {@link #getEpoch()} and
+   * {@link #getOffset()}. If the leader's log has another epoch by now,
+   * the follower starts over from a snapshot.
+   *
+   * @param repository the local repository the records are applied to
+   * @param leader the address of the leader's replication server
+   * @param epoch the epoch of the leader log the offset counts in, or 0
+   *     for an empty repository that has never synced
+   * @param offset the offset of the first record to apply
+   * @throws IllegalArgumentException if an argument is null, the offset is
+   *     negative, or a non-zero offset comes without an epoch
+   */
+  public ReplicationFollower(TaskRepository repository, InetSocketAddress leader, long epoch,
+      long offset) {
+    if (repository == null) {
+      throw new IllegalArgumentException("Repository cannot be null");
+    }
+    if (leader == null) {
+      throw new IllegalArgumentException("Leader address cannot be null");
+    }
+    if (offset < 0) {
+      throw new IllegalArgumentException("Offset cannot be negative");
+    }
+    if (epoch == 0 && offset != 0) {
+      throw new IllegalArgumentException("An offset needs the epoch of the log it counts in");
+    }
+    this.repository = repository;
+    this.readOnly = new ReadOnlyTaskRepository(repository, loading.readLock());
+    this.leader = leader;
+    this.epoch = epoch;
+    this.offset = offset;
+    this.leaderOffset = offset;
+    this.thread = new Thread(this::run, "replication-follower");
+    thread.setDaemon(true);
+  }
+
+  /**
+   * Starts replicating.
+   */
+  public void start() {
+    thread.start();
+  }
+
+  /**
+   * Returns a view of the local repository that serves reads and refuses
+   * writes with an UnsupportedOperationException.
+   *
+   * @return the read-only repository
+   */
+  public TaskRepository getRepository() {
+    return readOnly;
+  }
+
+  /**
+   * Returns the epoch of the leader log this follower's offset counts in.
+   *
+   * @return the leader's log epoch, 0 before the follower first synced
+   */
+  public long getEpoch() {
+    return epoch;
+  }
+
+  /**
+   * Returns the offset of the next record this follower will apply, that
+   * is the number of leader records it reflects.
+   *
+   * @return the follower's offset
+   */
+  public long getOffset() {
+    return offset;
+  }
+
+  /**
+   * Returns the leader's end offset as of its last heartbeat.
+   *
+   * @return the leader's offset
+   */
+  public long getLeaderOffset() {
+    return leaderOffset;
+  }
+
+  /**
+   * Returns how many records this follower is behind the leader.
+   *
+   * @return the lag in records
+   */
+  public long getLag() {
+    return Math.max(0, leaderOffset - offset);
+  }
+
+  /**
+   * Returns how long ago the leader wrote the last record this follower
+   * applied, while it is behind; an upper bound on how stale its reads
+   * are.
+   *
+   * @return the lag in milliseconds, 0 when caught up
+   */
+  public long getLagMillis() {
+    if (getLag() == 0) {
+      return 0;
+    }
+    return Math.max(0, System.currentTimeMillis() - appliedTimestampMillis);
+  }
+
+  /**
+   * Returns whether the follower is connected to the leader.
+   *
+   * @return true while connected
+   */
+  public boolean isConnected() {
+    return connected;
+  }
+
+  /**
+   * Returns the number of successful connections to the leader.
+   *
+   * @return the connection count
+   */
+  public long getConnectCount() {
+    return connects.sum();
+  }
+
+  /**
+   * Returns the number of snapshots received.
+   *
+   * @return the snapshot count
+   */
+  public long getSnapshotCount() {
+    return snapshots.sum();
+  }
+
+  /**
+   * Disconnects and stops replicating. The local repository keeps the
+   * tasks applied so far.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    Socket current = socket;
+    if (current != null) {
+      try {
+        current.close();
+      } catch (IOException e) {
+        // Already closed
+      }
+    }
+    thread.interrupt();
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    while (!closed) {
+      try (Socket current = new Socket()) {
+        socket = current;
+        if (closed) {
+          return;
+        }
+        current.connect(leader, CONNECT_TIMEOUT_MILLIS);
+        current.setTcpNoDelay(true);
+        replicate(current);
+      } catch (IOException | RuntimeException e) {
+        // Leader unreachable, connection lost or bad record; retry below
+      } finally {
+        connected = false;
+      }
+      try {
+        Thread.sleep(RETRY_MILLIS);
+      } catch (InterruptedException e) {
+        return;
+      }
+    }
+  }
+
+  private void replicate(Socket current) throws IOException {
+    DataInputStream in = new DataInputStream(new BufferedInputStream(current.getInputStream()));
+    DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(current.getOutputStream()));
+    out.writeInt(ReplicationProtocol.MAGIC);
+    out.writeLong(epoch);
+    out.writeLong(offset);
+    out.flush();
+    long leaderEpoch = in.readLong();
+    connected = true;
+    connects.increment();
+    while (!closed) {
+      byte type = in.readByte();
+      switch (type) {
+        case ReplicationProtocol.RECORD:
+          applyRecord(in);
+          break;
+        case ReplicationProtocol.HEARTBEAT:
+          leaderOffset = Math.max(offset, in.readLong());
+          break;
+        case ReplicationProtocol.SNAPSHOT:
+          applySnapshot(in);
+          break;
+        default:
+          throw new IOException("Unknown frame type: " + type);
+      }
+      // The leader sends any snapshot the follower needs before any other
+      // frame, so once one frame is applied the offset counts in its epoch
+      epoch = leaderEpoch;
+      if (in.available() == 0) {
+        out.writeLong(offset);
+        out.flush();
+      }
+    }
+  }
+
+  private void applyRecord(DataInputStream in) throws IOException {
+    long recordOffset = in.readLong();
+    long timestamp = in.readLong();
+    byte[] record = readBytes(in);
+    if (recordOffset != offset) {
+      throw new IOException("Expected offset " + offset + " but got " + recordOffset);
+    }
+    TaskRecords.apply(ByteBuffer.wrap(record), repository);
+    appliedTimestampMillis = timestamp;
+    offset = recordOffset + 1;
+  }
+
+  private void applySnapshot(DataInputStream in) throws IOException {
+    long snapshotOffset = in.readLong();
+    int count = in.readInt();
+    List<byte[]> records = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      records.add(readBytes(in));
+    }
+    loading.writeLock().lock();
+    try {
+      List<String> ids = new ArrayList<>();
+      for (Task task : repository.findAll()) {
+        ids.add(task.getId());
+      }
+      repository.deleteAllById(ids);
+      for (byte[] record : records) {
+        TaskRecords.apply(ByteBuffer.wrap(record), repository);
+      }
+    } finally {
+      loading.writeLock().unlock();
+    }
+    appliedTimestampMillis = System.currentTimeMillis();
+    offset = snapshotOffset;
+    leaderOffset = snapshotOffset;
+    snapshots.increment();
+  }
+
+  private static byte[] readBytes(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      throw new IOException("Negative record length: " + length);
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,158 @@
+package com.example.taskmanager.replication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ordered, bounded, in-memory log of encoded repository mutations.
+ * Follows the Single Responsibility Principle (SRP) - only numbers and
+ * retains records; the leader decides what to append and the
+ * replication server decides who reads them.
+ *
+ * <p>Every record gets the next offset, starting at 0. The log keeps the
+ * most recent {@code capacity} records in a ring; older ones are evicted,
+ * and a follower that needs an evicted offset must start again from a
+ * snapshot. Readers block until records past their offset arrive.
+ *
+ * <p>Offsets only mean something within one log: a leader that restarts
+ * starts a new log at offset 0. Each log therefore draws a random epoch,
+ * which followers present with their offset so the leader can tell
+ * offsets of an earlier log from its own.
+ */
+public final class ReplicationLog {
+
+  private final byte[][] records;
+  private final long[] timestamps;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition appended = lock.newCondition();
+  private final long epoch = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+  private long endOffset;
+
+  /**
+   * Creates an empty log.
+   *
+   * @param capacity the number of records retained
+   */
+  public ReplicationLog(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.records = new byte[capacity][];
+    this.timestamps = new long[capacity];
+  }
+
+  /**
+   * Returns this log's epoch, a random positive number that differs from
+   * one log to the next.
+   *
+   * @return the epoch
+   */
+  public long getEpoch() {
+    return epoch;
+  }
+
+  /**
+   * Appends a record, evicting the oldest one if the log is full.
+   *
+   * @param record the encoded mutation
+   * @return the record's offset
+   */
+  public long append(byte[] record) {
+    if (record == null) {
+      throw new IllegalArgumentException("Record cannot be null");
+    }
+    lock.lock();
+    try {
+      long offset = endOffset;
+      int slot = (int) (offset % records.length);
+      records[slot] = record;
+      timestamps[slot] = System.currentTimeMillis();
+      endOffset = offset + 1;
+      appended.signalAll();
+      return offset;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the offset of the oldest retained record.
+   *
+   * @return the start offset, equal to the end offset when empty
+   */
+  public long getStartOffset() {
+    lock.lock();
+    try {
+      return Math.max(0, endOffset - records.length);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the offset the next record will get.
+   *
+   * @return the end offset
+   */
+  public long getEndOffset() {
+    lock.lock();
+    try {
+      return endOffset;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Reads records from an offset, waiting up to the timeout for the first
+   * one if there are none yet.
+   *
+   * @param from the offset of the first record wanted
+   * @param max the maximum number of records returned
+   * @param timeoutMillis how long to wait for a record
+   * @return the records from {@code from} on, empty if none arrived in
+   *     time, or null if {@code from} has been evicted or lies past the
+   *     end
+   * @throws InterruptedException if interrupted while waiting
+   */
+  List<Entry> read(long from, int max, long timeoutMillis) throws InterruptedException {
+    lock.lock();
+    try {
+      long waitNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+      while (from == endOffset && waitNanos > 0) {
+        waitNanos = appended.awaitNanos(waitNanos);
+      }
+      if (from < Math.max(0, endOffset - records.length) || from > endOffset) {
+        return null;
+      }
+      int count = (int) Math.min(max, endOffset - from);
+      List<Entry> entries = new ArrayList<>(count);
+      for (long offset = from; offset < from + count; offset++) {
+        int slot = (int) (offset % records.length);
+        entries.add(new Entry(offset, timestamps[slot], records[slot]));
+      }
+      return entries;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * One record with its offset and the time it was appended.
+   */
+  static final class Entry {
+    final long offset;
+    final long timestampMillis;
+    final byte[] record;
+
+    private Entry(long offset, long timestampMillis, byte[] record) {
+      this.offset = offset;
+      this.timestampMillis = timestampMillis;
+      this.record = record;
+    }
+  }
+}
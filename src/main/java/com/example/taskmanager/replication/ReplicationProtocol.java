@@ -0,0 +1,32 @@
+package com.example.taskmanager.replication;
+
+/**
+ * Frame types and constants of the replication stream.
+ *
+ * <p>A follower opens the connection with {@link #MAGIC}, the epoch of
+ * the leader log its offset belongs to (0 if it has never synced) and the
+ * offset of the next record it needs, then sends its offset again, as an
+ * acknowledgement, whenever it has applied everything received so far.
+ * The leader answers with its own log's epoch, which the follower adopts
+ * once the first frame has been applied, followed by frames that each
+ * start with a type byte:
+ * <ul>
+ *   <li>{@link #SNAPSHOT}: offset, record count, then each record as
+ *       length and bytes; replaces the follower's tasks</li>
+ *   <li>{@link #RECORD}: offset, append time in epoch milliseconds,
+ *       length and bytes of one {@code TaskRecords} mutation</li>
+ *   <li>{@link #HEARTBEAT}: the leader's end offset, sent after every
+ *       batch and when the log is idle</li>
+ * </ul>
+ */
+final class ReplicationProtocol {
+
+  static final int MAGIC = 0x54524550;
+  static final byte SNAPSHOT = 1;
+  static final byte RECORD = 2;
+  static final byte HEARTBEAT = 3;
+
+  private ReplicationProtocol() {
+    // Prevent instantiation
+  }
+}
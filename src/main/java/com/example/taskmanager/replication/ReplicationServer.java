@@ -0,0 +1,254 @@
+package com.example.taskmanager.replication;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams a leader's {@link ReplicationLog} to followers over TCP.
+ * Follows the Single Responsibility Principle (SRP) - only moves records
+ * to followers; {@link LeaderTaskRepository} decides what is recorded and
+ * {@link ReplicationFollower} applies it.
+ *
+ * <p>Each follower gets its own daemon thread, which sends records from
+ * the offset the follower asked for, in batches, each followed by a
+ * heartbeat carrying the leader's end offset. A follower first receives a
+ * snapshot of every task if its offset cannot be trusted: it belongs to
+ * another log epoch, for example from before the leader restarted, or the
+ * log no longer retains it, or the leader never wrote it. A follower that
+ * has never synced can only start from offset 0 without a snapshot if
+ * the leader's repository was empty when its log began. The acknowledgements followers send
+ * back give each follower's lag behind the leader.
+ */
+public final class ReplicationServer implements AutoCloseable {
+
+  private static final int BATCH_SIZE = 512;
+  private static final long HEARTBEAT_MILLIS = 200;
+
+  private final LeaderTaskRepository leader;
+  private final ServerSocket serverSocket;
+  private final Thread acceptor;
+  private final List<Connection> connections = new CopyOnWriteArrayList<>();
+  private final AtomicInteger connectionNumber = new AtomicInteger();
+  private final LongAdder snapshots = new LongAdder();
+  private volatile boolean closed;
+
+  /**
+   * Creates a server bound to the given address. Call {@link #start} to
+   * accept followers.
+   *
+   * @param leader the repository whose log is streamed
+   * @param address the address to listen on; port 0 picks a free port
+   * @throws IOException if the address cannot be bound
+   */
+  public ReplicationServer(LeaderTaskRepository leader, InetSocketAddress address)
+      throws IOException {
+    if (leader == null) {
+      throw new IllegalArgumentException("Leader cannot be null");
+    }
+    if (address == null) {
+      throw new IllegalArgumentException("Address cannot be null");
+    }
+    this.leader = leader;
+    this.serverSocket = new ServerSocket();
+    serverSocket.setReuseAddress(true);
+    serverSocket.bind(address);
+    this.acceptor = new Thread(this::accept, "replication-acceptor");
+    acceptor.setDaemon(true);
+  }
+
+  /**
+   * Starts accepting followers.
+   */
+  public void start() {
+    acceptor.start();
+  }
+
+  /**
+   * Returns the port the server listens on.
+   *
+   * @return the bound port
+   */
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * Returns the number of connected followers.
+   *
+   * @return the follower count
+   */
+  public int getFollowerCount() {
+    return connections.size();
+  }
+
+  /**
+   * Returns how many records each connected follower has yet to
+   * acknowledge, keyed by its remote address.
+   *
+   * @return the lag of each follower in records
+   */
+  public Map<String, Long> getFollowerLags() {
+    long end = leader.getLog().getEndOffset();
+    Map<String, Long> lags = new LinkedHashMap<>();
+    for (Connection connection : connections) {
+      lags.put(connection.name, Math.max(0, end - connection.acknowledged));
+    }
+    return lags;
+  }
+
+  /**
+   * Returns the lag of the follower furthest behind.
+   *
+   * @return the largest lag in records, 0 without followers
+   */
+  public long getMaxLag() {
+    long max = 0;
+    for (long lag : getFollowerLags().values()) {
+      max = Math.max(max, lag);
+    }
+    return max;
+  }
+
+  /**
+   * Returns the number of snapshots sent to followers that could not
+   * catch up from the log.
+   *
+   * @return the snapshot count
+   */
+  public long getSnapshotCount() {
+    return snapshots.sum();
+  }
+
+  /**
+   * Stops accepting followers and disconnects the connected ones.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    try {
+      serverSocket.close();
+    } catch (IOException e) {
+      // Already closed
+    }
+    for (Connection connection : connections) {
+      connection.close();
+    }
+  }
+
+  private void accept() {
+    while (!closed) {
+      try {
+        Socket socket = serverSocket.accept();
+        socket.setTcpNoDelay(true);
+        Connection connection = new Connection(socket);
+        connections.add(connection);
+        connection.thread.start();
+      } catch (IOException e) {
+        if (closed) {
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * One follower's connection and the thread that feeds it.
+   */
+  private final class Connection {
+
+    private final Socket socket;
+    private final String name;
+    private final Thread thread;
+    private volatile long acknowledged;
+
+    private Connection(Socket socket) {
+      this.socket = socket;
+      this.name = socket.getRemoteSocketAddress().toString();
+      this.thread = new Thread(this::run,
+          "replication-sender-" + connectionNumber.incrementAndGet());
+      thread.setDaemon(true);
+    }
+
+    private void close() {
+      try {
+        socket.close();
+      } catch (IOException e) {
+        // Already closed
+      }
+    }
+
+    private void run() {
+      try {
+        DataInputStream in = new DataInputStream(
+            new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(socket.getOutputStream()));
+        if (in.readInt() != ReplicationProtocol.MAGIC) {
+          return;
+        }
+        long epoch = in.readLong();
+        long next = in.readLong();
+        acknowledged = next;
+        ReplicationLog log = leader.getLog();
+        out.writeLong(log.getEpoch());
+        boolean fresh = epoch == 0 && next == 0;
+        if (epoch != log.getEpoch() && !(fresh && !leader.isSeeded())) {
+          next = sendSnapshot(out);
+        }
+        while (!closed) {
+          List<ReplicationLog.Entry> entries = log.read(next, BATCH_SIZE, HEARTBEAT_MILLIS);
+          if (entries == null) {
+            next = sendSnapshot(out);
+          } else {
+            for (ReplicationLog.Entry entry : entries) {
+              out.writeByte(ReplicationProtocol.RECORD);
+              out.writeLong(entry.offset);
+              out.writeLong(entry.timestampMillis);
+              out.writeInt(entry.record.length);
+              out.write(entry.record);
+              next = entry.offset + 1;
+            }
+          }
+          out.writeByte(ReplicationProtocol.HEARTBEAT);
+          out.writeLong(log.getEndOffset());
+          out.flush();
+          while (in.available() >= Long.BYTES) {
+            acknowledged = in.readLong();
+          }
+        }
+      } catch (IOException e) {
+        // Follower gone or server closed; the follower reconnects
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        connections.remove(this);
+        close();
+      }
+    }
+
+    private long sendSnapshot(DataOutputStream out) throws IOException {
+      LeaderTaskRepository.Snapshot snapshot = leader.snapshot();
+      out.writeByte(ReplicationProtocol.SNAPSHOT);
+      out.writeLong(snapshot.offset);
+      out.writeInt(snapshot.records.size());
+      for (byte[] record : snapshot.records) {
+        out.writeInt(record.length);
+        out.write(record);
+      }
+      snapshots.increment();
+      return snapshot.offset;
+    }
+  }
+}
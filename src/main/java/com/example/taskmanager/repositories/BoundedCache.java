@@ -0,0 +1,54 @@
+package com.example.taskmanager.repositories;
+
+/**
+ * Size-bounded key-value cache whose eviction policy is chosen by the
+ * implementation. Implementations are not thread-safe.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+interface BoundedCache<K, V> {
+
+  /**
+   * Returns the cached value and records the access.
+   *
+   * @param key the key
+   * @return the value, or null if not cached
+   */
+  V get(K key);
+
+  /**
+   * Caches a value, evicting others if the cache is full. The policy may
+   * also decline to keep the new entry.
+   *
+   * @param key the key
+   * @param value the value
+   */
+  void put(K key, V value);
+
+  /**
+   * Drops a key from the cache.
+   *
+   * @param key the key
+   */
+  void remove(K key);
+
+  /**
+   * Drops every entry.
+   */
+  void clear();
+
+  /**
+   * Returns the number of cached entries.
+   *
+   * @return the entry count
+   */
+  int size();
+
+  /**
+   * Returns how many entries have been evicted or declined for lack of space.
+   *
+   * @return the eviction count
+   */
+  long evictionCount();
+}
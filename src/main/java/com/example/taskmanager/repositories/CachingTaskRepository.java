@@ -0,0 +1,370 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
+import com.example.taskmanager.models.TaskPage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * TaskRepository decorator that keeps recently used tasks in a bounded
+ * cache in front of a slower repository.
+ * Follows the Open/Closed Principle (OCP) - adds caching to any repository
+ * without modifying it.
+ * Follows the Liskov Substitution Principle (LSP) - behaves like the
+ * wrapped repository.
+ *
+ * <p>Lookups by id are answered from the cache when possible. Tasks read by
+ * position or saved are cached by id, so the usual "find by index, then
+ * update by id" sequence reaches storage once. Positional and aggregate
+ * reads always go to the wrapped repository.
+ *
+ * <p>In {@link WriteMode#WRITE_BEHIND} mode saves only update the cache and
+ * a queue of pending writes. The queue is written in one
+ * {@link TaskRepository#saveAll} call when it reaches the batch size, on
+ * {@link #flush()} and {@link #close()}, and before any delete or any read
+ * the cache cannot answer. Pending writes survive eviction from the cache.
+ * All methods are serialized on this decorator.
+ */
+public class CachingTaskRepository implements TaskRepository, AutoCloseable {
+
+  /**
+   * Which entries to evict when the cache is full.
+   */
+  public enum EvictionPolicy {
+    /** Evict the least recently used task. */
+    LRU,
+    /** Window TinyLFU: admit tasks by estimated access frequency. */
+    TINY_LFU
+  }
+
+  /**
+   * When saves reach the wrapped repository.
+   */
+  public enum WriteMode {
+    /** Every save is written to the wrapped repository before returning. */
+    WRITE_THROUGH,
+    /** Saves are queued and written in batches. */
+    WRITE_BEHIND
+  }
+
+  /** Default number of queued saves that triggers a write-behind flush. */
+  public static final int DEFAULT_BATCH_SIZE = 256;
+
+  private final TaskRepository delegate;
+  private final BoundedCache<TaskId, Task> cache;
+  private final WriteMode writeMode;
+  private final int batchSize;
+  private final Map<TaskId, Task> pending;
+  private long hits;
+  private long misses;
+
+  /**
+   * Creates a write-through LRU cache.
+   *
+   * @param delegate the repository to wrap
+   * @param maximumSize the maximum number of cached tasks
+   * @throws IllegalArgumentException if delegate is null or the size is not positive
+   */
+  public CachingTaskRepository(TaskRepository delegate, int maximumSize) {
+    this(delegate, maximumSize, EvictionPolicy.LRU, WriteMode.WRITE_THROUGH, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Creates a cache with the given policy and write mode.
+   *
+   * @param delegate the repository to wrap
+   * @param maximumSize the maximum number of cached tasks
+   * @param evictionPolicy which tasks to evict when full
+   * @param writeMode when saves reach the wrapped repository
+   * @param batchSize the number of queued saves that triggers a
+   *     write-behind flush
+   * @throws IllegalArgumentException if an argument is null or a size is not positive
+   */
+  public CachingTaskRepository(
+      TaskRepository delegate,
+      int maximumSize,
+      EvictionPolicy evictionPolicy,
+      WriteMode writeMode,
+      int batchSize) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("TaskRepository cannot be null");
+    }
+    if (evictionPolicy == null || writeMode == null) {
+      throw new IllegalArgumentException("Eviction policy and write mode cannot be null");
+    }
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    this.delegate = delegate;
+    this.cache = evictionPolicy == EvictionPolicy.LRU
+        ? new LruCache<>(maximumSize)
+        : new TinyLfuCache<>(maximumSize);
+    this.writeMode = writeMode;
+    this.batchSize = batchSize;
+    this.pending = new LinkedHashMap<>();
+  }
+
+  @Override
+  public synchronized Task save(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    Task saved = task;
+    if (writeMode == WriteMode.WRITE_THROUGH) {
+      saved = delegate.save(task);
+    } else {
+      pending.put(task.getTaskId(), task);
+      if (pending.size() >= batchSize) {
+        flush();
+      }
+    }
+    cache.put(saved.getTaskId(), saved);
+    return saved;
+  }
+
+  @Override
+  public synchronized List<Task> saveAll(Collection<Task> tasks) {
+    if (tasks == null || tasks.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Tasks cannot be null");
+    }
+    List<Task> saved;
+    if (writeMode == WriteMode.WRITE_THROUGH) {
+      saved = delegate.saveAll(tasks);
+    } else {
+      saved = new ArrayList<>(tasks);
+      for (Task task : tasks) {
+        pending.put(task.getTaskId(), task);
+      }
+      if (pending.size() >= batchSize) {
+        flush();
+      }
+    }
+    // Cache what the delegate stored, which may not be the instance passed in
+    for (Task task : saved) {
+      cache.put(task.getTaskId(), task);
+    }
+    return saved;
+  }
+
+  @Override
+  public synchronized Optional<Task> compareAndSet(Task task) {
+    // The check reads through the cache, which holds the latest version of
+    // every task written through this decorator
+    return TaskRepository.super.compareAndSet(task);
+  }
+
+  @Override
+  public synchronized List<Task> compareAndSetAll(Collection<Task> tasks) {
+    // Checks through the cache and stores the matches with one saveAll
+    return TaskRepository.super.compareAndSetAll(tasks);
+  }
+
+  @Override
+  public synchronized Optional<Task> findById(String id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    TaskId key = TaskId.parse(id);
+    Task task = cache.get(key);
+    if (task == null) {
+      task = pending.get(key);
+    }
+    if (task != null) {
+      hits++;
+      return Optional.of(task);
+    }
+    misses++;
+    Optional<Task> loaded = delegate.findById(id);
+    loaded.ifPresent(found -> cache.put(key, found));
+    return loaded;
+  }
+
+  @Override
+  public synchronized Optional<Task> findByIndex(int index) {
+    flush();
+    Optional<Task> task = delegate.findByIndex(index);
+    task.ifPresent(found -> cache.put(found.getTaskId(), found));
+    return task;
+  }
+
+  @Override
+  public synchronized List<Task> findAll() {
+    flush();
+    return delegate.findAll();
+  }
+
+  @Override
+  public synchronized TaskPage findPage(String cursor, int pageSize) {
+    flush();
+    return delegate.findPage(cursor, pageSize);
+  }
+
+  @Override
+  public synchronized List<Task> findByStatus(boolean completed) {
+    flush();
+    return delegate.findByStatus(completed);
+  }
+
+  @Override
+  public synchronized int countByStatus(boolean completed) {
+    flush();
+    return delegate.countByStatus(completed);
+  }
+
+  @Override
+  public synchronized List<Task> search(String query) {
+    flush();
+    return delegate.search(query);
+  }
+
+  @Override
+  public synchronized boolean deleteById(String id) {
+    if (id == null) {
+      return false;
+    }
+    flush();
+    cache.remove(TaskId.parse(id));
+    return delegate.deleteById(id);
+  }
+
+  @Override
+  public synchronized int deleteAllById(Collection<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return 0;
+    }
+    flush();
+    for (String id : ids) {
+      if (id != null) {
+        cache.remove(TaskId.parse(id));
+      }
+    }
+    return delegate.deleteAllById(ids);
+  }
+
+  @Override
+  public synchronized boolean deleteByIndex(int index) {
+    flush();
+    Optional<Task> task = delegate.findByIndex(index);
+    if (task.isEmpty() || !delegate.deleteByIndex(index)) {
+      return false;
+    }
+    cache.remove(task.get().getTaskId());
+    return true;
+  }
+
+  @Override
+  public synchronized int count() {
+    flush();
+    return delegate.count();
+  }
+
+  @Override
+  public synchronized boolean existsById(String id) {
+    if (id == null) {
+      return false;
+    }
+    TaskId key = TaskId.parse(id);
+    if (cache.get(key) != null || pending.containsKey(key)) {
+      hits++;
+      return true;
+    }
+    misses++;
+    return delegate.existsById(id);
+  }
+
+  /**
+   * Writes all queued saves to the wrapped repository in one batch.
+   * Does nothing in write-through mode.
+   */
+  public synchronized void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    List<Task> batch = new ArrayList<>(pending.values());
+    delegate.saveAll(batch);
+    pending.clear();
+  }
+
+  /**
+   * Flushes queued saves and empties the cache. The wrapped repository is
+   * left open.
+   */
+  @Override
+  public synchronized void close() {
+    flush();
+    cache.clear();
+  }
+
+  /**
+   * Returns the number of saves waiting to be written.
+   *
+   * @return the pending write count; always 0 in write-through mode
+   */
+  public synchronized int getPendingWriteCount() {
+    return pending.size();
+  }
+
+  /**
+   * Returns a snapshot of the cache statistics.
+   *
+   * @return the current statistics
+   */
+  public synchronized Stats getStats() {
+    return new Stats(hits, misses, cache.evictionCount(), cache.size());
+  }
+
+  /**
+   * Hit, miss and eviction counts of a CachingTaskRepository.
+   */
+  public static final class Stats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+
+    Stats(long hitCount, long missCount, long evictionCount, int size) {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.evictionCount = evictionCount;
+      this.size = size;
+    }
+
+    public long getHitCount() {
+      return hitCount;
+    }
+
+    public long getMissCount() {
+      return missCount;
+    }
+
+    public long getEvictionCount() {
+      return evictionCount;
+    }
+
+    public int getSize() {
+      return size;
+    }
+
+    /**
+     * Returns the share of id lookups answered from the cache.
+     *
+     * @return the hit rate between 0 and 1; 0 before any lookup
+     */
+    public double getHitRate() {
+      long requests = hitCount + missCount;
+      return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Stats{hits=%d, misses=%d, evictions=%d, size=%d}",
+          hitCount, missCount, evictionCount, size);
+    }
+  }
+}
@@ -0,0 +1,507 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * TaskRepository that stores tasks column-wise in primitive arrays
+ * instead of one object per task.
+ * Follows the Liskov Substitution Principle (LSP) - can replace
+ * InMemoryTaskRepository for very large task sets.
+ *
+ * <p>Every task occupies a numbered slot. Ids are held as two long columns
+ * plus a kind byte, completion as a bitset, versions as a long column, and
+ * names and descriptions as offset/length columns into one shared UTF-8
+ * byte arena. Positions map to slots through an int order array, and ids
+ * map to slots through an open-addressing int hash table probed against
+ * the id columns, so the repository holds no per-task objects at all.
+ * Status counts and listings only read the order array and the bitset.
+ *
+ * <p>Reads materialize a fresh {@link Task} from the columns. Changing a
+ * returned task has no effect until it is saved again. Deleted slots are
+ * reclaimed by compaction once they outnumber the live ones, and the
+ * arena bytes of deleted tasks and of replaced names and descriptions
+ * once they outweigh the live text, so update-heavy use keeps the arena
+ * within a constant factor of the live data. This class is not
+ * thread-safe.
+ */
+public class ColumnarTaskRepository implements TaskRepository {
+
+  private static final byte WIDE = 0;
+  private static final byte NARROW = 1;
+  private static final byte LITERAL = 2;
+
+  private static final int INITIAL_CAPACITY = 16;
+  private static final int EMPTY = 0;
+  private static final int DELETED = -1;
+  private static final int MIN_COMPACTION_SLOTS = 1024;
+  private static final int MIN_COMPACTION_BYTES = 1 << 16;
+
+  // Slot columns
+  private long[] idHigh;
+  private long[] idLow;
+  private byte[] idKind;
+  private int[] idHash;
+  private int[] nameOffset;
+  private int[] nameLength;
+  private int[] descriptionOffset;
+  private int[] descriptionLength;
+  private long[] version;
+  private final BitSet completed;
+  private int slotCount;
+
+  private byte[] arena;
+  private int arenaSize;
+  private int arenaDead;
+
+  // Position to slot
+  private int[] order;
+  private int size;
+
+  // Id hash table holding slot + 1, or EMPTY / DELETED
+  private int[] table;
+  private int tableUsed;
+
+  private int completedCount;
+
+  /**
+   * Creates a new, empty ColumnarTaskRepository.
+   */
+  public ColumnarTaskRepository() {
+    this.completed = new BitSet();
+    allocateSlots(INITIAL_CAPACITY);
+    this.arena = new byte[INITIAL_CAPACITY * 32];
+    this.order = new int[INITIAL_CAPACITY];
+    this.table = new int[INITIAL_CAPACITY * 2];
+  }
+
+  @Override
+  public Task save(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    TaskId id = task.getTaskId();
+    int slot = slotOf(id);
+    byte[] name = task.getName().getBytes(StandardCharsets.UTF_8);
+    byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+    if (slot >= 0) {
+      if (!sameBytes(name, nameOffset[slot], nameLength[slot])) {
+        arenaDead += nameLength[slot];
+        nameOffset[slot] = append(name);
+        nameLength[slot] = name.length;
+      }
+      if (!sameBytes(description, descriptionOffset[slot], descriptionLength[slot])) {
+        arenaDead += descriptionLength[slot];
+        descriptionOffset[slot] = append(description);
+        descriptionLength[slot] = description.length;
+      }
+    } else {
+      slot = newSlot(id, name, description);
+      insertIntoTable(slot);
+      if (size == order.length) {
+        order = Arrays.copyOf(order, size * 2);
+      }
+      order[size++] = slot;
+    }
+    setCompleted(slot, task.isCompleted());
+    version[slot] = task.getVersion();
+    compactIfSparse();
+    return task;
+  }
+
+  @Override
+  public List<Task> saveAll(Collection<Task> tasks) {
+    if (tasks == null || tasks.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Tasks cannot be null");
+    }
+    List<Task> saved = new ArrayList<>(tasks.size());
+    for (Task task : tasks) {
+      saved.add(save(task));
+    }
+    return saved;
+  }
+
+  @Override
+  public Optional<Task> findById(String id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    int slot = slotOf(TaskId.parse(id));
+    return slot >= 0 ? Optional.of(materialize(slot)) : Optional.empty();
+  }
+
+  @Override
+  public Optional<Task> findByIndex(int index) {
+    if (index < 0 || index >= size) {
+      return Optional.empty();
+    }
+    return Optional.of(materialize(order[index]));
+  }
+
+  @Override
+  public List<Task> findAll() {
+    List<Task> tasks = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      tasks.add(materialize(order[i]));
+    }
+    return Collections.unmodifiableList(tasks);
+  }
+
+  @Override
+  public List<Task> findByStatus(boolean completed) {
+    int matching = countByStatus(completed);
+    List<Task> found = new ArrayList<>(matching);
+    for (int i = 0; i < size && found.size() < matching; i++) {
+      int slot = order[i];
+      if (this.completed.get(slot) == completed) {
+        found.add(materialize(slot));
+      }
+    }
+    return Collections.unmodifiableList(found);
+  }
+
+  @Override
+  public int countByStatus(boolean completed) {
+    return completed ? completedCount : size - completedCount;
+  }
+
+  @Override
+  public boolean deleteById(String id) {
+    if (id == null) {
+      return false;
+    }
+    int slot = slotOf(TaskId.parse(id));
+    if (slot < 0) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (order[i] == slot) {
+        removeAt(i);
+        compactIfSparse();
+        return true;
+      }
+    }
+    throw new IllegalStateException("Slot " + slot + " missing from order");
+  }
+
+  /**
+   * Deletes a batch of tasks with a single compaction of the order array.
+   */
+  @Override
+  public int deleteAllById(Collection<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return 0;
+    }
+    BitSet removed = new BitSet(slotCount);
+    for (String id : ids) {
+      int slot = id != null ? slotOf(TaskId.parse(id)) : -1;
+      if (slot >= 0 && !removed.get(slot)) {
+        removed.set(slot);
+        release(slot);
+      }
+    }
+    int deleted = removed.cardinality();
+    if (deleted == 0) {
+      return 0;
+    }
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      if (!removed.get(order[i])) {
+        order[kept++] = order[i];
+      }
+    }
+    size = kept;
+    compactIfSparse();
+    return deleted;
+  }
+
+  @Override
+  public boolean deleteByIndex(int index) {
+    if (index < 0 || index >= size) {
+      return false;
+    }
+    removeAt(index);
+    compactIfSparse();
+    return true;
+  }
+
+  @Override
+  public int count() {
+    return size;
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return id != null && slotOf(TaskId.parse(id)) >= 0;
+  }
+
+  private Task materialize(int slot) {
+    return new Task(idAt(slot), string(nameOffset[slot], nameLength[slot]),
+        string(descriptionOffset[slot], descriptionLength[slot]), completed.get(slot),
+        version[slot]);
+  }
+
+  private TaskId idAt(int slot) {
+    switch (idKind[slot]) {
+      case WIDE:
+        return TaskId.of(idHigh[slot], idLow[slot]);
+      case NARROW:
+        return TaskId.of(idLow[slot]);
+      default:
+        return TaskId.parse(string((int) idHigh[slot], (int) idLow[slot]));
+    }
+  }
+
+  private String string(int offset, int length) {
+    return new String(arena, offset, length, StandardCharsets.UTF_8);
+  }
+
+  private int newSlot(TaskId id, byte[] name, byte[] description) {
+    if (slotCount == idKind.length) {
+      growSlots(slotCount * 2);
+    }
+    int slot = slotCount++;
+    if (id.isBinary()) {
+      idKind[slot] = id.isWide() ? WIDE : NARROW;
+      idHigh[slot] = id.getHigh();
+      idLow[slot] = id.getLow();
+    } else {
+      byte[] literal = id.toString().getBytes(StandardCharsets.UTF_8);
+      idKind[slot] = LITERAL;
+      idHigh[slot] = append(literal);
+      idLow[slot] = literal.length;
+    }
+    idHash[slot] = id.hashCode();
+    nameOffset[slot] = append(name);
+    nameLength[slot] = name.length;
+    descriptionOffset[slot] = append(description);
+    descriptionLength[slot] = description.length;
+    return slot;
+  }
+
+  private void removeAt(int position) {
+    int slot = order[position];
+    System.arraycopy(order, position + 1, order, position, size - position - 1);
+    size--;
+    release(slot);
+  }
+
+  private void release(int slot) {
+    setCompleted(slot, false);
+    removeFromTable(slot);
+    arenaDead += nameLength[slot] + descriptionLength[slot];
+    if (idKind[slot] == LITERAL) {
+      arenaDead += (int) idLow[slot];
+    }
+  }
+
+  private void setCompleted(int slot, boolean done) {
+    if (completed.get(slot) != done) {
+      completed.set(slot, done);
+      completedCount += done ? 1 : -1;
+    }
+  }
+
+  private int append(byte[] bytes) {
+    if (arena.length - arenaSize < bytes.length) {
+      long needed = (long) arenaSize + bytes.length;
+      if (needed > Integer.MAX_VALUE - 8) {
+        throw new IllegalStateException("Task text exceeds the 2 GB arena limit");
+      }
+      arena = Arrays.copyOf(arena, (int) Math.min(Integer.MAX_VALUE - 8,
+          Math.max(needed, (long) arena.length * 2)));
+    }
+    int offset = arenaSize;
+    System.arraycopy(bytes, 0, arena, offset, bytes.length);
+    arenaSize += bytes.length;
+    return offset;
+  }
+
+  private boolean sameBytes(byte[] bytes, int offset, int length) {
+    return bytes.length == length
+        && Arrays.equals(bytes, 0, length, arena, offset, offset + length);
+  }
+
+  private boolean idEquals(int slot, TaskId id, int hash) {
+    if (idHash[slot] != hash) {
+      return false;
+    }
+    switch (idKind[slot]) {
+      case WIDE:
+        return id.isWide() && idHigh[slot] == id.getHigh() && idLow[slot] == id.getLow();
+      case NARROW:
+        return id.isBinary() && !id.isWide() && idLow[slot] == id.getLow();
+      default:
+        return !id.isBinary() && sameBytes(id.toString().getBytes(StandardCharsets.UTF_8),
+            (int) idHigh[slot], (int) idLow[slot]);
+    }
+  }
+
+  private int slotOf(TaskId id) {
+    int hash = id.hashCode();
+    int mask = table.length - 1;
+    for (int i = spread(hash) & mask; ; i = (i + 1) & mask) {
+      int entry = table[i];
+      if (entry == EMPTY) {
+        return -1;
+      }
+      if (entry != DELETED && idEquals(entry - 1, id, hash)) {
+        return entry - 1;
+      }
+    }
+  }
+
+  private void insertIntoTable(int slot) {
+    if ((tableUsed + 1) * 2 > table.length) {
+      rehash(Math.max(table.length, Integer.highestOneBit((size + 1) * 4)));
+    }
+    placeInTable(slot);
+    tableUsed++;
+  }
+
+  private void placeInTable(int slot) {
+    int mask = table.length - 1;
+    int i = spread(idHash[slot]) & mask;
+    while (table[i] != EMPTY) {
+      i = (i + 1) & mask;
+    }
+    table[i] = slot + 1;
+  }
+
+  private void removeFromTable(int slot) {
+    int mask = table.length - 1;
+    for (int i = spread(idHash[slot]) & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+      if (table[i] == slot + 1) {
+        // Tombstones stay counted in tableUsed until the next rehash
+        table[i] = DELETED;
+        return;
+      }
+    }
+  }
+
+  private void rehash(int capacity) {
+    table = new int[capacity];
+    for (int i = 0; i < size; i++) {
+      placeInTable(order[i]);
+    }
+    tableUsed = size;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * Returns the number of arena bytes written since the last compaction,
+   * live or dead.
+   */
+  int arenaBytes() {
+    return arenaSize;
+  }
+
+  /**
+   * Rewrites the columns and arena without deleted slots and replaced
+   * strings once dead slots outnumber live ones, or dead arena bytes
+   * outweigh live ones.
+   */
+  private void compactIfSparse() {
+    int deadSlots = slotCount - size;
+    boolean sparseSlots = deadSlots >= MIN_COMPACTION_SLOTS && deadSlots >= size;
+    boolean sparseArena = arenaDead >= MIN_COMPACTION_BYTES && arenaDead >= arenaSize - arenaDead;
+    if (!sparseSlots && !sparseArena) {
+      return;
+    }
+    int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+    long[] oldHigh = idHigh;
+    long[] oldLow = idLow;
+    byte[] oldKind = idKind;
+    int[] oldHash = idHash;
+    int[] oldNameOffset = nameOffset;
+    int[] oldNameLength = nameLength;
+    int[] oldDescriptionOffset = descriptionOffset;
+    int[] oldDescriptionLength = descriptionLength;
+    long[] oldVersion = version;
+    BitSet oldCompleted = (BitSet) completed.clone();
+    byte[] oldArena = arena;
+    allocateSlots(capacity);
+    completed.clear();
+    arena = new byte[Math.max(INITIAL_CAPACITY * 32, arenaLive(oldKind, oldLow,
+        oldNameLength, oldDescriptionLength))];
+    arenaSize = 0;
+    arenaDead = 0;
+    for (int slot = 0; slot < size; slot++) {
+      int old = order[slot];
+      idKind[slot] = oldKind[old];
+      idHash[slot] = oldHash[old];
+      if (oldKind[old] == LITERAL) {
+        idHigh[slot] = copy(oldArena, (int) oldHigh[old], (int) oldLow[old]);
+        idLow[slot] = oldLow[old];
+      } else {
+        idHigh[slot] = oldHigh[old];
+        idLow[slot] = oldLow[old];
+      }
+      nameOffset[slot] = copy(oldArena, oldNameOffset[old], oldNameLength[old]);
+      nameLength[slot] = oldNameLength[old];
+      descriptionOffset[slot] = copy(oldArena, oldDescriptionOffset[old],
+          oldDescriptionLength[old]);
+      descriptionLength[slot] = oldDescriptionLength[old];
+      completed.set(slot, oldCompleted.get(old));
+      version[slot] = oldVersion[old];
+      order[slot] = slot;
+    }
+    slotCount = size;
+    rehash(Math.max(INITIAL_CAPACITY * 2, Integer.highestOneBit(Math.max(1, size) * 4)));
+  }
+
+  private int arenaLive(byte[] kinds, long[] lows, int[] nameLengths, int[] descriptionLengths) {
+    long live = 0;
+    for (int i = 0; i < size; i++) {
+      int slot = order[i];
+      live += nameLengths[slot] + descriptionLengths[slot];
+      if (kinds[slot] == LITERAL) {
+        live += lows[slot];
+      }
+    }
+    return (int) live;
+  }
+
+  private int copy(byte[] from, int offset, int length) {
+    System.arraycopy(from, offset, arena, arenaSize, length);
+    int copied = arenaSize;
+    arenaSize += length;
+    return copied;
+  }
+
+  private void allocateSlots(int capacity) {
+    idHigh = new long[capacity];
+    idLow = new long[capacity];
+    idKind = new byte[capacity];
+    idHash = new int[capacity];
+    nameOffset = new int[capacity];
+    nameLength = new int[capacity];
+    descriptionOffset = new int[capacity];
+    descriptionLength = new int[capacity];
+    version = new long[capacity];
+  }
+
+  private void growSlots(int capacity) {
+    idHigh = Arrays.copyOf(idHigh, capacity);
+    idLow = Arrays.copyOf(idLow, capacity);
+    idKind = Arrays.copyOf(idKind, capacity);
+    idHash = Arrays.copyOf(idHash, capacity);
+    nameOffset = Arrays.copyOf(nameOffset, capacity);
+    nameLength = Arrays.copyOf(nameLength, capacity);
+    descriptionOffset = Arrays.copyOf(descriptionOffset, capacity);
+    descriptionLength = Arrays.copyOf(descriptionLength, capacity);
+    version = Arrays.copyOf(version, capacity);
+  }
+}
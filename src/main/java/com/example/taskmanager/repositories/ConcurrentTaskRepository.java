@@ -0,0 +1,281 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
+import com.example.taskmanager.models.TaskPage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe implementation of TaskRepository.
+ * Follows the Liskov Substitution Principle (LSP) - can replace
+ * InMemoryTaskRepository when several threads share one repository.
+ *
+ * <p>Tasks are indexed by id in a {@link ConcurrentHashMap}, whose per-bin
+ * locking lets writers to different tasks proceed in parallel, and ordered
+ * by an insertion sequence number in a {@link ConcurrentSkipListMap}. Reads
+ * never block.
+ *
+ * <p>Ordering contract: positions follow the order in which tasks were
+ * first saved; updating an existing task keeps its position. Positional
+ * reads ({@link #findByIndex}, {@link #findAll}, {@link #findPage},
+ * {@link #deleteByIndex}) resolve against an ordered snapshot that
+ * reflects every insert and delete completed before the call started, and
+ * may also reflect ones running concurrently. The snapshot is cached and only rebuilt after
+ * inserts or deletes, so positional reads are cheap while the set of tasks
+ * is stable. {@link #deleteByIndex} removes the task that was at the given
+ * position in that snapshot, and returns false if another thread removed it
+ * first.
+ *
+ * <p>Each entry records whether its task was completed when last saved,
+ * and a running count of completed entries is updated under the same
+ * per-bin lock as the save, so {@link #countByStatus} is constant time.
+ */
+public class ConcurrentTaskRepository implements TaskRepository {
+
+  private final ConcurrentHashMap<TaskId, Entry> byId;
+  private final ConcurrentSkipListMap<Long, Entry> order;
+  private final AtomicLong sequence;
+  private final AtomicLong structureVersion;
+  private final AtomicInteger completedCount;
+  private volatile Snapshot snapshot;
+
+  /**
+   * Creates a new, empty ConcurrentTaskRepository.
+   */
+  public ConcurrentTaskRepository() {
+    this.byId = new ConcurrentHashMap<>();
+    this.order = new ConcurrentSkipListMap<>();
+    this.sequence = new AtomicLong();
+    this.structureVersion = new AtomicLong();
+    this.completedCount = new AtomicInteger();
+  }
+
+  @Override
+  public Task save(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    boolean[] inserted = new boolean[1];
+    byId.compute(task.getTaskId(), (id, existing) -> {
+      if (existing != null) {
+        existing.task = task;
+        setCompleted(existing, task.isCompleted());
+        return existing;
+      }
+      Entry entry = new Entry(sequence.incrementAndGet(), id, task);
+      setCompleted(entry, task.isCompleted());
+      order.put(entry.sequence, entry);
+      inserted[0] = true;
+      return entry;
+    });
+    if (inserted[0]) {
+      structureVersion.incrementAndGet();
+    }
+    return task;
+  }
+
+  /**
+   * Checks the version and swaps the task under the same per-bin lock, so
+   * writers to different tasks never contend.
+   */
+  @Override
+  public Optional<Task> compareAndSet(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    Task next = task.nextVersion();
+    Entry updated = byId.computeIfPresent(task.getTaskId(), (id, existing) -> {
+      long stored = existing.task.getVersion();
+      if (stored != task.getVersion()) {
+        throw new TaskVersionConflictException(task.getId(), task.getVersion(), stored);
+      }
+      existing.task = next;
+      setCompleted(existing, next.isCompleted());
+      return existing;
+    });
+    return updated != null ? Optional.of(next) : Optional.empty();
+  }
+
+  /**
+   * Checks and swaps each task under its own per-bin lock, like
+   * {@link #compareAndSet}.
+   */
+  @Override
+  public List<Task> compareAndSetAll(Collection<Task> tasks) {
+    if (tasks == null || tasks.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Tasks cannot be null");
+    }
+    List<Task> stored = new ArrayList<>(tasks.size());
+    for (Task task : tasks) {
+      Task next = task.nextVersion();
+      byId.computeIfPresent(task.getTaskId(), (id, existing) -> {
+        if (existing.task.getVersion() == task.getVersion()) {
+          existing.task = next;
+          setCompleted(existing, next.isCompleted());
+          stored.add(next);
+        }
+        return existing;
+      });
+    }
+    return stored;
+  }
+
+  @Override
+  public Optional<Task> findById(String id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    Entry entry = byId.get(TaskId.parse(id));
+    return entry != null ? Optional.of(entry.task) : Optional.empty();
+  }
+
+  @Override
+  public Optional<Task> findByIndex(int index) {
+    Entry[] entries = snapshot().entries;
+    if (index < 0 || index >= entries.length) {
+      return Optional.empty();
+    }
+    return Optional.of(entries[index].task);
+  }
+
+  @Override
+  public List<Task> findAll() {
+    Entry[] entries = snapshot().entries;
+    List<Task> tasks = new ArrayList<>(entries.length);
+    for (Entry entry : entries) {
+      tasks.add(entry.task);
+    }
+    return Collections.unmodifiableList(tasks);
+  }
+
+  @Override
+  public TaskPage findPage(String cursor, int pageSize) {
+    Entry[] entries = snapshot().entries;
+    return TaskCursors.page(index -> entries[index].task, entries.length, cursor, pageSize);
+  }
+
+  @Override
+  public List<Task> findByStatus(boolean completed) {
+    List<Task> found = new ArrayList<>();
+    for (Entry entry : snapshot().entries) {
+      if (entry.completed == completed) {
+        found.add(entry.task);
+      }
+    }
+    return Collections.unmodifiableList(found);
+  }
+
+  @Override
+  public int countByStatus(boolean completed) {
+    int done = completedCount.get();
+    return completed ? done : Math.max(0, byId.size() - done);
+  }
+
+  @Override
+  public boolean deleteById(String id) {
+    if (id == null) {
+      return false;
+    }
+    Entry entry = byId.remove(TaskId.parse(id));
+    if (entry == null) {
+      return false;
+    }
+    unlink(entry);
+    return true;
+  }
+
+  @Override
+  public boolean deleteByIndex(int index) {
+    Entry[] entries = snapshot().entries;
+    if (index < 0 || index >= entries.length) {
+      return false;
+    }
+    Entry entry = entries[index];
+    if (!byId.remove(entry.id, entry)) {
+      return false;
+    }
+    unlink(entry);
+    return true;
+  }
+
+  @Override
+  public int count() {
+    return byId.size();
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return id != null && byId.containsKey(TaskId.parse(id));
+  }
+
+  private void unlink(Entry entry) {
+    order.remove(entry.sequence);
+    structureVersion.incrementAndGet();
+    // The entry is no longer reachable through byId, so no save can race
+    // with clearing its flag
+    setCompleted(entry, false);
+  }
+
+  private void setCompleted(Entry entry, boolean completed) {
+    if (entry.completed != completed) {
+      entry.completed = completed;
+      if (completed) {
+        completedCount.incrementAndGet();
+      } else {
+        completedCount.decrementAndGet();
+      }
+    }
+  }
+
+  private Snapshot snapshot() {
+    // Read the version before walking the order map: a snapshot built while
+    // a writer is active is tagged with the older version and so gets
+    // rebuilt by the next reader.
+    long version = structureVersion.get();
+    Snapshot current = snapshot;
+    if (current != null && current.version == version) {
+      return current;
+    }
+    Snapshot fresh = new Snapshot(version, order.values().toArray(new Entry[0]));
+    snapshot = fresh;
+    return fresh;
+  }
+
+  /**
+   * Slot for one task; updates replace the task without touching ordering.
+   */
+  private static final class Entry {
+    private final long sequence;
+    private final TaskId id;
+    private volatile Task task;
+    private volatile boolean completed;
+
+    private Entry(long sequence, TaskId id, Task task) {
+      this.sequence = sequence;
+      this.id = id;
+      this.task = task;
+    }
+  }
+
+  /**
+   * Ordered entries as of a given structure version.
+   */
+  private static final class Snapshot {
+    private final long version;
+    private final Entry[] entries;
+
+    private Snapshot(long version, Entry[] entries) {
+      this.version = version;
+      this.entries = entries;
+    }
+  }
+}
@@ -0,0 +1,289 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
+import com.example.taskmanager.models.TaskPage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Thread-safe TaskRepository for read-heavy workloads.
+ * Follows the Liskov Substitution Principle (LSP) - can replace
+ * ConcurrentTaskRepository when listings far outnumber writes.
+ *
+ * <p>All tasks live in one immutable {@link State}: a
+ * {@link PersistentVector} of tasks in position order and a
+ * {@link PersistentHashTrie} from id to slot. Writers serialize on this
+ * repository's monitor, derive a new state that shares every untouched
+ * node with the old one, and publish it with a single volatile write, so
+ * a write costs O(log n) and batches become visible all at once. Readers
+ * take no lock and copy nothing: {@link #findAll} returns an unmodifiable
+ * view of the state current at the call, which never changes afterwards,
+ * and a page or a count is always answered from one consistent state.
+ *
+ * <p>Tasks are stored as given, so they must not be changed after being
+ * saved; the service layer saves changed copies. Deleted slots are
+ * reclaimed by rebuilding the state once they outweigh the live ones.
+ */
+public class CopyOnWriteTaskRepository implements TaskRepository {
+
+  private static final int MIN_COMPACTION_SLOTS = 1024;
+
+  private volatile State state = State.EMPTY;
+
+  @Override
+  public synchronized Task save(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    state = state.with(task);
+    return task;
+  }
+
+  /**
+   * Saves the batch into one new state, so readers see all of it or none.
+   */
+  @Override
+  public synchronized List<Task> saveAll(Collection<Task> tasks) {
+    if (tasks == null || tasks.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Tasks cannot be null");
+    }
+    State next = state;
+    for (Task task : tasks) {
+      next = next.with(task);
+    }
+    state = next;
+    return new ArrayList<>(tasks);
+  }
+
+  /**
+   * Checks the version and swaps the task under the writer lock, so the
+   * check and the update are atomic.
+   */
+  @Override
+  public synchronized Optional<Task> compareAndSet(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    Task stored = state.find(task.getTaskId());
+    if (stored == null) {
+      return Optional.empty();
+    }
+    if (stored.getVersion() != task.getVersion()) {
+      throw new TaskVersionConflictException(task.getId(), task.getVersion(),
+          stored.getVersion());
+    }
+    Task next = task.nextVersion();
+    state = state.with(next);
+    return Optional.of(next);
+  }
+
+  /**
+   * Checks every version and publishes the matching updates as one new
+   * state under the writer lock.
+   */
+  @Override
+  public synchronized List<Task> compareAndSetAll(Collection<Task> tasks) {
+    if (tasks == null || tasks.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Tasks cannot be null");
+    }
+    List<Task> stored = new ArrayList<>(tasks.size());
+    State next = state;
+    for (Task task : tasks) {
+      Task current = next.find(task.getTaskId());
+      if (current != null && current.getVersion() == task.getVersion()) {
+        Task updated = task.nextVersion();
+        next = next.with(updated);
+        stored.add(updated);
+      }
+    }
+    state = next;
+    return stored;
+  }
+
+  @Override
+  public Optional<Task> findById(String id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(state.find(TaskId.parse(id)));
+  }
+
+  @Override
+  public Optional<Task> findByIndex(int index) {
+    PersistentVector<Task> tasks = state.tasks;
+    if (index < 0 || index >= tasks.size()) {
+      return Optional.empty();
+    }
+    return Optional.of(tasks.get(index));
+  }
+
+  @Override
+  public List<Task> findAll() {
+    return state.tasks.asList();
+  }
+
+  @Override
+  public TaskPage findPage(String cursor, int pageSize) {
+    PersistentVector<Task> tasks = state.tasks;
+    return TaskCursors.page(tasks::get, tasks.size(), cursor, pageSize);
+  }
+
+  @Override
+  public List<Task> findByStatus(boolean completed) {
+    List<Task> found = new ArrayList<>();
+    for (Task task : state.tasks.asList()) {
+      if (task.isCompleted() == completed) {
+        found.add(task);
+      }
+    }
+    return Collections.unmodifiableList(found);
+  }
+
+  @Override
+  public int countByStatus(boolean completed) {
+    State current = state;
+    return completed ? current.completed : current.tasks.size() - current.completed;
+  }
+
+  @Override
+  public synchronized boolean deleteById(String id) {
+    if (id == null) {
+      return false;
+    }
+    State next = state.without(TaskId.parse(id));
+    if (next == state) {
+      return false;
+    }
+    state = next.compactIfSparse();
+    return true;
+  }
+
+  /**
+   * Deletes the batch into one new state, so readers see all of it or none.
+   */
+  @Override
+  public synchronized int deleteAllById(Collection<String> ids) {
+    if (ids == null) {
+      return 0;
+    }
+    State next = state;
+    int deleted = 0;
+    for (String id : ids) {
+      if (id != null) {
+        State without = next.without(TaskId.parse(id));
+        if (without != next) {
+          next = without;
+          deleted++;
+        }
+      }
+    }
+    state = next.compactIfSparse();
+    return deleted;
+  }
+
+  @Override
+  public synchronized boolean deleteByIndex(int index) {
+    State current = state;
+    if (index < 0 || index >= current.tasks.size()) {
+      return false;
+    }
+    state = current.without(current.tasks.get(index).getTaskId()).compactIfSparse();
+    return true;
+  }
+
+  @Override
+  public int count() {
+    return state.tasks.size();
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return id != null && state.slots.get(TaskId.parse(id)) != null;
+  }
+
+  /**
+   * One immutable version of the repository.
+   */
+  private static final class State {
+
+    private static final State EMPTY =
+        new State(PersistentVector.empty(), PersistentHashTrie.empty(), 0);
+
+    private final PersistentVector<Task> tasks;
+    private final PersistentHashTrie<TaskId, Slot> slots;
+    private final int completed;
+
+    private State(PersistentVector<Task> tasks, PersistentHashTrie<TaskId, Slot> slots,
+        int completed) {
+      this.tasks = tasks;
+      this.slots = slots;
+      this.completed = completed;
+    }
+
+    private Task find(TaskId id) {
+      Slot slot = slots.get(id);
+      return slot != null ? tasks.getSlot(slot.index) : null;
+    }
+
+    private State with(Task task) {
+      TaskId id = task.getTaskId();
+      boolean done = task.isCompleted();
+      Slot slot = slots.get(id);
+      if (slot == null) {
+        return new State(tasks.append(task),
+            slots.put(id, new Slot(tasks.slotCount(), done)), completed + (done ? 1 : 0));
+      }
+      if (slot.completed == done) {
+        return new State(tasks.setSlot(slot.index, task), slots, completed);
+      }
+      return new State(tasks.setSlot(slot.index, task),
+          slots.put(id, new Slot(slot.index, done)), completed + (done ? 1 : -1));
+    }
+
+    private State without(TaskId id) {
+      Slot slot = slots.get(id);
+      if (slot == null) {
+        return this;
+      }
+      return new State(tasks.setSlot(slot.index, null), slots.remove(id),
+          completed - (slot.completed ? 1 : 0));
+    }
+
+    /**
+     * Rebuilds this state without empty slots once they outnumber the
+     * tasks.
+     */
+    private State compactIfSparse() {
+      int dead = tasks.slotCount() - tasks.size();
+      if (dead < MIN_COMPACTION_SLOTS || dead < tasks.size()) {
+        return this;
+      }
+      List<Task> live = new ArrayList<>(tasks.asList());
+      PersistentHashTrie<TaskId, Slot> rebuilt = PersistentHashTrie.empty();
+      for (int i = 0; i < live.size(); i++) {
+        TaskId id = live.get(i).getTaskId();
+        rebuilt = rebuilt.put(id, new Slot(i, slots.get(id).completed));
+      }
+      return new State(PersistentVector.of(live), rebuilt, completed);
+    }
+  }
+
+  /**
+   * Where a task is stored and whether it was completed when saved, so
+   * the completed count stays right even if a caller changed the task.
+   */
+  private static final class Slot {
+    private final int index;
+    private final boolean completed;
+
+    private Slot(int index, boolean completed) {
+      this.index = index;
+      this.completed = completed;
+    }
+  }
+}
@@ -1,9 +1,14 @@
 package com.example.taskmanager.repositories;
 
 import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -12,16 +17,32 @@ import java.util.Optional;
  * through inheritance, closed for modification.
  * Implements Liskov Substitution Principle (LSP) by properly
  * implementing the TaskRepository interface.
+ *
+ * <p>Tasks are kept in insertion order in a list of entries, with a hash
+ * index from task id to entry next to it. Lookups, upserts and deletes by
+ * id are constant time: a delete only marks its entry as a tombstone, and
+ * tombstones are compacted out of the list in one pass once they
+ * outnumber the live tasks, or before the next positional access needs
+ * the list dense again.
+ *
+ * <p>Each entry also records whether its task was completed when last
+ * saved, and a running count of completed entries is kept, so status
+ * counts are constant time and status listings never touch the tasks
+ * that do not match.
  */
 public class InMemoryTaskRepository implements TaskRepository {
 
-  private final List<Task> tasks;
+  private final ArrayList<Entry> tasks;
+  private final Map<TaskId, Entry> index;
+  private int completedCount;
+  private int deadCount;
 
   /**
    * Creates a new InMemoryTaskRepository with an empty task list.
    */
   public InMemoryTaskRepository() {
     this.tasks = new ArrayList<>();
+    this.index = new HashMap<>();
   }
 
   @Override
@@ -29,64 +50,183 @@ public class InMemoryTaskRepository implements TaskRepository {
     if (task == null) {
       throw new IllegalArgumentException("Task cannot be null");
     }
-    
+
     // Check if task already exists (update scenario)
-    Optional<Task> existing = findById(task.getId());
-    if (existing.isPresent()) {
-      int index = tasks.indexOf(existing.get());
-      tasks.set(index, task);
+    Entry existing = index.get(task.getTaskId());
+    if (existing != null) {
+      existing.task = task;
+      setCompleted(existing, task.isCompleted());
     } else {
-      tasks.add(task);
+      Entry entry = new Entry(task);
+      tasks.add(entry);
+      index.put(task.getTaskId(), entry);
+      setCompleted(entry, task.isCompleted());
     }
     return task;
   }
 
+  @Override
+  public List<Task> saveAll(Collection<Task> tasks) {
+    if (tasks == null || tasks.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Tasks cannot be null");
+    }
+    this.tasks.ensureCapacity(this.tasks.size() + tasks.size());
+    List<Task> saved = new ArrayList<>(tasks.size());
+    for (Task task : tasks) {
+      saved.add(save(task));
+    }
+    return saved;
+  }
+
   @Override
   public Optional<Task> findById(String id) {
     if (id == null) {
       return Optional.empty();
     }
-    return tasks.stream()
-        .filter(task -> task.getId().equals(id))
-        .findFirst();
+    Entry entry = index.get(TaskId.parse(id));
+    return entry != null ? Optional.of(entry.task) : Optional.empty();
   }
 
   @Override
   public Optional<Task> findByIndex(int index) {
-    if (index < 0 || index >= tasks.size()) {
+    if (index < 0 || index >= count()) {
       return Optional.empty();
     }
-    return Optional.of(tasks.get(index));
+    compact();
+    return Optional.of(tasks.get(index).task);
   }
 
   @Override
   public List<Task> findAll() {
-    return Collections.unmodifiableList(new ArrayList<>(tasks));
+    List<Task> snapshot = new ArrayList<>(count());
+    for (Entry entry : tasks) {
+      if (!entry.deleted) {
+        snapshot.add(entry.task);
+      }
+    }
+    return Collections.unmodifiableList(snapshot);
+  }
+
+  @Override
+  public List<Task> findByStatus(boolean completed) {
+    int matching = countByStatus(completed);
+    List<Task> found = new ArrayList<>(matching);
+    for (int i = 0, size = tasks.size(); i < size && found.size() < matching; i++) {
+      Entry entry = tasks.get(i);
+      if (!entry.deleted && entry.completed == completed) {
+        found.add(entry.task);
+      }
+    }
+    return Collections.unmodifiableList(found);
+  }
+
+  @Override
+  public int countByStatus(boolean completed) {
+    return completed ? completedCount : count() - completedCount;
   }
 
   @Override
   public boolean deleteById(String id) {
-    return findById(id)
-        .map(tasks::remove)
-        .orElse(false);
+    if (id == null) {
+      return false;
+    }
+    Entry entry = index.remove(TaskId.parse(id));
+    if (entry == null) {
+      return false;
+    }
+    bury(entry);
+    compactIfSparse();
+    return true;
+  }
+
+  @Override
+  public int deleteAllById(Collection<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return 0;
+    }
+    int deleted = 0;
+    for (String id : ids) {
+      Entry entry = id != null ? index.remove(TaskId.parse(id)) : null;
+      if (entry != null) {
+        bury(entry);
+        deleted++;
+      }
+    }
+    compactIfSparse();
+    return deleted;
   }
 
   @Override
   public boolean deleteByIndex(int index) {
-    if (index < 0 || index >= tasks.size()) {
+    if (index < 0 || index >= count()) {
       return false;
     }
-    tasks.remove(index);
+    compact();
+    Entry entry = tasks.remove(index);
+    this.index.remove(entry.task.getTaskId());
+    setCompleted(entry, false);
     return true;
   }
 
   @Override
   public int count() {
-    return tasks.size();
+    return tasks.size() - deadCount;
   }
 
   @Override
   public boolean existsById(String id) {
-    return findById(id).isPresent();
+    return id != null && index.containsKey(TaskId.parse(id));
+  }
+
+  private void bury(Entry entry) {
+    setCompleted(entry, false);
+    entry.deleted = true;
+    deadCount++;
+  }
+
+  /**
+   * Compacts once tombstones outnumber live tasks, which keeps the list
+   * at most twice the live size and costs amortized constant time per
+   * delete.
+   */
+  private void compactIfSparse() {
+    if (deadCount > count()) {
+      compact();
+    }
+  }
+
+  /**
+   * Removes every tombstone in one pass, so positions in the list are
+   * positions among the live tasks again.
+   */
+  private void compact() {
+    if (deadCount > 0) {
+      tasks.removeIf(entry -> entry.deleted);
+      deadCount = 0;
+    }
+  }
+
+  private void setCompleted(Entry entry, boolean completed) {
+    if (entry.completed != completed) {
+      entry.completed = completed;
+      completedCount += completed ? 1 : -1;
+    }
+  }
+
+  /**
+   * Mutable slot shared between the ordered list and the id index, so an
+   * upsert replaces the task in both places with a single write. The
+   * completion flag is the status recorded at the last save, since the
+   * task itself may have been changed since. A deleted entry stays in the
+   * list as a tombstone until the next compaction.
+   */
+  private static final class Entry {
+    private Task task;
+    private boolean completed;
+    private boolean deleted;
+
+    private Entry(Task task) {
+      this.task = task;
+    }
   }
 }
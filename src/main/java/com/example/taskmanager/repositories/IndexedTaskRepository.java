@@ -0,0 +1,180 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
+import com.example.taskmanager.models.TaskPage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * TaskRepository decorator that answers {@link #search} from an inverted
+ * index instead of scanning every task.
+ * Follows the Open/Closed Principle (OCP) - adds search to any repository
+ * without modifying it.
+ * Follows the Liskov Substitution Principle (LSP) - behaves exactly like
+ * the wrapped repository for every other operation.
+ *
+ * <p>The index is updated on every save and delete made through this
+ * decorator, so edits to a task become searchable once the task is saved
+ * again. Changes made to the wrapped repository directly are not seen.
+ *
+ * <p>The decorator adds no lock of its own, so it is as concurrent as the
+ * wrapped repository. After each change the touched ids are re-indexed
+ * from what the wrapped repository then holds, one id at a time under the
+ * index's per-id locking, so concurrent writers to the same task leave the
+ * index matching whichever write landed last. Search results are checked
+ * against the stored tasks, so a change that is not yet re-indexed is
+ * never reported as a match it no longer is.
+ */
+public class IndexedTaskRepository implements TaskRepository {
+
+  private final TaskRepository delegate;
+  private final TaskSearchIndex index;
+
+  /**
+   * Creates an IndexedTaskRepository, indexing the tasks already held by
+   * the wrapped repository.
+   *
+   * @param delegate the repository to wrap
+   * @throws IllegalArgumentException if delegate is null
+   */
+  public IndexedTaskRepository(TaskRepository delegate) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("TaskRepository cannot be null");
+    }
+    this.delegate = delegate;
+    this.index = new TaskSearchIndex();
+    for (Task task : delegate.findAll()) {
+      index.put(task);
+    }
+  }
+
+  @Override
+  public Task save(Task task) {
+    Task saved = delegate.save(task);
+    refresh(saved.getTaskId());
+    return saved;
+  }
+
+  @Override
+  public Optional<Task> compareAndSet(Task task) {
+    Optional<Task> stored = delegate.compareAndSet(task);
+    stored.ifPresent(changed -> refresh(changed.getTaskId()));
+    return stored;
+  }
+
+  @Override
+  public List<Task> compareAndSetAll(Collection<Task> tasks) {
+    List<Task> stored = delegate.compareAndSetAll(tasks);
+    for (Task task : stored) {
+      refresh(task.getTaskId());
+    }
+    return stored;
+  }
+
+  @Override
+  public List<Task> saveAll(Collection<Task> tasks) {
+    List<Task> saved = delegate.saveAll(tasks);
+    for (Task task : saved) {
+      refresh(task.getTaskId());
+    }
+    return saved;
+  }
+
+  @Override
+  public Optional<Task> findById(String id) {
+    return delegate.findById(id);
+  }
+
+  @Override
+  public List<Task> findAllById(Collection<String> ids) {
+    return delegate.findAllById(ids);
+  }
+
+  @Override
+  public Optional<Task> findByIndex(int index) {
+    return delegate.findByIndex(index);
+  }
+
+  @Override
+  public List<Task> findAll() {
+    return delegate.findAll();
+  }
+
+  @Override
+  public TaskPage findPage(String cursor, int pageSize) {
+    return delegate.findPage(cursor, pageSize);
+  }
+
+  @Override
+  public List<Task> findByStatus(boolean completed) {
+    return delegate.findByStatus(completed);
+  }
+
+  @Override
+  public int countByStatus(boolean completed) {
+    return delegate.countByStatus(completed);
+  }
+
+  @Override
+  public List<Task> search(String query) {
+    Set<String> terms = TaskSearchIndex.terms(query);
+    List<Task> matches = new ArrayList<>();
+    for (TaskId id : index.lookup(terms)) {
+      delegate.findById(id.toString())
+          .filter(task -> TaskSearchIndex.terms(task).containsAll(terms))
+          .ifPresent(matches::add);
+    }
+    return matches;
+  }
+
+  @Override
+  public boolean deleteById(String id) {
+    if (!delegate.deleteById(id)) {
+      return false;
+    }
+    refresh(TaskId.parse(id));
+    return true;
+  }
+
+  @Override
+  public int deleteAllById(Collection<String> ids) {
+    int deleted = delegate.deleteAllById(ids);
+    if (deleted > 0) {
+      for (String id : ids) {
+        if (id != null) {
+          refresh(TaskId.parse(id));
+        }
+      }
+    }
+    return deleted;
+  }
+
+  /**
+   * Deletes the task found at the position by its id, so that a concurrent
+   * insert or delete shifting positions cannot make the index drop a
+   * different task from the one deleted.
+   */
+  @Override
+  public boolean deleteByIndex(int index) {
+    Optional<Task> task = delegate.findByIndex(index);
+    return task.isPresent() && deleteById(task.get().getId());
+  }
+
+  @Override
+  public int count() {
+    return delegate.count();
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return delegate.existsById(id);
+  }
+
+  private void refresh(TaskId id) {
+    index.refresh(id, () -> delegate.findById(id.toString()).orElse(null));
+  }
+}
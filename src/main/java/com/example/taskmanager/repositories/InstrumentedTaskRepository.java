@@ -0,0 +1,156 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.metrics.MetricsRegistry;
+import com.example.taskmanager.metrics.OperationMetrics;
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * TaskRepository decorator that records the latency and errors of every
+ * call, so a slow backend shows up separately from service logic.
+ * Follows the Open/Closed Principle (OCP) - adds measurement to any
+ * repository without modifying it.
+ * Follows the Liskov Substitution Principle (LSP) - behaves exactly like
+ * the wrapped repository, including its batch and search overrides.
+ */
+public class InstrumentedTaskRepository implements TaskRepository {
+
+  private final TaskRepository delegate;
+  private final OperationMetrics save;
+  private final OperationMetrics saveAll;
+  private final OperationMetrics compareAndSet;
+  private final OperationMetrics compareAndSetAll;
+  private final OperationMetrics findById;
+  private final OperationMetrics findAllById;
+  private final OperationMetrics findByIndex;
+  private final OperationMetrics findAll;
+  private final OperationMetrics findPage;
+  private final OperationMetrics findByStatus;
+  private final OperationMetrics countByStatus;
+  private final OperationMetrics search;
+  private final OperationMetrics deleteById;
+  private final OperationMetrics deleteAllById;
+  private final OperationMetrics deleteByIndex;
+  private final OperationMetrics count;
+  private final OperationMetrics existsById;
+
+  /**
+   * Creates an InstrumentedTaskRepository recording into the given registry under
+   * operation names prefixed with {@code repository.}.
+   *
+   * @param delegate the TaskRepository to measure
+   * @param metrics the registry to record into
+   * @throws IllegalArgumentException if an argument is null
+   */
+  public InstrumentedTaskRepository(TaskRepository delegate, MetricsRegistry metrics) {
+    if (delegate == null || metrics == null) {
+      throw new IllegalArgumentException("TaskRepository and MetricsRegistry cannot be null");
+    }
+    this.delegate = delegate;
+    this.save = metrics.operation("repository.save");
+    this.saveAll = metrics.operation("repository.saveAll");
+    this.compareAndSet = metrics.operation("repository.compareAndSet");
+    this.compareAndSetAll = metrics.operation("repository.compareAndSetAll");
+    this.findById = metrics.operation("repository.findById");
+    this.findAllById = metrics.operation("repository.findAllById");
+    this.findByIndex = metrics.operation("repository.findByIndex");
+    this.findAll = metrics.operation("repository.findAll");
+    this.findPage = metrics.operation("repository.findPage");
+    this.findByStatus = metrics.operation("repository.findByStatus");
+    this.countByStatus = metrics.operation("repository.countByStatus");
+    this.search = metrics.operation("repository.search");
+    this.deleteById = metrics.operation("repository.deleteById");
+    this.deleteAllById = metrics.operation("repository.deleteAllById");
+    this.deleteByIndex = metrics.operation("repository.deleteByIndex");
+    this.count = metrics.operation("repository.count");
+    this.existsById = metrics.operation("repository.existsById");
+  }
+
+  @Override
+  public Task save(Task task) {
+    return save.time(() -> delegate.save(task));
+  }
+
+  @Override
+  public List<Task> saveAll(Collection<Task> tasks) {
+    return saveAll.time(() -> delegate.saveAll(tasks));
+  }
+
+  @Override
+  public Optional<Task> compareAndSet(Task task) {
+    return compareAndSet.time(() -> delegate.compareAndSet(task));
+  }
+
+  @Override
+  public List<Task> compareAndSetAll(Collection<Task> tasks) {
+    return compareAndSetAll.time(() -> delegate.compareAndSetAll(tasks));
+  }
+
+  @Override
+  public Optional<Task> findById(String id) {
+    return findById.time(() -> delegate.findById(id));
+  }
+
+  @Override
+  public List<Task> findAllById(Collection<String> ids) {
+    return findAllById.time(() -> delegate.findAllById(ids));
+  }
+
+  @Override
+  public Optional<Task> findByIndex(int index) {
+    return findByIndex.time(() -> delegate.findByIndex(index));
+  }
+
+  @Override
+  public List<Task> findAll() {
+    return findAll.time(() -> delegate.findAll());
+  }
+
+  @Override
+  public TaskPage findPage(String cursor, int pageSize) {
+    return findPage.time(() -> delegate.findPage(cursor, pageSize));
+  }
+
+  @Override
+  public List<Task> findByStatus(boolean completed) {
+    return findByStatus.time(() -> delegate.findByStatus(completed));
+  }
+
+  @Override
+  public int countByStatus(boolean completed) {
+    return countByStatus.time(() -> delegate.countByStatus(completed));
+  }
+
+  @Override
+  public List<Task> search(String query) {
+    return search.time(() -> delegate.search(query));
+  }
+
+  @Override
+  public boolean deleteById(String id) {
+    return deleteById.time(() -> delegate.deleteById(id));
+  }
+
+  @Override
+  public int deleteAllById(Collection<String> ids) {
+    return deleteAllById.time(() -> delegate.deleteAllById(ids));
+  }
+
+  @Override
+  public boolean deleteByIndex(int index) {
+    return deleteByIndex.time(() -> delegate.deleteByIndex(index));
+  }
+
+  @Override
+  public int count() {
+    return count.time(() -> delegate.count());
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return existsById.time(() -> delegate.existsById(id));
+  }
+}
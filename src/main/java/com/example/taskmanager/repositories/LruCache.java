@@ -0,0 +1,62 @@
+package com.example.taskmanager.repositories;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * BoundedCache that evicts the least recently used entry.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class LruCache<K, V> implements BoundedCache<K, V> {
+
+  private final Map<K, V> entries;
+  private long evictions;
+
+  LruCache(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("Maximum size must be positive");
+    }
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        if (size() > maximumSize) {
+          evictions++;
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  @Override
+  public V get(K key) {
+    return entries.get(key);
+  }
+
+  @Override
+  public void put(K key, V value) {
+    entries.put(key, value);
+  }
+
+  @Override
+  public void remove(K key) {
+    entries.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    entries.clear();
+  }
+
+  @Override
+  public int size() {
+    return entries.size();
+  }
+
+  @Override
+  public long evictionCount() {
+    return evictions;
+  }
+}
@@ -0,0 +1,420 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * TaskRepository that keeps task records outside the Java heap, in direct
+ * {@link ByteBuffer} slabs.
+ * Follows the Liskov Substitution Principle (LSP) - can replace
+ * InMemoryTaskRepository when the task set is too large for the heap.
+ *
+ * <p>Each task is encoded as one record in a block carved from a slab.
+ * Blocks come in power-of-two size classes. Freed blocks go onto a free
+ * list per size class, linked through the blocks themselves, and are
+ * reused before any new slab memory is used. A task that still fits its
+ * block after an update is rewritten in place.
+ *
+ * <p>The heap only holds primitive arrays. A slot table maps each task to
+ * its block address. An int order array maps positions to slots, and an
+ * open-addressing int table maps ids to slots, probed by the id hash
+ * stored in each record header. The garbage collector therefore has no
+ * per-task objects to trace. Reads decode a fresh {@link Task}; changing a
+ * returned task has no effect until it is saved again.
+ *
+ * <p>Direct memory is bounded by {@code -XX:MaxDirectMemorySize} and is
+ * returned when the repository becomes unreachable. This class is not
+ * thread-safe.
+ */
+public class OffHeapTaskRepository implements TaskRepository {
+
+  /** Default size of each direct memory slab. */
+  public static final int DEFAULT_SLAB_SIZE = 64 << 20;
+
+  private static final int MIN_BLOCK_SHIFT = 5;
+  private static final int HEADER_SIZE = 5;
+  private static final long NO_BLOCK = -1;
+  private static final int EMPTY = 0;
+  private static final int DELETED = -1;
+
+  private final int slabSize;
+  private final List<ByteBuffer> slabs;
+  private final long[] freeLists;
+  private int slabUsed;
+  private long allocatedBytes;
+
+  // Slot columns; free slots are reused
+  private long[] blockOf;
+  private byte[] blockShift;
+  private int slotCount;
+  private int[] freeSlots;
+  private int freeSlotCount;
+  private final BitSet completed;
+  private int completedCount;
+
+  private int[] order;
+  private int size;
+
+  private int[] table;
+  private int tableUsed;
+
+  private final TaskRecords.Writer writer;
+
+  /**
+   * Creates an OffHeapTaskRepository with {@value #DEFAULT_SLAB_SIZE}-byte
+   * slabs.
+   */
+  public OffHeapTaskRepository() {
+    this(DEFAULT_SLAB_SIZE);
+  }
+
+  /**
+   * Creates an OffHeapTaskRepository with the given slab size.
+   *
+   * @param slabSize the bytes allocated per slab; a power of two between
+   *     256 bytes and 1 GB, which also bounds the size of one task record
+   * @throws IllegalArgumentException if the slab size is out of range
+   */
+  public OffHeapTaskRepository(int slabSize) {
+    if (slabSize < 256 || slabSize > (1 << 30) || Integer.bitCount(slabSize) != 1) {
+      throw new IllegalArgumentException("Slab size must be a power of two in [256, 1 GB]");
+    }
+    this.slabSize = slabSize;
+    this.slabs = new ArrayList<>();
+    this.freeLists = new long[Integer.numberOfTrailingZeros(slabSize) - MIN_BLOCK_SHIFT + 1];
+    Arrays.fill(freeLists, NO_BLOCK);
+    this.slabUsed = slabSize;
+    this.blockOf = new long[16];
+    this.blockShift = new byte[16];
+    this.freeSlots = new int[16];
+    this.completed = new BitSet();
+    this.order = new int[16];
+    this.table = new int[32];
+    this.writer = new TaskRecords.Writer(256);
+  }
+
+  @Override
+  public Task save(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    TaskId id = task.getTaskId();
+    writer.reset();
+    TaskRecords.writeTask(writer, task);
+    int shift = blockShift(HEADER_SIZE + writer.size());
+    if (shift - MIN_BLOCK_SHIFT >= freeLists.length) {
+      throw new IllegalArgumentException("Task record exceeds the slab size of "
+          + slabSize + " bytes");
+    }
+    int slot = slotOf(id);
+    if (slot >= 0) {
+      if (shift != blockShift[slot]) {
+        free(blockOf[slot], blockShift[slot]);
+        blockOf[slot] = allocate(shift);
+        blockShift[slot] = (byte) shift;
+      }
+    } else {
+      slot = newSlot();
+      blockOf[slot] = allocate(shift);
+      blockShift[slot] = (byte) shift;
+      insertIntoTable(slot, id.hashCode());
+      if (size == order.length) {
+        order = Arrays.copyOf(order, size * 2);
+      }
+      order[size++] = slot;
+    }
+    ByteBuffer block = block(blockOf[slot]);
+    block.putInt(id.hashCode());
+    block.put(task.isCompleted() ? (byte) 1 : (byte) 0);
+    writer.copyTo(block);
+    setCompleted(slot, task.isCompleted());
+    return task;
+  }
+
+  @Override
+  public Optional<Task> findById(String id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    int slot = slotOf(TaskId.parse(id));
+    return slot >= 0 ? Optional.of(read(slot)) : Optional.empty();
+  }
+
+  @Override
+  public Optional<Task> findByIndex(int index) {
+    if (index < 0 || index >= size) {
+      return Optional.empty();
+    }
+    return Optional.of(read(order[index]));
+  }
+
+  @Override
+  public List<Task> findAll() {
+    List<Task> tasks = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      tasks.add(read(order[i]));
+    }
+    return Collections.unmodifiableList(tasks);
+  }
+
+  @Override
+  public List<Task> findByStatus(boolean completed) {
+    int matching = countByStatus(completed);
+    List<Task> found = new ArrayList<>(matching);
+    for (int i = 0; i < size && found.size() < matching; i++) {
+      if (this.completed.get(order[i]) == completed) {
+        found.add(read(order[i]));
+      }
+    }
+    return Collections.unmodifiableList(found);
+  }
+
+  @Override
+  public int countByStatus(boolean completed) {
+    return completed ? completedCount : size - completedCount;
+  }
+
+  @Override
+  public boolean deleteById(String id) {
+    if (id == null) {
+      return false;
+    }
+    int slot = slotOf(TaskId.parse(id));
+    if (slot < 0) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (order[i] == slot) {
+        removeAt(i);
+        return true;
+      }
+    }
+    throw new IllegalStateException("Slot " + slot + " missing from order");
+  }
+
+  /**
+   * Deletes a batch of tasks with a single compaction of the order array.
+   */
+  @Override
+  public int deleteAllById(Collection<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return 0;
+    }
+    BitSet removed = new BitSet(slotCount);
+    for (String id : ids) {
+      int slot = id != null ? slotOf(TaskId.parse(id)) : -1;
+      if (slot >= 0 && !removed.get(slot)) {
+        removed.set(slot);
+      }
+    }
+    int deleted = removed.cardinality();
+    if (deleted == 0) {
+      return 0;
+    }
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      int slot = order[i];
+      if (removed.get(slot)) {
+        release(slot);
+      } else {
+        order[kept++] = slot;
+      }
+    }
+    size = kept;
+    return deleted;
+  }
+
+  @Override
+  public boolean deleteByIndex(int index) {
+    if (index < 0 || index >= size) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public int count() {
+    return size;
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return id != null && slotOf(TaskId.parse(id)) >= 0;
+  }
+
+  /**
+   * Returns the slab memory handed out so far, including blocks now on
+   * free lists.
+   *
+   * @return the allocated off-heap bytes
+   */
+  long allocatedBytes() {
+    return allocatedBytes;
+  }
+
+  private Task read(int slot) {
+    ByteBuffer block = block(blockOf[slot]);
+    block.position(block.position() + HEADER_SIZE);
+    return TaskRecords.readTask(block);
+  }
+
+  private ByteBuffer block(long address) {
+    ByteBuffer slab = slabs.get((int) (address >>> 32));
+    return slab.duplicate().position((int) address);
+  }
+
+  private static int blockShift(int recordSize) {
+    int shift = 32 - Integer.numberOfLeadingZeros(Math.max(1, recordSize) - 1);
+    return Math.max(MIN_BLOCK_SHIFT, shift);
+  }
+
+  private long allocate(int shift) {
+    int sizeClass = shift - MIN_BLOCK_SHIFT;
+    long head = freeLists[sizeClass];
+    if (head != NO_BLOCK) {
+      freeLists[sizeClass] = slabs.get((int) (head >>> 32)).getLong((int) head);
+      return head;
+    }
+    int blockSize = 1 << shift;
+    if (slabUsed + blockSize > slabSize) {
+      // The rest of the current slab stays unused
+      slabs.add(ByteBuffer.allocateDirect(slabSize));
+      slabUsed = 0;
+    }
+    long address = ((long) (slabs.size() - 1) << 32) | slabUsed;
+    slabUsed += blockSize;
+    allocatedBytes += blockSize;
+    return address;
+  }
+
+  private void free(long address, int shift) {
+    int sizeClass = shift - MIN_BLOCK_SHIFT;
+    slabs.get((int) (address >>> 32)).putLong((int) address, freeLists[sizeClass]);
+    freeLists[sizeClass] = address;
+  }
+
+  private int newSlot() {
+    if (freeSlotCount > 0) {
+      return freeSlots[--freeSlotCount];
+    }
+    if (slotCount == blockOf.length) {
+      blockOf = Arrays.copyOf(blockOf, slotCount * 2);
+      blockShift = Arrays.copyOf(blockShift, slotCount * 2);
+    }
+    return slotCount++;
+  }
+
+  private void removeAt(int position) {
+    int slot = order[position];
+    System.arraycopy(order, position + 1, order, position, size - position - 1);
+    size--;
+    release(slot);
+  }
+
+  private void release(int slot) {
+    removeFromTable(slot);
+    setCompleted(slot, false);
+    free(blockOf[slot], blockShift[slot]);
+    if (freeSlotCount == freeSlots.length) {
+      freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+    }
+    freeSlots[freeSlotCount++] = slot;
+  }
+
+  private void setCompleted(int slot, boolean done) {
+    if (completed.get(slot) != done) {
+      completed.set(slot, done);
+      completedCount += done ? 1 : -1;
+    }
+  }
+
+  private int hashAt(int slot) {
+    long address = blockOf[slot];
+    return slabs.get((int) (address >>> 32)).getInt((int) address);
+  }
+
+  private boolean idEquals(int slot, byte[] id) {
+    ByteBuffer block = block(blockOf[slot]);
+    block.position(block.position() + HEADER_SIZE);
+    if (TaskRecords.readVarInt(block) != id.length) {
+      return false;
+    }
+    int start = block.position();
+    for (int i = 0; i < id.length; i++) {
+      if (block.get(start + i) != id[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int slotOf(TaskId id) {
+    int hash = id.hashCode();
+    byte[] encoded = null;
+    int mask = table.length - 1;
+    for (int i = spread(hash) & mask; ; i = (i + 1) & mask) {
+      int entry = table[i];
+      if (entry == EMPTY) {
+        return -1;
+      }
+      if (entry != DELETED && hashAt(entry - 1) == hash) {
+        if (encoded == null) {
+          encoded = id.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        if (idEquals(entry - 1, encoded)) {
+          return entry - 1;
+        }
+      }
+    }
+  }
+
+  private void insertIntoTable(int slot, int hash) {
+    if ((tableUsed + 1) * 2 > table.length) {
+      rehash(Math.max(table.length, Integer.highestOneBit((size + 1) * 4)));
+    }
+    place(slot, hash);
+    tableUsed++;
+  }
+
+  private void place(int slot, int hash) {
+    int mask = table.length - 1;
+    int i = spread(hash) & mask;
+    while (table[i] != EMPTY) {
+      i = (i + 1) & mask;
+    }
+    table[i] = slot + 1;
+  }
+
+  private void removeFromTable(int slot) {
+    int mask = table.length - 1;
+    for (int i = spread(hashAt(slot)) & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+      if (table[i] == slot + 1) {
+        // Tombstones stay counted in tableUsed until the next rehash
+        table[i] = DELETED;
+        return;
+      }
+    }
+  }
+
+  private void rehash(int capacity) {
+    table = new int[capacity];
+    for (int i = 0; i < size; i++) {
+      place(order[i], hashAt(order[i]));
+    }
+    tableUsed = size;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -0,0 +1,282 @@
+package com.example.taskmanager.repositories;
+
+/**
+ * Immutable, structurally shared hash map: a hash array mapped trie that
+ * consumes five bits of the key's hash per level. Each node stores only
+ * its occupied branches, located through a 32-bit bitmap, so an update
+ * copies one short array per level and every earlier version stays valid.
+ * Keys whose whole hashes collide share a collision node.
+ *
+ * @param <K> the key type; keys are never null
+ * @param <V> the value type; values are never null
+ */
+final class PersistentHashTrie<K, V> {
+
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+  private static final PersistentHashTrie<?, ?> EMPTY =
+      new PersistentHashTrie<>(BitmapNode.EMPTY, 0);
+
+  private final Node root;
+  private final int size;
+
+  private PersistentHashTrie(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <K, V> PersistentHashTrie<K, V> empty() {
+    return (PersistentHashTrie<K, V>) EMPTY;
+  }
+
+  /**
+   * Returns the number of keys.
+   *
+   * @return the key count
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the value of a key.
+   *
+   * @param key the key
+   * @return the value, or null if the key is absent
+   */
+  @SuppressWarnings("unchecked")
+  V get(K key) {
+    return (V) root.find(0, key.hashCode(), key);
+  }
+
+  /**
+   * Returns a map with the key set to the value.
+   *
+   * @param key the key
+   * @param value the value
+   * @return the new map
+   */
+  PersistentHashTrie<K, V> put(K key, V value) {
+    boolean[] added = new boolean[1];
+    Node newRoot = root.put(0, key.hashCode(), key, value, added);
+    if (newRoot == root) {
+      return this;
+    }
+    return new PersistentHashTrie<>(newRoot, added[0] ? size + 1 : size);
+  }
+
+  /**
+   * Returns a map without the key.
+   *
+   * @param key the key
+   * @return the new map, or this one if the key is absent
+   */
+  PersistentHashTrie<K, V> remove(K key) {
+    Node newRoot = root.remove(0, key.hashCode(), key);
+    if (newRoot == root) {
+      return this;
+    }
+    if (newRoot == null) {
+      return empty();
+    }
+    return new PersistentHashTrie<>(newRoot, size - 1);
+  }
+
+  /**
+   * One level of the trie.
+   */
+  private interface Node {
+
+    Object find(int shift, int hash, Object key);
+
+    Node put(int shift, int hash, Object key, Object value, boolean[] added);
+
+    /** Returns the node without the key, or null once it is empty. */
+    Node remove(int shift, int hash, Object key);
+  }
+
+  /**
+   * Branch node. For each bit set in the bitmap the array holds a pair:
+   * a key and its value, or null and the child node.
+   */
+  private static final class BitmapNode implements Node {
+
+    private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+    private final int bitmap;
+    private final Object[] array;
+
+    private BitmapNode(int bitmap, Object[] array) {
+      this.bitmap = bitmap;
+      this.array = array;
+    }
+
+    @Override
+    public Object find(int shift, int hash, Object key) {
+      int bit = bit(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      int index = index(bit);
+      Object storedKey = array[index];
+      Object value = array[index + 1];
+      if (storedKey == null) {
+        return ((Node) value).find(shift + BITS, hash, key);
+      }
+      return key.equals(storedKey) ? value : null;
+    }
+
+    @Override
+    public Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+      int bit = bit(hash, shift);
+      int index = index(bit);
+      if ((bitmap & bit) == 0) {
+        added[0] = true;
+        Object[] copy = new Object[array.length + 2];
+        System.arraycopy(array, 0, copy, 0, index);
+        copy[index] = key;
+        copy[index + 1] = value;
+        System.arraycopy(array, index, copy, index + 2, array.length - index);
+        return new BitmapNode(bitmap | bit, copy);
+      }
+      Object storedKey = array[index];
+      Object storedValue = array[index + 1];
+      if (storedKey == null) {
+        Node child = ((Node) storedValue).put(shift + BITS, hash, key, value, added);
+        return child == storedValue ? this : with(index, null, child);
+      }
+      if (key.equals(storedKey)) {
+        return storedValue == value ? this : with(index, storedKey, value);
+      }
+      added[0] = true;
+      return with(index, null,
+          split(shift + BITS, storedKey, storedValue, hash, key, value));
+    }
+
+    @Override
+    public Node remove(int shift, int hash, Object key) {
+      int bit = bit(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+      int index = index(bit);
+      Object storedKey = array[index];
+      Object storedValue = array[index + 1];
+      if (storedKey == null) {
+        Node child = ((Node) storedValue).remove(shift + BITS, hash, key);
+        if (child == storedValue) {
+          return this;
+        }
+        return child != null ? with(index, null, child) : without(bit, index);
+      }
+      return key.equals(storedKey) ? without(bit, index) : this;
+    }
+
+    private static Node split(int shift, Object key1, Object value1, int hash2, Object key2,
+        Object value2) {
+      int hash1 = key1.hashCode();
+      if (hash1 == hash2) {
+        return new CollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+      }
+      boolean[] added = new boolean[1];
+      return EMPTY.put(shift, hash1, key1, value1, added)
+          .put(shift, hash2, key2, value2, added);
+    }
+
+    private Node with(int index, Object key, Object value) {
+      Object[] copy = array.clone();
+      copy[index] = key;
+      copy[index + 1] = value;
+      return new BitmapNode(bitmap, copy);
+    }
+
+    private Node without(int bit, int index) {
+      if (bitmap == bit) {
+        return null;
+      }
+      Object[] copy = new Object[array.length - 2];
+      System.arraycopy(array, 0, copy, 0, index);
+      System.arraycopy(array, index + 2, copy, index, array.length - index - 2);
+      return new BitmapNode(bitmap & ~bit, copy);
+    }
+
+    private int index(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1)) * 2;
+    }
+  }
+
+  /**
+   * Keys whose hashes are equal, stored as key-value pairs.
+   */
+  private static final class CollisionNode implements Node {
+
+    private final int hash;
+    private final Object[] array;
+
+    private CollisionNode(int hash, Object[] array) {
+      this.hash = hash;
+      this.array = array;
+    }
+
+    @Override
+    public Object find(int shift, int hash, Object key) {
+      int index = indexOf(key);
+      return index >= 0 ? array[index + 1] : null;
+    }
+
+    @Override
+    public Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+      if (hash != this.hash) {
+        Node wrapper = new BitmapNode(bit(this.hash, shift), new Object[] {null, this});
+        return wrapper.put(shift, hash, key, value, added);
+      }
+      int index = indexOf(key);
+      if (index >= 0) {
+        if (array[index + 1] == value) {
+          return this;
+        }
+        Object[] copy = array.clone();
+        copy[index + 1] = value;
+        return new CollisionNode(hash, copy);
+      }
+      added[0] = true;
+      Object[] copy = new Object[array.length + 2];
+      System.arraycopy(array, 0, copy, 0, array.length);
+      copy[array.length] = key;
+      copy[array.length + 1] = value;
+      return new CollisionNode(hash, copy);
+    }
+
+    @Override
+    public Node remove(int shift, int hash, Object key) {
+      int index = indexOf(key);
+      if (index < 0) {
+        return this;
+      }
+      if (array.length == 4) {
+        // Hand the one remaining pair back to a branch node
+        int other = index == 0 ? 2 : 0;
+        return BitmapNode.EMPTY.put(shift, hash, array[other], array[other + 1],
+            new boolean[1]);
+      }
+      Object[] copy = new Object[array.length - 2];
+      System.arraycopy(array, 0, copy, 0, index);
+      System.arraycopy(array, index + 2, copy, index, array.length - index - 2);
+      return new CollisionNode(hash, copy);
+    }
+
+    private int indexOf(Object key) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (key.equals(array[i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+
+  private static int bit(int hash, int shift) {
+    return 1 << ((hash >>> shift) & MASK);
+  }
+}
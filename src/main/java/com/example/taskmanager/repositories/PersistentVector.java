@@ -0,0 +1,288 @@
+package com.example.taskmanager.repositories;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable, structurally shared vector: a 32-way trie of slots in which
+ * every update copies only the path from the root to one leaf, so an
+ * update is O(log32 n) and every earlier version stays valid.
+ *
+ * <p>Removing an element leaves an empty slot rather than shifting the
+ * ones after it, and every node counts the elements below it, so
+ * positional lookups skip whole empty subtrees and stay O(log n). Callers
+ * rebuild with {@link #of} once empty slots outweigh the elements.
+ *
+ * @param <E> the element type; elements are never null
+ */
+final class PersistentVector<E> {
+
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+  private static final PersistentVector<?> EMPTY =
+      new PersistentVector<>(0, 0, new Node(new Object[WIDTH], 0));
+
+  private final int slotCount;
+  private final int shift;
+  private final Node root;
+
+  private PersistentVector(int slotCount, int shift, Node root) {
+    this.slotCount = slotCount;
+    this.shift = shift;
+    this.root = root;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <E> PersistentVector<E> empty() {
+    return (PersistentVector<E>) EMPTY;
+  }
+
+  /**
+   * Builds a vector holding the given elements in consecutive slots, in
+   * linear time.
+   *
+   * @param elements the elements, none null
+   * @param <E> the element type
+   * @return the vector
+   */
+  static <E> PersistentVector<E> of(List<E> elements) {
+    if (elements.isEmpty()) {
+      return empty();
+    }
+    Node[] level = new Node[(elements.size() + MASK) >>> BITS];
+    for (int i = 0; i < level.length; i++) {
+      Object[] array = new Object[WIDTH];
+      int count = Math.min(WIDTH, elements.size() - (i << BITS));
+      for (int j = 0; j < count; j++) {
+        array[j] = elements.get((i << BITS) + j);
+      }
+      level[i] = new Node(array, count);
+    }
+    int shift = 0;
+    while (level.length > 1) {
+      Node[] parents = new Node[(level.length + MASK) >>> BITS];
+      for (int i = 0; i < parents.length; i++) {
+        Object[] array = new Object[WIDTH];
+        int live = 0;
+        for (int j = 0; j < WIDTH && (i << BITS) + j < level.length; j++) {
+          Node child = level[(i << BITS) + j];
+          array[j] = child;
+          live += child.live;
+        }
+        parents[i] = new Node(array, live);
+      }
+      level = parents;
+      shift += BITS;
+    }
+    return new PersistentVector<>(elements.size(), shift, level[0]);
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return the element count
+   */
+  int size() {
+    return root.live;
+  }
+
+  /**
+   * Returns the number of slots, including emptied ones.
+   *
+   * @return the slot count
+   */
+  int slotCount() {
+    return slotCount;
+  }
+
+  /**
+   * Returns the element in a slot.
+   *
+   * @param slot the slot
+   * @return the element, or null if the slot was emptied
+   */
+  @SuppressWarnings("unchecked")
+  E getSlot(int slot) {
+    if (slot < 0 || slot >= slotCount) {
+      throw new IndexOutOfBoundsException("Slot " + slot + " of " + slotCount);
+    }
+    return (E) leafFor(slot).array[slot & MASK];
+  }
+
+  /**
+   * Returns the element at a position, counting only filled slots.
+   *
+   * @param index the position
+   * @return the element
+   */
+  E get(int index) {
+    return getSlot(slotOf(index));
+  }
+
+  /**
+   * Returns the slot holding the element at a position.
+   *
+   * @param index the position, counting only filled slots
+   * @return the slot
+   */
+  int slotOf(int index) {
+    if (index < 0 || index >= root.live) {
+      throw new IndexOutOfBoundsException("Index " + index + " of " + root.live);
+    }
+    Node node = root;
+    int remaining = index;
+    int slot = 0;
+    for (int level = shift; level > 0; level -= BITS) {
+      int child = 0;
+      while (true) {
+        Node next = (Node) node.array[child];
+        if (next != null) {
+          if (remaining < next.live) {
+            node = next;
+            break;
+          }
+          remaining -= next.live;
+        }
+        child++;
+      }
+      slot += child << level;
+    }
+    for (int i = 0; ; i++) {
+      if (node.array[i] != null && remaining-- == 0) {
+        return slot + i;
+      }
+    }
+  }
+
+  /**
+   * Returns a vector with the element appended in a new slot.
+   *
+   * @param element the element, not null
+   * @return the new vector
+   */
+  PersistentVector<E> append(E element) {
+    Node newRoot = root;
+    int newShift = shift;
+    if (slotCount == 1 << (shift + BITS)) {
+      Object[] array = new Object[WIDTH];
+      array[0] = root;
+      newRoot = new Node(array, root.live);
+      newShift += BITS;
+    }
+    return new PersistentVector<>(slotCount + 1, newShift,
+        assoc(newRoot, newShift, slotCount, element, 1));
+  }
+
+  /**
+   * Returns a vector with one slot replaced.
+   *
+   * @param slot an existing slot
+   * @param element the new element, or null to empty the slot
+   * @return the new vector
+   */
+  PersistentVector<E> setSlot(int slot, E element) {
+    E old = getSlot(slot);
+    if (old == element) {
+      return this;
+    }
+    int delta = (element != null ? 1 : 0) - (old != null ? 1 : 0);
+    return new PersistentVector<>(slotCount, shift, assoc(root, shift, slot, element, delta));
+  }
+
+  /**
+   * Returns an unmodifiable list view of the elements. The view never
+   * changes, because this vector never does.
+   *
+   * @return the elements in slot order
+   */
+  List<E> asList() {
+    return new ElementList();
+  }
+
+  private Node leafFor(int slot) {
+    Node node = root;
+    for (int level = shift; level > 0; level -= BITS) {
+      node = (Node) node.array[(slot >>> level) & MASK];
+    }
+    return node;
+  }
+
+  private static Node assoc(Node node, int level, int slot, Object element, int delta) {
+    Object[] array = node != null ? node.array.clone() : new Object[WIDTH];
+    int live = (node != null ? node.live : 0) + delta;
+    int index = (slot >>> level) & MASK;
+    if (level == 0) {
+      array[index] = element;
+    } else {
+      array[index] = assoc((Node) array[index], level - BITS, slot, element, delta);
+    }
+    return new Node(array, live);
+  }
+
+  /**
+   * Trie node: 32 children, or 32 elements at the leaf level, and the
+   * number of elements below.
+   */
+  private static final class Node {
+    private final Object[] array;
+    private final int live;
+
+    private Node(Object[] array, int live) {
+      this.array = array;
+      this.live = live;
+    }
+  }
+
+  /**
+   * List view; iteration walks the leaves in order, looking each leaf up
+   * once.
+   */
+  private final class ElementList extends AbstractList<E> {
+
+    @Override
+    public E get(int index) {
+      return PersistentVector.this.get(index);
+    }
+
+    @Override
+    public int size() {
+      return root.live;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      return new Iterator<E>() {
+        private int slot = -1;
+        private int returned;
+        private Object[] leaf;
+
+        @Override
+        public boolean hasNext() {
+          return returned < root.live;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          while (true) {
+            slot++;
+            if (leaf == null || (slot & MASK) == 0) {
+              leaf = leafFor(slot).array;
+            }
+            Object element = leaf[slot & MASK];
+            if (element != null) {
+              returned++;
+              return (E) element;
+            }
+          }
+        }
+      };
+    }
+  }
+}
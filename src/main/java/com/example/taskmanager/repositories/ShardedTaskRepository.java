@@ -0,0 +1,419 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * TaskRepository that spreads tasks over independent shards by a hash of
+ * their id.
+ * Follows the Open/Closed Principle (OCP) - composes any thread-safe
+ * TaskRepository into a partitioned one without changing it.
+ *
+ * <p>Operations on one id go to the one shard that owns it, so writers to
+ * different shards never contend. Queries that read every task
+ * ({@link #findAll}, {@link #findByStatus}, {@link #search}) and batch
+ * operations fan out over a {@link ForkJoinPool}, one fork-join task per
+ * shard, and merge the shard results, so scans use every core. Small repositories are scanned on
+ * the calling thread, where forking would cost more than it saves.
+ * {@link #count} and {@link #countByStatus} add up the shard counts
+ * directly, since backends answer those in constant time.
+ *
+ * <p>Ordering contract: positions are shard-major: the tasks of the
+ * first shard in that shard's order, then those of the second, and so
+ * on. Updating a task keeps its position. Positional reads resolve shard
+ * by shard, so while other threads write they reflect each shard as of
+ * the moment it was read. This class is thread-safe if its shards are.
+ *
+ * <p>This deliberately weakens the {@link TaskRepository} contract:
+ * positions are not insertion order, and inserting a task shifts every
+ * task of the later shards, not just the tasks after it. Anything that
+ * addresses tasks by position across writes therefore misbehaves: an
+ * index shown to a user may name another task by the time it is edited
+ * or removed, and {@link #findPage} cursors, which only look back for
+ * their task, can repeat or skip tasks while others are added. Use this
+ * class only where tasks are addressed by id and listings need no
+ * stable order.
+ */
+public class ShardedTaskRepository implements TaskRepository {
+
+  private static final int MIN_PARALLEL_TASKS = 4096;
+
+  private final TaskRepository[] shards;
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates a repository of ConcurrentTaskRepository shards that fans out
+   * on the common fork-join pool.
+   *
+   * @param shardCount the number of shards
+   */
+  public ShardedTaskRepository(int shardCount) {
+    this(shardCount, ConcurrentTaskRepository::new, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a repository.
+   *
+   * @param shardCount the number of shards
+   * @param shardFactory creates each shard; shards must be thread-safe
+   *     because queries read them from pool threads
+   * @param pool the pool queries fan out on
+   */
+  public ShardedTaskRepository(int shardCount, Supplier<? extends TaskRepository> shardFactory,
+      ForkJoinPool pool) {
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("Shard count must be positive");
+    }
+    if (shardFactory == null) {
+      throw new IllegalArgumentException("Shard factory cannot be null");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("ForkJoinPool cannot be null");
+    }
+    this.shards = new TaskRepository[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      shards[i] = shardFactory.get();
+      if (shards[i] == null) {
+        throw new IllegalArgumentException("Shard factory returned null");
+      }
+    }
+    this.pool = pool;
+  }
+
+  /**
+   * Returns the number of shards.
+   *
+   * @return the shard count
+   */
+  public int getShardCount() {
+    return shards.length;
+  }
+
+  /**
+   * Returns the number of tasks in each shard, to check the balance.
+   *
+   * @return the task count of each shard, in shard order
+   */
+  public int[] getShardSizes() {
+    int[] sizes = new int[shards.length];
+    for (int i = 0; i < shards.length; i++) {
+      sizes[i] = shards[i].count();
+    }
+    return sizes;
+  }
+
+  @Override
+  public Task save(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    return shardFor(task.getTaskId()).save(task);
+  }
+
+  /**
+   * Groups the batch by shard and saves every group in parallel.
+   */
+  @Override
+  public List<Task> saveAll(Collection<Task> tasks) {
+    if (tasks == null || tasks.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Tasks cannot be null");
+    }
+    List<List<Task>> groups = emptyGroups();
+    List<List<Integer>> positions = emptyGroups();
+    int position = 0;
+    for (Task task : tasks) {
+      int shard = shardIndex(task.getTaskId());
+      groups.get(shard).add(task);
+      positions.get(shard).add(position++);
+    }
+    Task[] saved = new Task[position];
+    fanOut(position, shard -> {
+      List<Task> group = groups.get(shard);
+      if (!group.isEmpty()) {
+        List<Task> result = shards[shard].saveAll(group);
+        for (int i = 0; i < result.size(); i++) {
+          saved[positions.get(shard).get(i)] = result.get(i);
+        }
+      }
+      return null;
+    });
+    return new ArrayList<>(Arrays.asList(saved));
+  }
+
+  @Override
+  public Optional<Task> compareAndSet(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    return shardFor(task.getTaskId()).compareAndSet(task);
+  }
+
+  /**
+   * Groups the batch by shard and applies every group in parallel.
+   */
+  @Override
+  public List<Task> compareAndSetAll(Collection<Task> tasks) {
+    if (tasks == null || tasks.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Tasks cannot be null");
+    }
+    List<List<Task>> groups = emptyGroups();
+    List<List<Integer>> positions = emptyGroups();
+    int position = 0;
+    for (Task task : tasks) {
+      int shard = shardIndex(task.getTaskId());
+      groups.get(shard).add(task);
+      positions.get(shard).add(position++);
+    }
+    Task[] stored = new Task[position];
+    fanOut(position, shard -> {
+      List<Task> group = groups.get(shard);
+      if (!group.isEmpty()) {
+        // Each shard returns the subset it stored, in the group's order
+        int next = 0;
+        for (Task task : shards[shard].compareAndSetAll(group)) {
+          while (!group.get(next).getTaskId().equals(task.getTaskId())) {
+            next++;
+          }
+          stored[positions.get(shard).get(next++)] = task;
+        }
+      }
+      return null;
+    });
+    List<Task> result = new ArrayList<>(position);
+    for (Task task : stored) {
+      if (task != null) {
+        result.add(task);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public Optional<Task> findById(String id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    return shardFor(TaskId.parse(id)).findById(id);
+  }
+
+  /**
+   * Groups the ids by shard and looks every group up in parallel.
+   */
+  @Override
+  public List<Task> findAllById(Collection<String> ids) {
+    List<Task> found = new ArrayList<>();
+    if (ids == null || ids.isEmpty()) {
+      return found;
+    }
+    List<String> idList = new ArrayList<>(ids);
+    List<List<Integer>> positions = emptyGroups();
+    for (int i = 0; i < idList.size(); i++) {
+      String id = idList.get(i);
+      if (id != null) {
+        positions.get(shardIndex(TaskId.parse(id))).add(i);
+      }
+    }
+    Task[] tasks = new Task[idList.size()];
+    fanOut(idList.size(), shard -> {
+      for (int position : positions.get(shard)) {
+        tasks[position] = shards[shard].findById(idList.get(position)).orElse(null);
+      }
+      return null;
+    });
+    for (Task task : tasks) {
+      if (task != null) {
+        found.add(task);
+      }
+    }
+    return found;
+  }
+
+  @Override
+  public Optional<Task> findByIndex(int index) {
+    if (index < 0) {
+      return Optional.empty();
+    }
+    int remaining = index;
+    for (TaskRepository shard : shards) {
+      int size = shard.count();
+      if (remaining < size) {
+        return shard.findByIndex(remaining);
+      }
+      remaining -= size;
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public List<Task> findAll() {
+    return Collections.unmodifiableList(concat(fanOut(count(), shard -> shards[shard].findAll())));
+  }
+
+  @Override
+  public List<Task> findByStatus(boolean completed) {
+    return Collections.unmodifiableList(
+        concat(fanOut(count(), shard -> shards[shard].findByStatus(completed))));
+  }
+
+  @Override
+  public int countByStatus(boolean completed) {
+    int matching = 0;
+    for (TaskRepository shard : shards) {
+      matching += shard.countByStatus(completed);
+    }
+    return matching;
+  }
+
+  @Override
+  public List<Task> search(String query) {
+    return concat(fanOut(count(), shard -> shards[shard].search(query)));
+  }
+
+  @Override
+  public boolean deleteById(String id) {
+    return id != null && shardFor(TaskId.parse(id)).deleteById(id);
+  }
+
+  /**
+   * Groups the ids by shard and deletes every group in parallel.
+   */
+  @Override
+  public int deleteAllById(Collection<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return 0;
+    }
+    List<List<String>> groups = emptyGroups();
+    for (String id : ids) {
+      if (id != null) {
+        groups.get(shardIndex(TaskId.parse(id))).add(id);
+      }
+    }
+    int deleted = 0;
+    for (int count : fanOut(ids.size(), shard -> groups.get(shard).isEmpty()
+        ? 0 : shards[shard].deleteAllById(groups.get(shard)))) {
+      deleted += count;
+    }
+    return deleted;
+  }
+
+  @Override
+  public boolean deleteByIndex(int index) {
+    if (index < 0) {
+      return false;
+    }
+    int remaining = index;
+    for (TaskRepository shard : shards) {
+      int size = shard.count();
+      if (remaining < size) {
+        return shard.deleteByIndex(remaining);
+      }
+      remaining -= size;
+    }
+    return false;
+  }
+
+  @Override
+  public int count() {
+    int count = 0;
+    for (TaskRepository shard : shards) {
+      count += shard.count();
+    }
+    return count;
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return id != null && shardFor(TaskId.parse(id)).existsById(id);
+  }
+
+  private TaskRepository shardFor(TaskId id) {
+    return shards[shardIndex(id)];
+  }
+
+  private int shardIndex(TaskId id) {
+    int hash = id.hashCode();
+    // Fold in the high bits, as HashMap does, so literal ids whose string
+    // hashes differ only there still spread over the shards
+    return Math.floorMod(hash ^ (hash >>> 16), shards.length);
+  }
+
+  private <T> List<List<T>> emptyGroups() {
+    List<List<T>> groups = new ArrayList<>(shards.length);
+    for (int i = 0; i < shards.length; i++) {
+      groups.add(new ArrayList<>());
+    }
+    return groups;
+  }
+
+  /**
+   * Runs the query for every shard, in parallel if the work is large
+   * enough, and returns the results in shard order.
+   */
+  @SuppressWarnings("unchecked")
+  private <R> List<R> fanOut(int work, IntFunction<R> query) {
+    Object[] results = new Object[shards.length];
+    if (shards.length == 1 || work < MIN_PARALLEL_TASKS) {
+      for (int i = 0; i < shards.length; i++) {
+        results[i] = query.apply(i);
+      }
+    } else {
+      pool.invoke(new FanOut(query, results, 0, shards.length));
+    }
+    return (List<R>) Arrays.asList(results);
+  }
+
+  private static List<Task> concat(List<List<Task>> parts) {
+    int size = 0;
+    for (List<Task> part : parts) {
+      size += part.size();
+    }
+    List<Task> all = new ArrayList<>(size);
+    for (List<Task> part : parts) {
+      all.addAll(part);
+    }
+    return all;
+  }
+
+  /**
+   * Splits a range of shards in halves until each fork-join task queries
+   * one shard.
+   */
+  private static final class FanOut extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final IntFunction<?> query;
+    private final Object[] results;
+    private final int from;
+    private final int to;
+
+    private FanOut(IntFunction<?> query, Object[] results, int from, int to) {
+      this.query = query;
+      this.results = results;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from == 1) {
+        results[from] = query.apply(from);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new FanOut(query, results, from, middle),
+          new FanOut(query, results, middle, to));
+    }
+  }
+}
@@ -0,0 +1,320 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * TaskRepository that starts from a memory-mapped snapshot file.
+ * Opening only maps the file, so even a million-task snapshot is ready
+ * in milliseconds. Each task is decoded from the mapping the first time
+ * it is read. The id index is built on the first lookup by id, from ids
+ * alone, without decoding whole tasks.
+ * Follows the Liskov Substitution Principle (LSP) - behaves like any
+ * other TaskRepository once opened.
+ *
+ * <p>Every task lives in a numbered slot: slots below the snapshot size
+ * refer to snapshot records, later slots hold tasks saved afterwards.
+ * Positions map to slots through an order array that is only allocated
+ * on the first insert or delete.
+ *
+ * <p>The completion status of each slot, as of its last save, is tracked
+ * in a bit set with a running count of completed tasks. Both are built on
+ * the first status query by reading only each record's flag byte, and
+ * kept up to date on every save and delete after that, so status counts
+ * are constant time and status listings decode only the tasks they
+ * return. This class is not thread-safe.
+ */
+public class SnapshotTaskRepository implements TaskRepository {
+
+  private final TaskSnapshot base;
+  private final BitSet dirty;
+  private Task[] slots;
+  private int slotCount;
+  private int[] order;
+  private int size;
+  private Map<TaskId, Integer> slotById;
+  private BitSet completed;
+  private int completedCount;
+
+  SnapshotTaskRepository(TaskSnapshot base) {
+    this.base = base;
+    this.dirty = new BitSet();
+    this.slots = new Task[base.count()];
+    this.slotCount = base.count();
+    this.size = base.count();
+  }
+
+  /**
+   * Opens a snapshot file written by {@link #writeSnapshot}.
+   *
+   * @param file the snapshot file
+   * @return a repository holding the snapshot's tasks
+   * @throws IOException if the file cannot be mapped or is not a snapshot
+   */
+  public static SnapshotTaskRepository open(Path file) throws IOException {
+    return new SnapshotTaskRepository(TaskSnapshot.open(file));
+  }
+
+  @Override
+  public Task save(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    Integer existing = slotIndex().get(task.getTaskId());
+    if (existing != null) {
+      slots[existing] = task;
+      if (existing < base.count()) {
+        dirty.set(existing);
+      }
+      setCompleted(existing, task.isCompleted());
+      return task;
+    }
+    if (slotCount == slots.length) {
+      slots = Arrays.copyOf(slots, Math.max(16, slotCount * 2));
+    }
+    int slot = slotCount++;
+    slots[slot] = task;
+    int[] positions = order();
+    if (size == positions.length) {
+      order = positions = Arrays.copyOf(positions, Math.max(16, size * 2));
+    }
+    positions[size++] = slot;
+    slotById.put(task.getTaskId(), slot);
+    setCompleted(slot, task.isCompleted());
+    return task;
+  }
+
+  @Override
+  public Optional<Task> findById(String id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    Integer slot = slotIndex().get(TaskId.parse(id));
+    return slot != null ? Optional.of(task(slot)) : Optional.empty();
+  }
+
+  @Override
+  public Optional<Task> findByIndex(int index) {
+    if (index < 0 || index >= size) {
+      return Optional.empty();
+    }
+    return Optional.of(task(slotAt(index)));
+  }
+
+  @Override
+  public List<Task> findAll() {
+    List<Task> tasks = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      tasks.add(task(slotAt(i)));
+    }
+    return Collections.unmodifiableList(tasks);
+  }
+
+  @Override
+  public List<Task> findByStatus(boolean completed) {
+    BitSet status = statusIndex();
+    List<Task> tasks = new ArrayList<>(countByStatus(completed));
+    for (int i = 0; i < size; i++) {
+      int slot = slotAt(i);
+      if (status.get(slot) == completed) {
+        tasks.add(task(slot));
+      }
+    }
+    return Collections.unmodifiableList(tasks);
+  }
+
+  @Override
+  public int countByStatus(boolean completed) {
+    statusIndex();
+    return completed ? completedCount : size - completedCount;
+  }
+
+  @Override
+  public boolean deleteById(String id) {
+    if (id == null) {
+      return false;
+    }
+    Integer slot = slotIndex().remove(TaskId.parse(id));
+    if (slot == null) {
+      return false;
+    }
+    int[] positions = order();
+    for (int i = 0; i < size; i++) {
+      if (positions[i] == slot) {
+        removeAt(i);
+        return true;
+      }
+    }
+    throw new IllegalStateException("Slot " + slot + " missing from order");
+  }
+
+  /**
+   * Deletes a batch of tasks with a single compaction of the order array.
+   */
+  @Override
+  public int deleteAllById(Collection<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return 0;
+    }
+    BitSet removed = new BitSet(slotCount);
+    for (String id : ids) {
+      Integer slot = id != null ? slotIndex().remove(TaskId.parse(id)) : null;
+      if (slot != null) {
+        removed.set(slot);
+      }
+    }
+    int deleted = removed.cardinality();
+    if (deleted == 0) {
+      return 0;
+    }
+    int[] positions = order();
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      int slot = positions[i];
+      if (removed.get(slot)) {
+        setCompleted(slot, false);
+        slots[slot] = null;
+      } else {
+        positions[kept++] = slot;
+      }
+    }
+    size = kept;
+    return deleted;
+  }
+
+  @Override
+  public boolean deleteByIndex(int index) {
+    if (index < 0 || index >= size) {
+      return false;
+    }
+    if (slotById != null) {
+      slotById.remove(idAt(slotAt(index)));
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public int count() {
+    return size;
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return id != null && slotIndex().containsKey(TaskId.parse(id));
+  }
+
+  /**
+   * Writes the current task set as a new snapshot. Records of tasks that
+   * have not been saved since the base snapshot was written are copied
+   * without being decoded.
+   *
+   * @param file the snapshot file to write
+   * @param generation the log generation the snapshot covers
+   * @throws IOException if the snapshot cannot be written
+   */
+  void writeSnapshot(Path file, long generation) throws IOException {
+    TaskSnapshot.write(file, generation, size, (index, out) -> {
+      int slot = slotAt(index);
+      if (slot < base.count() && !dirty.get(slot)) {
+        base.copyRecord(slot, out);
+      } else {
+        TaskRecords.writeTask(out, task(slot));
+      }
+    });
+  }
+
+  private Task task(int slot) {
+    Task task = slots[slot];
+    if (task == null) {
+      task = base.taskAt(slot);
+      slots[slot] = task;
+    }
+    return task;
+  }
+
+  private TaskId idAt(int slot) {
+    Task task = slots[slot];
+    return task != null ? task.getTaskId() : TaskId.parse(base.idAt(slot));
+  }
+
+  private int slotAt(int position) {
+    return order != null ? order[position] : position;
+  }
+
+  private int[] order() {
+    if (order == null) {
+      int[] identity = new int[Math.max(16, size)];
+      for (int i = 0; i < size; i++) {
+        identity[i] = i;
+      }
+      order = identity;
+    }
+    return order;
+  }
+
+  private Map<TaskId, Integer> slotIndex() {
+    if (slotById == null) {
+      Map<TaskId, Integer> index = new HashMap<>(Math.max(16, size * 4 / 3 + 1));
+      for (int i = 0; i < size; i++) {
+        int slot = slotAt(i);
+        index.put(idAt(slot), slot);
+      }
+      slotById = index;
+    }
+    return slotById;
+  }
+
+  /**
+   * Returns the completion bit of every live slot, reading each record's
+   * flag the first time it is needed.
+   */
+  private BitSet statusIndex() {
+    if (completed == null) {
+      BitSet status = new BitSet(slotCount);
+      int count = 0;
+      for (int i = 0; i < size; i++) {
+        int slot = slotAt(i);
+        Task task = slots[slot];
+        if (task != null ? task.isCompleted() : base.completedAt(slot)) {
+          status.set(slot);
+          count++;
+        }
+      }
+      completed = status;
+      completedCount = count;
+    }
+    return completed;
+  }
+
+  /**
+   * Records a slot's status once the status index exists; before that the
+   * index is built from the slots as they are when first queried.
+   */
+  private void setCompleted(int slot, boolean done) {
+    if (completed != null && completed.get(slot) != done) {
+      completed.set(slot, done);
+      completedCount += done ? 1 : -1;
+    }
+  }
+
+  private void removeAt(int position) {
+    int[] positions = order();
+    int slot = positions[position];
+    System.arraycopy(positions, position + 1, positions, position, size - position - 1);
+    size--;
+    setCompleted(slot, false);
+    slots[slot] = null;
+  }
+}
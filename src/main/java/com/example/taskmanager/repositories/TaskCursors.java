@@ -0,0 +1,100 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
+import com.example.taskmanager.models.TaskPage;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Keyset pagination over positionally ordered tasks.
+ * A cursor names the last task of the previous page and the position it
+ * had. The next page resumes right after that task even if tasks before
+ * it were removed in the meantime: the task is looked for at its old
+ * position and up to one page before it. If it was itself removed, the
+ * page resumes at its old position.
+ */
+final class TaskCursors {
+
+  private static final char SEPARATOR = ':';
+
+  private TaskCursors() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Reads one page through TaskRepository positional lookups.
+   *
+   * @param repository the repository to page through
+   * @param cursor the cursor of the previous page, or null for the first page
+   * @param pageSize the maximum number of tasks on the page
+   * @return the page
+   */
+  static TaskPage page(TaskRepository repository, String cursor, int pageSize) {
+    return page(index -> repository.findByIndex(index).orElse(null),
+        repository.count(), cursor, pageSize);
+  }
+
+  /**
+   * Reads one page from positional task accessors.
+   *
+   * @param taskAt returns the task at a position, or null past the end
+   * @param size the number of tasks
+   * @param cursor the cursor of the previous page, or null for the first page
+   * @param pageSize the maximum number of tasks on the page
+   * @return the page
+   * @throws IllegalArgumentException if the page size or cursor is invalid
+   */
+  static TaskPage page(IntFunction<Task> taskAt, int size, String cursor, int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be positive");
+    }
+    int start = cursor == null ? 0 : resume(taskAt, size, cursor, pageSize);
+    List<Task> tasks = new ArrayList<>(Math.min(pageSize, Math.max(0, size - start)));
+    for (int i = start; i < size && tasks.size() < pageSize; i++) {
+      Task task = taskAt.apply(i);
+      if (task == null) {
+        break;
+      }
+      tasks.add(task);
+    }
+    int end = start + tasks.size();
+    String next = !tasks.isEmpty() && end < size
+        ? encode(end - 1, tasks.get(tasks.size() - 1).getId())
+        : null;
+    return new TaskPage(tasks, start, size, next);
+  }
+
+  static String encode(int position, String id) {
+    String value = position + String.valueOf(SEPARATOR) + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static int resume(IntFunction<Task> taskAt, int size, String cursor, int window) {
+    int position;
+    TaskId id;
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = value.indexOf(SEPARATOR);
+      position = Integer.parseInt(value.substring(0, separator));
+      id = TaskId.parse(value.substring(separator + 1));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+    if (position < 0) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+    int lowest = Math.max(0, position - window);
+    for (int i = Math.min(position, size - 1); i >= lowest; i--) {
+      Task task = taskAt.apply(i);
+      if (task != null && task.getTaskId().equals(id)) {
+        return i + 1;
+      }
+    }
+    return Math.min(position, size);
+  }
+}
@@ -0,0 +1,234 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact binary encoding of repository mutations.
+ * A record is a type byte followed by the task fields; strings are
+ * written as a varint byte length and UTF-8 bytes. The fields end with a
+ * flags byte (completed, version present) and, for a task that has been
+ * updated through compare-and-set, its version as a varint. Shared by
+ * the file-backed repositories and by replication so they agree on one
+ * format.
+ */
+public final class TaskRecords {
+
+  static final byte SAVE = 1;
+  static final byte DELETE = 2;
+
+  private static final int COMPLETED_FLAG = 1;
+  private static final int VERSION_FLAG = 2;
+
+  private TaskRecords() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Encodes an upsert of the given task.
+   *
+   * @param task the saved task
+   * @return the encoded record
+   */
+  public static byte[] save(Task task) {
+    Writer writer = new Writer(64);
+    writer.writeByte(SAVE);
+    writeTask(writer, task);
+    return writer.toByteArray();
+  }
+
+  /**
+   * Encodes the deletion of a task.
+   *
+   * @param id the deleted task id
+   * @return the encoded record
+   */
+  public static byte[] delete(String id) {
+    Writer writer = new Writer(48);
+    writer.writeByte(DELETE);
+    writer.writeString(id);
+    return writer.toByteArray();
+  }
+
+  /**
+   * Applies an encoded record to a repository.
+   *
+   * @param record the record bytes
+   * @param repository the repository to update
+   * @throws IllegalArgumentException if the record is malformed
+   */
+  public static void apply(ByteBuffer record, TaskRepository repository) {
+    try {
+      byte type = record.get();
+      switch (type) {
+        case SAVE:
+          repository.save(readTask(record));
+          break;
+        case DELETE:
+          repository.deleteById(readString(record));
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown record type: " + type);
+      }
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated record", e);
+    }
+  }
+
+  static void writeTask(Writer writer, Task task) {
+    writer.writeString(task.getId());
+    writer.writeString(task.getName());
+    writer.writeString(task.getDescription());
+    // Version 0 leaves the flag clear, so such records keep the original
+    // one-byte form that older logs and snapshots were written in
+    int flags = (task.isCompleted() ? COMPLETED_FLAG : 0)
+        | (task.getVersion() != 0 ? VERSION_FLAG : 0);
+    writer.writeByte((byte) flags);
+    if (task.getVersion() != 0) {
+      writer.writeVarLong(task.getVersion());
+    }
+  }
+
+  static Task readTask(ByteBuffer buffer) {
+    String id = readString(buffer);
+    String name = readString(buffer);
+    String description = readString(buffer);
+    int flags = buffer.get();
+    long version = (flags & VERSION_FLAG) != 0 ? readVarLong(buffer) : 0;
+    return new Task(TaskId.parse(id), name, description, (flags & COMPLETED_FLAG) != 0,
+        version);
+  }
+
+  /**
+   * Reads only the completion flag of an encoded task, skipping its
+   * strings without decoding them.
+   */
+  static boolean readCompleted(ByteBuffer buffer) {
+    for (int i = 0; i < 3; i++) {
+      int length = readVarInt(buffer);
+      if (length < 0 || length > buffer.remaining()) {
+        throw new IllegalArgumentException("Invalid string length: " + length);
+      }
+      buffer.position(buffer.position() + length);
+    }
+    return (buffer.get() & COMPLETED_FLAG) != 0;
+  }
+
+  static String readString(ByteBuffer buffer) {
+    int length = readVarInt(buffer);
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IllegalArgumentException("Invalid string length: " + length);
+    }
+    if (buffer.hasArray()) {
+      String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(),
+          length, StandardCharsets.UTF_8);
+      buffer.position(buffer.position() + length);
+      return value;
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  static int readVarInt(ByteBuffer buffer) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint");
+  }
+
+  static long readVarLong(ByteBuffer buffer) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = buffer.get();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint");
+  }
+
+  /**
+   * Growable byte buffer for building records.
+   */
+  static final class Writer {
+    private byte[] bytes;
+    private int size;
+
+    Writer(int capacity) {
+      this.bytes = new byte[capacity];
+    }
+
+    void writeByte(byte value) {
+      ensure(1);
+      bytes[size++] = value;
+    }
+
+    void writeVarInt(int value) {
+      ensure(5);
+      int remaining = value;
+      while ((remaining & ~0x7F) != 0) {
+        bytes[size++] = (byte) ((remaining & 0x7F) | 0x80);
+        remaining >>>= 7;
+      }
+      bytes[size++] = (byte) remaining;
+    }
+
+    void writeVarLong(long value) {
+      ensure(10);
+      long remaining = value;
+      while ((remaining & ~0x7FL) != 0) {
+        bytes[size++] = (byte) ((remaining & 0x7F) | 0x80);
+        remaining >>>= 7;
+      }
+      bytes[size++] = (byte) remaining;
+    }
+
+    void writeString(String value) {
+      byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+      writeVarInt(encoded.length);
+      ensure(encoded.length);
+      System.arraycopy(encoded, 0, bytes, size, encoded.length);
+      size += encoded.length;
+    }
+
+    void writeBytes(ByteBuffer source) {
+      int length = source.remaining();
+      ensure(length);
+      source.get(bytes, size, length);
+      size += length;
+    }
+
+    int size() {
+      return size;
+    }
+
+    void reset() {
+      size = 0;
+    }
+
+    void copyTo(ByteBuffer target) {
+      target.put(bytes, 0, size);
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensure(int extra) {
+      if (size + extra > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+      }
+    }
+  }
+}
@@ -1,8 +1,13 @@
 package com.example.taskmanager.repositories;
 
 import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for Task persistence operations.
@@ -20,6 +25,84 @@ public interface TaskRepository {
    */
   Task save(Task task);
 
+  /**
+   * Saves several tasks in one call.
+   * The default implementation saves them one at a time; backends can
+   * override it to apply the batch in one pass or one I/O flush.
+   *
+   * @param tasks the tasks to save
+   * @return the saved tasks, in the given order
+   * @throws IllegalArgumentException if the collection or a task is null
+   */
+  default List<Task> saveAll(Collection<Task> tasks) {
+    if (tasks == null || tasks.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Tasks cannot be null");
+    }
+    List<Task> saved = new ArrayList<>(tasks.size());
+    for (Task task : tasks) {
+      saved.add(save(task));
+    }
+    return saved;
+  }
+
+  /**
+   * Replaces a stored task only if nobody has updated it since the caller
+   * read it, that is if the stored version still equals
+   * {@code task.getVersion()}. What gets stored is a copy of the task with
+   * the next version. Unlike {@link #save}, which overwrites blindly, this
+   * lets concurrent writers detect each other without a shared lock.
+   * The default implementation checks and saves in two steps, which is
+   * atomic only while one thread uses the repository; thread-safe
+   * backends override it.
+   *
+   * @param task the changed task, carrying the version it was read at
+   * @return the stored task with its new version, or empty if no task has
+   *     this id
+   * @throws TaskVersionConflictException if the stored version differs
+   * @throws IllegalArgumentException if the task is null
+   */
+  default Optional<Task> compareAndSet(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    Optional<Task> stored = findById(task.getId());
+    if (stored.isEmpty()) {
+      return stored;
+    }
+    if (stored.get().getVersion() != task.getVersion()) {
+      throw new TaskVersionConflictException(task.getId(), task.getVersion(),
+          stored.get().getVersion());
+    }
+    return Optional.of(save(task.nextVersion()));
+  }
+
+  /**
+   * Applies {@link #compareAndSet} to several tasks in one call. Tasks
+   * whose stored version still matches are stored with the next version;
+   * tasks that are missing or were changed since the caller read them are
+   * skipped rather than refused, so the caller can read just those again
+   * and retry. The default implementation checks every task and stores the
+   * matching ones with one {@link #saveAll} call, which is atomic only
+   * while one thread uses the repository; thread-safe backends override it.
+   *
+   * @param tasks the changed tasks, each carrying the version it was read at
+   * @return the stored tasks with their new versions, in the given order
+   * @throws IllegalArgumentException if the collection or a task is null
+   */
+  default List<Task> compareAndSetAll(Collection<Task> tasks) {
+    if (tasks == null || tasks.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Tasks cannot be null");
+    }
+    List<Task> matching = new ArrayList<>(tasks.size());
+    for (Task task : tasks) {
+      Optional<Task> stored = findById(task.getId());
+      if (stored.isPresent() && stored.get().getVersion() == task.getVersion()) {
+        matching.add(task.nextVersion());
+      }
+    }
+    return matching.isEmpty() ? matching : saveAll(matching);
+  }
+
   /**
    * Finds a task by its unique identifier.
    *
@@ -28,6 +111,24 @@ public interface TaskRepository {
    */
   Optional<Task> findById(String id);
 
+  /**
+   * Finds every task whose identifier is in the given collection.
+   * Unknown identifiers are skipped.
+   *
+   * @param ids the task identifiers
+   * @return the tasks found, in the order of the given identifiers
+   */
+  default List<Task> findAllById(Collection<String> ids) {
+    List<Task> found = new ArrayList<>();
+    if (ids == null) {
+      return found;
+    }
+    for (String id : ids) {
+      findById(id).ifPresent(found::add);
+    }
+    return found;
+  }
+
   /**
    * Finds a task by its index position.
    *
@@ -43,6 +144,82 @@ public interface TaskRepository {
    */
   List<Task> findAll();
 
+  /**
+   * Retrieves one page of tasks in position order.
+   * The default implementation resolves the cursor and reads the page
+   * through {@link #findByIndex}; backends can override it to read a page
+   * in one pass.
+   *
+   * @param cursor the cursor returned with the previous page,
+   *     or null for the first page
+   * @param pageSize the maximum number of tasks on the page
+   * @return the page of tasks
+   * @throws IllegalArgumentException if the page size is not positive
+   *     or the cursor is invalid
+   */
+  default TaskPage findPage(String cursor, int pageSize) {
+    return TaskCursors.page(this, cursor, pageSize);
+  }
+
+  /**
+   * Finds the tasks with the given completion status, in position order.
+   * The default implementation checks every task.
+   *
+   * @param completed true for completed tasks, false for pending ones
+   * @return the matching tasks
+   */
+  default List<Task> findByStatus(boolean completed) {
+    List<Task> found = new ArrayList<>();
+    for (Task task : findAll()) {
+      if (task.isCompleted() == completed) {
+        found.add(task);
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Counts the tasks with the given completion status.
+   * The default implementation checks every task; backends that track
+   * status on save answer in constant time.
+   *
+   * @param completed true for completed tasks, false for pending ones
+   * @return the number of matching tasks
+   */
+  default int countByStatus(boolean completed) {
+    int matching = 0;
+    for (Task task : findAll()) {
+      if (task.isCompleted() == completed) {
+        matching++;
+      }
+    }
+    return matching;
+  }
+
+  /**
+   * Finds the tasks whose name or description contains every word of the
+   * query. Words are runs of letters and digits and match whole words,
+   * ignoring case. The default implementation scans every task;
+   * {@link IndexedTaskRepository} answers from an inverted index.
+   *
+   * @param query the words to look for
+   * @return the matching tasks, in no particular order; empty if the
+   *     query has no words
+   */
+  default List<Task> search(String query) {
+    List<Task> matches = new ArrayList<>();
+    Set<String> terms = TaskSearchIndex.terms(query);
+    if (terms.isEmpty()) {
+      return matches;
+    }
+    for (Task task : findAll()) {
+      if (TaskSearchIndex.terms(task).containsAll(terms)) {
+        matches.add(task);
+      }
+    }
+    return matches;
+  }
+
   /**
    * Deletes a task by its identifier.
    *
@@ -51,6 +228,27 @@ public interface TaskRepository {
    */
   boolean deleteById(String id);
 
+  /**
+   * Deletes every task whose identifier is in the given collection.
+   * The default implementation deletes them one at a time; backends can
+   * override it to apply the batch in one pass or one I/O flush.
+   *
+   * @param ids the task identifiers
+   * @return the number of tasks deleted
+   */
+  default int deleteAllById(Collection<String> ids) {
+    int deleted = 0;
+    if (ids == null) {
+      return deleted;
+    }
+    for (String id : ids) {
+      if (deleteById(id)) {
+        deleted++;
+      }
+    }
+    return deleted;
+  }
+
   /**
    * Deletes a task by its index position.
    *
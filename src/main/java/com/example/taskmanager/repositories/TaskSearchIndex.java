@@ -0,0 +1,158 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Inverted index from the words of task names and descriptions to task ids.
+ * Words are runs of letters and digits, compared case-insensitively.
+ * The terms last indexed for each id are remembered, so re-indexing a task
+ * after an edit only touches the postings of words that changed.
+ *
+ * <p>This class is thread-safe without a global lock: updates for one id
+ * are serialized by the per-key locking of the id map, and each posting
+ * set is changed under the per-key locking of the term map, so writers to
+ * different tasks proceed in parallel and lookups never block.
+ */
+final class TaskSearchIndex {
+
+  private final ConcurrentHashMap<String, Set<TaskId>> postings;
+  private final ConcurrentHashMap<TaskId, Set<String>> termsById;
+
+  TaskSearchIndex() {
+    this.postings = new ConcurrentHashMap<>();
+    this.termsById = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Indexes a task, replacing whatever was indexed for its id before.
+   *
+   * @param task the task to index
+   */
+  void put(Task task) {
+    termsById.compute(task.getTaskId(), (id, previous) -> repost(id, previous, task));
+  }
+
+  /**
+   * Re-indexes an id from its current task, read while no other update of
+   * that id can run. Whichever refresh of an id runs last therefore sees
+   * the last change made to it, however concurrent updates interleave.
+   *
+   * @param id the task id
+   * @param current reads the task now stored under the id, or null if none
+   */
+  void refresh(TaskId id, Supplier<Task> current) {
+    termsById.compute(id, (key, previous) -> repost(key, previous, current.get()));
+  }
+
+  /**
+   * Finds the ids of tasks containing every term. The smallest posting set
+   * is walked and probed against the others, so the cost depends on the
+   * rarest term rather than on the number of tasks.
+   *
+   * @param terms the terms, as returned by {@link #terms(String)}
+   * @return the matching ids; empty if there are no terms
+   */
+  List<TaskId> lookup(Set<String> terms) {
+    if (terms.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<Set<TaskId>> sets = new ArrayList<>(terms.size());
+    for (String term : terms) {
+      Set<TaskId> ids = postings.get(term);
+      if (ids == null) {
+        return Collections.emptyList();
+      }
+      sets.add(ids);
+    }
+    sets.sort((a, b) -> Integer.compare(a.size(), b.size()));
+    Set<TaskId> smallest = sets.get(0);
+    List<TaskId> matches = new ArrayList<>(Math.min(smallest.size(), 1024));
+    for (TaskId id : smallest) {
+      boolean all = true;
+      for (int i = 1; i < sets.size() && all; i++) {
+        all = sets.get(i).contains(id);
+      }
+      if (all) {
+        matches.add(id);
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * Splits a task's name and description into terms.
+   *
+   * @param task the task
+   * @return the distinct terms of the task
+   */
+  static Set<String> terms(Task task) {
+    Set<String> terms = new LinkedHashSet<>();
+    addTerms(task.getName(), terms);
+    addTerms(task.getDescription(), terms);
+    return terms;
+  }
+
+  /**
+   * Splits free text into lower-case terms.
+   *
+   * @param text the text, may be null
+   * @return the distinct terms of the text
+   */
+  static Set<String> terms(String text) {
+    Set<String> terms = new LinkedHashSet<>();
+    addTerms(text, terms);
+    return terms;
+  }
+
+  private static void addTerms(String text, Set<String> terms) {
+    if (text == null) {
+      return;
+    }
+    int length = text.length();
+    int start = -1;
+    for (int i = 0; i <= length; i++) {
+      boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+        start = -1;
+      }
+    }
+  }
+
+  private Set<String> repost(TaskId id, Set<String> previous, Task task) {
+    Set<String> terms = task != null ? terms(task) : null;
+    if (previous != null) {
+      for (String term : previous) {
+        if (terms == null || !terms.contains(term)) {
+          postings.computeIfPresent(term, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+          });
+        }
+      }
+    }
+    if (terms != null) {
+      for (String term : terms) {
+        if (previous == null || !previous.contains(term)) {
+          postings.compute(term, (key, ids) -> {
+            Set<TaskId> posted = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            posted.add(id);
+            return posted;
+          });
+        }
+      }
+    }
+    return terms;
+  }
+}
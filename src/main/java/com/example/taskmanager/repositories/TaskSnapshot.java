@@ -0,0 +1,219 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Read-only, memory-mapped snapshot of a task set.
+ * The file starts with a header and a table of record offsets, followed
+ * by one TaskRecords-encoded task per entry. Opening a snapshot only maps
+ * the file; tasks are decoded one at a time when asked for.
+ */
+final class TaskSnapshot {
+
+  private static final int MAGIC = 0x544D534E;
+  private static final int FORMAT_VERSION = 1;
+  private static final int HEADER_SIZE = 20;
+  private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+  private final ByteBuffer buffer;
+  private final long generation;
+  private final int count;
+
+  private TaskSnapshot(ByteBuffer buffer, long generation, int count) {
+    this.buffer = buffer;
+    this.generation = generation;
+    this.count = count;
+  }
+
+  /**
+   * Maps an existing snapshot file.
+   *
+   * @param file the snapshot file
+   * @return the mapped snapshot
+   * @throws IOException if the file cannot be mapped or is not a snapshot
+   */
+  static TaskSnapshot open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("Snapshot larger than 2 GB: " + file);
+      }
+      if (size < HEADER_SIZE) {
+        throw new IOException("Not a task snapshot: " + file);
+      }
+      // The mapping stays valid after the channel is closed
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      if (buffer.getInt(0) != MAGIC) {
+        throw new IOException("Not a task snapshot: " + file);
+      }
+      int version = buffer.getInt(4);
+      if (version != FORMAT_VERSION) {
+        throw new IOException("Unsupported task snapshot version: " + version);
+      }
+      long generation = buffer.getLong(8);
+      int count = buffer.getInt(16);
+      if (count < 0 || HEADER_SIZE + (long) count * Long.BYTES > size) {
+        throw new IOException("Corrupt task snapshot: " + file);
+      }
+      return new TaskSnapshot(buffer, generation, count);
+    }
+  }
+
+  /**
+   * Writes a snapshot atomically: records go to a temporary file that
+   * replaces {@code file} once it has been forced to disk. A snapshot that
+   * would exceed the 2 GB {@link #open} can map is refused before anything
+   * is replaced, so the previous snapshot stays in place.
+   *
+   * @param file the snapshot file
+   * @param generation the log generation whose records the snapshot covers
+   * @param count the number of tasks
+   * @param source supplies the encoded task for each position
+   * @throws IOException if the snapshot cannot be written or would be
+   *     larger than 2 GB
+   */
+  static void write(Path file, long generation, int count, RecordSource source)
+      throws IOException {
+    if (count < 0) {
+      throw new IllegalArgumentException("Count cannot be negative");
+    }
+    long tableSize = HEADER_SIZE + (long) count * Long.BYTES;
+    if (tableSize > Integer.MAX_VALUE) {
+      throw new IOException("Snapshot of " + count + " tasks larger than 2 GB: " + file);
+    }
+    Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+    try {
+      writeTemp(temp, file, generation, count, (int) tableSize, source);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static void writeTemp(Path temp, Path file, long generation, int count, int tableSize,
+      RecordSource source) throws IOException {
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer offsets = ByteBuffer.allocate(tableSize);
+      offsets.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(generation).putInt(count);
+
+      long position = offsets.capacity();
+      channel.position(position);
+      ByteBuffer out = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+      TaskRecords.Writer record = new TaskRecords.Writer(256);
+      for (int i = 0; i < count; i++) {
+        record.reset();
+        source.write(i, record);
+        offsets.putLong(position);
+        position += record.size();
+        if (position > Integer.MAX_VALUE) {
+          throw new IOException("Snapshot larger than 2 GB: " + file);
+        }
+        if (record.size() > out.remaining()) {
+          drain(channel, out);
+        }
+        if (record.size() > out.capacity()) {
+          out = ByteBuffer.allocate(record.size());
+        }
+        record.copyTo(out);
+      }
+      drain(channel, out);
+
+      offsets.flip();
+      long headerPosition = 0;
+      while (offsets.hasRemaining()) {
+        headerPosition += channel.write(offsets, headerPosition);
+      }
+      channel.force(true);
+    }
+  }
+
+  /**
+   * Writes every task of a repository, in position order.
+   *
+   * @param file the snapshot file
+   * @param generation the log generation whose records the snapshot covers
+   * @param repository the repository to copy
+   * @throws IOException if the snapshot cannot be written
+   */
+  static void write(Path file, long generation, TaskRepository repository) throws IOException {
+    List<Task> tasks = repository.findAll();
+    write(file, generation, tasks.size(),
+        (index, out) -> TaskRecords.writeTask(out, tasks.get(index)));
+  }
+
+  long generation() {
+    return generation;
+  }
+
+  int count() {
+    return count;
+  }
+
+  /**
+   * Decodes the task at the given position.
+   */
+  Task taskAt(int index) {
+    return TaskRecords.readTask(record(index));
+  }
+
+  /**
+   * Decodes only the id of the task at the given position.
+   */
+  String idAt(int index) {
+    return TaskRecords.readString(record(index));
+  }
+
+  /**
+   * Decodes only the completion flag of the task at the given position.
+   */
+  boolean completedAt(int index) {
+    return TaskRecords.readCompleted(record(index));
+  }
+
+  /**
+   * Appends the undecoded bytes of the task at the given position.
+   */
+  void copyRecord(int index, TaskRecords.Writer out) {
+    out.writeBytes(record(index));
+  }
+
+  private ByteBuffer record(int index) {
+    long start = buffer.getLong(HEADER_SIZE + index * Long.BYTES);
+    long end = index + 1 < count
+        ? buffer.getLong(HEADER_SIZE + (index + 1) * Long.BYTES)
+        : buffer.capacity();
+    // open() bounds the file to 2 GB, so offsets inside it fit in an int
+    if (start < HEADER_SIZE + (long) count * Long.BYTES || start > end
+        || end > buffer.capacity()) {
+      throw new IllegalArgumentException("Corrupt task snapshot record: " + index);
+    }
+    return buffer.duplicate().limit((int) end).position((int) start);
+  }
+
+  private static void drain(FileChannel channel, ByteBuffer out) throws IOException {
+    out.flip();
+    while (out.hasRemaining()) {
+      channel.write(out);
+    }
+    out.clear();
+  }
+
+  /**
+   * Supplies the encoded task at each snapshot position.
+   */
+  @FunctionalInterface
+  interface RecordSource {
+    void write(int index, TaskRecords.Writer out) throws IOException;
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.taskmanager.repositories;
+
+/**
+ * Thrown by {@link TaskRepository#compareAndSet} when the stored task has
+ * been changed since the caller read it. The write had no effect, so the
+ * caller can read the task again, reapply its change and retry.
+ */
+public class TaskVersionConflictException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String taskId;
+  private final long expectedVersion;
+  private final long actualVersion;
+
+  /**
+   * Creates an exception for one refused update.
+   *
+   * @param taskId the id of the task
+   * @param expectedVersion the version the writer read
+   * @param actualVersion the version currently stored
+   */
+  public TaskVersionConflictException(String taskId, long expectedVersion, long actualVersion) {
+    super("Task " + taskId + " is at version " + actualVersion + ", not " + expectedVersion);
+    this.taskId = taskId;
+    this.expectedVersion = expectedVersion;
+    this.actualVersion = actualVersion;
+  }
+
+  public String getTaskId() {
+    return taskId;
+  }
+
+  public long getExpectedVersion() {
+    return expectedVersion;
+  }
+
+  public long getActualVersion() {
+    return actualVersion;
+  }
+}
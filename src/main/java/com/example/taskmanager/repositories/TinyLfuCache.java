@@ -0,0 +1,196 @@
+package com.example.taskmanager.repositories;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * BoundedCache with the W-TinyLFU policy.
+ * New entries first land in a small LRU window holding 1% of the
+ * capacity. An entry evicted from the window only enters the main area
+ * if it has been accessed more often than the entry the main area would
+ * evict. Access frequencies are estimated by a count-min sketch whose
+ * counters are halved periodically, so old popularity fades. The main area
+ * is a segmented LRU: entries hit again while on probation move to the
+ * protected segment, which holds 80% of the main area.
+ *
+ * <p>Unlike plain LRU, a one-off scan over many keys cannot flush out
+ * entries that are used often.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class TinyLfuCache<K, V> implements BoundedCache<K, V> {
+
+  private final int windowMaximum;
+  private final int mainMaximum;
+  private final int protectedMaximum;
+  private final LinkedHashMap<K, V> window;
+  private final LinkedHashMap<K, V> probation;
+  private final LinkedHashMap<K, V> protectedSegment;
+  private final FrequencySketch sketch;
+  private long evictions;
+
+  TinyLfuCache(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("Maximum size must be positive");
+    }
+    this.windowMaximum = Math.max(1, maximumSize / 100);
+    this.mainMaximum = maximumSize - windowMaximum;
+    this.protectedMaximum = mainMaximum * 8 / 10;
+    this.window = new LinkedHashMap<>(16, 0.75f, true);
+    this.probation = new LinkedHashMap<>(16, 0.75f, true);
+    this.protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    this.sketch = new FrequencySketch(maximumSize);
+  }
+
+  @Override
+  public V get(K key) {
+    sketch.increment(key);
+    V value = window.get(key);
+    if (value != null) {
+      return value;
+    }
+    value = protectedSegment.get(key);
+    if (value != null) {
+      return value;
+    }
+    value = probation.remove(key);
+    if (value != null) {
+      protect(key, value);
+    }
+    return value;
+  }
+
+  @Override
+  public void put(K key, V value) {
+    sketch.increment(key);
+    if (window.containsKey(key)) {
+      window.put(key, value);
+    } else if (protectedSegment.containsKey(key)) {
+      protectedSegment.put(key, value);
+    } else if (probation.containsKey(key)) {
+      probation.remove(key);
+      protect(key, value);
+    } else {
+      window.put(key, value);
+      if (window.size() > windowMaximum) {
+        Map.Entry<K, V> candidate = removeEldest(window);
+        admit(candidate.getKey(), candidate.getValue());
+      }
+    }
+  }
+
+  @Override
+  public void remove(K key) {
+    if (window.remove(key) == null && protectedSegment.remove(key) == null) {
+      probation.remove(key);
+    }
+  }
+
+  @Override
+  public void clear() {
+    window.clear();
+    probation.clear();
+    protectedSegment.clear();
+  }
+
+  @Override
+  public int size() {
+    return window.size() + probation.size() + protectedSegment.size();
+  }
+
+  @Override
+  public long evictionCount() {
+    return evictions;
+  }
+
+  private void admit(K key, V value) {
+    if (probation.size() + protectedSegment.size() < mainMaximum) {
+      probation.put(key, value);
+      return;
+    }
+    evictions++;
+    LinkedHashMap<K, V> victims = probation.isEmpty() ? protectedSegment : probation;
+    if (victims.isEmpty()) {
+      return;
+    }
+    K victim = victims.keySet().iterator().next();
+    if (sketch.frequency(key) > sketch.frequency(victim)) {
+      victims.remove(victim);
+      probation.put(key, value);
+    }
+  }
+
+  private void protect(K key, V value) {
+    protectedSegment.put(key, value);
+    if (protectedSegment.size() > protectedMaximum) {
+      Map.Entry<K, V> demoted = removeEldest(protectedSegment);
+      probation.put(demoted.getKey(), demoted.getValue());
+    }
+  }
+
+  private static <K, V> Map.Entry<K, V> removeEldest(LinkedHashMap<K, V> map) {
+    Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+    Map.Entry<K, V> eldest = iterator.next();
+    Map.Entry<K, V> removed = Map.entry(eldest.getKey(), eldest.getValue());
+    iterator.remove();
+    return removed;
+  }
+
+  /**
+   * Count-min sketch of access frequencies with four rows of saturating
+   * counters. After ten increments per cache entry every counter is
+   * halved.
+   */
+  private static final class FrequencySketch {
+    private static final int ROWS = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final byte[] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    private FrequencySketch(int maximumSize) {
+      int width = Integer.highestOneBit(Math.max(16, maximumSize) * 2 - 1);
+      this.counters = new byte[width * ROWS];
+      this.mask = width - 1;
+      this.sampleSize = 10 * Math.max(16, maximumSize);
+    }
+
+    private void increment(Object key) {
+      int hash = key.hashCode();
+      boolean added = false;
+      for (int row = 0; row < ROWS; row++) {
+        int index = indexOf(hash, row);
+        if (counters[index] < MAX_COUNT) {
+          counters[index]++;
+          added = true;
+        }
+      }
+      if (added && ++additions >= sampleSize) {
+        for (int i = 0; i < counters.length; i++) {
+          counters[i] >>= 1;
+        }
+        additions /= 2;
+      }
+    }
+
+    private int frequency(Object key) {
+      int hash = key.hashCode();
+      int frequency = MAX_COUNT;
+      for (int row = 0; row < ROWS; row++) {
+        frequency = Math.min(frequency, counters[indexOf(hash, row)]);
+      }
+      return frequency;
+    }
+
+    private int indexOf(int hash, int row) {
+      int h = hash * SEEDS[row];
+      h ^= h >>> 16;
+      return row * (mask + 1) + (h & mask);
+    }
+  }
+}
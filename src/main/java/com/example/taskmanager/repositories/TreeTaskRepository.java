@@ -0,0 +1,287 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.function.Predicate;
+
+/**
+ * TaskRepository backed by an order-statistic tree.
+ * Tasks are kept in insertion order in an implicit treap whose nodes
+ * carry subtree sizes, so positional lookups and deletes are O(log n)
+ * instead of the O(n) array shift of an ArrayList.
+ * Follows the Liskov Substitution Principle (LSP) - can replace
+ * InMemoryTaskRepository wherever positional access dominates.
+ *
+ * <p>A hash index from task id to tree node makes id lookups constant
+ * time; deleting by id walks parent links to find the node's rank.
+ * Each node records whether its task was completed when last saved, and a
+ * running count of completed nodes is kept, so status counts are constant
+ * time and status listings never copy the whole task list.
+ * This class is not thread-safe.
+ */
+public class TreeTaskRepository implements TaskRepository {
+
+  private final Map<TaskId, Node> index;
+  private final SplittableRandom random;
+  private Node root;
+  private int completedCount;
+
+  /**
+   * Creates a new, empty TreeTaskRepository.
+   */
+  public TreeTaskRepository() {
+    this.index = new HashMap<>();
+    this.random = new SplittableRandom();
+  }
+
+  @Override
+  public Task save(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    Node existing = index.get(task.getTaskId());
+    if (existing != null) {
+      existing.task = task;
+      setCompleted(existing, task.isCompleted());
+    } else {
+      Node node = new Node(task, random.nextInt());
+      index.put(task.getTaskId(), node);
+      setCompleted(node, task.isCompleted());
+      root = merge(root, node);
+      root.parent = null;
+    }
+    return task;
+  }
+
+  @Override
+  public Optional<Task> findById(String id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    Node node = index.get(TaskId.parse(id));
+    return node != null ? Optional.of(node.task) : Optional.empty();
+  }
+
+  @Override
+  public Optional<Task> findByIndex(int index) {
+    if (index < 0 || index >= count()) {
+      return Optional.empty();
+    }
+    return Optional.of(nodeAt(index).task);
+  }
+
+  @Override
+  public List<Task> findAll() {
+    return collect(count(), node -> true);
+  }
+
+  @Override
+  public List<Task> findByStatus(boolean completed) {
+    return collect(countByStatus(completed), node -> node.completed == completed);
+  }
+
+  @Override
+  public int countByStatus(boolean completed) {
+    return completed ? completedCount : count() - completedCount;
+  }
+
+  @Override
+  public boolean deleteById(String id) {
+    if (id == null) {
+      return false;
+    }
+    Node node = index.get(TaskId.parse(id));
+    if (node == null) {
+      return false;
+    }
+    removeAt(rank(node));
+    return true;
+  }
+
+  @Override
+  public boolean deleteByIndex(int index) {
+    if (index < 0 || index >= count()) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public int count() {
+    return size(root);
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return id != null && index.containsKey(TaskId.parse(id));
+  }
+
+  /**
+   * Walks the tree in position order and gathers the tasks of the nodes
+   * the filter accepts.
+   */
+  private List<Task> collect(int expected, Predicate<Node> filter) {
+    List<Task> result = new ArrayList<>(expected);
+    Node current = root;
+    Node[] stack = new Node[64];
+    int depth = 0;
+    while (current != null || depth > 0) {
+      while (current != null) {
+        if (depth == stack.length) {
+          Node[] grown = new Node[stack.length * 2];
+          System.arraycopy(stack, 0, grown, 0, depth);
+          stack = grown;
+        }
+        stack[depth++] = current;
+        current = current.left;
+      }
+      current = stack[--depth];
+      if (filter.test(current)) {
+        result.add(current.task);
+      }
+      current = current.right;
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  private Node nodeAt(int position) {
+    Node node = root;
+    int remaining = position;
+    while (true) {
+      int leftSize = size(node.left);
+      if (remaining < leftSize) {
+        node = node.left;
+      } else if (remaining == leftSize) {
+        return node;
+      } else {
+        remaining -= leftSize + 1;
+        node = node.right;
+      }
+    }
+  }
+
+  private int rank(Node node) {
+    int rank = size(node.left);
+    Node current = node;
+    while (current.parent != null) {
+      if (current.parent.right == current) {
+        rank += size(current.parent.left) + 1;
+      }
+      current = current.parent;
+    }
+    return rank;
+  }
+
+  private void removeAt(int position) {
+    Node[] parts = split(root, position);
+    Node[] rest = split(parts[1], 1);
+    Node removed = rest[0];
+    index.remove(removed.task.getTaskId());
+    setCompleted(removed, false);
+    root = merge(parts[0], rest[1]);
+    if (root != null) {
+      root.parent = null;
+    }
+  }
+
+  /**
+   * Splits a subtree into the first {@code k} nodes and the remainder.
+   */
+  private static Node[] split(Node node, int k) {
+    if (node == null) {
+      return new Node[2];
+    }
+    Node[] parts;
+    if (size(node.left) >= k) {
+      parts = split(node.left, k);
+      node.left = parts[1];
+      attach(node.left, node);
+      update(node);
+      parts[1] = node;
+    } else {
+      parts = split(node.right, k - size(node.left) - 1);
+      node.right = parts[0];
+      attach(node.right, node);
+      update(node);
+      parts[0] = node;
+    }
+    if (parts[0] != null) {
+      parts[0].parent = null;
+    }
+    if (parts[1] != null) {
+      parts[1].parent = null;
+    }
+    return parts;
+  }
+
+  /**
+   * Concatenates two subtrees, keeping every node of {@code left} first.
+   */
+  private static Node merge(Node left, Node right) {
+    if (left == null) {
+      return right;
+    }
+    if (right == null) {
+      return left;
+    }
+    if (left.priority > right.priority) {
+      left.right = merge(left.right, right);
+      attach(left.right, left);
+      update(left);
+      return left;
+    }
+    right.left = merge(left, right.left);
+    attach(right.left, right);
+    update(right);
+    return right;
+  }
+
+  private void setCompleted(Node node, boolean completed) {
+    if (node.completed != completed) {
+      node.completed = completed;
+      completedCount += completed ? 1 : -1;
+    }
+  }
+
+  private static void attach(Node child, Node parent) {
+    if (child != null) {
+      child.parent = parent;
+    }
+  }
+
+  private static void update(Node node) {
+    node.size = size(node.left) + size(node.right) + 1;
+  }
+
+  private static int size(Node node) {
+    return node != null ? node.size : 0;
+  }
+
+  /**
+   * Treap node ordered by position, heap-ordered by a random priority.
+   * The completion flag is the status recorded at the last save.
+   */
+  private static final class Node {
+    private Task task;
+    private boolean completed;
+    private final int priority;
+    private int size;
+    private Node left;
+    private Node right;
+    private Node parent;
+
+    private Node(Task task, int priority) {
+      this.task = task;
+      this.priority = priority;
+      this.size = 1;
+    }
+  }
+}
@@ -0,0 +1,795 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Durable TaskRepository backed by an append-only write-ahead log.
+ * Follows the Decorator pattern - every mutation is applied to an
+ * in-memory state repository and recorded as a compact binary record
+ * in the log file, which is replayed when the repository is opened.
+ *
+ * <p>Records are written by a single committer thread. Writers that
+ * arrive while a batch is being forced to disk are collected into the
+ * next batch, so one fsync covers many operations (group commit). The
+ * {@link Durability} mode decides how long the committer waits to grow
+ * a batch and whether writers wait for their record to be durable.
+ *
+ * <p>All methods are thread-safe. The log is framed as
+ * {@code [length][crc32][record]}; a torn or corrupt tail left by a crash
+ * is truncated on open.
+ *
+ * <p>Mutations are applied to the state before their record is forced, so
+ * that the log keeps the order in which the state changed. If a write or
+ * force then fails, the state holds changes the log does not, and the
+ * repository is marked failed: every later read and write throws
+ * {@link UncheckedIOException} instead of serving the diverged state. Reopen
+ * the log to recover the last durable task set.
+ *
+ * <p>When opened with a snapshot file, {@link #checkpoint()} writes the
+ * current task set as a memory-mapped {@link SnapshotTaskRepository}
+ * snapshot and starts a new, empty log generation. Startup then maps the
+ * latest snapshot and replays only the records written since. Each
+ * snapshot goes to its own file, named after the snapshot file with the
+ * generation it covers appended, because the snapshot the repository was
+ * opened from stays mapped and some platforms, Windows among them, refuse
+ * to replace or delete a mapped file. Older snapshots are deleted after
+ * each checkpoint where the platform allows it.
+ */
+public class WriteAheadLogTaskRepository implements TaskRepository, AutoCloseable {
+
+  /**
+   * Trade-off between write latency and safety.
+   */
+  public enum Durability {
+    /** Writers wait for an fsync that the committer starts as soon as possible. */
+    PER_OPERATION,
+    /** Writers wait for an fsync issued once per batch window. */
+    BATCHED,
+    /** Writers return immediately; records are forced once per batch window. */
+    ASYNC
+  }
+
+  /** Default time the committer waits to grow a batch. */
+  public static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(2);
+
+  private static final int MAGIC = 0x544D574C;
+  private static final int FORMAT_VERSION = 2;
+  private static final int HEADER_SIZE = 16;
+  private static final int FRAME_HEADER_SIZE = 8;
+
+  private final TaskRepository state;
+  private final FileChannel channel;
+  private final Durability durability;
+  private final long batchWindowNanos;
+  private final Thread committer;
+  private final Path snapshotFile;
+  private long generation;
+
+  private final ReentrantLock logLock = new ReentrantLock();
+  private final Condition work = logLock.newCondition();
+  private final Condition durable = logLock.newCondition();
+  private final ByteArrayOutputStream pending = new ByteArrayOutputStream(4096);
+  private final CRC32 crc = new CRC32();
+  private long appendedSequence;
+  private long durableSequence;
+  private boolean flushRequested;
+  private boolean closed;
+  private volatile IOException failure;
+
+  private WriteAheadLogTaskRepository(TaskRepository state, FileChannel channel,
+      Durability durability, Duration batchWindow, Path snapshotFile, long generation) {
+    this.state = state;
+    this.channel = channel;
+    this.durability = durability;
+    this.batchWindowNanos = batchWindow.toNanos();
+    this.snapshotFile = snapshotFile;
+    this.generation = generation;
+    this.committer = new Thread(this::runCommitter, "task-log-committer");
+    this.committer.setDaemon(true);
+    this.committer.start();
+  }
+
+  /**
+   * Opens or creates a log file, replaying it into an in-memory repository.
+   *
+   * @param file the log file
+   * @param durability the durability mode
+   * @return the opened repository
+   * @throws IOException if the log cannot be read or is not a task log
+   */
+  public static WriteAheadLogTaskRepository open(Path file, Durability durability)
+      throws IOException {
+    return open(file, durability, DEFAULT_BATCH_WINDOW, new InMemoryTaskRepository());
+  }
+
+  /**
+   * Opens or creates a log file, replaying it into the given repository.
+   *
+   * @param file the log file
+   * @param durability the durability mode
+   * @param batchWindow how long the committer waits to grow a batch
+   *     in BATCHED and ASYNC modes
+   * @param state the repository that holds the current task set
+   * @return the opened repository
+   * @throws IOException if the log cannot be read or is not a task log
+   */
+  public static WriteAheadLogTaskRepository open(Path file, Durability durability,
+      Duration batchWindow, TaskRepository state) throws IOException {
+    if (state == null) {
+      throw new IllegalArgumentException("State cannot be null");
+    }
+    return open(file, durability, batchWindow, state, null, -1);
+  }
+
+  /**
+   * Opens a log together with its snapshot file. The snapshot, if present,
+   * is memory-mapped and only the log records written after it are
+   * replayed.
+   *
+   * @param file the log file
+   * @param snapshotFile the path the snapshot files written by
+   *     {@link #checkpoint()} are named after
+   * @param durability the durability mode
+   * @return the opened repository
+   * @throws IOException if the log or snapshot cannot be read
+   */
+  public static WriteAheadLogTaskRepository open(Path file, Path snapshotFile,
+      Durability durability) throws IOException {
+    if (snapshotFile == null) {
+      throw new IllegalArgumentException("Snapshot file cannot be null");
+    }
+    long latest = latestSnapshotGeneration(snapshotFile);
+    if (latest < 0) {
+      return open(file, durability, DEFAULT_BATCH_WINDOW, new InMemoryTaskRepository(),
+          snapshotFile, -1);
+    }
+    TaskSnapshot snapshot = TaskSnapshot.open(snapshotPath(snapshotFile, latest));
+    return open(file, durability, DEFAULT_BATCH_WINDOW, new SnapshotTaskRepository(snapshot),
+        snapshotFile, snapshot.generation());
+  }
+
+  private static WriteAheadLogTaskRepository open(Path file, Durability durability,
+      Duration batchWindow, TaskRepository state, Path snapshotFile, long coveredGeneration)
+      throws IOException {
+    if (durability == null || batchWindow == null) {
+      throw new IllegalArgumentException("Durability and batch window cannot be null");
+    }
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    long generation;
+    try {
+      long end;
+      long logged = channel.size() == 0 ? -1 : readHeader(channel);
+      if (logged <= coveredGeneration) {
+        // New log, or one whose records are all in the snapshot already
+        generation = coveredGeneration + 1;
+        end = writeHeader(channel, generation);
+      } else {
+        generation = logged;
+        end = replay(channel, state);
+      }
+      channel.truncate(end);
+      channel.position(end);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+    return new WriteAheadLogTaskRepository(state, channel, durability, batchWindow,
+        snapshotFile, generation);
+  }
+
+  @Override
+  public Task save(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    long ticket;
+    synchronized (state) {
+      checkOpen();
+      state.save(task);
+      ticket = append(TaskRecords.save(task));
+    }
+    awaitDurable(ticket);
+    return task;
+  }
+
+  /**
+   * Saves a batch under one lock acquisition and waits for a single
+   * flush covering every record.
+   */
+  @Override
+  public List<Task> saveAll(Collection<Task> tasks) {
+    if (tasks == null || tasks.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Tasks cannot be null");
+    }
+    List<byte[]> records = new ArrayList<>(tasks.size());
+    List<Task> saved;
+    long ticket;
+    synchronized (state) {
+      checkOpen();
+      saved = state.saveAll(tasks);
+      for (Task task : saved) {
+        records.add(TaskRecords.save(task));
+      }
+      ticket = append(records);
+    }
+    awaitDurable(ticket);
+    return saved;
+  }
+
+  /**
+   * Checks and applies the update under the state lock, then waits for
+   * its record to become durable like {@link #save}.
+   */
+  @Override
+  public Optional<Task> compareAndSet(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    Optional<Task> stored;
+    long ticket;
+    synchronized (state) {
+      checkOpen();
+      stored = state.compareAndSet(task);
+      if (stored.isEmpty()) {
+        return stored;
+      }
+      ticket = append(TaskRecords.save(stored.get()));
+    }
+    awaitDurable(ticket);
+    return stored;
+  }
+
+  /**
+   * Checks and applies the batch under the state lock and logs the stored
+   * tasks as one batch, so the whole call waits for a single flush.
+   */
+  @Override
+  public List<Task> compareAndSetAll(Collection<Task> tasks) {
+    if (tasks == null || tasks.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Tasks cannot be null");
+    }
+    List<Task> stored;
+    long ticket;
+    synchronized (state) {
+      checkOpen();
+      stored = state.compareAndSetAll(tasks);
+      if (stored.isEmpty()) {
+        return stored;
+      }
+      List<byte[]> records = new ArrayList<>(stored.size());
+      for (Task task : stored) {
+        records.add(TaskRecords.save(task));
+      }
+      ticket = append(records);
+    }
+    awaitDurable(ticket);
+    return stored;
+  }
+
+  @Override
+  public Optional<Task> findById(String id) {
+    synchronized (state) {
+      checkNotFailed();
+      return state.findById(id);
+    }
+  }
+
+  @Override
+  public Optional<Task> findByIndex(int index) {
+    synchronized (state) {
+      checkNotFailed();
+      return state.findByIndex(index);
+    }
+  }
+
+  @Override
+  public List<Task> findAll() {
+    synchronized (state) {
+      checkNotFailed();
+      return state.findAll();
+    }
+  }
+
+  @Override
+  public List<Task> findAllById(Collection<String> ids) {
+    synchronized (state) {
+      checkNotFailed();
+      return state.findAllById(ids);
+    }
+  }
+
+  @Override
+  public List<Task> findByStatus(boolean completed) {
+    synchronized (state) {
+      checkNotFailed();
+      return state.findByStatus(completed);
+    }
+  }
+
+  @Override
+  public int countByStatus(boolean completed) {
+    synchronized (state) {
+      checkNotFailed();
+      return state.countByStatus(completed);
+    }
+  }
+
+  @Override
+  public TaskPage findPage(String cursor, int pageSize) {
+    synchronized (state) {
+      checkNotFailed();
+      return state.findPage(cursor, pageSize);
+    }
+  }
+
+  @Override
+  public boolean deleteById(String id) {
+    long ticket;
+    synchronized (state) {
+      checkOpen();
+      if (!state.deleteById(id)) {
+        return false;
+      }
+      ticket = append(TaskRecords.delete(id));
+    }
+    awaitDurable(ticket);
+    return true;
+  }
+
+  /**
+   * Deletes a batch under one lock acquisition and waits for a single
+   * flush covering every record.
+   */
+  @Override
+  public int deleteAllById(Collection<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return 0;
+    }
+    List<byte[]> records = new ArrayList<>(ids.size());
+    long ticket;
+    synchronized (state) {
+      checkOpen();
+      for (String id : new LinkedHashSet<>(ids)) {
+        if (id != null && state.existsById(id)) {
+          records.add(TaskRecords.delete(id));
+        }
+      }
+      if (records.isEmpty()) {
+        return 0;
+      }
+      state.deleteAllById(ids);
+      ticket = append(records);
+    }
+    awaitDurable(ticket);
+    return records.size();
+  }
+
+  @Override
+  public boolean deleteByIndex(int index) {
+    long ticket;
+    synchronized (state) {
+      checkOpen();
+      Optional<Task> task = state.findByIndex(index);
+      if (task.isEmpty() || !state.deleteByIndex(index)) {
+        return false;
+      }
+      // Log the id rather than the position so replay does not depend on order
+      ticket = append(TaskRecords.delete(task.get().getId()));
+    }
+    awaitDurable(ticket);
+    return true;
+  }
+
+  @Override
+  public int count() {
+    synchronized (state) {
+      checkNotFailed();
+      return state.count();
+    }
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    synchronized (state) {
+      checkNotFailed();
+      return state.existsById(id);
+    }
+  }
+
+  /**
+   * Blocks until every record appended so far has been forced to disk,
+   * regardless of the durability mode.
+   *
+   * @throws UncheckedIOException if the log could not be written
+   */
+  public void flush() {
+    logLock.lock();
+    try {
+      long ticket = appendedSequence;
+      flushRequested = true;
+      work.signal();
+      waitFor(ticket);
+    } finally {
+      logLock.unlock();
+    }
+  }
+
+  /**
+   * Writes the current task set to the snapshot file and starts a new,
+   * empty log generation. Writers are blocked while the snapshot is
+   * written; readers of other threads are blocked too.
+   *
+   * @throws IllegalStateException if no snapshot file was configured
+   * @throws UncheckedIOException if the snapshot or log cannot be written
+   */
+  public void checkpoint() {
+    if (snapshotFile == null) {
+      throw new IllegalStateException("No snapshot file configured");
+    }
+    synchronized (state) {
+      checkOpen();
+      flush();
+      try {
+        Path target = snapshotPath(snapshotFile, generation);
+        if (state instanceof SnapshotTaskRepository) {
+          ((SnapshotTaskRepository) state).writeSnapshot(target, generation);
+        } else {
+          TaskSnapshot.write(target, generation, state);
+        }
+        // No appends can happen while the state lock is held, so the
+        // committer is idle and the log can be reset underneath it.
+        long end = writeHeader(channel, generation + 1);
+        channel.truncate(end);
+        channel.position(end);
+        generation++;
+      } catch (IOException e) {
+        throw new UncheckedIOException("Checkpoint failed", e);
+      }
+      deleteSnapshotsBefore(snapshotFile, generation - 1);
+    }
+  }
+
+  /**
+   * Returns the file of the snapshot covering the given generation.
+   */
+  static Path snapshotPath(Path snapshotFile, long generation) {
+    return snapshotFile.resolveSibling(snapshotFile.getFileName() + "." + generation);
+  }
+
+  /**
+   * Returns the generation of the latest snapshot file, or -1 if there is
+   * none.
+   */
+  private static long latestSnapshotGeneration(Path snapshotFile) throws IOException {
+    long latest = -1;
+    for (long generation : snapshotGenerations(snapshotFile)) {
+      latest = Math.max(latest, generation);
+    }
+    return latest;
+  }
+
+  /**
+   * Deletes the snapshot files older than the given generation. A file
+   * that cannot be deleted yet, such as one still mapped on Windows, is
+   * left for a later checkpoint.
+   */
+  private static void deleteSnapshotsBefore(Path snapshotFile, long generation) {
+    try {
+      for (long older : snapshotGenerations(snapshotFile)) {
+        if (older < generation) {
+          try {
+            Files.deleteIfExists(snapshotPath(snapshotFile, older));
+          } catch (IOException e) {
+            // Still mapped or locked; retried after the next checkpoint
+          }
+        }
+      }
+    } catch (IOException e) {
+      // Directory unreadable; the files are retried after the next checkpoint
+    }
+  }
+
+  private static List<Long> snapshotGenerations(Path snapshotFile) throws IOException {
+    Path dir = snapshotFile.toAbsolutePath().getParent();
+    String prefix = snapshotFile.getFileName() + ".";
+    List<Long> generations = new ArrayList<>();
+    if (dir == null || !Files.isDirectory(dir)) {
+      return generations;
+    }
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(dir,
+        candidate -> candidate.getFileName().toString().startsWith(prefix))) {
+      for (Path candidate : files) {
+        String suffix = candidate.getFileName().toString().substring(prefix.length());
+        if (!suffix.isEmpty() && suffix.length() < 19
+            && suffix.chars().allMatch(c -> c >= '0' && c <= '9')) {
+          generations.add(Long.parseLong(suffix));
+        }
+      }
+    }
+    return generations;
+  }
+
+  /**
+   * Flushes pending records, stops the committer and closes the log.
+   * Later writes fail with IllegalStateException.
+   */
+  @Override
+  public void close() {
+    logLock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      work.signal();
+    } finally {
+      logLock.unlock();
+    }
+    try {
+      committer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Returns the durability mode of this repository.
+   *
+   * @return the durability mode
+   */
+  public Durability getDurability() {
+    return durability;
+  }
+
+  private void checkOpen() {
+    logLock.lock();
+    try {
+      ensureWritable();
+    } finally {
+      logLock.unlock();
+    }
+  }
+
+  /**
+   * Refuses reads once a failed write has left the state ahead of the log.
+   */
+  private void checkNotFailed() {
+    IOException error = failure;
+    if (error != null) {
+      throw new UncheckedIOException("Task log write failed; state no longer matches the log",
+          error);
+    }
+  }
+
+  private void ensureWritable() {
+    if (closed) {
+      throw new IllegalStateException("Repository is closed");
+    }
+    if (failure != null) {
+      throw new UncheckedIOException("Task log is no longer writable", failure);
+    }
+  }
+
+  private long append(byte[] record) {
+    return append(List.of(record));
+  }
+
+  private long append(List<byte[]> records) {
+    logLock.lock();
+    try {
+      ensureWritable();
+      boolean wasEmpty = pending.size() == 0;
+      for (byte[] record : records) {
+        crc.reset();
+        crc.update(record);
+        writeInt(pending, record.length);
+        writeInt(pending, (int) crc.getValue());
+        pending.write(record, 0, record.length);
+        appendedSequence++;
+      }
+      if (wasEmpty) {
+        work.signal();
+      }
+      return appendedSequence;
+    } finally {
+      logLock.unlock();
+    }
+  }
+
+  private void awaitDurable(long ticket) {
+    if (durability == Durability.ASYNC) {
+      return;
+    }
+    logLock.lock();
+    try {
+      waitFor(ticket);
+    } finally {
+      logLock.unlock();
+    }
+  }
+
+  private void waitFor(long ticket) {
+    while (durableSequence < ticket && failure == null) {
+      durable.awaitUninterruptibly();
+    }
+    if (durableSequence < ticket) {
+      throw new UncheckedIOException("Task log write failed", failure);
+    }
+  }
+
+  private void runCommitter() {
+    while (true) {
+      byte[] batch;
+      long sequence;
+      logLock.lock();
+      try {
+        while (pending.size() == 0 && !closed && !flushRequested) {
+          work.awaitUninterruptibly();
+        }
+        if (durability != Durability.PER_OPERATION) {
+          long deadline = System.nanoTime() + batchWindowNanos;
+          long remaining = batchWindowNanos;
+          while (remaining > 0 && !closed && !flushRequested) {
+            try {
+              remaining = work.awaitNanos(remaining);
+            } catch (InterruptedException e) {
+              remaining = deadline - System.nanoTime();
+            }
+          }
+        }
+        flushRequested = false;
+        if (pending.size() == 0) {
+          durable.signalAll();
+          if (closed) {
+            return;
+          }
+          continue;
+        }
+        batch = pending.toByteArray();
+        pending.reset();
+        sequence = appendedSequence;
+      } finally {
+        logLock.unlock();
+      }
+
+      IOException error = null;
+      try {
+        ByteBuffer buffer = ByteBuffer.wrap(batch);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(false);
+      } catch (IOException e) {
+        error = e;
+      }
+
+      logLock.lock();
+      try {
+        if (error != null) {
+          failure = error;
+        } else {
+          durableSequence = sequence;
+        }
+        durable.signalAll();
+        if (error != null) {
+          return;
+        }
+      } finally {
+        logLock.unlock();
+      }
+    }
+  }
+
+  private static long writeHeader(FileChannel channel, long generation) throws IOException {
+    channel.truncate(0);
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(generation).flip();
+    while (header.hasRemaining()) {
+      channel.write(header, header.position());
+    }
+    channel.force(true);
+    return HEADER_SIZE;
+  }
+
+  /**
+   * Reads the log header.
+   *
+   * @return the log generation
+   */
+  private static long readHeader(FileChannel channel) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+      // Keep reading until the header is full or the file ends
+    }
+    header.flip();
+    if (header.remaining() < Integer.BYTES * 2 || header.getInt() != MAGIC) {
+      throw new IOException("Not a task log");
+    }
+    int version = header.getInt();
+    if (version != FORMAT_VERSION || header.remaining() < Long.BYTES) {
+      throw new IOException("Unsupported task log version: " + version);
+    }
+    long generation = header.getLong();
+    if (generation < 0) {
+      throw new IOException("Corrupt task log header");
+    }
+    return generation;
+  }
+
+  /**
+   * Replays every intact record after the header and returns the offset
+   * just past the last one, where the log continues.
+   */
+  private static long replay(FileChannel channel, TaskRepository state) throws IOException {
+    channel.position(HEADER_SIZE);
+    DataInputStream input = new DataInputStream(
+        new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+
+    long offset = HEADER_SIZE;
+    CRC32 checksum = new CRC32();
+    while (true) {
+      int length;
+      int expectedCrc;
+      byte[] record;
+      try {
+        length = input.readInt();
+        expectedCrc = input.readInt();
+        if (length <= 0 || length > channel.size() - offset - FRAME_HEADER_SIZE) {
+          return offset;
+        }
+        record = new byte[length];
+        input.readFully(record);
+      } catch (EOFException e) {
+        return offset;
+      }
+      checksum.reset();
+      checksum.update(record);
+      if ((int) checksum.getValue() != expectedCrc) {
+        return offset;
+      }
+      try {
+        TaskRecords.apply(ByteBuffer.wrap(record), state);
+      } catch (IllegalArgumentException e) {
+        throw new IOException("Corrupt task log record at offset " + offset, e);
+      }
+      offset += FRAME_HEADER_SIZE + length;
+    }
+  }
+
+  private static void writeInt(ByteArrayOutputStream out, int value) {
+    out.write(value >>> 24);
+    out.write(value >>> 16);
+    out.write(value >>> 8);
+    out.write(value);
+  }
+}
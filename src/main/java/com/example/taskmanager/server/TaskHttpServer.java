@@ -0,0 +1,524 @@
+package com.example.taskmanager.server;
+
+import com.example.taskmanager.io.TaskJson;
+import com.example.taskmanager.metrics.MetricsRegistry;
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import com.example.taskmanager.repositories.TaskVersionConflictException;
+import com.example.taskmanager.services.TaskService;
+import com.example.taskmanager.services.VirtualThreadExecutors;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * HTTP/JSON front end exposing a TaskService, built on the JDK's
+ * {@link HttpServer}.
+ * Follows the Single Responsibility Principle (SRP) - only maps HTTP
+ * requests to TaskService calls; all task logic stays in the service.
+ * Follows the Dependency Inversion Principle (DIP) - depends on the
+ * TaskService abstraction, which must be thread-safe.
+ *
+ * <p>Each exchange runs on its own virtual thread (or a bounded platform
+ * pool before Java 21), so a slow repository blocks only the requests
+ * that use it. Every handler drains the request body and completes its
+ * response, so HTTP/1.1 connections stay open for the next request and
+ * pipelined requests are answered in order. Single values are sent with a
+ * Content-Length; task lists are sent chunked and serialized task by task
+ * into a buffered writer, so large listings never exist as one string.
+ * Single tasks carry their version as an ETag; listed tasks carry it as
+ * a {@code version} field. A server made read-only
+ * with {@link #setReadOnly} answers every method but GET with 405.
+ * Unexpected failures are logged and answered with 500; if the response
+ * had already started streaming, the connection is dropped instead, so
+ * the client sees a truncated response rather than one that looks
+ * complete. Request bodies longer than
+ * {@value #MAX_BODY_BYTES} bytes are refused with 413 without being read
+ * into memory.
+ *
+ * <p>Routes:
+ * <ul>
+ *   <li>{@code GET /tasks} - all tasks; {@code ?status=pending|completed}
+ *       filters, {@code ?q=words} searches, {@code ?limit=n&cursor=c} pages</li>
+ *   <li>{@code POST /tasks} - creates a task from {@code {"name", "description"}}</li>
+ *   <li>{@code GET /tasks/count} - total, completed and pending counts</li>
+ *   <li>{@code POST /tasks/complete}, {@code POST /tasks/delete} - batch
+ *       operations on {@code {"ids": [...]}}</li>
+ *   <li>{@code GET /tasks/{id}}, {@code DELETE /tasks/{id}},
+ *       {@code POST /tasks/{id}/complete} - single-task operations</li>
+ *   <li>{@code PUT /tasks/{id}} - replaces name and description from
+ *       {@code {"name", "description"}}; requires {@code If-Match} with the
+ *       task's ETag and answers 412 if the task has changed since</li>
+ *   <li>{@code GET /metrics} - operation metrics, once {@link #exposeMetrics} is called</li>
+ * </ul>
+ */
+public class TaskHttpServer implements AutoCloseable {
+
+  /** The largest request body accepted, in bytes. */
+  public static final int MAX_BODY_BYTES = 1024 * 1024;
+
+  private static final Logger LOG = Logger.getLogger(TaskHttpServer.class.getName());
+  private static final String BASE_PATH = "/tasks";
+  private static final String METRICS_PATH = "/metrics";
+  private static final String JSON = "application/json; charset=utf-8";
+  private static final int BACKLOG = 1024;
+  private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+
+  private final TaskService taskService;
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private volatile boolean readOnly;
+
+  /**
+   * Creates a server bound to the given address; call {@link #start()} to
+   * begin serving.
+   *
+   * @param taskService the thread-safe service to expose
+   * @param address the address to bind, port 0 for any free port
+   * @param maxThreads the number of threads used when virtual threads are unavailable
+   * @throws IOException if the address cannot be bound
+   * @throws IllegalArgumentException if an argument is null or maxThreads is not positive
+   */
+  public TaskHttpServer(TaskService taskService, InetSocketAddress address, int maxThreads)
+      throws IOException {
+    if (taskService == null || address == null) {
+      throw new IllegalArgumentException("TaskService and address cannot be null");
+    }
+    if (maxThreads <= 0) {
+      throw new IllegalArgumentException("maxThreads must be positive");
+    }
+    this.taskService = taskService;
+    this.server = HttpServer.create(address, BACKLOG);
+    this.executor = VirtualThreadExecutors.create("task-http", maxThreads);
+    server.setExecutor(executor);
+    server.createContext(BASE_PATH, this::handle);
+  }
+
+  /**
+   * Serves the given metrics at {@code GET /metrics} in the Prometheus
+   * text format.
+   *
+   * @param metrics the registry to expose
+   * @throws IllegalArgumentException if metrics is null
+   */
+  public void exposeMetrics(MetricsRegistry metrics) {
+    if (metrics == null) {
+      throw new IllegalArgumentException("MetricsRegistry cannot be null");
+    }
+    server.createContext(METRICS_PATH, exchange -> {
+      try {
+        if (readBody(exchange) == null) {
+          sendBodyTooLarge(exchange);
+          return;
+        }
+        if (!exchange.getRequestMethod().equals("GET")) {
+          sendMethodNotAllowed(exchange, "GET");
+          return;
+        }
+        StringBuilder text = new StringBuilder();
+        metrics.writePrometheus(text);
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+      } finally {
+        exchange.close();
+      }
+    });
+  }
+
+  /**
+   * Makes the server accept only GET requests under {@code /tasks}, as
+   * for a replica that serves reads and leaves writes to its leader;
+   * other methods are answered with 405 and {@code Allow: GET}.
+   *
+   * @param readOnly true to refuse writes
+   */
+  public void setReadOnly(boolean readOnly) {
+    this.readOnly = readOnly;
+  }
+
+  /**
+   * Starts accepting connections.
+   */
+  public void start() {
+    server.start();
+  }
+
+  /**
+   * Returns the port the server is bound to.
+   *
+   * @return the local port
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Stops accepting connections, closes open ones and shuts down the
+   * request executor.
+   */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdown();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    boolean aborted = false;
+    try {
+      String body = readBody(exchange);
+      if (body == null) {
+        sendBodyTooLarge(exchange);
+        return;
+      }
+      if (readOnly && !exchange.getRequestMethod().equals("GET")) {
+        sendMethodNotAllowed(exchange, "GET");
+        return;
+      }
+      try {
+        route(exchange, body);
+      } catch (RuntimeException e) {
+        if (exchange.getResponseCode() != -1) {
+          // Part of the response is out; closing the exchange would end the
+          // chunked body as if complete, so let the server drop the connection
+          LOG.log(Level.SEVERE, "Failed while streaming " + describe(exchange), e);
+          aborted = true;
+          throw e;
+        }
+        sendFailure(exchange, e);
+      }
+    } finally {
+      if (!aborted) {
+        exchange.close();
+      }
+    }
+  }
+
+  private static void sendFailure(HttpExchange exchange, RuntimeException e)
+      throws IOException {
+    if (e instanceof IllegalArgumentException) {
+      sendError(exchange, 400, e.getMessage());
+    } else if (e instanceof TaskVersionConflictException) {
+      exchange.getResponseHeaders().set("ETag",
+          etag(((TaskVersionConflictException) e).getActualVersion()));
+      sendError(exchange, 412, e.getMessage());
+    } else {
+      LOG.log(Level.SEVERE, "Failed to serve " + describe(exchange), e);
+      sendError(exchange, 500, "Internal error");
+    }
+  }
+
+  private static String describe(HttpExchange exchange) {
+    return exchange.getRequestMethod() + " " + exchange.getRequestURI();
+  }
+
+  private void route(HttpExchange exchange, String body) throws IOException {
+    String method = exchange.getRequestMethod();
+    String path = exchange.getRequestURI().getPath();
+    String rest = path.length() > BASE_PATH.length() ? path.substring(BASE_PATH.length()) : "/";
+    if (rest.equals("/") || rest.isEmpty()) {
+      if (method.equals("GET")) {
+        listTasks(exchange);
+      } else if (method.equals("POST")) {
+        createTask(exchange, body);
+      } else {
+        sendMethodNotAllowed(exchange, "GET, POST");
+      }
+      return;
+    }
+    if (!rest.startsWith("/")) {
+      sendError(exchange, 404, "Not found");
+      return;
+    }
+    String[] segments = rest.substring(1).split("/", -1);
+    if (segments.length == 1) {
+      routeSingleSegment(exchange, method, segments[0], body);
+    } else if (segments.length == 2 && segments[1].equals("complete")) {
+      if (!method.equals("POST")) {
+        sendMethodNotAllowed(exchange, "POST");
+      } else if (taskService.completeTask(segments[0])) {
+        sendEmpty(exchange, 204);
+      } else {
+        sendError(exchange, 404, "Task not found");
+      }
+    } else {
+      sendError(exchange, 404, "Not found");
+    }
+  }
+
+  private void routeSingleSegment(HttpExchange exchange, String method, String segment,
+      String body) throws IOException {
+    switch (segment) {
+      case "count":
+        if (!method.equals("GET")) {
+          sendMethodNotAllowed(exchange, "GET");
+          return;
+        }
+        sendJson(exchange, 200, "{\"total\":" + taskService.getTaskCount()
+            + ",\"completed\":" + taskService.getCompletedTaskCount()
+            + ",\"pending\":" + taskService.getPendingTaskCount() + "}");
+        return;
+      case "complete":
+        if (!method.equals("POST")) {
+          sendMethodNotAllowed(exchange, "POST");
+          return;
+        }
+        sendJson(exchange, 200, "{\"completed\":" + taskService.completeAll(ids(body)) + "}");
+        return;
+      case "delete":
+        if (!method.equals("POST")) {
+          sendMethodNotAllowed(exchange, "POST");
+          return;
+        }
+        sendJson(exchange, 200, "{\"removed\":" + taskService.removeAll(ids(body)) + "}");
+        return;
+      default:
+        break;
+    }
+    if (method.equals("GET")) {
+      Optional<Task> task = taskService.getTaskById(segment);
+      if (task.isPresent()) {
+        sendTask(exchange, 200, task.get());
+      } else {
+        sendError(exchange, 404, "Task not found");
+      }
+    } else if (method.equals("PUT")) {
+      updateTask(exchange, segment, body);
+    } else if (method.equals("DELETE")) {
+      sendEmpty(exchange, taskService.removeTask(segment) ? 204 : 404);
+    } else {
+      sendMethodNotAllowed(exchange, "GET, PUT, DELETE");
+    }
+  }
+
+  private void listTasks(HttpExchange exchange) throws IOException {
+    Map<String, String> query = query(exchange);
+    String limit = query.get("limit");
+    if (limit != null || query.containsKey("cursor")) {
+      int pageSize;
+      try {
+        pageSize = limit != null ? Integer.parseInt(limit) : 100;
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid limit: " + limit);
+      }
+      sendPage(exchange, taskService.getTaskPage(query.get("cursor"), pageSize));
+      return;
+    }
+    List<Task> tasks;
+    String status = query.get("status");
+    if (query.containsKey("q")) {
+      tasks = taskService.searchTasks(query.get("q"));
+    } else if (status == null) {
+      tasks = taskService.getAllTasks();
+    } else if (status.equals("pending")) {
+      tasks = taskService.getPendingTasks();
+    } else if (status.equals("completed")) {
+      tasks = taskService.getCompletedTasks();
+    } else {
+      throw new IllegalArgumentException("Unknown status: " + status);
+    }
+    Writer out = startStream(exchange);
+    writeTasks(out, tasks);
+    out.close();
+  }
+
+  private void sendPage(HttpExchange exchange, TaskPage page) throws IOException {
+    Writer out = startStream(exchange);
+    out.write("{\"tasks\":");
+    writeTasks(out, page.getTasks());
+    out.write(",\"offset\":" + page.getOffset());
+    out.write(",\"totalCount\":" + page.getTotalCount());
+    out.write(",\"nextCursor\":");
+    TaskJson.writeString(out, page.getNextCursor());
+    out.write('}');
+    out.close();
+  }
+
+  private void createTask(HttpExchange exchange, String body) throws IOException {
+    Map<String, Object> request = TaskJson.parseObject(body);
+    Object name = request.get("name");
+    Object description = request.getOrDefault("description", "");
+    if (!(name instanceof String) || !(description == null || description instanceof String)) {
+      throw new IllegalArgumentException("name and description must be strings");
+    }
+    sendTask(exchange, 201, taskService.createTask((String) name, (String) description));
+  }
+
+  private void updateTask(HttpExchange exchange, String id, String body) throws IOException {
+    String ifMatch = exchange.getRequestHeaders().getFirst("If-Match");
+    if (ifMatch == null) {
+      sendError(exchange, 428, "If-Match header required");
+      return;
+    }
+    Map<String, Object> request = TaskJson.parseObject(body);
+    Object name = request.get("name");
+    Object description = request.getOrDefault("description", "");
+    if (!(name instanceof String) || !(description == null || description instanceof String)) {
+      throw new IllegalArgumentException("name and description must be strings");
+    }
+    Optional<Task> updated = taskService.updateTask(id, version(ifMatch), (String) name,
+        (String) description);
+    if (updated.isPresent()) {
+      sendTask(exchange, 200, updated.get());
+    } else {
+      sendError(exchange, 404, "Task not found");
+    }
+  }
+
+  private static String etag(long version) {
+    return "\"" + version + "\"";
+  }
+
+  private static long version(String etag) {
+    String value = etag.trim();
+    if (value.startsWith("W/")) {
+      value = value.substring(2);
+    }
+    if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+      value = value.substring(1, value.length() - 1);
+    }
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid If-Match: " + etag);
+    }
+  }
+
+  private static List<String> ids(String body) {
+    Object ids = TaskJson.parseObject(body).get("ids");
+    if (!(ids instanceof List)) {
+      throw new IllegalArgumentException("ids must be an array");
+    }
+    List<String> result = new ArrayList<>();
+    for (Object id : (List<?>) ids) {
+      if (!(id instanceof String)) {
+        throw new IllegalArgumentException("ids must be strings");
+      }
+      result.add((String) id);
+    }
+    return result;
+  }
+
+  private static void writeTasks(Writer out, List<Task> tasks) throws IOException {
+    out.write('[');
+    for (int i = 0, size = tasks.size(); i < size; i++) {
+      if (i > 0) {
+        out.write(',');
+      }
+      TaskJson.writeTask(out, tasks.get(i));
+    }
+    out.write(']');
+  }
+
+  /**
+   * Sends the headers of a chunked 200 response. The returned writer is
+   * closed only once the body is complete, so a failure midway never ends
+   * the chunked body normally.
+   */
+  private static Writer startStream(HttpExchange exchange) throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", JSON);
+    // A length of zero selects chunked transfer encoding
+    exchange.sendResponseHeaders(200, 0);
+    return new BufferedWriter(new OutputStreamWriter(
+        exchange.getResponseBody(), StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+  }
+
+  private static void sendTask(HttpExchange exchange, int status, Task task) throws IOException {
+    StringWriter out = new StringWriter(128);
+    TaskJson.writeTask(out, task);
+    exchange.getResponseHeaders().set("ETag", etag(task.getVersion()));
+    sendJson(exchange, status, out.toString());
+  }
+
+  private static void sendError(HttpExchange exchange, int status, String message)
+      throws IOException {
+    StringWriter out = new StringWriter(128);
+    out.write("{\"error\":");
+    TaskJson.writeString(out, message);
+    out.write('}');
+    sendJson(exchange, status, out.toString());
+  }
+
+  private static void sendBodyTooLarge(HttpExchange exchange) throws IOException {
+    // The rest of the body is left unread, so the connection cannot be reused
+    exchange.getResponseHeaders().set("Connection", "close");
+    sendError(exchange, 413, "Request body exceeds " + MAX_BODY_BYTES + " bytes");
+  }
+
+  private static void sendMethodNotAllowed(HttpExchange exchange, String allowed)
+      throws IOException {
+    exchange.getResponseHeaders().set("Allow", allowed);
+    sendError(exchange, 405, "Method not allowed");
+  }
+
+  private static void sendJson(HttpExchange exchange, int status, String json)
+      throws IOException {
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", JSON);
+    exchange.sendResponseHeaders(status, bytes.length);
+    exchange.getResponseBody().write(bytes);
+  }
+
+  private static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+    // A length of -1 sends no body at all
+    exchange.sendResponseHeaders(status, -1);
+  }
+
+  /**
+   * Reads the whole request body, so the connection can be reused for the
+   * next request, unless it is longer than {@value #MAX_BODY_BYTES}.
+   *
+   * @return the body, or null if it is too large
+   */
+  private static String readBody(HttpExchange exchange) throws IOException {
+    String length = exchange.getRequestHeaders().getFirst("Content-Length");
+    try {
+      if (length != null && Long.parseLong(length.trim()) > MAX_BODY_BYTES) {
+        return null;
+      }
+    } catch (NumberFormatException e) {
+      // Malformed lengths are rejected by the HTTP server before this point
+    }
+    InputStream in = exchange.getRequestBody();
+    // Chunked bodies have no declared length, so read one byte past the limit
+    byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+    if (bytes.length > MAX_BODY_BYTES) {
+      return null;
+    }
+    in.close();
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static Map<String, String> query(HttpExchange exchange) {
+    Map<String, String> parameters = new HashMap<>();
+    String raw = exchange.getRequestURI().getRawQuery();
+    if (raw == null || raw.isEmpty()) {
+      return parameters;
+    }
+    for (String pair : raw.split("&")) {
+      int equals = pair.indexOf('=');
+      String key = equals >= 0 ? pair.substring(0, equals) : pair;
+      String value = equals >= 0 ? pair.substring(equals + 1) : "";
+      parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8),
+          URLDecoder.decode(value, StandardCharsets.UTF_8));
+    }
+    return parameters;
+  }
+}
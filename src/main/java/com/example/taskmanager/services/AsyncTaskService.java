@@ -0,0 +1,182 @@
+package com.example.taskmanager.services;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link TaskService}.
+ * Every method starts the corresponding TaskService operation and returns
+ * at once; the future completes with its result, or exceptionally with
+ * the exception it threw.
+ * Follows the Interface Segregation Principle (ISP) - callers that do not
+ * block depend only on this interface.
+ */
+public interface AsyncTaskService {
+
+  /**
+   * Creates a new task with the given name and description.
+   *
+   * @param name the name of the task
+   * @param description the description of the task
+   * @return a future of the result of {@link TaskService#createTask}
+   */
+  CompletableFuture<Task> createTask(String name, String description);
+
+  /**
+   * Creates a new task with only a name.
+   *
+   * @param name the name of the task
+   * @return a future of the result of {@link TaskService#createTask}
+   */
+  CompletableFuture<Task> createTask(String name);
+
+  /**
+   * Creates several tasks in one repository call, each with a new id.
+   *
+   * @param tasks the tasks whose names and descriptions to create
+   * @return a future of the result of {@link TaskService#createTasks}
+   */
+  CompletableFuture<List<Task>> createTasks(List<Task> tasks);
+
+  /**
+   * Retrieves all tasks.
+   *
+   * @return a future of the result of {@link TaskService#getAllTasks}
+   */
+  CompletableFuture<List<Task>> getAllTasks();
+
+  /**
+   * Retrieves one page of tasks.
+   *
+   * @param cursor the cursor of the previous page, or null for the first page
+   * @param pageSize the maximum number of tasks on the page
+   * @return a future of the result of {@link TaskService#getTaskPage}
+   */
+  CompletableFuture<TaskPage> getTaskPage(String cursor, int pageSize);
+
+  /**
+   * Retrieves the tasks that are not completed yet.
+   *
+   * @return a future of the result of {@link TaskService#getPendingTasks}
+   */
+  CompletableFuture<List<Task>> getPendingTasks();
+
+  /**
+   * Retrieves the completed tasks.
+   *
+   * @return a future of the result of {@link TaskService#getCompletedTasks}
+   */
+  CompletableFuture<List<Task>> getCompletedTasks();
+
+  /**
+   * Searches tasks by the words of their name and description.
+   *
+   * @param query the words that must all appear, in any case
+   * @return a future of the result of {@link TaskService#searchTasks}
+   */
+  CompletableFuture<List<Task>> searchTasks(String query);
+
+  /**
+   * Finds a task by its identifier.
+   *
+   * @param id the task identifier
+   * @return a future of the result of {@link TaskService#getTaskById}
+   */
+  CompletableFuture<Optional<Task>> getTaskById(String id);
+
+  /**
+   * Finds a task by its index (1-based for user convenience).
+   *
+   * @param index the task index (1-based)
+   * @return a future of the result of {@link TaskService#getTaskByIndex}
+   */
+  CompletableFuture<Optional<Task>> getTaskByIndex(int index);
+
+  /**
+   * Removes a task by its identifier.
+   *
+   * @param id the task identifier
+   * @return a future of the result of {@link TaskService#removeTask}
+   */
+  CompletableFuture<Boolean> removeTask(String id);
+
+  /**
+   * Removes a task by its index (1-based for user convenience).
+   *
+   * @param index the task index (1-based)
+   * @return a future of the result of {@link TaskService#removeTaskByIndex}
+   */
+  CompletableFuture<Boolean> removeTaskByIndex(int index);
+
+  /**
+   * Marks a task as completed.
+   *
+   * @param id the task identifier
+   * @return a future of the result of {@link TaskService#completeTask}
+   */
+  CompletableFuture<Boolean> completeTask(String id);
+
+  /**
+   * Marks several tasks as completed.
+   *
+   * @param ids the task identifiers
+   * @return a future of the result of {@link TaskService#completeAll}
+   */
+  CompletableFuture<Integer> completeAll(List<String> ids);
+
+  /**
+   * Removes several tasks in one repository call.
+   *
+   * @param ids the task identifiers
+   * @return a future of the result of {@link TaskService#removeAll}
+   */
+  CompletableFuture<Integer> removeAll(List<String> ids);
+
+  /**
+   * Updates a task's name and description by its index.
+   *
+   * @param index the task index (1-based)
+   * @param newName the new name
+   * @param newDescription the new description
+   * @return a future of the result of {@link TaskService#updateTask}
+   */
+  CompletableFuture<Boolean> updateTask(int index, String newName, String newDescription);
+
+  /**
+   * Updates a task's name and description if it is still at the expected
+   * version.
+   *
+   * @param id the task identifier
+   * @param expectedVersion the version the caller read
+   * @param newName the new name
+   * @param newDescription the new description
+   * @return a future of the result of {@link TaskService#updateTask}, failed
+   *     with a TaskVersionConflictException on conflict
+   */
+  CompletableFuture<Optional<Task>> updateTask(String id, long expectedVersion, String newName,
+      String newDescription);
+
+  /**
+   * Returns the total number of tasks.
+   *
+   * @return a future of the result of {@link TaskService#getTaskCount}
+   */
+  CompletableFuture<Integer> getTaskCount();
+
+  /**
+   * Returns the number of completed tasks.
+   *
+   * @return a future of the result of {@link TaskService#getCompletedTaskCount}
+   */
+  CompletableFuture<Integer> getCompletedTaskCount();
+
+  /**
+   * Returns the number of tasks not completed yet.
+   *
+   * @return a future of the result of {@link TaskService#getPendingTaskCount}
+   */
+  CompletableFuture<Integer> getPendingTaskCount();
+}
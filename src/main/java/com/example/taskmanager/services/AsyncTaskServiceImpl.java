@@ -0,0 +1,243 @@
+package com.example.taskmanager.services;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of AsyncTaskService that runs each operation of a
+ * blocking TaskService on its own virtual thread.
+ * Follows the Dependency Inversion Principle (DIP) - depends on the
+ * TaskService abstraction, and on an injectable executor.
+ *
+ * <p>Two limits apply. At most {@code maxConcurrency} operations run
+ * against the wrapped service at once, and the rest wait on their own
+ * virtual thread. At most {@code maxInFlight} operations may be accepted
+ * at once, counting both running and waiting ones; past that, futures
+ * fail straight away with {@link RejectedExecutionException}. The wrapped
+ * TaskService must be thread-safe, for example a TaskServiceImpl over a
+ * ConcurrentTaskRepository.
+ */
+public class AsyncTaskServiceImpl implements AsyncTaskService, AutoCloseable {
+
+  private final TaskService taskService;
+  private final ExecutorService executor;
+  private final boolean ownsExecutor;
+  private final Semaphore running;
+  private final Semaphore inFlight;
+  private final int maxInFlight;
+
+  /**
+   * Creates an AsyncTaskServiceImpl on a new virtual-thread executor, which
+   * {@link #close()} shuts down.
+   *
+   * @param taskService the thread-safe service to run operations on
+   * @param maxConcurrency the maximum number of operations running at once
+   * @param maxInFlight the maximum number of accepted operations
+   * @throws IllegalArgumentException if the service is null or a limit is not positive
+   */
+  public AsyncTaskServiceImpl(TaskService taskService, int maxConcurrency, int maxInFlight) {
+    this(taskService, VirtualThreadExecutors.create("task-async", maxConcurrency), true,
+        maxConcurrency, maxInFlight);
+  }
+
+  /**
+   * Creates an AsyncTaskServiceImpl on the given executor, which the caller
+   * keeps ownership of.
+   *
+   * @param taskService the thread-safe service to run operations on
+   * @param executor the executor that runs operations
+   * @param maxConcurrency the maximum number of operations running at once
+   * @param maxInFlight the maximum number of accepted operations
+   * @throws IllegalArgumentException if an argument is null or a limit is not positive
+   */
+  public AsyncTaskServiceImpl(
+      TaskService taskService,
+      ExecutorService executor,
+      int maxConcurrency,
+      int maxInFlight) {
+    this(taskService, executor, false, maxConcurrency, maxInFlight);
+  }
+
+  private AsyncTaskServiceImpl(
+      TaskService taskService,
+      ExecutorService executor,
+      boolean ownsExecutor,
+      int maxConcurrency,
+      int maxInFlight) {
+    if (taskService == null || executor == null) {
+      throw new IllegalArgumentException("TaskService and executor cannot be null");
+    }
+    if (maxConcurrency <= 0 || maxInFlight <= 0) {
+      throw new IllegalArgumentException("Concurrency limits must be positive");
+    }
+    this.taskService = taskService;
+    this.executor = executor;
+    this.ownsExecutor = ownsExecutor;
+    this.running = new Semaphore(maxConcurrency);
+    this.inFlight = new Semaphore(maxInFlight);
+    this.maxInFlight = maxInFlight;
+  }
+
+  @Override
+  public CompletableFuture<Task> createTask(String name, String description) {
+    return submit(() -> taskService.createTask(name, description));
+  }
+
+  @Override
+  public CompletableFuture<Task> createTask(String name) {
+    return submit(() -> taskService.createTask(name));
+  }
+
+  @Override
+  public CompletableFuture<List<Task>> createTasks(List<Task> tasks) {
+    return submit(() -> taskService.createTasks(tasks));
+  }
+
+  @Override
+  public CompletableFuture<List<Task>> getAllTasks() {
+    return submit(() -> taskService.getAllTasks());
+  }
+
+  @Override
+  public CompletableFuture<TaskPage> getTaskPage(String cursor, int pageSize) {
+    return submit(() -> taskService.getTaskPage(cursor, pageSize));
+  }
+
+  @Override
+  public CompletableFuture<List<Task>> getPendingTasks() {
+    return submit(() -> taskService.getPendingTasks());
+  }
+
+  @Override
+  public CompletableFuture<List<Task>> getCompletedTasks() {
+    return submit(() -> taskService.getCompletedTasks());
+  }
+
+  @Override
+  public CompletableFuture<List<Task>> searchTasks(String query) {
+    return submit(() -> taskService.searchTasks(query));
+  }
+
+  @Override
+  public CompletableFuture<Optional<Task>> getTaskById(String id) {
+    return submit(() -> taskService.getTaskById(id));
+  }
+
+  @Override
+  public CompletableFuture<Optional<Task>> getTaskByIndex(int index) {
+    return submit(() -> taskService.getTaskByIndex(index));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> removeTask(String id) {
+    return submit(() -> taskService.removeTask(id));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> removeTaskByIndex(int index) {
+    return submit(() -> taskService.removeTaskByIndex(index));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> completeTask(String id) {
+    return submit(() -> taskService.completeTask(id));
+  }
+
+  @Override
+  public CompletableFuture<Integer> completeAll(List<String> ids) {
+    return submit(() -> taskService.completeAll(ids));
+  }
+
+  @Override
+  public CompletableFuture<Integer> removeAll(List<String> ids) {
+    return submit(() -> taskService.removeAll(ids));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> updateTask(int index, String newName, String newDescription) {
+    return submit(() -> taskService.updateTask(index, newName, newDescription));
+  }
+
+  @Override
+  public CompletableFuture<Optional<Task>> updateTask(String id, long expectedVersion,
+      String newName, String newDescription) {
+    return submit(() -> taskService.updateTask(id, expectedVersion, newName, newDescription));
+  }
+
+  @Override
+  public CompletableFuture<Integer> getTaskCount() {
+    return submit(() -> taskService.getTaskCount());
+  }
+
+  @Override
+  public CompletableFuture<Integer> getCompletedTaskCount() {
+    return submit(() -> taskService.getCompletedTaskCount());
+  }
+
+  @Override
+  public CompletableFuture<Integer> getPendingTaskCount() {
+    return submit(() -> taskService.getPendingTaskCount());
+  }
+
+  /**
+   * Returns the number of operations accepted but not yet completed.
+   *
+   * @return the in-flight operation count
+   */
+  public int getInFlightCount() {
+    return maxInFlight - inFlight.availablePermits();
+  }
+
+  /**
+   * Shuts down the executor if this service created it. Operations already
+   * accepted still complete.
+   */
+  @Override
+  public void close() {
+    if (ownsExecutor) {
+      executor.shutdown();
+    }
+  }
+
+  private <T> CompletableFuture<T> submit(Supplier<T> operation) {
+    if (!inFlight.tryAcquire()) {
+      return CompletableFuture.failedFuture(
+          new RejectedExecutionException("Too many task operations in flight"));
+    }
+    CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      executor.execute(() -> {
+        T result = null;
+        Throwable failure = null;
+        running.acquireUninterruptibly();
+        try {
+          result = operation.get();
+        } catch (Throwable e) {
+          // Errors too, or the future would never complete and callers hang
+          failure = e;
+        } finally {
+          running.release();
+          inFlight.release();
+        }
+        // Permits are returned first, so a caller woken by the future
+        // already sees this operation as finished
+        if (failure != null) {
+          future.completeExceptionally(failure);
+        } else {
+          future.complete(result);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      inFlight.release();
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+}
@@ -0,0 +1,173 @@
+package com.example.taskmanager.services;
+
+import com.example.taskmanager.metrics.MetricsRegistry;
+import com.example.taskmanager.metrics.OperationMetrics;
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * TaskService decorator that records the latency and errors of every call.
+ * Follows the Open/Closed Principle (OCP) - adds measurement to any
+ * TaskService without modifying it.
+ * Follows the Liskov Substitution Principle (LSP) - returns and throws
+ * exactly what the wrapped service does.
+ */
+public class InstrumentedTaskService implements TaskService {
+
+  private final TaskService delegate;
+  private final OperationMetrics createTask;
+  private final OperationMetrics createTasks;
+  private final OperationMetrics getAllTasks;
+  private final OperationMetrics getTaskPage;
+  private final OperationMetrics getPendingTasks;
+  private final OperationMetrics getCompletedTasks;
+  private final OperationMetrics searchTasks;
+  private final OperationMetrics getTaskById;
+  private final OperationMetrics getTaskByIndex;
+  private final OperationMetrics removeTask;
+  private final OperationMetrics removeTaskByIndex;
+  private final OperationMetrics completeTask;
+  private final OperationMetrics completeAll;
+  private final OperationMetrics removeAll;
+  private final OperationMetrics updateTask;
+  private final OperationMetrics getTaskCount;
+  private final OperationMetrics getCompletedTaskCount;
+  private final OperationMetrics getPendingTaskCount;
+
+  /**
+   * Creates an InstrumentedTaskService recording into the given registry under
+   * operation names prefixed with {@code service.}.
+   *
+   * @param delegate the TaskService to measure
+   * @param metrics the registry to record into
+   * @throws IllegalArgumentException if an argument is null
+   */
+  public InstrumentedTaskService(TaskService delegate, MetricsRegistry metrics) {
+    if (delegate == null || metrics == null) {
+      throw new IllegalArgumentException("TaskService and MetricsRegistry cannot be null");
+    }
+    this.delegate = delegate;
+    this.createTask = metrics.operation("service.createTask");
+    this.createTasks = metrics.operation("service.createTasks");
+    this.getAllTasks = metrics.operation("service.getAllTasks");
+    this.getTaskPage = metrics.operation("service.getTaskPage");
+    this.getPendingTasks = metrics.operation("service.getPendingTasks");
+    this.getCompletedTasks = metrics.operation("service.getCompletedTasks");
+    this.searchTasks = metrics.operation("service.searchTasks");
+    this.getTaskById = metrics.operation("service.getTaskById");
+    this.getTaskByIndex = metrics.operation("service.getTaskByIndex");
+    this.removeTask = metrics.operation("service.removeTask");
+    this.removeTaskByIndex = metrics.operation("service.removeTaskByIndex");
+    this.completeTask = metrics.operation("service.completeTask");
+    this.completeAll = metrics.operation("service.completeAll");
+    this.removeAll = metrics.operation("service.removeAll");
+    this.updateTask = metrics.operation("service.updateTask");
+    this.getTaskCount = metrics.operation("service.getTaskCount");
+    this.getCompletedTaskCount = metrics.operation("service.getCompletedTaskCount");
+    this.getPendingTaskCount = metrics.operation("service.getPendingTaskCount");
+  }
+
+  @Override
+  public Task createTask(String name, String description) {
+    return createTask.time(() -> delegate.createTask(name, description));
+  }
+
+  @Override
+  public Task createTask(String name) {
+    return createTask.time(() -> delegate.createTask(name));
+  }
+
+  @Override
+  public List<Task> createTasks(List<Task> tasks) {
+    return createTasks.time(() -> delegate.createTasks(tasks));
+  }
+
+  @Override
+  public List<Task> getAllTasks() {
+    return getAllTasks.time(() -> delegate.getAllTasks());
+  }
+
+  @Override
+  public TaskPage getTaskPage(String cursor, int pageSize) {
+    return getTaskPage.time(() -> delegate.getTaskPage(cursor, pageSize));
+  }
+
+  @Override
+  public List<Task> getPendingTasks() {
+    return getPendingTasks.time(() -> delegate.getPendingTasks());
+  }
+
+  @Override
+  public List<Task> getCompletedTasks() {
+    return getCompletedTasks.time(() -> delegate.getCompletedTasks());
+  }
+
+  @Override
+  public List<Task> searchTasks(String query) {
+    return searchTasks.time(() -> delegate.searchTasks(query));
+  }
+
+  @Override
+  public Optional<Task> getTaskById(String id) {
+    return getTaskById.time(() -> delegate.getTaskById(id));
+  }
+
+  @Override
+  public Optional<Task> getTaskByIndex(int index) {
+    return getTaskByIndex.time(() -> delegate.getTaskByIndex(index));
+  }
+
+  @Override
+  public boolean removeTask(String id) {
+    return removeTask.time(() -> delegate.removeTask(id));
+  }
+
+  @Override
+  public boolean removeTaskByIndex(int index) {
+    return removeTaskByIndex.time(() -> delegate.removeTaskByIndex(index));
+  }
+
+  @Override
+  public boolean completeTask(String id) {
+    return completeTask.time(() -> delegate.completeTask(id));
+  }
+
+  @Override
+  public int completeAll(List<String> ids) {
+    return completeAll.time(() -> delegate.completeAll(ids));
+  }
+
+  @Override
+  public int removeAll(List<String> ids) {
+    return removeAll.time(() -> delegate.removeAll(ids));
+  }
+
+  @Override
+  public boolean updateTask(int index, String newName, String newDescription) {
+    return updateTask.time(() -> delegate.updateTask(index, newName, newDescription));
+  }
+
+  @Override
+  public Optional<Task> updateTask(String id, long expectedVersion, String newName,
+      String newDescription) {
+    return updateTask.time(
+        () -> delegate.updateTask(id, expectedVersion, newName, newDescription));
+  }
+
+  @Override
+  public int getTaskCount() {
+    return getTaskCount.time(() -> delegate.getTaskCount());
+  }
+
+  @Override
+  public int getCompletedTaskCount() {
+    return getCompletedTaskCount.time(() -> delegate.getCompletedTaskCount());
+  }
+
+  @Override
+  public int getPendingTaskCount() {
+    return getPendingTaskCount.time(() -> delegate.getPendingTaskCount());
+  }
+}
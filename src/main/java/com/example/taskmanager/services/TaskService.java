@@ -1,6 +1,8 @@
 package com.example.taskmanager.services;
 
 import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import com.example.taskmanager.repositories.TaskVersionConflictException;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +32,17 @@ public interface TaskService {
    */
   Task createTask(String name);
 
+  /**
+   * Creates several tasks in one repository call. Like {@link #createTask},
+   * only the name and description of each given task are used: every
+   * created task gets a new id and starts pending.
+   *
+   * @param tasks the tasks whose names and descriptions to create
+   * @return the created tasks, in the given order
+   * @throws IllegalArgumentException if the list or a task is null
+   */
+  List<Task> createTasks(List<Task> tasks);
+
   /**
    * Retrieves all tasks.
    *
@@ -37,6 +50,39 @@ public interface TaskService {
    */
   List<Task> getAllTasks();
 
+  /**
+   * Retrieves one page of tasks, so listing cost is bounded by the page
+   * size rather than the total number of tasks.
+   *
+   * @param cursor the cursor returned with the previous page,
+   *     or null for the first page
+   * @param pageSize the maximum number of tasks on the page
+   * @return the page of tasks
+   */
+  TaskPage getTaskPage(String cursor, int pageSize);
+
+  /**
+   * Retrieves the tasks that are not completed yet.
+   *
+   * @return the pending tasks, in list order
+   */
+  List<Task> getPendingTasks();
+
+  /**
+   * Retrieves the completed tasks.
+   *
+   * @return the completed tasks, in list order
+   */
+  List<Task> getCompletedTasks();
+
+  /**
+   * Searches tasks by the words of their name and description.
+   *
+   * @param query the words that must all appear, in any case
+   * @return the matching tasks, in no particular order
+   */
+  List<Task> searchTasks(String query);
+
   /**
    * Finds a task by its identifier.
    *
@@ -77,6 +123,26 @@ public interface TaskService {
    */
   boolean completeTask(String id);
 
+  /**
+   * Marks several tasks as completed with one lookup and one batch
+   * compare-and-set. Tasks changed concurrently are read and applied
+   * again, one batch per round, until every task is stored.
+   *
+   * @param ids the task identifiers
+   * @return the number of tasks found and marked as completed
+   */
+  int completeAll(List<String> ids);
+
+  /**
+   * Removes several tasks, in one repository call unless changes are
+   * being published; then each id is deleted on its own so that only
+   * confirmed deletes are published, once per task.
+   *
+   * @param ids the task identifiers
+   * @return the number of tasks removed
+   */
+  int removeAll(List<String> ids);
+
   /**
    * Updates a task's name and description by its index.
    *
@@ -87,10 +153,40 @@ public interface TaskService {
    */
   boolean updateTask(int index, String newName, String newDescription);
 
+  /**
+   * Updates a task's name and description only if nobody has changed the
+   * task since the caller read it at {@code expectedVersion}.
+   *
+   * @param id the task identifier
+   * @param expectedVersion the version the caller read
+   * @param newName the new task name
+   * @param newDescription the new task description
+   * @return the updated task with its new version, or empty if not found
+   * @throws TaskVersionConflictException if the task is at another version;
+   *     read it again and retry
+   * @throws IllegalArgumentException if the new name is blank
+   */
+  Optional<Task> updateTask(String id, long expectedVersion, String newName,
+      String newDescription);
+
   /**
    * Returns the total number of tasks.
    *
    * @return the count of tasks
    */
   int getTaskCount();
+
+  /**
+   * Returns the number of completed tasks.
+   *
+   * @return the count of completed tasks
+   */
+  int getCompletedTaskCount();
+
+  /**
+   * Returns the number of tasks not completed yet.
+   *
+   * @return the count of pending tasks
+   */
+  int getPendingTaskCount();
 }
@@ -1,9 +1,23 @@
 package com.example.taskmanager.services;
 
+import com.example.taskmanager.events.TaskChangeEvent;
+import com.example.taskmanager.events.TaskChangePublisher;
+import com.example.taskmanager.jfr.TaskOperationEvent;
 import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskIdGenerator;
+import com.example.taskmanager.models.TaskPage;
 import com.example.taskmanager.repositories.TaskRepository;
+import com.example.taskmanager.repositories.TaskVersionConflictException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Implementation of TaskService.
@@ -13,28 +27,82 @@ import java.util.Optional;
  * TaskRepository abstraction, not concrete implementation.
  * Follows the Open/Closed Principle (OCP) - can be extended
  * without modifying existing code.
+ *
+ * <p>Every successful change is also handed to a {@link TaskChangePublisher}
+ * so that other components can follow the task list.
+ *
+ * <p>Tasks read from the repository are never mutated: a change is made
+ * to a copy and stored with {@link TaskRepository#compareAndSet}. When
+ * another writer got there first, the task is read again and the change
+ * reapplied, up to {@value #MAX_UPDATE_ATTEMPTS} times, so concurrent
+ * updates to one task all take effect without a lock around the
+ * read-modify-write.
  */
 public class TaskServiceImpl implements TaskService {
 
+  /** Number of times a conflicting update is retried before giving up. */
+  public static final int MAX_UPDATE_ATTEMPTS = 16;
+
   private final TaskRepository taskRepository;
+  private final TaskIdGenerator idGenerator;
+  private final TaskChangePublisher publisher;
 
   /**
-   * Creates a TaskServiceImpl with the specified repository.
+   * Creates a TaskServiceImpl with the specified repository, giving new
+   * tasks time-ordered ids.
    * Constructor injection follows DIP.
    *
    * @param taskRepository the repository for task persistence
    */
   public TaskServiceImpl(TaskRepository taskRepository) {
+    this(taskRepository, TaskIdGenerator.timeOrdered());
+  }
+
+  /**
+   * Creates a TaskServiceImpl with the specified repository and id
+   * strategy.
+   *
+   * @param taskRepository the repository for task persistence
+   * @param idGenerator the generator of ids for new tasks
+   */
+  public TaskServiceImpl(TaskRepository taskRepository, TaskIdGenerator idGenerator) {
+    this(taskRepository, idGenerator, TaskChangePublisher.NONE);
+  }
+
+  /**
+   * Creates a TaskServiceImpl that reports every change to a publisher.
+   *
+   * @param taskRepository the repository for task persistence
+   * @param idGenerator the generator of ids for new tasks
+   * @param publisher the receiver of task changes
+   */
+  public TaskServiceImpl(TaskRepository taskRepository, TaskIdGenerator idGenerator,
+      TaskChangePublisher publisher) {
     if (taskRepository == null) {
       throw new IllegalArgumentException("TaskRepository cannot be null");
     }
+    if (idGenerator == null) {
+      throw new IllegalArgumentException("TaskIdGenerator cannot be null");
+    }
+    if (publisher == null) {
+      throw new IllegalArgumentException("TaskChangePublisher cannot be null");
+    }
     this.taskRepository = taskRepository;
+    this.idGenerator = idGenerator;
+    this.publisher = publisher;
   }
 
   @Override
   public Task createTask(String name, String description) {
-    Task task = new Task(name, description);
-    return taskRepository.save(task);
+    TaskOperationEvent event = TaskOperationEvent.inService(TaskOperationEvent.CREATE);
+    Task saved = null;
+    try {
+      saved = taskRepository.save(new Task(idGenerator.nextId(), name, description));
+      publish(TaskChangeEvent.Type.CREATED, saved);
+      return saved;
+    } finally {
+      event.finish(saved, saved != null, taskRepository::count);
+    }
   }
 
   @Override
@@ -42,9 +110,82 @@ public class TaskServiceImpl implements TaskService {
     return createTask(name, "");
   }
 
+  @Override
+  public List<Task> createTasks(List<Task> tasks) {
+    TaskOperationEvent event = TaskOperationEvent.inService(TaskOperationEvent.CREATE);
+    List<Task> saved = null;
+    try {
+      if (tasks == null || tasks.stream().anyMatch(Objects::isNull)) {
+        throw new IllegalArgumentException("Tasks cannot be null");
+      }
+      // Only names and descriptions are taken, so every task gets a fresh id
+      // and a batch can never overwrite a stored task
+      List<Task> fresh = new ArrayList<>(tasks.size());
+      for (Task task : tasks) {
+        fresh.add(new Task(idGenerator.nextId(), task.getName(), task.getDescription()));
+      }
+      saved = taskRepository.saveAll(fresh);
+      for (Task task : saved) {
+        publish(TaskChangeEvent.Type.CREATED, task);
+      }
+      return saved;
+    } finally {
+      event.finish(null, saved != null ? saved.size() : 0, saved != null, taskRepository::count);
+    }
+  }
+
   @Override
   public List<Task> getAllTasks() {
-    return taskRepository.findAll();
+    TaskOperationEvent event = TaskOperationEvent.inService(TaskOperationEvent.LIST);
+    List<Task> tasks = null;
+    try {
+      tasks = taskRepository.findAll();
+      return tasks;
+    } finally {
+      event.finish(null, tasks != null ? tasks.size() : 0, tasks != null, taskRepository::count);
+    }
+  }
+
+  @Override
+  public TaskPage getTaskPage(String cursor, int pageSize) {
+    TaskOperationEvent event = TaskOperationEvent.inService(TaskOperationEvent.LIST);
+    TaskPage page = null;
+    try {
+      page = taskRepository.findPage(cursor, pageSize);
+      return page;
+    } finally {
+      event.finish(null, page != null ? page.getTasks().size() : 0, page != null,
+          taskRepository::count);
+    }
+  }
+
+  @Override
+  public List<Task> getPendingTasks() {
+    TaskOperationEvent event = TaskOperationEvent.inService(TaskOperationEvent.LIST);
+    List<Task> tasks = null;
+    try {
+      tasks = taskRepository.findByStatus(false);
+      return tasks;
+    } finally {
+      event.finish(null, tasks != null ? tasks.size() : 0, tasks != null, taskRepository::count);
+    }
+  }
+
+  @Override
+  public List<Task> getCompletedTasks() {
+    TaskOperationEvent event = TaskOperationEvent.inService(TaskOperationEvent.LIST);
+    List<Task> tasks = null;
+    try {
+      tasks = taskRepository.findByStatus(true);
+      return tasks;
+    } finally {
+      event.finish(null, tasks != null ? tasks.size() : 0, tasks != null, taskRepository::count);
+    }
+  }
+
+  @Override
+  public List<Task> searchTasks(String query) {
+    return taskRepository.search(query);
   }
 
   @Override
@@ -60,46 +201,202 @@ public class TaskServiceImpl implements TaskService {
 
   @Override
   public boolean removeTask(String id) {
-    return taskRepository.deleteById(id);
+    TaskOperationEvent event = TaskOperationEvent.inService(TaskOperationEvent.REMOVE);
+    boolean removed = false;
+    try {
+      removed = taskRepository.deleteById(id);
+      if (removed) {
+        publisher.publish(TaskChangeEvent.Type.REMOVED, id, null);
+      }
+      return removed;
+    } finally {
+      event.finish(id, removed ? 1 : 0, removed, taskRepository::count);
+    }
   }
 
   @Override
   public boolean removeTaskByIndex(int index) {
-    // Convert from 1-based to 0-based index
-    return taskRepository.deleteByIndex(index - 1);
+    TaskOperationEvent event = TaskOperationEvent.inService(TaskOperationEvent.REMOVE);
+    boolean removed = false;
+    try {
+      // Convert from 1-based to 0-based index, then delete the task found
+      // there by id, so a concurrent insert or delete cannot make the
+      // removed task and the published one differ
+      Optional<Task> task = taskRepository.findByIndex(index - 1);
+      removed = task.isPresent() && taskRepository.deleteById(task.get().getId());
+      if (removed) {
+        publisher.publish(TaskChangeEvent.Type.REMOVED, task.get().getId(), null);
+      }
+      return removed;
+    } finally {
+      event.finish(null, removed ? 1 : 0, removed, taskRepository::count);
+    }
   }
 
   @Override
   public boolean completeTask(String id) {
-    Optional<Task> taskOptional = taskRepository.findById(id);
-    if (taskOptional.isPresent()) {
-      Task task = taskOptional.get();
-      task.markAsCompleted();
-      taskRepository.save(task);
-      return true;
+    TaskOperationEvent event = TaskOperationEvent.inService(TaskOperationEvent.COMPLETE);
+    boolean completed = false;
+    try {
+      Optional<Task> stored = update(taskRepository.findById(id),
+          () -> taskRepository.findById(id), Task::markAsCompleted);
+      if (stored.isPresent()) {
+        completed = true;
+        publish(TaskChangeEvent.Type.COMPLETED, stored.get());
+      }
+      return completed;
+    } finally {
+      event.finish(id, completed ? 1 : 0, completed, taskRepository::count);
+    }
+  }
+
+  @Override
+  public int completeAll(List<String> ids) {
+    TaskOperationEvent event = TaskOperationEvent.inService(TaskOperationEvent.COMPLETE);
+    int completed = -1;
+    try {
+      int done = 0;
+      List<Task> pending = taskRepository.findAllById(ids);
+      for (int attempt = 1; !pending.isEmpty(); attempt++) {
+        Map<String, Task> changed = new LinkedHashMap<>();
+        for (Task task : pending) {
+          Task copy = task.copy();
+          copy.markAsCompleted();
+          changed.putIfAbsent(copy.getId(), copy);
+        }
+        for (Task stored : taskRepository.compareAndSetAll(changed.values())) {
+          changed.remove(stored.getId());
+          done++;
+          publish(TaskChangeEvent.Type.COMPLETED, stored);
+        }
+        // Only the tasks that changed under us are read and applied again
+        pending = changed.isEmpty() ? List.of() : taskRepository.findAllById(changed.keySet());
+        if (attempt == MAX_UPDATE_ATTEMPTS && !pending.isEmpty()) {
+          Task current = pending.get(0);
+          throw new TaskVersionConflictException(current.getId(),
+              changed.get(current.getId()).getVersion(), current.getVersion());
+        }
+      }
+      completed = done;
+      return completed;
+    } finally {
+      event.finish(null, Math.max(0, completed), completed >= 0, taskRepository::count);
+    }
+  }
+
+  @Override
+  public int removeAll(List<String> ids) {
+    TaskOperationEvent event = TaskOperationEvent.inService(TaskOperationEvent.REMOVE);
+    int removed = -1;
+    try {
+      if (publisher == TaskChangePublisher.NONE) {
+        removed = taskRepository.deleteAllById(ids);
+        return removed;
+      }
+      // With listeners, delete id by id so that exactly the confirmed
+      // deletes are published, once each
+      int deleted = 0;
+      for (String id : ids != null ? new LinkedHashSet<>(ids) : Set.<String>of()) {
+        if (taskRepository.deleteById(id)) {
+          deleted++;
+          publisher.publish(TaskChangeEvent.Type.REMOVED, id, null);
+        }
+      }
+      removed = deleted;
+      return removed;
+    } finally {
+      event.finish(null, Math.max(0, removed), removed >= 0, taskRepository::count);
     }
-    return false;
   }
 
   @Override
   public boolean updateTask(int index, String newName, String newDescription) {
+    TaskOperationEvent event = TaskOperationEvent.inService(TaskOperationEvent.UPDATE);
     Optional<Task> taskOptional = getTaskByIndex(index);
-    if (taskOptional.isPresent()) {
-      Task task = taskOptional.get();
-      try {
+    boolean updated = false;
+    try {
+      // Retries follow the task first found at the index, not whatever
+      // task a concurrent insert or delete has since moved there
+      String id = taskOptional.map(Task::getId).orElse(null);
+      Optional<Task> stored = update(taskOptional, () -> taskRepository.findById(id), task -> {
         task.setName(newName);
         task.setDescription(newDescription);
-        taskRepository.save(task);
-        return true;
-      } catch (IllegalArgumentException e) {
-        return false;
+      });
+      if (stored.isPresent()) {
+        updated = true;
+        publish(TaskChangeEvent.Type.UPDATED, stored.get());
       }
+      return updated;
+    } catch (IllegalArgumentException e) {
+      return false;
+    } finally {
+      event.finish(taskOptional.orElse(null), updated, taskRepository::count);
+    }
+  }
+
+  @Override
+  public Optional<Task> updateTask(String id, long expectedVersion, String newName,
+      String newDescription) {
+    TaskOperationEvent event = TaskOperationEvent.inService(TaskOperationEvent.UPDATE);
+    Optional<Task> stored = Optional.empty();
+    try {
+      Optional<Task> current = taskRepository.findById(id);
+      if (current.isPresent()) {
+        Task task = current.get();
+        stored = taskRepository.compareAndSet(new Task(task.getTaskId(), newName,
+            newDescription, task.isCompleted(), expectedVersion));
+        stored.ifPresent(updated -> publish(TaskChangeEvent.Type.UPDATED, updated));
+      }
+      return stored;
+    } finally {
+      event.finish(id, stored.isPresent() ? 1 : 0, stored.isPresent(), taskRepository::count);
     }
-    return false;
   }
 
   @Override
   public int getTaskCount() {
     return taskRepository.count();
   }
+
+  @Override
+  public int getCompletedTaskCount() {
+    return taskRepository.countByStatus(true);
+  }
+
+  @Override
+  public int getPendingTaskCount() {
+    return taskRepository.countByStatus(false);
+  }
+
+  /**
+   * Applies a change to a copy of the task and stores it with
+   * compareAndSet, rereading and reapplying on conflict.
+   *
+   * @param current the task as read, or empty if it was not found
+   * @param reread reads the task again after a conflict
+   * @param change the change to apply to a copy
+   * @return the stored task, or empty if the task was not found
+   * @throws TaskVersionConflictException if every attempt conflicted
+   */
+  private Optional<Task> update(Optional<Task> current, Supplier<Optional<Task>> reread,
+      Consumer<Task> change) {
+    Optional<Task> task = current;
+    for (int attempt = 1; task.isPresent(); attempt++) {
+      Task copy = task.get().copy();
+      change.accept(copy);
+      try {
+        return taskRepository.compareAndSet(copy);
+      } catch (TaskVersionConflictException e) {
+        if (attempt == MAX_UPDATE_ATTEMPTS) {
+          throw e;
+        }
+      }
+      task = reread.get();
+    }
+    return Optional.empty();
+  }
+
+  private void publish(TaskChangeEvent.Type type, Task task) {
+    publisher.publish(type, task.getId(), task);
+  }
 }
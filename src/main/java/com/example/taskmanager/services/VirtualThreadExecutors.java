@@ -0,0 +1,62 @@
+package com.example.taskmanager.services;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates executors that start one virtual thread per task when the
+ * running JVM supports virtual threads (Java 21 and later), and a bounded
+ * pool of daemon platform threads otherwise. The project targets Java 17,
+ * so virtual threads are looked up reflectively.
+ */
+public final class VirtualThreadExecutors {
+
+  private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+  private VirtualThreadExecutors() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Returns whether executors from this class use virtual threads.
+   *
+   * @return true on a JVM with virtual threads
+   */
+  public static boolean isVirtual() {
+    return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+  }
+
+  /**
+   * Creates a virtual-thread-per-task executor, or a fixed pool of daemon
+   * threads if virtual threads are unavailable.
+   *
+   * @param name the prefix of the fallback pool's thread names
+   * @param fallbackThreads the size of the fallback pool
+   * @return the executor; the caller is responsible for shutting it down
+   */
+  public static ExecutorService create(String name, int fallbackThreads) {
+    if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+      try {
+        return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+      } catch (ReflectiveOperationException e) {
+        // Fall through to platform threads
+      }
+    }
+    AtomicInteger counter = new AtomicInteger();
+    return Executors.newFixedThreadPool(fallbackThreads, runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  private static Method findVirtualThreadExecutor() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
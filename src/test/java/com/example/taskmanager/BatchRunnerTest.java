@@ -0,0 +1,109 @@
+package com.example.taskmanager;
+
+import com.example.taskmanager.presentation.ConsoleTaskPresenter;
+import com.example.taskmanager.repositories.InMemoryTaskRepository;
+import com.example.taskmanager.repositories.TaskRepository;
+import com.example.taskmanager.services.TaskServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BatchRunner.
+ */
+class BatchRunnerTest {
+
+  private TaskRepository repository;
+  private ByteArrayOutputStream output;
+  private ByteArrayOutputStream diagnostics;
+  private BatchRunner runner;
+
+  @BeforeEach
+  void setUp() {
+    repository = new InMemoryTaskRepository();
+    output = new ByteArrayOutputStream();
+    diagnostics = new ByteArrayOutputStream();
+    TaskManager taskManager = new TaskManager(new TaskServiceImpl(repository),
+        new ConsoleTaskPresenter(new PrintStream(output, false, StandardCharsets.UTF_8)));
+    runner = new BatchRunner(taskManager,
+        new PrintStream(diagnostics, true, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testConstructorWithNullArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new BatchRunner(null, System.err));
+  }
+
+  @Test
+  void testRunsCommands() throws IOException {
+    BatchRunner.Summary summary = run(
+        "# Groceries\n"
+        + "add Buy milk | From the corner shop\n"
+        + "\n"
+        + "add Walk dog\n"
+        + "ADD Water plants |\n"
+        + "complete 2\n"
+        + "edit 1 Buy oat milk | Or soy\n"
+        + "remove 3\n"
+        + "list\n");
+
+    assertEquals(7, summary.getOperations());
+    assertEquals(0, summary.getRejected());
+    assertEquals(2, repository.count());
+    assertEquals("Buy oat milk", repository.findByIndex(0).get().getName());
+    assertEquals("Or soy", repository.findByIndex(0).get().getDescription());
+    assertTrue(repository.findByIndex(1).get().isCompleted());
+    assertTrue(output.toString(StandardCharsets.UTF_8).contains("Buy oat milk"));
+    assertEquals("", diagnostics.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testRejectsMalformedLines() throws IOException {
+    BatchRunner.Summary summary = run(
+        "add Valid\n"
+        + "complete one\n"
+        + "edit 1\n"
+        + "list all\n"
+        + "rename 1 Other\n");
+
+    assertEquals(1, summary.getOperations());
+    assertEquals(4, summary.getRejected());
+    String reported = diagnostics.toString(StandardCharsets.UTF_8);
+    assertTrue(reported.contains("Line 2: Invalid task number: one"));
+    assertTrue(reported.contains("Line 5: Unknown command: rename"));
+  }
+
+  @Test
+  void testFailedOperationsAreReportedByTaskManager() throws IOException {
+    BatchRunner.Summary summary = run("add |No name\ncomplete 9\n");
+
+    assertEquals(2, summary.getOperations());
+    assertEquals(0, repository.count());
+    assertTrue(output.toString(StandardCharsets.UTF_8).contains("Task not found at index 9"));
+  }
+
+  @Test
+  void testSummary() throws IOException {
+    StringBuilder script = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      script.append("add Task ").append(i).append('\n');
+    }
+
+    BatchRunner.Summary summary = run(script.toString());
+
+    assertEquals(10_000, summary.getOperations());
+    assertTrue(summary.getElapsedNanos() > 0);
+    assertTrue(summary.getOperationsPerSecond() > 0);
+    assertTrue(summary.toString().startsWith("10000 operations, 0 rejected in "));
+  }
+
+  private BatchRunner.Summary run(String script) throws IOException {
+    return runner.run(new BufferedReader(new StringReader(script)));
+  }
+}
@@ -1,13 +1,16 @@
 package com.example.taskmanager;
 
 import com.example.taskmanager.presentation.TaskPresenter;
+import com.example.taskmanager.repositories.TaskVersionConflictException;
 import com.example.taskmanager.services.TaskService;
 import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -78,6 +81,39 @@ class TaskManagerTest {
     assertEquals(2, mockPresenter.displayedTasks.size());
   }
 
+  @Test
+  void testListTasksFetchesEveryPage() {
+    for (int i = 0; i < 250; i++) {
+      mockService.tasks.add(new Task("Task " + i, ""));
+    }
+
+    taskManager.listTasks();
+
+    assertEquals(250, mockPresenter.displayedTasks.size());
+    assertEquals(3, mockPresenter.pagesDisplayed);
+    assertEquals("Task 249", mockPresenter.displayedTasks.get(249).getName());
+  }
+
+  @Test
+  void testListTaskPageReturnsNextCursor() {
+    for (int i = 0; i < 5; i++) {
+      mockService.tasks.add(new Task("Task " + i, ""));
+    }
+
+    String cursor = taskManager.listTaskPage(null, 3);
+    assertNotNull(cursor);
+    assertNull(taskManager.listTaskPage(cursor, 3));
+
+    assertEquals(5, mockPresenter.displayedTasks.size());
+  }
+
+  @Test
+  void testListTaskPageWithInvalidPageSize() {
+    assertNull(taskManager.listTaskPage(null, 0));
+
+    assertFalse(mockPresenter.lastError.isEmpty());
+  }
+
   @Test
   void testRemoveTask() {
     Task task = new Task("Test Task", "Description");
@@ -173,11 +209,43 @@ class TaskManagerTest {
       return createTask(name, "");
     }
 
+    @Override
+    public List<Task> createTasks(List<Task> newTasks) {
+      tasks.addAll(newTasks);
+      return newTasks;
+    }
+
     @Override
     public List<Task> getAllTasks() {
       return new ArrayList<>(tasks);
     }
 
+    @Override
+    public TaskPage getTaskPage(String cursor, int pageSize) {
+      if (pageSize <= 0) {
+        throw new IllegalArgumentException("Page size must be positive");
+      }
+      int start = cursor == null ? 0 : Integer.parseInt(cursor);
+      int end = Math.min(tasks.size(), start + pageSize);
+      String next = end < tasks.size() ? String.valueOf(end) : null;
+      return new TaskPage(new ArrayList<>(tasks.subList(start, end)), start, tasks.size(), next);
+    }
+
+    @Override
+    public List<Task> getPendingTasks() {
+      return tasks.stream().filter(t -> !t.isCompleted()).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Task> getCompletedTasks() {
+      return tasks.stream().filter(Task::isCompleted).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Task> searchTasks(String query) {
+      return new ArrayList<>();
+    }
+
     @Override
     public Optional<Task> getTaskById(String id) {
       return tasks.stream().filter(t -> t.getId().equals(id)).findFirst();
@@ -215,6 +283,24 @@ class TaskManagerTest {
       return false;
     }
 
+    @Override
+    public int completeAll(List<String> ids) {
+      int completed = 0;
+      for (String id : ids) {
+        if (completeTask(id)) {
+          completed++;
+        }
+      }
+      return completed;
+    }
+
+    @Override
+    public int removeAll(List<String> ids) {
+      int before = tasks.size();
+      tasks.removeIf(t -> ids.contains(t.getId()));
+      return before - tasks.size();
+    }
+
     @Override
     public boolean updateTask(int index, String newName, String newDescription) {
       if (failOnUpdate) {
@@ -233,10 +319,41 @@ class TaskManagerTest {
       return false;
     }
 
+    @Override
+    public Optional<Task> updateTask(String id, long expectedVersion, String newName,
+        String newDescription) {
+      if (failOnUpdate) {
+        return Optional.empty();
+      }
+      for (int i = 0; i < tasks.size(); i++) {
+        Task task = tasks.get(i);
+        if (task.getId().equals(id)) {
+          if (task.getVersion() != expectedVersion) {
+            throw new TaskVersionConflictException(id, expectedVersion, task.getVersion());
+          }
+          Task updated = new Task(task.getTaskId(), newName, newDescription,
+              task.isCompleted(), expectedVersion + 1);
+          tasks.set(i, updated);
+          return Optional.of(updated);
+        }
+      }
+      return Optional.empty();
+    }
+
     @Override
     public int getTaskCount() {
       return tasks.size();
     }
+
+    @Override
+    public int getCompletedTaskCount() {
+      return getCompletedTasks().size();
+    }
+
+    @Override
+    public int getPendingTaskCount() {
+      return getPendingTasks().size();
+    }
   }
 
   private static class MockTaskPresenter implements TaskPresenter {
@@ -244,6 +361,7 @@ class TaskManagerTest {
     String lastError = "";
     String lastInfo = "";
     List<Task> displayedTasks = new ArrayList<>();
+    int pagesDisplayed = 0;
 
     @Override
     public void displayTask(Task task, int index) {
@@ -255,6 +373,16 @@ class TaskManagerTest {
       displayedTasks = new ArrayList<>(tasks);
     }
 
+    @Override
+    public void displayTaskPage(TaskPage page) {
+      if (page.getOffset() == 0) {
+        displayedTasks = new ArrayList<>();
+        pagesDisplayed = 0;
+      }
+      displayedTasks.addAll(page.getTasks());
+      pagesDisplayed++;
+    }
+
     @Override
     public void displaySuccess(String message) {
       lastMessage = message;
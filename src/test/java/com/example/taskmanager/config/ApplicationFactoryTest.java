@@ -1,12 +1,35 @@
 package com.example.taskmanager.config;
 
 import com.example.taskmanager.TaskManager;
+import com.example.taskmanager.events.TaskChangeStream;
+import com.example.taskmanager.metrics.MetricsRegistry;
+import com.example.taskmanager.models.Task;
 import com.example.taskmanager.presentation.ConsoleTaskPresenter;
 import com.example.taskmanager.presentation.TaskPresenter;
+import com.example.taskmanager.repositories.ConcurrentTaskRepository;
+import com.example.taskmanager.repositories.CopyOnWriteTaskRepository;
 import com.example.taskmanager.repositories.InMemoryTaskRepository;
+import com.example.taskmanager.repositories.IndexedTaskRepository;
+import com.example.taskmanager.repositories.ShardedTaskRepository;
 import com.example.taskmanager.repositories.TaskRepository;
+import com.example.taskmanager.repositories.WriteAheadLogTaskRepository;
+import com.example.taskmanager.repositories.WriteAheadLogTaskRepository.Durability;
+import com.example.taskmanager.server.TaskHttpServer;
+import com.example.taskmanager.services.AsyncTaskServiceImpl;
 import com.example.taskmanager.services.TaskService;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -31,6 +54,73 @@ class ApplicationFactoryTest {
     assertNotNull(taskManager);
   }
 
+  @Test
+  void testCreateInstrumentedTaskManager() {
+    MetricsRegistry metrics = new MetricsRegistry();
+    TaskManager taskManager = ApplicationFactory.createTaskManager(new InMemoryTaskRepository(),
+        new ConsoleTaskPresenter(new PrintStream(new ByteArrayOutputStream())), metrics);
+
+    taskManager.addTask("Measured", "");
+
+    assertEquals(1, metrics.operation("service.createTask").getLatency().getCount());
+    assertEquals(1, metrics.operation("repository.save").getLatency().getCount());
+    assertEquals(1, metrics.operation("presenter.displaySuccess").getLatency().getCount());
+  }
+
+  @Test
+  void testCreateMetricsRegistryIsOffByDefault() {
+    assertTrue(ApplicationFactory.createMetricsRegistry().isEmpty());
+  }
+
+  @Test
+  void testCreateTaskIdGeneratorFromProperty() {
+    try {
+      System.setProperty(ApplicationFactory.ID_STRATEGY_PROPERTY, "sequential");
+      assertEquals(16, ApplicationFactory.createTaskIdGenerator().nextId().toString().length());
+      System.setProperty(ApplicationFactory.ID_STRATEGY_PROPERTY, "RANDOM");
+      assertEquals(36, ApplicationFactory.createTaskIdGenerator().nextId().toString().length());
+      System.setProperty(ApplicationFactory.ID_STRATEGY_PROPERTY, "unknown");
+      assertThrows(IllegalArgumentException.class, ApplicationFactory::createTaskIdGenerator);
+    } finally {
+      System.clearProperty(ApplicationFactory.ID_STRATEGY_PROPERTY);
+    }
+  }
+
+  @Test
+  void testCreateTaskChangeStreamFromProperties() {
+    try (TaskChangeStream stream = ApplicationFactory.createTaskChangeStream()) {
+      assertEquals(8192, stream.getBufferSize());
+    }
+    try {
+      System.setProperty(ApplicationFactory.EVENTS_BUFFER_SIZE_PROPERTY, "64");
+      System.setProperty(ApplicationFactory.EVENTS_WAIT_STRATEGY_PROPERTY, "busySpin");
+      System.setProperty(ApplicationFactory.EVENTS_BACKPRESSURE_PROPERTY, "DROP");
+      try (TaskChangeStream stream = ApplicationFactory.createTaskChangeStream()) {
+        assertEquals(64, stream.getBufferSize());
+      }
+      System.setProperty(ApplicationFactory.EVENTS_BACKPRESSURE_PROPERTY, "later");
+      assertThrows(IllegalArgumentException.class, ApplicationFactory::createTaskChangeStream);
+      System.setProperty(ApplicationFactory.EVENTS_BACKPRESSURE_PROPERTY, "block");
+      System.setProperty(ApplicationFactory.EVENTS_WAIT_STRATEGY_PROPERTY, "nap");
+      assertThrows(IllegalArgumentException.class, ApplicationFactory::createTaskChangeStream);
+    } finally {
+      System.clearProperty(ApplicationFactory.EVENTS_BUFFER_SIZE_PROPERTY);
+      System.clearProperty(ApplicationFactory.EVENTS_WAIT_STRATEGY_PROPERTY);
+      System.clearProperty(ApplicationFactory.EVENTS_BACKPRESSURE_PROPERTY);
+    }
+  }
+
+  @Test
+  void testCreateTaskServiceWithPublisher() {
+    List<String> ids = new ArrayList<>();
+    TaskService service = ApplicationFactory.createTaskService(new InMemoryTaskRepository(),
+        (type, id, task) -> ids.add(id));
+
+    Task task = service.createTask("Published");
+
+    assertEquals(List.of(task.getId()), ids);
+  }
+
   @Test
   void testCreateTaskRepository() {
     TaskRepository repository = ApplicationFactory.createTaskRepository();
@@ -39,6 +129,95 @@ class ApplicationFactoryTest {
     assertTrue(repository instanceof InMemoryTaskRepository);
   }
 
+  @Test
+  void testCreateSharedTaskRepositoryFromProperty() {
+    assertTrue(ApplicationFactory.createSharedTaskRepository()
+        instanceof ConcurrentTaskRepository);
+    try {
+      System.setProperty(ApplicationFactory.SERVER_REPOSITORY_PROPERTY, "copyOnWrite");
+      assertTrue(ApplicationFactory.createSharedTaskRepository()
+          instanceof CopyOnWriteTaskRepository);
+      System.setProperty(ApplicationFactory.SERVER_REPOSITORY_PROPERTY, "sharded");
+      assertTrue(ApplicationFactory.createSharedTaskRepository()
+          instanceof ShardedTaskRepository);
+      System.setProperty(ApplicationFactory.SERVER_REPOSITORY_PROPERTY, "unknown");
+      assertThrows(IllegalArgumentException.class,
+          ApplicationFactory::createSharedTaskRepository);
+    } finally {
+      System.clearProperty(ApplicationFactory.SERVER_REPOSITORY_PROPERTY);
+    }
+  }
+
+  @Test
+  void testCreateSearchableRepositoryFromProperty() {
+    TaskRepository repository = new ConcurrentTaskRepository();
+
+    assertTrue(ApplicationFactory.createSearchableRepository(repository)
+        instanceof IndexedTaskRepository);
+    try {
+      System.setProperty(ApplicationFactory.SEARCH_INDEX_PROPERTY, "false");
+      assertSame(repository, ApplicationFactory.createSearchableRepository(repository));
+    } finally {
+      System.clearProperty(ApplicationFactory.SEARCH_INDEX_PROPERTY);
+    }
+  }
+
+  @Test
+  void testCreateReplicatedRepositoryFromProperties() {
+    TaskRepository repository = new InMemoryTaskRepository();
+    assertSame(repository, ApplicationFactory.createReplicatedRepository(repository));
+    try {
+      System.setProperty(ApplicationFactory.REPLICATION_ROLE_PROPERTY, "observer");
+      assertThrows(IllegalArgumentException.class,
+          () -> ApplicationFactory.createReplicatedRepository(repository));
+      System.setProperty(ApplicationFactory.REPLICATION_ROLE_PROPERTY, "follower");
+      System.setProperty(ApplicationFactory.REPLICATION_LEADER_PROPERTY, "localhost");
+      assertThrows(IllegalArgumentException.class,
+          () -> ApplicationFactory.createReplicatedRepository(repository));
+      System.setProperty(ApplicationFactory.REPLICATION_LEADER_PROPERTY, "localhost:port");
+      assertThrows(IllegalArgumentException.class,
+          () -> ApplicationFactory.createReplicatedRepository(repository));
+    } finally {
+      System.clearProperty(ApplicationFactory.REPLICATION_ROLE_PROPERTY);
+      System.clearProperty(ApplicationFactory.REPLICATION_LEADER_PROPERTY);
+    }
+  }
+
+  @Test
+  void testCreateDurableTaskRepository(@TempDir Path dir) {
+    Path log = dir.resolve("tasks.log");
+    try (WriteAheadLogTaskRepository repository =
+        ApplicationFactory.createTaskRepository(log, Durability.PER_OPERATION)) {
+      ApplicationFactory.createTaskManager(repository, new ConsoleTaskPresenter())
+          .addTask("Persisted", "");
+    }
+
+    try (WriteAheadLogTaskRepository reopened =
+        ApplicationFactory.createTaskRepository(log, Durability.PER_OPERATION)) {
+      assertEquals(1, reopened.count());
+    }
+  }
+
+  @Test
+  void testCreateAsyncTaskService() {
+    TaskService service = ApplicationFactory.createTaskService(new InMemoryTaskRepository());
+
+    try (AsyncTaskServiceImpl async = ApplicationFactory.createAsyncTaskService(service)) {
+      assertEquals("Async", async.createTask("Async").join().getName());
+    }
+  }
+
+  @Test
+  void testCreateTaskServer() {
+    TaskHttpServer server = ApplicationFactory.createTaskServer(0);
+    try {
+      server.start();
+      assertTrue(server.getPort() > 0);
+    } finally {
+      server.close();
+    }
+  }
+
   @Test
   void testCreateTaskService() {
     TaskRepository repository = new InMemoryTaskRepository();
@@ -65,4 +244,24 @@ class ApplicationFactoryTest {
     
     assertEquals(1, taskManager.getTaskCount());
   }
+
+  @Test
+  void testCheckpointFailuresDoNotStopLaterRuns() throws Exception {
+    AtomicInteger runs = new AtomicInteger();
+    Runnable failing = ApplicationFactory.retrying(() -> {
+      runs.incrementAndGet();
+      throw new UncheckedIOException(new IOException("Disk full"));
+    });
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    try {
+      executor.scheduleWithFixedDelay(failing, 0, 1, TimeUnit.MILLISECONDS);
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (runs.get() < 3) {
+        assertTrue(System.nanoTime() < deadline, "Checkpoint stopped after a failure");
+        Thread.sleep(5);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 }
@@ -0,0 +1,304 @@
+package com.example.taskmanager.events;
+
+import com.example.taskmanager.models.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TaskChangeStream.
+ */
+class TaskChangeStreamTest {
+
+  private TaskChangeStream stream;
+
+  @BeforeEach
+  void setUp() {
+    stream = new TaskChangeStream(16, WaitStrategy.blocking(),
+        TaskChangeStream.Backpressure.BLOCK);
+  }
+
+  @AfterEach
+  void tearDown() {
+    stream.close();
+  }
+
+  @Test
+  void testConstructorRejectsBadArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new TaskChangeStream(12,
+        WaitStrategy.blocking(), TaskChangeStream.Backpressure.BLOCK));
+    assertThrows(IllegalArgumentException.class, () -> new TaskChangeStream(0,
+        WaitStrategy.blocking(), TaskChangeStream.Backpressure.BLOCK));
+    assertThrows(IllegalArgumentException.class, () -> new TaskChangeStream(16, null,
+        TaskChangeStream.Backpressure.BLOCK));
+    assertThrows(IllegalArgumentException.class, () -> new TaskChangeStream(16,
+        WaitStrategy.blocking(), null));
+    assertThrows(IllegalArgumentException.class, () -> stream.subscribe(null));
+  }
+
+  @Test
+  void testDeliversEventsInOrderToEverySubscriber() {
+    List<Long> first = Collections.synchronizedList(new ArrayList<>());
+    List<Long> second = Collections.synchronizedList(new ArrayList<>());
+    TaskChangeStream.Subscription a =
+        stream.subscribe((event, end) -> first.add(event.getSequence()));
+    TaskChangeStream.Subscription b =
+        stream.subscribe((event, end) -> second.add(event.getSequence()));
+
+    for (int i = 0; i < 100; i++) {
+      stream.publish(TaskChangeEvent.Type.CREATED, "id" + i, new Task("Task " + i, ""));
+    }
+    awaitTrue(() -> a.getSequence() == 99 && b.getSequence() == 99);
+
+    List<Long> expected = new ArrayList<>();
+    for (long i = 0; i < 100; i++) {
+      expected.add(i);
+    }
+    assertEquals(expected, first);
+    assertEquals(expected, second);
+    assertEquals(0, a.getLag());
+  }
+
+  @Test
+  void testEventCopiesTaskFields() {
+    List<String> seen = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch release = new CountDownLatch(1);
+    TaskChangeStream.Subscription subscription = stream.subscribe((event, end) -> {
+      await(release);
+      seen.add(event.getType() + " " + event.getTaskId() + " " + event.getName() + " "
+          + event.getDescription() + " " + event.isCompleted());
+    });
+    Task task = new Task("Write", "docs");
+
+    stream.publish(TaskChangeEvent.Type.CREATED, task.getId(), task);
+    task.setName("Changed");
+    task.markAsCompleted();
+    stream.publish(TaskChangeEvent.Type.REMOVED, task.getId(), null);
+    release.countDown();
+    awaitTrue(() -> subscription.getSequence() == 1);
+
+    assertEquals(List.of("CREATED " + task.getId() + " Write docs false",
+        "REMOVED " + task.getId() + " null null false"), seen);
+  }
+
+  @Test
+  void testEveryWaitStrategyDelivers() {
+    for (WaitStrategy strategy : List.of(WaitStrategy.busySpin(), WaitStrategy.yielding(),
+        WaitStrategy.sleeping(), WaitStrategy.blocking())) {
+      try (TaskChangeStream local = new TaskChangeStream(8, strategy,
+          TaskChangeStream.Backpressure.BLOCK)) {
+        List<String> ids = Collections.synchronizedList(new ArrayList<>());
+        TaskChangeStream.Subscription subscription =
+            local.subscribe((event, end) -> ids.add(event.getTaskId()));
+
+        for (int i = 0; i < 50; i++) {
+          local.publish(TaskChangeEvent.Type.UPDATED, "id" + i, new Task("Task", ""));
+        }
+        awaitTrue(() -> subscription.getSequence() == 49);
+
+        assertEquals(50, ids.size());
+        assertEquals("id49", ids.get(49));
+      }
+    }
+  }
+
+  @Test
+  void testConcurrentPublishersLoseNothing() throws InterruptedException {
+    int threads = 4;
+    int perThread = 5000;
+    List<Long> sequences = new ArrayList<>();
+    int[] perPublisher = new int[threads];
+    TaskChangeStream.Subscription subscription = stream.subscribe((event, end) -> {
+      sequences.add(event.getSequence());
+      perPublisher[Integer.parseInt(event.getTaskId())]++;
+    });
+    Task task = new Task("Task", "");
+
+    List<Thread> publishers = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      String id = Integer.toString(t);
+      Thread publisher = new Thread(() -> {
+        for (int i = 0; i < perThread; i++) {
+          stream.publish(TaskChangeEvent.Type.UPDATED, id, task);
+        }
+      });
+      publishers.add(publisher);
+      publisher.start();
+    }
+    for (Thread publisher : publishers) {
+      publisher.join();
+    }
+    long last = threads * perThread - 1L;
+    awaitTrue(() -> subscription.getSequence() == last);
+
+    assertEquals(threads * perThread, sequences.size());
+    for (int i = 0; i < sequences.size(); i++) {
+      assertEquals(i, sequences.get(i).longValue());
+    }
+    for (int count : perPublisher) {
+      assertEquals(perThread, count);
+    }
+    assertEquals(0, stream.getDroppedCount());
+  }
+
+  @Test
+  void testBlockBackpressureWaitsForSlowestSubscriber() throws InterruptedException {
+    TaskChangeStream small = new TaskChangeStream(4, WaitStrategy.blocking(),
+        TaskChangeStream.Backpressure.BLOCK);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> ids = Collections.synchronizedList(new ArrayList<>());
+    TaskChangeStream.Subscription slow = small.subscribe((event, end) -> {
+      await(release);
+      ids.add(event.getTaskId());
+    });
+    TaskChangeStream.Subscription fast = small.subscribe((event, end) -> { });
+    Thread publisher = new Thread(() -> {
+      for (int i = 0; i < 10; i++) {
+        small.publish(TaskChangeEvent.Type.CREATED, "id" + i, null);
+      }
+    });
+
+    publisher.start();
+    awaitTrue(() -> fast.getSequence() == 3);
+    Thread.sleep(50);
+    assertEquals(3, small.getCursor());
+    assertTrue(publisher.isAlive());
+
+    release.countDown();
+    publisher.join(5000);
+    awaitTrue(() -> slow.getSequence() == 9 && fast.getSequence() == 9);
+    assertEquals(10, ids.size());
+    assertEquals(0, small.getDroppedCount());
+    small.close();
+  }
+
+  @Test
+  void testDropBackpressureCountsDroppedEvents() {
+    TaskChangeStream small = new TaskChangeStream(4, WaitStrategy.sleeping(),
+        TaskChangeStream.Backpressure.DROP);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> ids = Collections.synchronizedList(new ArrayList<>());
+    TaskChangeStream.Subscription subscription = small.subscribe((event, end) -> {
+      await(release);
+      ids.add(event.getTaskId());
+    });
+
+    for (int i = 0; i < 10; i++) {
+      small.publish(TaskChangeEvent.Type.CREATED, "id" + i, null);
+    }
+    release.countDown();
+    awaitTrue(() -> subscription.getSequence() == 3);
+
+    assertEquals(6, small.getDroppedCount());
+    assertEquals(List.of("id0", "id1", "id2", "id3"), ids);
+    small.close();
+  }
+
+  @Test
+  void testCatchesUpInBatches() {
+    CountDownLatch release = new CountDownLatch(1);
+    List<Boolean> endOfBatch = Collections.synchronizedList(new ArrayList<>());
+    TaskChangeStream.Subscription subscription = stream.subscribe((event, end) -> {
+      await(release);
+      endOfBatch.add(end);
+    });
+
+    stream.publish(TaskChangeEvent.Type.CREATED, "first", null);
+    for (int i = 0; i < 9; i++) {
+      stream.publish(TaskChangeEvent.Type.CREATED, "id" + i, null);
+    }
+    release.countDown();
+    awaitTrue(() -> subscription.getSequence() == 9);
+
+    assertEquals(10, endOfBatch.size());
+    assertTrue(endOfBatch.get(9));
+    assertTrue(endOfBatch.contains(false));
+    assertTrue(subscription.getBatchCount() < 10);
+  }
+
+  @Test
+  void testListenerErrorsAreCountedAndSkipped() {
+    List<String> ids = Collections.synchronizedList(new ArrayList<>());
+    TaskChangeStream.Subscription subscription = stream.subscribe((event, end) -> {
+      if (event.getTaskId().equals("bad")) {
+        throw new IllegalStateException("boom");
+      }
+      ids.add(event.getTaskId());
+    });
+
+    stream.publish(TaskChangeEvent.Type.CREATED, "good", null);
+    stream.publish(TaskChangeEvent.Type.CREATED, "bad", null);
+    stream.publish(TaskChangeEvent.Type.CREATED, "after", null);
+    awaitTrue(() -> subscription.getSequence() == 2);
+
+    assertEquals(List.of("good", "after"), ids);
+    assertEquals(1, subscription.getErrorCount());
+  }
+
+  @Test
+  void testPublishingWithoutSubscribersNeverBlocks() {
+    for (int i = 0; i < 100; i++) {
+      stream.publish(TaskChangeEvent.Type.CREATED, "id" + i, null);
+    }
+
+    assertEquals(99, stream.getCursor());
+    assertEquals(0, stream.getDroppedCount());
+  }
+
+  @Test
+  void testSubscriberSeesOnlyLaterEvents() {
+    stream.publish(TaskChangeEvent.Type.CREATED, "before", null);
+    List<String> ids = Collections.synchronizedList(new ArrayList<>());
+    TaskChangeStream.Subscription subscription =
+        stream.subscribe((event, end) -> ids.add(event.getTaskId()));
+
+    stream.publish(TaskChangeEvent.Type.CREATED, "after", null);
+    awaitTrue(() -> subscription.getSequence() == 1);
+
+    assertEquals(List.of("after"), ids);
+  }
+
+  @Test
+  void testCloseStopsSubscribers() {
+    AtomicBoolean called = new AtomicBoolean();
+    TaskChangeStream.Subscription subscription = stream.subscribe((event, end) -> called.set(true));
+    TaskChangeStream.Subscription other = stream.subscribe((event, end) -> { });
+
+    subscription.close();
+    assertEquals(1, stream.getSubscriberCount());
+    stream.publish(TaskChangeEvent.Type.CREATED, "id", null);
+    awaitTrue(() -> other.getSequence() == 0);
+    assertFalse(called.get());
+
+    stream.close();
+    assertEquals(0, stream.getSubscriberCount());
+    stream.publish(TaskChangeEvent.Type.CREATED, "ignored", null);
+    assertEquals(0, stream.getCursor());
+    assertThrows(IllegalStateException.class, () -> stream.subscribe((event, end) -> { }));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(5, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "Timed out");
+      Thread.onSpinWait();
+      Thread.yield();
+    }
+  }
+}
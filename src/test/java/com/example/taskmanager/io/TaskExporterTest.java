@@ -0,0 +1,86 @@
+package com.example.taskmanager.io;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.InMemoryTaskRepository;
+import com.example.taskmanager.repositories.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TaskExporter.
+ */
+class TaskExporterTest {
+
+  @TempDir
+  Path dir;
+
+  private TaskRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new InMemoryTaskRepository();
+  }
+
+  @Test
+  void testConstructorValidation() {
+    assertThrows(IllegalArgumentException.class, () -> new TaskExporter(null));
+    assertThrows(IllegalArgumentException.class, () -> new TaskExporter(repository, 0));
+  }
+
+  @Test
+  void testExportCsvQuotesFields() throws IOException {
+    Task plain = repository.save(new Task("0000000000000001", "Plain", ""));
+    Task quoted = repository.save(new Task("0000000000000002", "Say \"hi\", then", "Two\nlines"));
+    quoted.markAsCompleted();
+    StringWriter out = new StringWriter();
+
+    long written = new TaskExporter(repository).exportTo(out, TaskFormat.CSV);
+
+    assertEquals(2, written);
+    assertEquals("id,name,description,completed\n"
+        + plain.getId() + ",Plain,,false\n"
+        + quoted.getId() + ",\"Say \"\"hi\"\", then\",\"Two\nlines\",true\n", out.toString());
+  }
+
+  @Test
+  void testExportJsonLines() throws IOException {
+    repository.save(new Task("0000000000000001", "First", "Line\nbreak"));
+    repository.save(new Task("0000000000000002", "Second", ""));
+    StringWriter out = new StringWriter();
+
+    new TaskExporter(repository).exportTo(out, TaskFormat.JSON_LINES);
+
+    assertEquals("{\"id\":\"0000000000000001\",\"name\":\"First\","
+        + "\"description\":\"Line\\nbreak\",\"completed\":false,\"version\":0}\n"
+        + "{\"id\":\"0000000000000002\",\"name\":\"Second\",\"description\":\"\","
+        + "\"completed\":false,\"version\":0}\n", out.toString());
+  }
+
+  @Test
+  void testExportPagesThroughAllTasks() throws IOException {
+    for (int i = 0; i < 2500; i++) {
+      repository.save(new Task("Task " + i, ""));
+    }
+    Path file = dir.resolve("tasks.jsonl");
+
+    assertEquals(2500, new TaskExporter(repository, 100).exportTo(file));
+
+    List<String> lines = Files.readAllLines(file);
+    assertEquals(2500, lines.size());
+    assertTrue(lines.get(2499).contains("\"Task 2499\""));
+  }
+
+  @Test
+  void testFormatForFile() {
+    assertEquals(TaskFormat.CSV, TaskFormat.forFile(Path.of("tasks.CSV")));
+    assertEquals(TaskFormat.JSON_LINES, TaskFormat.forFile(Path.of("tasks.ndjson")));
+    assertThrows(IllegalArgumentException.class, () -> TaskFormat.forFile(Path.of("tasks.xml")));
+  }
+}
@@ -0,0 +1,144 @@
+package com.example.taskmanager.io;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.InMemoryTaskRepository;
+import com.example.taskmanager.repositories.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TaskImporter.
+ */
+class TaskImporterTest {
+
+  @TempDir
+  Path dir;
+
+  private TaskRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new InMemoryTaskRepository();
+  }
+
+  @Test
+  void testConstructorValidation() {
+    assertThrows(IllegalArgumentException.class, () -> new TaskImporter(null));
+    assertThrows(IllegalArgumentException.class, () -> new TaskImporter(repository, 0));
+  }
+
+  @Test
+  void testImportCsv() throws IOException {
+    String csv = "Completed,Name,Extra,ID\r\n"
+        + "true,\"Say \"\"hi\"\", then\",x,0000000000000001\r\n"
+        + "\n"
+        + ",\"Two\nlines\",,\n"
+        + "false,Last,\"\",0000000000000003";
+
+    long imported = new TaskImporter(repository).importFrom(new StringReader(csv), TaskFormat.CSV);
+
+    assertEquals(3, imported);
+    Task first = repository.findById("0000000000000001").get();
+    assertEquals("Say \"hi\", then", first.getName());
+    assertEquals("", first.getDescription());
+    assertTrue(first.isCompleted());
+    assertEquals("Two\nlines", repository.findByIndex(1).get().getName());
+    assertFalse(repository.findByIndex(1).get().isCompleted());
+    assertEquals("Last", repository.findById("0000000000000003").get().getName());
+  }
+
+  @Test
+  void testImportJsonLines() throws IOException {
+    String jsonl = "{\"id\":\"0000000000000001\",\"name\":\"First\",\"completed\":true,"
+        + "\"priority\":3,\"tag\":null}\n"
+        + "\n"
+        + "  { \"description\" : \"Esc\\u0061ped\\n\" , \"name\" : \"Second\", \"id\": null }\n";
+
+    long imported = new TaskImporter(repository)
+        .importFrom(new StringReader(jsonl), TaskFormat.JSON_LINES);
+
+    assertEquals(2, imported);
+    assertTrue(repository.findById("0000000000000001").get().isCompleted());
+    Task second = repository.findByIndex(1).get();
+    assertEquals("Second", second.getName());
+    assertEquals("Escaped\n", second.getDescription());
+  }
+
+  @Test
+  void testRoundTripThroughFiles() throws IOException {
+    for (int i = 0; i < 3000; i++) {
+      Task task = new Task("Task, " + i, i % 2 == 0 ? "" : "Line \"" + i + "\"\nnext");
+      task.setCompleted(i % 3 == 0);
+      repository.save(task);
+    }
+
+    for (String name : List.of("tasks.csv", "tasks.jsonl")) {
+      Path file = dir.resolve(name);
+      new TaskExporter(repository).exportTo(file);
+      TaskRepository copy = new InMemoryTaskRepository();
+
+      assertEquals(3000, new TaskImporter(copy, 256).importFrom(file));
+
+      List<Task> expected = repository.findAll();
+      List<Task> actual = copy.findAll();
+      for (int i = 0; i < expected.size(); i++) {
+        assertEquals(expected.get(i).getId(), actual.get(i).getId());
+        assertEquals(expected.get(i).getName(), actual.get(i).getName());
+        assertEquals(expected.get(i).getDescription(), actual.get(i).getDescription());
+        assertEquals(expected.get(i).isCompleted(), actual.get(i).isCompleted());
+      }
+    }
+  }
+
+  @Test
+  void testSavesInBatches() throws IOException {
+    List<Integer> batches = new ArrayList<>();
+    TaskRepository counting = new InMemoryTaskRepository() {
+      @Override
+      public List<Task> saveAll(Collection<Task> tasks) {
+        batches.add(tasks.size());
+        return super.saveAll(tasks);
+      }
+    };
+    StringBuilder csv = new StringBuilder("name\n");
+    for (int i = 0; i < 25; i++) {
+      csv.append("Task ").append(i).append('\n');
+    }
+
+    new TaskImporter(counting, 10).importFrom(new StringReader(csv.toString()), TaskFormat.CSV);
+
+    assertEquals(List.of(10, 10, 5), batches);
+  }
+
+  @Test
+  void testMalformedInputNamesTheLine() {
+    TaskImporter importer = new TaskImporter(repository, 1);
+
+    IOException csv = assertThrows(IOException.class, () -> importer.importFrom(
+        new StringReader("name,completed\nGood,true\nBad\n"), TaskFormat.CSV));
+    assertTrue(csv.getMessage().startsWith("Line 3: Expected 2 fields"), csv.getMessage());
+    assertEquals(1, repository.count());
+
+    assertThrows(IOException.class, () -> importer.importFrom(
+        new StringReader("id\n1\n"), TaskFormat.CSV));
+    assertThrows(IOException.class, () -> importer.importFrom(
+        new StringReader("name\n\"unterminated\n"), TaskFormat.CSV));
+    assertThrows(IOException.class, () -> importer.importFrom(
+        new StringReader("name,completed\nTask,maybe\n"), TaskFormat.CSV));
+    IOException json = assertThrows(IOException.class, () -> importer.importFrom(
+        new StringReader("{\"name\":\"ok\"}\n{\"name\":\"\"}\n"), TaskFormat.JSON_LINES));
+    assertTrue(json.getMessage().startsWith("Line 2: "), json.getMessage());
+    assertThrows(IOException.class, () -> importer.importFrom(
+        new StringReader("{\"description\":\"no name\"}"), TaskFormat.JSON_LINES));
+    assertThrows(IOException.class, () -> importer.importFrom(
+        new StringReader("{\"name\":\"x\",\"tags\":[1]}"), TaskFormat.JSON_LINES));
+  }
+}
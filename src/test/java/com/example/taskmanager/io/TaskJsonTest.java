@@ -0,0 +1,66 @@
+package com.example.taskmanager.io;
+
+import com.example.taskmanager.models.Task;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TaskJson.
+ */
+class TaskJsonTest {
+
+  @Test
+  void testWriteTaskEscapesStrings() throws IOException {
+    Task task = new Task("0000000000000001", "Say \"hi\"", "Line\nTab\t\\ \u0001");
+    task.markAsCompleted();
+    StringWriter out = new StringWriter();
+
+    TaskJson.writeTask(out, task);
+
+    assertEquals("{\"id\":\"0000000000000001\",\"name\":\"Say \\\"hi\\\"\","
+        + "\"description\":\"Line\\nTab\\t\\\\ \\u0001\",\"completed\":true,\"version\":0}",
+        out.toString());
+  }
+
+  @Test
+  void testRoundTripsThroughParser() throws IOException {
+    Task task = new Task("Ünïcode \"name\"", "a\\b\r\n");
+    StringWriter out = new StringWriter();
+    TaskJson.writeTask(out, task);
+
+    Map<String, Object> parsed = TaskJson.parseObject(out.toString());
+
+    assertEquals(task.getId(), parsed.get("id"));
+    assertEquals(task.getName(), parsed.get("name"));
+    assertEquals(task.getDescription(), parsed.get("description"));
+    assertEquals(Boolean.FALSE, parsed.get("completed"));
+    assertEquals(task.getVersion(), parsed.get("version"));
+  }
+
+  @Test
+  void testParseObjectValues() {
+    Map<String, Object> parsed = TaskJson.parseObject(
+        " { \"a\" : [\"x\", 1, -2.5e1, true] , \"b\":\"\\u0041\\/\", \"c\": null } ");
+
+    assertEquals(List.of("x", 1L, -25.0, true), parsed.get("a"));
+    assertEquals("A/", parsed.get("b"));
+    assertTrue(parsed.containsKey("c"));
+    assertNull(parsed.get("c"));
+    assertTrue(TaskJson.parseObject("{}").isEmpty());
+  }
+
+  @Test
+  void testParseObjectRejectsInvalidInput() {
+    assertThrows(IllegalArgumentException.class, () -> TaskJson.parseObject(""));
+    assertThrows(IllegalArgumentException.class, () -> TaskJson.parseObject("[]"));
+    assertThrows(IllegalArgumentException.class, () -> TaskJson.parseObject("{\"a\":1"));
+    assertThrows(IllegalArgumentException.class, () -> TaskJson.parseObject("{\"a\":\"x}"));
+    assertThrows(IllegalArgumentException.class, () -> TaskJson.parseObject("{\"a\":{}}"));
+    assertThrows(IllegalArgumentException.class, () -> TaskJson.parseObject("{\"a\":[[1]]}"));
+    assertThrows(IllegalArgumentException.class, () -> TaskJson.parseObject("{} extra"));
+  }
+}
@@ -0,0 +1,133 @@
+package com.example.taskmanager.jfr;
+
+import com.example.taskmanager.TaskManager;
+import com.example.taskmanager.presentation.ConsoleTaskPresenter;
+import com.example.taskmanager.repositories.InMemoryTaskRepository;
+import com.example.taskmanager.services.TaskService;
+import com.example.taskmanager.services.TaskServiceImpl;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TaskOperationEvent, as emitted by TaskManager and
+ * TaskServiceImpl.
+ */
+class TaskOperationEventTest {
+
+  @TempDir
+  Path dir;
+
+  private TaskService taskService;
+  private TaskManager taskManager;
+
+  @BeforeEach
+  void setUp() {
+    taskService = new TaskServiceImpl(new InMemoryTaskRepository());
+    taskManager = new TaskManager(taskService,
+        new ConsoleTaskPresenter(new PrintStream(new ByteArrayOutputStream())));
+  }
+
+  @Test
+  void testServiceEventsCarryTaskAndRepositorySize() throws IOException {
+    List<RecordedEvent> events = record(Duration.ZERO, () -> {
+      String id = taskService.createTask("First").getId();
+      taskService.createTask("Second");
+      taskService.completeTask(id);
+      taskService.completeTask("missing");
+      taskService.getAllTasks();
+    });
+
+    List<RecordedEvent> service = filter(events, TaskOperationEvent.SERVICE);
+    assertEquals(5, service.size());
+    RecordedEvent created = service.get(0);
+    assertEquals(TaskOperationEvent.CREATE, created.getString("operation"));
+    assertEquals(1, created.getInt("repositorySize"));
+    assertTrue(created.getBoolean("succeeded"));
+    assertNotNull(created.getString("taskId"));
+    RecordedEvent completed = service.get(2);
+    assertEquals(TaskOperationEvent.COMPLETE, completed.getString("operation"));
+    assertEquals(created.getString("taskId"), completed.getString("taskId"));
+    assertFalse(service.get(3).getBoolean("succeeded"));
+    assertEquals(TaskOperationEvent.LIST, service.get(4).getString("operation"));
+    assertEquals(2, service.get(4).getInt("taskCount"));
+  }
+
+  @Test
+  void testManagerEventsWrapServiceEvents() throws IOException {
+    List<RecordedEvent> events = record(Duration.ZERO, () -> {
+      taskManager.addTask("Task", "");
+      taskManager.addTask("", "");
+      taskManager.editTask(1, "Renamed", "");
+      taskManager.completeTask(1);
+      taskManager.listTasks();
+      taskManager.removeTask(1);
+    });
+
+    List<RecordedEvent> manager = filter(events, TaskOperationEvent.MANAGER);
+    List<String> operations = new ArrayList<>();
+    for (RecordedEvent event : manager) {
+      operations.add(event.getString("operation"));
+    }
+    assertEquals(List.of("create", "create", "update", "complete", "list", "remove"), operations);
+    assertFalse(manager.get(1).getBoolean("succeeded"));
+    assertEquals(0, manager.get(5).getInt("repositorySize"));
+    assertEquals(6, filter(events, TaskOperationEvent.SERVICE).size());
+  }
+
+  @Test
+  void testFastOperationsAreBelowDefaultThreshold() throws IOException {
+    for (int i = 0; i < 1000; i++) {
+      taskService.createTask("Warm-up");
+    }
+
+    List<RecordedEvent> events = record(null, () -> taskService.createTask("Fast"));
+
+    assertTrue(events.isEmpty());
+  }
+
+  private List<RecordedEvent> record(Duration threshold, Runnable operations)
+      throws IOException {
+    Path file = dir.resolve("events.jfr");
+    try (Recording recording = new Recording()) {
+      if (threshold != null) {
+        recording.enable(TaskOperationEvent.NAME).withThreshold(threshold);
+      } else {
+        recording.enable(TaskOperationEvent.NAME);
+      }
+      recording.start();
+      operations.run();
+      recording.stop();
+      recording.dump(file);
+    }
+    List<RecordedEvent> events = new ArrayList<>();
+    for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+      if (event.getEventType().getName().equals(TaskOperationEvent.NAME)) {
+        events.add(event);
+      }
+    }
+    events.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
+    return events;
+  }
+
+  private static List<RecordedEvent> filter(List<RecordedEvent> events, String layer) {
+    List<RecordedEvent> filtered = new ArrayList<>();
+    for (RecordedEvent event : events) {
+      if (layer.equals(event.getString("layer"))) {
+        filtered.add(event);
+      }
+    }
+    return filtered;
+  }
+}
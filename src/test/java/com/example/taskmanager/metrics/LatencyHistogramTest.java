@@ -0,0 +1,92 @@
+package com.example.taskmanager.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyHistogram.
+ */
+class LatencyHistogramTest {
+
+  private LatencyHistogram histogram;
+
+  @BeforeEach
+  void setUp() {
+    histogram = new LatencyHistogram();
+  }
+
+  @Test
+  void testEmptyHistogram() {
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getValueAtPercentile(99));
+  }
+
+  @Test
+  void testSmallValuesAreExact() {
+    for (long value = 0; value < 64; value++) {
+      histogram.record(value);
+    }
+
+    assertEquals(64, histogram.getCount());
+    assertEquals(31, histogram.getValueAtPercentile(50));
+    assertEquals(63, histogram.getValueAtPercentile(100));
+    assertEquals(0, histogram.getValueAtPercentile(0));
+  }
+
+  @Test
+  void testBucketsCoverAllValuesWithBoundedError() {
+    Random random = new Random(17);
+    for (int i = 0; i < 100_000; i++) {
+      long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+      int bucket = LatencyHistogram.bucketOf(value);
+      long highest = LatencyHistogram.highestValueIn(bucket);
+      assertTrue(highest >= value);
+      assertTrue(highest - value <= value / 32, "value " + value);
+    }
+    assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueIn(
+        LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+  }
+
+  @Test
+  void testPercentiles() {
+    for (long value = 1; value <= 100_000; value++) {
+      histogram.record(value * 1_000);
+    }
+
+    assertEquals(50_000_000, histogram.getValueAtPercentile(50), 50_000_000 / 32.0);
+    assertEquals(99_000_000, histogram.getValueAtPercentile(99), 99_000_000 / 32.0);
+    assertEquals(99_900_000, histogram.getValueAtPercentile(99.9), 99_900_000 / 32.0);
+    assertEquals(100_000_000, histogram.getMax());
+    assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+    assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+  }
+
+  @Test
+  void testConcurrentRecording() {
+    IntStream.range(0, 8).parallel().forEach(thread -> {
+      for (int i = 0; i < 10_000; i++) {
+        histogram.record(i);
+      }
+    });
+
+    assertEquals(80_000, histogram.getCount());
+    assertEquals(9_999, histogram.getMax());
+  }
+
+  @Test
+  void testReset() {
+    histogram.record(-5);
+    histogram.record(1_000);
+    assertEquals(0, histogram.getValueAtPercentile(50));
+
+    histogram.reset();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getTotal());
+    assertEquals(0, histogram.getMax());
+  }
+}
@@ -0,0 +1,85 @@
+package com.example.taskmanager.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MetricsRegistry.
+ */
+class MetricsRegistryTest {
+
+  private MetricsRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new MetricsRegistry();
+  }
+
+  @Test
+  void testOperationIsCreatedOnce() {
+    assertSame(registry.operation("service.createTask"), registry.operation("service.createTask"));
+    assertThrows(IllegalArgumentException.class, () -> registry.operation(" "));
+    assertThrows(IllegalArgumentException.class, () -> registry.operation(null));
+  }
+
+  @Test
+  void testTimeRecordsLatencyAndErrors() {
+    OperationMetrics metrics = registry.operation("op");
+
+    assertEquals("result", metrics.time(() -> "result"));
+    assertThrows(IllegalStateException.class, () -> metrics.time(() -> {
+      throw new IllegalStateException("boom");
+    }));
+
+    assertEquals(2, metrics.getLatency().getCount());
+    assertEquals(1, metrics.getErrorCount());
+  }
+
+  @Test
+  void testWriteReport() throws IOException {
+    registry.operation("b.second").time(() -> { });
+    registry.operation("a.first").time(() -> { });
+    registry.operation("c.unused");
+    StringBuilder out = new StringBuilder();
+
+    registry.writeReport(out);
+
+    String[] lines = out.toString().split(System.lineSeparator());
+    assertEquals(3, lines.length);
+    assertTrue(lines[0].startsWith("operation"));
+    assertTrue(lines[1].startsWith("a.first"));
+    assertTrue(lines[2].startsWith("b.second"));
+  }
+
+  @Test
+  void testWritePrometheus() throws IOException {
+    OperationMetrics metrics = registry.operation("repository.save");
+    metrics.getLatency().record(2_000_000);
+    StringBuilder out = new StringBuilder();
+
+    registry.writePrometheus(out);
+
+    String text = out.toString();
+    assertTrue(text.contains("taskmanager_operation_latency_seconds{operation=\"repository.save\","
+        + "quantile=\"0.99\"} 0.002"));
+    assertTrue(text.contains(
+        "taskmanager_operation_latency_seconds_count{operation=\"repository.save\"} 1\n"));
+    assertTrue(text.contains(
+        "taskmanager_operation_latency_max_seconds{operation=\"repository.save\"} 0.002000000\n"));
+    assertTrue(text.contains(
+        "taskmanager_operation_errors_total{operation=\"repository.save\"} 0\n"));
+  }
+
+  @Test
+  void testReset() {
+    OperationMetrics metrics = registry.operation("op");
+    metrics.time(() -> 1);
+
+    registry.reset();
+
+    assertEquals(0, metrics.getLatency().getCount());
+    assertSame(metrics, registry.getOperations().get(0));
+  }
+}
@@ -0,0 +1,107 @@
+package com.example.taskmanager.models;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TaskId and TaskIdGenerator.
+ */
+class TaskIdTest {
+
+  @Test
+  void testWideIdRendersAsUuid() {
+    UUID uuid = UUID.randomUUID();
+
+    TaskId id = TaskId.of(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+
+    assertEquals(uuid.toString(), id.toString());
+    assertTrue(id.isBinary());
+  }
+
+  @Test
+  void testParseRoundTripsEveryForm() {
+    TaskId wide = TaskId.of(0x0123456789abcdefL, 0xfedcba9876543210L);
+    TaskId narrow = TaskId.of(-2L);
+    TaskId literal = TaskId.parse("custom-id-123");
+
+    assertEquals(wide, TaskId.parse(wide.toString()));
+    assertEquals(narrow, TaskId.parse(narrow.toString()));
+    assertEquals("fffffffffffffffe", narrow.toString());
+    assertEquals(literal, TaskId.parse("custom-id-123"));
+    assertFalse(literal.isBinary());
+  }
+
+  @Test
+  void testNonCanonicalStringsStayLiteral() {
+    String upper = "0123ABCD-0000-4000-8000-000000000000";
+
+    TaskId id = TaskId.parse(upper);
+
+    assertFalse(id.isBinary());
+    assertEquals(upper, id.toString());
+    assertNotEquals(TaskId.parse(upper.toLowerCase()), id);
+    assertFalse(TaskId.parse("0123456789abcdeg").isBinary());
+    assertFalse(TaskId.parse("").isBinary());
+  }
+
+  @Test
+  void testEqualityMatchesStringEquality() {
+    TaskId wide = TaskId.of(0, 5);
+    TaskId narrow = TaskId.of(5);
+
+    assertNotEquals(wide, narrow);
+    assertEquals(TaskId.of(0, 5), wide);
+    assertEquals(TaskId.of(0, 5).hashCode(), wide.hashCode());
+  }
+
+  @Test
+  void testParseRejectsNull() {
+    assertThrows(IllegalArgumentException.class, () -> TaskId.parse(null));
+  }
+
+  @Test
+  void testRandomGeneratorProducesVersion4Uuids() {
+    TaskId id = TaskIdGenerator.random().nextId();
+
+    UUID uuid = UUID.fromString(id.toString());
+    assertEquals(4, uuid.version());
+    assertEquals(2, uuid.variant());
+  }
+
+  @Test
+  void testTimeOrderedGeneratorIsStrictlyIncreasing() {
+    TaskIdGenerator generator = TaskIdGenerator.timeOrdered();
+    List<TaskId> ids = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      ids.add(generator.nextId());
+    }
+
+    for (int i = 1; i < ids.size(); i++) {
+      assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0);
+    }
+    UUID uuid = UUID.fromString(ids.get(0).toString());
+    assertEquals(7, uuid.version());
+    assertEquals(2, uuid.variant());
+    long millis = uuid.getMostSignificantBits() >>> 16;
+    assertTrue(Math.abs(System.currentTimeMillis() - millis) < 60_000);
+  }
+
+  @Test
+  void testSequentialGeneratorIsUniqueAndIncreasing() {
+    TaskIdGenerator generator = TaskIdGenerator.sequential();
+    Set<TaskId> seen = new HashSet<>();
+    TaskId previous = generator.nextId();
+    for (int i = 0; i < 1000; i++) {
+      TaskId next = generator.nextId();
+      assertTrue(previous.compareTo(next) < 0);
+      assertTrue(seen.add(next));
+      assertEquals(16, next.toString().length());
+      previous = next;
+    }
+  }
+}
@@ -29,6 +29,22 @@ class TaskTest {
     assertFalse(task.isCompleted());
   }
 
+  @Test
+  void testTaskCreationWithTaskId() {
+    TaskId id = TaskId.of(42);
+    Task task = new Task(id, "Test Task", "");
+
+    assertSame(id, task.getTaskId());
+    assertEquals("000000000000002a", task.getId());
+    assertEquals(new Task("000000000000002a", "Other", ""), task);
+  }
+
+  @Test
+  void testTaskCreationWithNullId() {
+    assertThrows(IllegalArgumentException.class, () -> new Task((String) null, "Name", ""));
+    assertThrows(IllegalArgumentException.class, () -> new Task((TaskId) null, "Name", ""));
+  }
+
   @Test
   void testTaskCreationWithNullDescription() {
     Task task = new Task("Test Task", null);
@@ -185,4 +201,23 @@ class TaskTest {
 
     assertTrue(result.contains("true"));
   }
+
+  @Test
+  void testVersionAndCopies() {
+    Task task = new Task(TaskId.of(7), "Task", "Description", true, 3);
+
+    Task copy = task.copy();
+    copy.setName("Changed");
+    Task next = task.nextVersion();
+
+    assertEquals(3, task.getVersion());
+    assertEquals("Task", task.getName());
+    assertEquals(3, copy.getVersion());
+    assertEquals(4, next.getVersion());
+    assertTrue(next.isCompleted());
+    assertEquals(task, next);
+    assertEquals(0, new Task("Fresh", "").getVersion());
+    assertThrows(IllegalArgumentException.class,
+        () -> new Task(TaskId.of(7), "Task", "", false, -1));
+  }
 }
@@ -1,6 +1,7 @@
 package com.example.taskmanager.presentation;
 
 import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.io.ByteArrayOutputStream;
@@ -162,4 +163,26 @@ class ConsoleTaskPresenterTest {
     assertTrue(output.contains("Pending Task"));
     assertTrue(output.contains("✓"));
   }
+
+  @Test
+  void testDisplayTaskPagesNumbersByPosition() {
+    List<Task> first = List.of(new Task("Task 1", ""), new Task("Task 2", ""));
+    List<Task> second = List.of(new Task("Task 3", ""));
+
+    presenter.displayTaskPage(new TaskPage(first, 0, 3, "next"));
+    presenter.displayTaskPage(new TaskPage(second, 2, 3, null));
+
+    String output = outputStream.toString();
+    assertTrue(output.contains("3 tasks"));
+    assertTrue(output.contains("[3] Task 3"));
+    assertEquals(1, output.split("Task List", -1).length - 1);
+  }
+
+  @Test
+  void testDisplayEmptyTaskPage() {
+    presenter.displayTaskPage(new TaskPage(new ArrayList<>(), 0, 0, null));
+
+    String output = outputStream.toString();
+    assertTrue(output.contains("No tasks found"));
+  }
 }
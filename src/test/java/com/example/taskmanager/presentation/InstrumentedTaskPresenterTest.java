@@ -0,0 +1,39 @@
+package com.example.taskmanager.presentation;
+
+import com.example.taskmanager.metrics.MetricsRegistry;
+import com.example.taskmanager.models.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InstrumentedTaskPresenter.
+ */
+class InstrumentedTaskPresenterTest {
+
+  private MetricsRegistry metrics;
+  private ByteArrayOutputStream output;
+  private TaskPresenter presenter;
+
+  @BeforeEach
+  void setUp() {
+    metrics = new MetricsRegistry();
+    output = new ByteArrayOutputStream();
+    presenter = new InstrumentedTaskPresenter(
+        new ConsoleTaskPresenter(new PrintStream(output, true)), metrics);
+  }
+
+  @Test
+  void testForwardsAndRecords() {
+    presenter.displayTasks(List.of(new Task("Task", "")));
+    presenter.displaySuccess("Done");
+
+    assertTrue(output.toString().contains("Task"));
+    assertTrue(output.toString().contains("Done"));
+    assertEquals(1, metrics.operation("presenter.displayTasks").getLatency().getCount());
+    assertEquals(1, metrics.operation("presenter.displaySuccess").getLatency().getCount());
+  }
+}
@@ -0,0 +1,97 @@
+package com.example.taskmanager.replication;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.ConcurrentTaskRepository;
+import com.example.taskmanager.repositories.InMemoryTaskRepository;
+import com.example.taskmanager.repositories.TaskRecords;
+import com.example.taskmanager.repositories.TaskRepository;
+import com.example.taskmanager.repositories.TaskVersionConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.nio.ByteBuffer;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LeaderTaskRepository.
+ */
+class LeaderTaskRepositoryTest {
+
+  private ReplicationLog log;
+  private LeaderTaskRepository leader;
+
+  @BeforeEach
+  void setUp() {
+    log = new ReplicationLog(1024);
+    leader = new LeaderTaskRepository(new ConcurrentTaskRepository(), log);
+  }
+
+  @Test
+  void testConstructorValidation() {
+    assertThrows(IllegalArgumentException.class, () -> new LeaderTaskRepository(null, log));
+    assertThrows(IllegalArgumentException.class,
+        () -> new LeaderTaskRepository(new InMemoryTaskRepository(), null));
+  }
+
+  @Test
+  void testLogsOnlyEffectiveMutations() {
+    Task first = leader.save(new Task("First", ""));
+    Task second = leader.save(new Task("Second", ""));
+    assertEquals(2, log.getEndOffset());
+
+    assertFalse(leader.deleteById("missing"));
+    assertFalse(leader.deleteByIndex(5));
+    assertFalse(leader.compareAndSet(new Task("Unsaved", "")).isPresent());
+    Task stale = first.copy();
+    leader.compareAndSet(first.copy());
+    assertThrows(TaskVersionConflictException.class, () -> leader.compareAndSet(stale));
+    assertEquals(3, log.getEndOffset());
+
+    assertEquals(1, leader.deleteAllById(List.of(second.getId(), second.getId(), "missing")));
+    assertEquals(4, log.getEndOffset());
+    assertTrue(leader.deleteByIndex(0));
+    assertEquals(5, log.getEndOffset());
+    assertEquals(0, leader.count());
+  }
+
+  @Test
+  void testReplayingTheLogReproducesTheState() throws InterruptedException {
+    leader.saveAll(List.of(new Task("id-1", "One", ""), new Task("id-2", "Two", ""),
+        new Task("id-3", "Three", "")));
+    Task changed = leader.findById("id-2").get().copy();
+    changed.markAsCompleted();
+    leader.compareAndSet(changed);
+    leader.deleteById("id-1");
+
+    TaskRepository replica = new InMemoryTaskRepository();
+    for (ReplicationLog.Entry entry : log.read(0, 100, 0)) {
+      TaskRecords.apply(ByteBuffer.wrap(entry.record), replica);
+    }
+
+    assertEquals(leader.findAll().toString(), replica.findAll().toString());
+    assertEquals(1, replica.findById("id-2").get().getVersion());
+  }
+
+  @Test
+  void testSnapshotCarriesTheEndOffset() {
+    leader.save(new Task("One", ""));
+    leader.save(new Task("Two", ""));
+
+    LeaderTaskRepository.Snapshot snapshot = leader.snapshot();
+
+    assertEquals(2, snapshot.records.size());
+    assertEquals(2, snapshot.offset);
+  }
+
+  @Test
+  void testReadsAreForwarded() {
+    Task task = leader.save(new Task("Write docs", ""));
+
+    assertSame(task, leader.findById(task.getId()).get());
+    assertEquals(List.of(task), leader.findAllById(List.of(task.getId())));
+    assertEquals(List.of(task), leader.search("docs"));
+    assertEquals(1, leader.countByStatus(false));
+    assertEquals(List.of(task), leader.findPage(null, 10).getTasks());
+    assertTrue(leader.existsById(task.getId()));
+  }
+}
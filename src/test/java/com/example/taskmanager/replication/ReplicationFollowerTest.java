@@ -0,0 +1,225 @@
+package com.example.taskmanager.replication;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.ConcurrentTaskRepository;
+import com.example.taskmanager.repositories.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReplicationFollower.
+ */
+class ReplicationFollowerTest {
+
+  private LeaderTaskRepository leader;
+  private ReplicationServer server;
+  private TaskRepository local;
+  private ReplicationFollower follower;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    leader = new LeaderTaskRepository(new ConcurrentTaskRepository(), new ReplicationLog(1024));
+    server = new ReplicationServer(leader, new InetSocketAddress("127.0.0.1", 0));
+    server.start();
+    local = new ConcurrentTaskRepository();
+    follower = new ReplicationFollower(local, new InetSocketAddress("127.0.0.1", server.getPort()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    follower.close();
+    server.close();
+  }
+
+  @Test
+  void testConstructorValidation() {
+    InetSocketAddress address = new InetSocketAddress("127.0.0.1", 1);
+
+    assertThrows(IllegalArgumentException.class, () -> new ReplicationFollower(null, address));
+    assertThrows(IllegalArgumentException.class, () -> new ReplicationFollower(local, null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ReplicationFollower(local, address, 1, -1));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ReplicationFollower(local, address, 0, 1));
+  }
+
+  @Test
+  void testRepositoryIsReadOnly() {
+    TaskRepository view = follower.getRepository();
+    Task task = new Task("Task", "");
+
+    assertThrows(UnsupportedOperationException.class, () -> view.save(task));
+    assertThrows(UnsupportedOperationException.class, () -> view.saveAll(List.of(task)));
+    assertThrows(UnsupportedOperationException.class, () -> view.compareAndSet(task));
+    assertThrows(UnsupportedOperationException.class, () -> view.deleteById(task.getId()));
+    assertThrows(UnsupportedOperationException.class,
+        () -> view.deleteAllById(List.of(task.getId())));
+    assertThrows(UnsupportedOperationException.class, () -> view.deleteByIndex(0));
+    local.save(task);
+    assertSame(task, view.findById(task.getId()).get());
+    assertEquals(1, view.count());
+  }
+
+  @Test
+  void testReconnectsAndCatchesUpFromItsOffset() throws IOException {
+    follower.start();
+    leader.save(new Task("id-1", "First", ""));
+    awaitTrue(() -> follower.getOffset() == 1);
+    int port = server.getPort();
+
+    server.close();
+    awaitTrue(() -> !follower.isConnected());
+    leader.save(new Task("id-2", "Missed", ""));
+    leader.deleteById("id-1");
+    server = new ReplicationServer(leader, new InetSocketAddress("127.0.0.1", port));
+    server.start();
+
+    awaitTrue(() -> follower.getOffset() == 3);
+    assertEquals(2, follower.getConnectCount());
+    assertEquals(0, follower.getSnapshotCount());
+    assertEquals(leader.getLog().getEpoch(), follower.getEpoch());
+    assertEquals(List.of("id-2"), local.findAll().stream().map(Task::getId).toList());
+  }
+
+  @Test
+  void testStartsFromAGivenOffset() {
+    leader.save(new Task("id-1", "Already here", ""));
+    leader.save(new Task("id-2", "New", ""));
+    follower.close();
+    local.save(new Task("id-1", "Already here", ""));
+    follower = new ReplicationFollower(local,
+        new InetSocketAddress("127.0.0.1", server.getPort()), leader.getLog().getEpoch(), 1);
+
+    follower.start();
+
+    awaitTrue(() -> follower.getOffset() == 2);
+    assertEquals(2, local.count());
+    assertEquals(0, follower.getSnapshotCount());
+  }
+
+  @Test
+  void testResyncsFromASnapshotAfterTheLeaderRestarts() throws IOException {
+    follower.start();
+    leader.save(new Task("id-1", "Before restart", ""));
+    leader.save(new Task("id-2", "Before restart", ""));
+    awaitTrue(() -> follower.getOffset() == 2);
+    long firstEpoch = follower.getEpoch();
+    int port = server.getPort();
+
+    // The restarted leader's log starts again at offset 0
+    server.close();
+    awaitTrue(() -> !follower.isConnected());
+    ConcurrentTaskRepository restored = new ConcurrentTaskRepository();
+    restored.save(new Task("id-1", "Before restart", ""));
+    leader = new LeaderTaskRepository(restored, new ReplicationLog(1024));
+    leader.save(new Task("id-3", "After restart", ""));
+    leader.save(new Task("id-4", "After restart", ""));
+    server = new ReplicationServer(leader, new InetSocketAddress("127.0.0.1", port));
+    server.start();
+
+    awaitTrue(() -> follower.getSnapshotCount() == 1);
+    assertEquals(leader.getLog().getEpoch(), follower.getEpoch());
+    assertNotEquals(firstEpoch, follower.getEpoch());
+    assertEquals(2, follower.getOffset());
+    assertEquals(List.of("id-1", "id-3", "id-4"),
+        local.findAll().stream().map(Task::getId).toList());
+  }
+
+  @Test
+  void testNewFollowerOfASeededLeaderStartsFromASnapshot() throws IOException {
+    ConcurrentTaskRepository existing = new ConcurrentTaskRepository();
+    existing.save(new Task("id-1", "Saved before the log", ""));
+    LeaderTaskRepository seeded = new LeaderTaskRepository(existing, new ReplicationLog(1024));
+    seeded.save(new Task("id-2", "Logged", ""));
+    follower.close();
+    server.close();
+    server = new ReplicationServer(seeded, new InetSocketAddress("127.0.0.1", 0));
+    server.start();
+    follower = new ReplicationFollower(local,
+        new InetSocketAddress("127.0.0.1", server.getPort()));
+
+    follower.start();
+
+    awaitTrue(() -> follower.getOffset() == 1 && follower.getEpoch() != 0);
+    assertEquals(1, follower.getSnapshotCount());
+    assertEquals(List.of("id-1", "id-2"), local.findAll().stream().map(Task::getId).toList());
+  }
+
+  @Test
+  void testReadsWaitWhileASnapshotLoads() throws Exception {
+    leader.save(new Task("id-1", "First", ""));
+    leader.save(new Task("id-2", "Second", ""));
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    TaskRepository slow = new ConcurrentTaskRepository() {
+      @Override
+      public int deleteAllById(Collection<String> ids) {
+        loading.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return super.deleteAllById(ids);
+      }
+    };
+    slow.save(new Task("stale", "Stale", ""));
+    follower.close();
+    // An offset the leader never wrote makes it send a snapshot
+    follower = new ReplicationFollower(slow,
+        new InetSocketAddress("127.0.0.1", server.getPort()), leader.getLog().getEpoch(), 5);
+    follower.start();
+    assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<List<Task>> read = executor.submit(() -> follower.getRepository().findAll());
+      assertThrows(TimeoutException.class, () -> read.get(200, TimeUnit.MILLISECONDS));
+      release.countDown();
+
+      assertEquals(List.of("id-1", "id-2"),
+          read.get(10, TimeUnit.SECONDS).stream().map(Task::getId).toList());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testCloseKeepsAppliedTasks() {
+    follower.start();
+    leader.save(new Task("id-1", "Kept", ""));
+    awaitTrue(() -> follower.getOffset() == 1);
+
+    follower.close();
+    leader.save(new Task("id-2", "Not applied", ""));
+
+    assertFalse(follower.isConnected());
+    assertEquals(1, local.count());
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "Timed out");
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        fail("Interrupted");
+      }
+    }
+  }
+}
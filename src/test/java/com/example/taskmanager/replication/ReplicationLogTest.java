@@ -0,0 +1,87 @@
+package com.example.taskmanager.replication;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReplicationLog.
+ */
+class ReplicationLogTest {
+
+  private ReplicationLog log;
+
+  @BeforeEach
+  void setUp() {
+    log = new ReplicationLog(4);
+  }
+
+  @Test
+  void testConstructorAndAppendValidation() {
+    assertThrows(IllegalArgumentException.class, () -> new ReplicationLog(0));
+    assertThrows(IllegalArgumentException.class, () -> log.append(null));
+  }
+
+  @Test
+  void testEveryLogHasItsOwnEpoch() {
+    long epoch = log.getEpoch();
+    log.append(new byte[] {1});
+
+    assertTrue(epoch > 0);
+    assertEquals(epoch, log.getEpoch());
+    assertNotEquals(epoch, new ReplicationLog(4).getEpoch());
+  }
+
+  @Test
+  void testAppendAssignsConsecutiveOffsets() throws InterruptedException {
+    assertEquals(0, log.append(new byte[] {1}));
+    assertEquals(1, log.append(new byte[] {2}));
+    assertEquals(2, log.append(new byte[] {3}));
+
+    List<ReplicationLog.Entry> entries = log.read(1, 10, 0);
+
+    assertEquals(2, entries.size());
+    assertEquals(1, entries.get(0).offset);
+    assertArrayEquals(new byte[] {2}, entries.get(0).record);
+    assertArrayEquals(new byte[] {3}, entries.get(1).record);
+    assertEquals(1, log.read(0, 1, 0).size());
+    assertEquals(0, log.getStartOffset());
+    assertEquals(3, log.getEndOffset());
+  }
+
+  @Test
+  void testEvictsOldestRecords() throws InterruptedException {
+    for (int i = 0; i < 6; i++) {
+      log.append(new byte[] {(byte) i});
+    }
+
+    assertEquals(2, log.getStartOffset());
+    assertNull(log.read(1, 10, 0));
+    assertNull(log.read(7, 10, 0));
+    List<ReplicationLog.Entry> entries = log.read(2, 10, 0);
+    assertEquals(4, entries.size());
+    assertArrayEquals(new byte[] {5}, entries.get(3).record);
+  }
+
+  @Test
+  void testReadWaitsForRecords() throws Exception {
+    assertTrue(log.read(0, 10, 10).isEmpty());
+
+    CompletableFuture<List<ReplicationLog.Entry>> reader = CompletableFuture.supplyAsync(() -> {
+      try {
+        return log.read(0, 10, 5000);
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    Thread.sleep(50);
+    log.append(new byte[] {9});
+
+    List<ReplicationLog.Entry> entries = reader.get(5, TimeUnit.SECONDS);
+    assertEquals(1, entries.size());
+    assertEquals(0, entries.get(0).offset);
+  }
+}
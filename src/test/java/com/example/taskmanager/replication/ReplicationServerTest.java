@@ -0,0 +1,190 @@
+package com.example.taskmanager.replication;
+
+import com.example.taskmanager.Main;
+import com.example.taskmanager.config.ApplicationFactory;
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.ConcurrentTaskRepository;
+import com.example.taskmanager.repositories.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReplicationServer, with followers in this JVM and in a
+ * separate one.
+ */
+class ReplicationServerTest {
+
+  private LeaderTaskRepository leader;
+  private ReplicationServer server;
+  private final List<ReplicationFollower> followers = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    leader = new LeaderTaskRepository(new ConcurrentTaskRepository(), new ReplicationLog(64));
+    server = new ReplicationServer(leader, new InetSocketAddress("127.0.0.1", 0));
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    for (ReplicationFollower follower : followers) {
+      follower.close();
+    }
+    server.close();
+  }
+
+  @Test
+  void testConstructorValidation() {
+    InetSocketAddress address = new InetSocketAddress("127.0.0.1", 0);
+
+    assertThrows(IllegalArgumentException.class, () -> new ReplicationServer(null, address));
+    assertThrows(IllegalArgumentException.class, () -> new ReplicationServer(leader, null));
+  }
+
+  @Test
+  void testFollowersReceiveEveryChangeInOrder() {
+    leader.save(new Task("id-1", "Before", ""));
+    ReplicationFollower first = follow(new ConcurrentTaskRepository());
+    ReplicationFollower second = follow(new ConcurrentTaskRepository());
+
+    leader.save(new Task("id-2", "After", ""));
+    Task changed = leader.findById("id-1").get().copy();
+    changed.markAsCompleted();
+    leader.compareAndSet(changed);
+    leader.deleteById("id-2");
+    leader.save(new Task("id-3", "Last", ""));
+
+    for (ReplicationFollower follower : List.of(first, second)) {
+      awaitTrue(() -> follower.getOffset() == 5);
+      assertEquals(leader.findAll().toString(), follower.getRepository().findAll().toString());
+      assertEquals(1, follower.getRepository().countByStatus(true));
+      assertEquals(0, follower.getSnapshotCount());
+    }
+    awaitTrue(() -> server.getFollowerCount() == 2 && server.getMaxLag() == 0);
+  }
+
+  @Test
+  void testLagIsReportedOnBothSides() {
+    ReplicationFollower follower = follow(new ConcurrentTaskRepository());
+    awaitTrue(follower::isConnected);
+
+    for (int i = 0; i < 30; i++) {
+      leader.save(new Task("Task " + i, ""));
+    }
+
+    awaitTrue(() -> follower.getLag() == 0 && follower.getOffset() == 30);
+    assertEquals(30, follower.getLeaderOffset());
+    assertEquals(0, follower.getLagMillis());
+    awaitTrue(() -> server.getFollowerLags().values().stream().allMatch(lag -> lag == 0));
+    assertEquals(1, server.getFollowerLags().size());
+  }
+
+  @Test
+  void testFollowerBehindTheLogGetsASnapshot() {
+    for (int i = 0; i < 100; i++) {
+      leader.save(new Task("id-" + i, "Task " + i, ""));
+    }
+    for (int i = 0; i < 50; i++) {
+      leader.deleteById("id-" + i);
+    }
+    TaskRepository stale = new ConcurrentTaskRepository();
+    stale.save(new Task("stale", "Not on the leader", ""));
+
+    ReplicationFollower follower = follow(stale);
+    leader.save(new Task("id-new", "After the snapshot", ""));
+
+    awaitTrue(() -> follower.getOffset() == 151);
+    assertEquals(1, follower.getSnapshotCount());
+    assertEquals(1, server.getSnapshotCount());
+    assertEquals(51, stale.count());
+    assertFalse(stale.existsById("stale"));
+    assertTrue(stale.existsById("id-new"));
+  }
+
+  @Test
+  void testFollowerInAnotherJvmServesReplicatedReads() throws Exception {
+    leader.save(new Task("id-1", "Replicated", ""));
+    String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    Process process = new ProcessBuilder(java,
+        "-cp", System.getProperty("java.class.path"),
+        "-D" + ApplicationFactory.REPLICATION_ROLE_PROPERTY + "=follower",
+        "-D" + ApplicationFactory.REPLICATION_LEADER_PROPERTY + "=127.0.0.1:" + server.getPort(),
+        Main.class.getName(), "--server", "0")
+        .redirectErrorStream(true)
+        .start();
+    try {
+      BufferedReader output = new BufferedReader(
+          new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+      int port = -1;
+      for (String line = output.readLine(); line != null; line = output.readLine()) {
+        if (line.startsWith("Task Manager server listening on port ")) {
+          port = Integer.parseInt(line.substring(line.lastIndexOf(' ') + 1));
+          break;
+        }
+      }
+      assertTrue(port > 0, "follower did not start");
+      leader.save(new Task("id-2", "Also replicated", ""));
+
+      HttpClient client = HttpClient.newHttpClient();
+      URI count = URI.create("http://127.0.0.1:" + port + "/tasks/count");
+      awaitTrue(() -> get(client, count).contains("\"total\":2"));
+      HttpResponse<String> write = client.send(HttpRequest.newBuilder(
+              URI.create("http://127.0.0.1:" + port + "/tasks"))
+          .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Rejected\"}")).build(),
+          HttpResponse.BodyHandlers.ofString());
+      assertEquals(405, write.statusCode());
+      assertEquals(2, leader.count());
+    } finally {
+      process.destroyForcibly().waitFor(10, TimeUnit.SECONDS);
+    }
+  }
+
+  private ReplicationFollower follow(TaskRepository repository) {
+    ReplicationFollower follower = new ReplicationFollower(repository,
+        new InetSocketAddress("127.0.0.1", server.getPort()));
+    followers.add(follower);
+    follower.start();
+    return follower;
+  }
+
+  private static String get(HttpClient client, URI uri) {
+    try {
+      return client.send(HttpRequest.newBuilder(uri).build(),
+          HttpResponse.BodyHandlers.ofString()).body();
+    } catch (IOException e) {
+      return "";
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return "";
+    }
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "Timed out");
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        fail("Interrupted");
+      }
+    }
+  }
+}
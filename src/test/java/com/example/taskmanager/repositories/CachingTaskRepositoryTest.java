@@ -0,0 +1,226 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.CachingTaskRepository.EvictionPolicy;
+import com.example.taskmanager.repositories.CachingTaskRepository.WriteMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CachingTaskRepository.
+ */
+class CachingTaskRepositoryTest {
+
+  private CountingRepository delegate;
+
+  @BeforeEach
+  void setUp() {
+    delegate = new CountingRepository();
+  }
+
+  @Test
+  void testConstructorRejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new CachingTaskRepository(null, 10));
+    assertThrows(IllegalArgumentException.class, () -> new CachingTaskRepository(delegate, 0));
+    assertThrows(IllegalArgumentException.class, () -> new CachingTaskRepository(delegate, 10,
+        null, WriteMode.WRITE_THROUGH, 10));
+    assertThrows(IllegalArgumentException.class, () -> new CachingTaskRepository(delegate, 10,
+        EvictionPolicy.LRU, WriteMode.WRITE_BEHIND, 0));
+  }
+
+  @Test
+  void testFindByIndexThenByIdReachesStorageOnce() {
+    Task task = delegate.save(new Task("Task", ""));
+    CachingTaskRepository repository = new CachingTaskRepository(delegate, 10);
+
+    Task byIndex = repository.findByIndex(0).get();
+    Task byId = repository.findById(task.getId()).get();
+
+    assertSame(byIndex, byId);
+    assertEquals(0, delegate.findByIdCalls);
+    assertEquals(1, repository.getStats().getHitCount());
+  }
+
+  @Test
+  void testStatsCountHitsAndMisses() {
+    Task task = delegate.save(new Task("Task", ""));
+    CachingTaskRepository repository = new CachingTaskRepository(delegate, 10);
+
+    repository.findById(task.getId());
+    repository.findById(task.getId());
+    repository.findById(task.getId());
+    repository.findById("missing");
+
+    CachingTaskRepository.Stats stats = repository.getStats();
+    assertEquals(2, stats.getHitCount());
+    assertEquals(2, stats.getMissCount());
+    assertEquals(0.5, stats.getHitRate());
+    assertEquals(1, stats.getSize());
+    assertEquals(2, delegate.findByIdCalls);
+  }
+
+  @Test
+  void testLruEvictsLeastRecentlyUsed() {
+    CachingTaskRepository repository = new CachingTaskRepository(delegate, 2);
+    Task first = repository.save(new Task("First", ""));
+    Task second = repository.save(new Task("Second", ""));
+
+    repository.findById(first.getId());
+    repository.save(new Task("Third", ""));
+    repository.findById(first.getId());
+    repository.findById(second.getId());
+
+    assertEquals(1, delegate.findByIdCalls);
+    assertTrue(repository.getStats().getEvictionCount() >= 1);
+    assertEquals(2, repository.getStats().getSize());
+  }
+
+  @Test
+  void testWriteThroughSavesImmediately() {
+    CachingTaskRepository repository = new CachingTaskRepository(delegate, 10);
+
+    repository.save(new Task("Task", ""));
+
+    assertEquals(1, delegate.count());
+    assertEquals(0, repository.getPendingWriteCount());
+  }
+
+  @Test
+  void testWriteThroughCachesWhatTheDelegateStored() {
+    TaskRepository copying = new InMemoryTaskRepository() {
+      @Override
+      public Task save(Task task) {
+        return super.save(task.copy());
+      }
+
+      @Override
+      public List<Task> saveAll(Collection<Task> tasks) {
+        List<Task> copies = new ArrayList<>();
+        for (Task task : tasks) {
+          copies.add(task.copy());
+        }
+        return super.saveAll(copies);
+      }
+    };
+    CachingTaskRepository repository = new CachingTaskRepository(copying, 10);
+    Task single = new Task("Single", "");
+    Task batched = new Task("Batched", "");
+
+    Task savedSingle = repository.save(single);
+    List<Task> savedBatch = repository.saveAll(List.of(batched));
+
+    assertNotSame(single, savedSingle);
+    assertSame(savedSingle, repository.findById(single.getId()).get());
+    assertNotSame(batched, savedBatch.get(0));
+    assertSame(savedBatch.get(0), repository.findById(batched.getId()).get());
+  }
+
+  @Test
+  void testWriteBehindBatchesSaves() {
+    CachingTaskRepository repository = new CachingTaskRepository(delegate, 100,
+        EvictionPolicy.TINY_LFU, WriteMode.WRITE_BEHIND, 3);
+    Task first = repository.save(new Task("First", ""));
+    repository.save(new Task("Second", ""));
+
+    assertEquals(0, delegate.count());
+    assertEquals(2, repository.getPendingWriteCount());
+    assertTrue(repository.findById(first.getId()).isPresent());
+    assertTrue(repository.existsById(first.getId()));
+
+    repository.save(new Task("Third", ""));
+
+    assertEquals(3, delegate.count());
+    assertEquals(1, delegate.saveAllCalls);
+    assertEquals(0, repository.getPendingWriteCount());
+  }
+
+  @Test
+  void testWriteBehindFlushesBeforePositionalReadsAndDeletes() {
+    CachingTaskRepository repository = new CachingTaskRepository(delegate, 100,
+        EvictionPolicy.LRU, WriteMode.WRITE_BEHIND, 100);
+    Task first = repository.save(new Task("First", ""));
+    repository.save(new Task("Second", ""));
+
+    assertEquals(2, repository.count());
+    assertEquals("Second", repository.findByIndex(1).get().getName());
+
+    repository.save(new Task("Third", ""));
+    assertTrue(repository.deleteById(first.getId()));
+    assertFalse(repository.findById(first.getId()).isPresent());
+    assertEquals(2, delegate.count());
+  }
+
+  @Test
+  void testPendingWritesSurviveEviction() {
+    CachingTaskRepository repository = new CachingTaskRepository(delegate, 1,
+        EvictionPolicy.LRU, WriteMode.WRITE_BEHIND, 100);
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      tasks.add(repository.save(new Task("Task " + i, "")));
+    }
+
+    assertEquals("Task 0", repository.findById(tasks.get(0).getId()).get().getName());
+    repository.close();
+
+    assertEquals(5, delegate.count());
+    assertEquals(0, repository.getStats().getSize());
+  }
+
+  @Test
+  void testDeletesInvalidateCache() {
+    CachingTaskRepository repository = new CachingTaskRepository(delegate, 10);
+    Task first = repository.save(new Task("First", ""));
+    Task second = repository.save(new Task("Second", ""));
+    Task third = repository.save(new Task("Third", ""));
+
+    assertTrue(repository.deleteByIndex(0));
+    assertEquals(1, repository.deleteAllById(List.of(second.getId())));
+
+    assertFalse(repository.findById(first.getId()).isPresent());
+    assertFalse(repository.existsById(second.getId()));
+    assertTrue(repository.findById(third.getId()).isPresent());
+    assertEquals(1, repository.count());
+  }
+
+  /**
+   * Repository that counts calls reaching storage.
+   */
+  private static class CountingRepository extends InMemoryTaskRepository {
+    int findByIdCalls;
+    int saveAllCalls;
+
+    @Override
+    public Optional<Task> findById(String id) {
+      findByIdCalls++;
+      return super.findById(id);
+    }
+
+    @Override
+    public List<Task> saveAll(Collection<Task> tasks) {
+      saveAllCalls++;
+      return super.saveAll(tasks);
+    }
+  }
+
+  @Test
+  void testCompareAndSetWithWriteBehind() {
+    CachingTaskRepository repository = new CachingTaskRepository(delegate, 10,
+        EvictionPolicy.LRU, WriteMode.WRITE_BEHIND, 10);
+    Task task = repository.save(new Task("Task", ""));
+    Task copy = task.copy();
+    copy.markAsCompleted();
+
+    repository.compareAndSet(copy);
+    assertThrows(TaskVersionConflictException.class, () -> repository.compareAndSet(copy));
+    repository.flush();
+
+    Task stored = delegate.findById(task.getId()).get();
+    assertEquals(1, stored.getVersion());
+    assertTrue(stored.isCompleted());
+  }
+}
@@ -0,0 +1,200 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ColumnarTaskRepository.
+ */
+class ColumnarTaskRepositoryTest {
+
+  private ColumnarTaskRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new ColumnarTaskRepository();
+  }
+
+  @Test
+  void testSaveNullTask() {
+    assertThrows(IllegalArgumentException.class, () -> repository.save(null));
+  }
+
+  @Test
+  void testSaveAndFindEveryIdForm() {
+    Task wide = new Task("Wide", "Naïve café ☕");
+    Task narrow = new Task(TaskId.of(99), "Narrow", "");
+    Task literal = new Task("custom-id", "Literal", "Description");
+    literal.markAsCompleted();
+
+    repository.saveAll(List.of(wide, narrow, literal));
+
+    assertEquals(3, repository.count());
+    Task found = repository.findById(wide.getId()).get();
+    assertEquals(wide, found);
+    assertEquals("Naïve café ☕", found.getDescription());
+    assertEquals("Narrow", repository.findById("0000000000000063").get().getName());
+    assertTrue(repository.findById("custom-id").get().isCompleted());
+    assertFalse(repository.findById("custom-id2").isPresent());
+    assertFalse(repository.findById(null).isPresent());
+    assertTrue(repository.existsById("custom-id"));
+  }
+
+  @Test
+  void testReturnedTasksAreCopies() {
+    Task task = repository.save(new Task("Original", ""));
+
+    Task copy = repository.findById(task.getId()).get();
+    copy.setName("Changed");
+
+    assertNotSame(task, copy);
+    assertEquals("Original", repository.findByIndex(0).get().getName());
+    repository.save(copy);
+    assertEquals("Changed", repository.findByIndex(0).get().getName());
+  }
+
+  @Test
+  void testUpdateKeepsPosition() {
+    Task first = repository.save(new Task("First", ""));
+    repository.save(new Task("Second", ""));
+
+    first.setDescription("Updated");
+    first.markAsCompleted();
+    repository.save(first);
+
+    assertEquals(2, repository.count());
+    Task stored = repository.findByIndex(0).get();
+    assertEquals("Updated", stored.getDescription());
+    assertTrue(stored.isCompleted());
+  }
+
+  @Test
+  void testStatusCountsAndListings() {
+    for (int i = 0; i < 10; i++) {
+      Task task = new Task("Task " + i, "");
+      task.setCompleted(i % 4 == 0);
+      repository.save(task);
+    }
+    repository.deleteByIndex(0);
+
+    assertEquals(2, repository.countByStatus(true));
+    assertEquals(7, repository.countByStatus(false));
+    assertEquals(List.of("Task 4", "Task 8"), repository.findByStatus(true).stream()
+        .map(Task::getName).collect(Collectors.toList()));
+  }
+
+  @Test
+  void testDeletes() {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      tasks.add(repository.save(new Task("Task " + i, "")));
+    }
+
+    assertTrue(repository.deleteById(tasks.get(1).getId()));
+    assertFalse(repository.deleteById(tasks.get(1).getId()));
+    assertTrue(repository.deleteByIndex(0));
+    assertFalse(repository.deleteByIndex(10));
+    assertEquals(2, repository.deleteAllById(List.of(tasks.get(3).getId(),
+        tasks.get(3).getId(), tasks.get(5).getId(), "missing")));
+
+    assertEquals(List.of("Task 2", "Task 4"), repository.findAll().stream()
+        .map(Task::getName).collect(Collectors.toList()));
+    assertFalse(repository.existsById(tasks.get(0).getId()));
+  }
+
+  @Test
+  void testMatchesInMemoryRepositoryUnderRandomOperations() {
+    InMemoryTaskRepository expected = new InMemoryTaskRepository();
+    Random random = new Random(5);
+
+    for (int i = 0; i < 20000; i++) {
+      int op = random.nextInt(5);
+      if (op < 2 || expected.count() == 0) {
+        Task task = i % 7 == 0 ? new Task("literal-" + i, "Task " + i, "")
+            : new Task("Task " + i, "Description " + i);
+        expected.save(task);
+        repository.save(new Task(task.getTaskId(), task.getName(), task.getDescription()));
+      } else if (op == 2) {
+        Task task = expected.findByIndex(random.nextInt(expected.count())).get();
+        task.setName("Renamed " + i);
+        task.setCompleted(random.nextBoolean());
+        expected.save(task);
+        repository.save(task);
+      } else if (op == 3) {
+        int position = random.nextInt(expected.count());
+        assertEquals(expected.deleteByIndex(position), repository.deleteByIndex(position));
+      } else {
+        String id = expected.findByIndex(random.nextInt(expected.count())).get().getId();
+        assertEquals(expected.deleteById(id), repository.deleteById(id));
+      }
+    }
+
+    List<Task> all = expected.findAll();
+    assertEquals(all.size(), repository.count());
+    for (int i = 0; i < all.size(); i++) {
+      Task actual = repository.findByIndex(i).get();
+      assertEquals(all.get(i), actual);
+      assertEquals(all.get(i).getName(), actual.getName());
+      assertEquals(all.get(i).isCompleted(), actual.isCompleted());
+      assertEquals(all.get(i).getName(), repository.findById(actual.getId()).get().getName());
+    }
+    assertEquals(expected.countByStatus(true), repository.countByStatus(true));
+  }
+
+  @Test
+  void testCompactionAfterMassDelete() {
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      ids.add(repository.save(new Task("Task " + i, "Description " + i)).getId());
+    }
+
+    assertEquals(4900, repository.deleteAllById(ids.subList(0, 4900)));
+    Task added = repository.save(new Task("Added", ""));
+
+    assertEquals(101, repository.count());
+    assertEquals("Task 4900", repository.findByIndex(0).get().getName());
+    assertEquals("Task 4999", repository.findById(ids.get(4999)).get().getName());
+    assertFalse(repository.findById(ids.get(0)).isPresent());
+    assertEquals(added, repository.findByIndex(100).get());
+  }
+
+  @Test
+  void testRepeatedUpdatesKeepArenaBounded() {
+    Task other = repository.save(new Task("Untouched", "Kept across compactions"));
+    Task task = repository.save(new Task("Task", ""));
+
+    for (int i = 0; i < 20_000; i++) {
+      task.setName("Renamed task number " + i);
+      task.setDescription("Description that changes on every save, round " + i);
+      repository.save(task);
+    }
+
+    assertTrue(repository.arenaBytes() < 2 * (1 << 16), "arena grew to "
+        + repository.arenaBytes());
+    assertEquals("Renamed task number 19999", repository.findById(task.getId()).get().getName());
+    assertEquals(other, repository.findByIndex(0).get());
+    assertEquals(2, repository.count());
+  }
+
+  @Test
+  void testCompareAndSetStoresVersion() {
+    Task task = repository.save(new Task("Task", ""));
+    Task copy = repository.findById(task.getId()).get();
+    copy.markAsCompleted();
+
+    repository.compareAndSet(copy);
+    Task found = repository.findById(task.getId()).get();
+
+    assertEquals(1, found.getVersion());
+    assertTrue(found.isCompleted());
+    assertThrows(TaskVersionConflictException.class, () -> repository.compareAndSet(copy));
+    assertEquals(2, repository.compareAndSet(found).get().getVersion());
+  }
+}
@@ -0,0 +1,297 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit and multi-threaded stress tests for ConcurrentTaskRepository.
+ */
+class ConcurrentTaskRepositoryTest {
+
+  private static final int THREADS = 8;
+  private static final int TASKS_PER_THREAD = 2000;
+
+  private ConcurrentTaskRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new ConcurrentTaskRepository();
+  }
+
+  @Test
+  void testSaveNullTask() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      repository.save(null);
+    });
+  }
+
+  @Test
+  void testSaveAndFind() {
+    Task task1 = new Task("Task 1", "Description 1");
+    Task task2 = new Task("Task 2", "Description 2");
+    repository.save(task1);
+    repository.save(task2);
+
+    assertEquals(2, repository.count());
+    assertSame(task1, repository.findById(task1.getId()).get());
+    assertSame(task2, repository.findByIndex(1).get());
+    assertEquals(List.of(task1, task2), repository.findAll());
+    assertFalse(repository.findById(null).isPresent());
+    assertFalse(repository.findByIndex(2).isPresent());
+    assertFalse(repository.findByIndex(-1).isPresent());
+  }
+
+  @Test
+  void testUpdateKeepsPosition() {
+    repository.save(new Task("id-1", "Task 1", ""));
+    repository.save(new Task("id-2", "Task 2", ""));
+
+    Task replacement = new Task("id-1", "Replaced", "");
+    repository.save(replacement);
+
+    assertEquals(2, repository.count());
+    assertSame(replacement, repository.findByIndex(0).get());
+  }
+
+  @Test
+  void testDeleteByIdAndIndex() {
+    Task task1 = new Task("Task 1", "");
+    Task task2 = new Task("Task 2", "");
+    Task task3 = new Task("Task 3", "");
+    repository.save(task1);
+    repository.save(task2);
+    repository.save(task3);
+
+    assertTrue(repository.deleteById(task2.getId()));
+    assertFalse(repository.deleteById(task2.getId()));
+    assertTrue(repository.deleteByIndex(0));
+    assertFalse(repository.deleteByIndex(5));
+
+    assertEquals(List.of(task3), repository.findAll());
+    assertFalse(repository.existsById(task1.getId()));
+  }
+
+  @Test
+  void testFindPageUsesOneSnapshot() {
+    for (int i = 0; i < 5; i++) {
+      repository.save(new Task("Task " + i, ""));
+    }
+
+    TaskPage first = repository.findPage(null, 4);
+    TaskPage second = repository.findPage(first.getNextCursor(), 4);
+
+    assertEquals(4, first.getTasks().size());
+    assertEquals("Task 4", second.getTasks().get(0).getName());
+    assertFalse(second.hasNext());
+  }
+
+  @Test
+  void testStatusCountsAndListings() {
+    Task first = repository.save(new Task("Task 1", ""));
+    repository.save(new Task("Task 2", ""));
+    first.markAsCompleted();
+    repository.save(first);
+
+    assertEquals(1, repository.countByStatus(true));
+    assertEquals(1, repository.countByStatus(false));
+    assertEquals(List.of(first), repository.findByStatus(true));
+
+    repository.deleteById(first.getId());
+
+    assertEquals(0, repository.countByStatus(true));
+    assertTrue(repository.findByStatus(true).isEmpty());
+  }
+
+  @Test
+  void testConcurrentStatusChangesKeepCountsExact() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      repository.save(new Task("id-" + i, "Task " + i, ""));
+    }
+
+    runConcurrently(thread -> {
+      for (int round = 0; round < 200; round++) {
+        for (int i = 0; i < 100; i++) {
+          Task task = new Task("id-" + i, "Task " + i, "");
+          task.setCompleted((round + thread + i) % 2 == 0);
+          repository.save(task);
+        }
+      }
+    });
+
+    int completed = 0;
+    for (Task task : repository.findAll()) {
+      if (task.isCompleted()) {
+        completed++;
+      }
+    }
+    assertEquals(completed, repository.countByStatus(true));
+    assertEquals(100 - completed, repository.countByStatus(false));
+  }
+
+  @Test
+  void testConcurrentInsertsAreAllVisibleInInsertionOrder() throws Exception {
+    runConcurrently(thread -> {
+      for (int i = 0; i < TASKS_PER_THREAD; i++) {
+        repository.save(new Task(thread + "-" + i, "Task " + i, ""));
+      }
+    });
+
+    assertEquals(THREADS * TASKS_PER_THREAD, repository.count());
+    List<Task> all = repository.findAll();
+    assertEquals(THREADS * TASKS_PER_THREAD, all.size());
+    // Each writer's own tasks must appear in the order it saved them
+    int[] next = new int[THREADS];
+    for (Task task : all) {
+      String[] parts = task.getId().split("-");
+      int thread = Integer.parseInt(parts[0]);
+      assertEquals(next[thread]++, Integer.parseInt(parts[1]));
+    }
+  }
+
+  @Test
+  void testConcurrentUpdatesOfSameTasksDoNotDuplicate() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      repository.save(new Task("id-" + i, "Task " + i, ""));
+    }
+
+    runConcurrently(thread -> {
+      for (int round = 0; round < 200; round++) {
+        for (int i = 0; i < 100; i++) {
+          repository.save(new Task("id-" + i, "Task " + i + " by " + thread, ""));
+        }
+      }
+    });
+
+    assertEquals(100, repository.count());
+    for (int i = 0; i < 100; i++) {
+      assertEquals("id-" + i, repository.findByIndex(i).get().getId());
+    }
+  }
+
+  @Test
+  void testConcurrentDeleteByIndexRemovesEachTaskOnce() throws Exception {
+    int total = THREADS * TASKS_PER_THREAD;
+    for (int i = 0; i < total; i++) {
+      repository.save(new Task("Task " + i, ""));
+    }
+    AtomicInteger deleted = new AtomicInteger();
+
+    runConcurrently(thread -> {
+      while (repository.count() > 0) {
+        if (repository.deleteByIndex(0)) {
+          deleted.incrementAndGet();
+        }
+      }
+    });
+
+    assertEquals(total, deleted.get());
+    assertEquals(0, repository.count());
+    assertTrue(repository.findAll().isEmpty());
+  }
+
+  @Test
+  void testReadersSeeConsistentSnapshotsDuringWrites() throws Exception {
+    AtomicBoolean writing = new AtomicBoolean(true);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<?>> readers = new ArrayList<>();
+      for (int r = 0; r < THREADS - 1; r++) {
+        readers.add(executor.submit(() -> {
+          while (writing.get()) {
+            List<Task> all = repository.findAll();
+            Set<String> ids = new HashSet<>();
+            for (Task task : all) {
+              assertNotNull(task);
+              assertTrue(ids.add(task.getId()), "duplicate task in snapshot");
+            }
+            Optional<Task> first = repository.findByIndex(0);
+            first.ifPresent(task -> assertNotNull(task.getId()));
+          }
+          return null;
+        }));
+      }
+      for (int i = 0; i < THREADS * TASKS_PER_THREAD; i++) {
+        Task task = new Task("Task " + i, "");
+        repository.save(task);
+        if (i % 3 == 0) {
+          repository.deleteById(task.getId());
+        }
+      }
+      writing.set(false);
+      for (Future<?> reader : readers) {
+        reader.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void runConcurrently(ThreadBody body) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        int thread = t;
+        futures.add(executor.submit(() -> {
+          start.await();
+          body.run(thread);
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @FunctionalInterface
+  private interface ThreadBody {
+    void run(int thread);
+  }
+
+  @Test
+  void testConcurrentCompareAndSetAppliesEveryUpdateOnce() throws Exception {
+    String id = repository.save(new Task("Counter", "0")).getId();
+    int rounds = 500;
+
+    runConcurrently(thread -> {
+      for (int round = 0; round < rounds; round++) {
+        while (true) {
+          Task task = repository.findById(id).get().copy();
+          task.setDescription(Integer.toString(Integer.parseInt(task.getDescription()) + 1));
+          task.setCompleted(round % 2 == 0);
+          try {
+            repository.compareAndSet(task);
+            break;
+          } catch (TaskVersionConflictException e) {
+            // Another thread won; read again
+          }
+        }
+      }
+    });
+
+    Task task = repository.findById(id).get();
+    assertEquals(THREADS * rounds, task.getVersion());
+    assertEquals(Integer.toString(THREADS * rounds), task.getDescription());
+    assertEquals(task.isCompleted() ? 1 : 0, repository.countByStatus(true));
+  }
+}
@@ -0,0 +1,291 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit and multi-threaded tests for CopyOnWriteTaskRepository.
+ */
+class CopyOnWriteTaskRepositoryTest {
+
+  private static final int THREADS = 4;
+  private static final int TASKS_PER_THREAD = 2000;
+
+  private CopyOnWriteTaskRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new CopyOnWriteTaskRepository();
+  }
+
+  @Test
+  void testSaveNullTask() {
+    assertThrows(IllegalArgumentException.class, () -> repository.save(null));
+    assertThrows(IllegalArgumentException.class, () -> repository.saveAll(null));
+    assertThrows(IllegalArgumentException.class, () -> repository.compareAndSet(null));
+  }
+
+  @Test
+  void testSaveAndFind() {
+    Task task1 = new Task("Task 1", "Description 1");
+    Task task2 = new Task("Task 2", "Description 2");
+    repository.save(task1);
+    repository.save(task2);
+
+    assertEquals(2, repository.count());
+    assertSame(task1, repository.findById(task1.getId()).get());
+    assertSame(task2, repository.findByIndex(1).get());
+    assertEquals(List.of(task1, task2), repository.findAll());
+    assertTrue(repository.existsById(task1.getId()));
+    assertFalse(repository.findById(null).isPresent());
+    assertFalse(repository.findById("missing").isPresent());
+    assertFalse(repository.findByIndex(2).isPresent());
+    assertFalse(repository.findByIndex(-1).isPresent());
+  }
+
+  @Test
+  void testUpdateKeepsPosition() {
+    repository.save(new Task("id-1", "Task 1", ""));
+    repository.save(new Task("id-2", "Task 2", ""));
+
+    Task replacement = new Task("id-1", "Replaced", "");
+    repository.save(replacement);
+
+    assertEquals(2, repository.count());
+    assertSame(replacement, repository.findByIndex(0).get());
+  }
+
+  @Test
+  void testDeleteByIdAndIndex() {
+    Task task1 = new Task("Task 1", "");
+    Task task2 = new Task("Task 2", "");
+    Task task3 = new Task("Task 3", "");
+    repository.saveAll(List.of(task1, task2, task3));
+
+    assertTrue(repository.deleteById(task2.getId()));
+    assertFalse(repository.deleteById(task2.getId()));
+    assertFalse(repository.deleteById(null));
+    assertTrue(repository.deleteByIndex(0));
+    assertFalse(repository.deleteByIndex(5));
+
+    assertEquals(List.of(task3), repository.findAll());
+    assertFalse(repository.existsById(task1.getId()));
+    assertSame(task3, repository.findByIndex(0).get());
+  }
+
+  @Test
+  void testDeleteAllById() {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      tasks.add(repository.save(new Task("Task " + i, "")));
+    }
+
+    int deleted = repository.deleteAllById(List.of(tasks.get(1).getId(),
+        tasks.get(3).getId(), tasks.get(1).getId(), "missing"));
+
+    assertEquals(2, deleted);
+    assertEquals(List.of(tasks.get(0), tasks.get(2), tasks.get(4)), repository.findAll());
+    assertEquals(0, repository.deleteAllById(null));
+  }
+
+  @Test
+  void testFindAllIsAnUnchangingView() {
+    Task task1 = repository.save(new Task("Task 1", ""));
+    List<Task> before = repository.findAll();
+
+    repository.save(new Task("Task 2", ""));
+    repository.deleteById(task1.getId());
+
+    assertEquals(List.of(task1), before);
+    assertEquals(1, repository.findAll().size());
+    assertThrows(UnsupportedOperationException.class, () -> before.add(task1));
+    Iterator<Task> iterator = before.iterator();
+    iterator.next();
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testFindPage() {
+    for (int i = 0; i < 5; i++) {
+      repository.save(new Task("Task " + i, ""));
+    }
+
+    TaskPage first = repository.findPage(null, 4);
+    TaskPage second = repository.findPage(first.getNextCursor(), 4);
+
+    assertEquals(4, first.getTasks().size());
+    assertEquals("Task 4", second.getTasks().get(0).getName());
+    assertFalse(second.hasNext());
+  }
+
+  @Test
+  void testStatusCountsAndListings() {
+    Task first = repository.save(new Task("Task 1", ""));
+    repository.save(new Task("Task 2", ""));
+    first.markAsCompleted();
+    repository.save(first);
+
+    assertEquals(1, repository.countByStatus(true));
+    assertEquals(1, repository.countByStatus(false));
+    assertEquals(List.of(first), repository.findByStatus(true));
+
+    repository.deleteById(first.getId());
+
+    assertEquals(0, repository.countByStatus(true));
+    assertTrue(repository.findByStatus(true).isEmpty());
+  }
+
+  @Test
+  void testCompareAndSet() {
+    Task stored = repository.save(new Task("Task", ""));
+    Task changed = stored.copy();
+    changed.setName("Changed");
+
+    Task updated = repository.compareAndSet(changed).get();
+
+    assertEquals(1, updated.getVersion());
+    assertEquals("Changed", repository.findById(stored.getId()).get().getName());
+    assertThrows(TaskVersionConflictException.class, () -> repository.compareAndSet(changed));
+    assertFalse(repository.compareAndSet(new Task("Other", "")).isPresent());
+  }
+
+  @Test
+  void testManyTasksSurviveDeletesAndCompaction() {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      tasks.add(repository.save(new Task("Task " + i, "")));
+    }
+    for (int i = 0; i < 5000; i++) {
+      if (i % 5 != 0) {
+        assertTrue(repository.deleteById(tasks.get(i).getId()));
+      }
+    }
+
+    assertEquals(1000, repository.count());
+    for (int i = 0; i < 1000; i++) {
+      Task expected = tasks.get(i * 5);
+      assertSame(expected, repository.findByIndex(i).get());
+      assertSame(expected, repository.findById(expected.getId()).get());
+    }
+    Task added = repository.save(new Task("Added", ""));
+    assertSame(added, repository.findByIndex(1000).get());
+  }
+
+  @Test
+  void testConcurrentInsertsAreAllVisible() throws Exception {
+    runConcurrently(thread -> {
+      for (int i = 0; i < TASKS_PER_THREAD; i++) {
+        repository.save(new Task(thread + "-" + i, "Task " + i, ""));
+      }
+    });
+
+    assertEquals(THREADS * TASKS_PER_THREAD, repository.count());
+    int[] next = new int[THREADS];
+    for (Task task : repository.findAll()) {
+      String[] parts = task.getId().split("-");
+      assertEquals(next[Integer.parseInt(parts[0])]++, Integer.parseInt(parts[1]));
+    }
+  }
+
+  @Test
+  void testConcurrentDeleteByIndexRemovesEachTaskOnce() throws Exception {
+    int total = THREADS * TASKS_PER_THREAD;
+    for (int i = 0; i < total; i++) {
+      repository.save(new Task("Task " + i, ""));
+    }
+    AtomicInteger deleted = new AtomicInteger();
+
+    runConcurrently(thread -> {
+      while (repository.count() > 0) {
+        if (repository.deleteByIndex(0)) {
+          deleted.incrementAndGet();
+        }
+      }
+    });
+
+    assertEquals(total, deleted.get());
+    assertTrue(repository.findAll().isEmpty());
+  }
+
+  @Test
+  void testReadersSeeWholeBatches() throws Exception {
+    AtomicBoolean writing = new AtomicBoolean(true);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<?>> readers = new ArrayList<>();
+      for (int r = 0; r < THREADS - 1; r++) {
+        readers.add(executor.submit(() -> {
+          while (writing.get()) {
+            List<Task> all = repository.findAll();
+            assertEquals(0, all.size() % 10, "partial batch visible");
+            Set<String> ids = new HashSet<>();
+            for (Task task : all) {
+              assertTrue(ids.add(task.getId()), "duplicate task in snapshot");
+            }
+            assertEquals(all.size(), ids.size());
+          }
+          return null;
+        }));
+      }
+      for (int round = 0; round < 500; round++) {
+        List<Task> batch = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+          batch.add(new Task("Task " + round + "/" + i, ""));
+        }
+        repository.saveAll(batch);
+        if (round % 2 == 1) {
+          repository.deleteAllById(batch.stream().map(Task::getId).toList());
+        }
+      }
+      writing.set(false);
+      for (Future<?> reader : readers) {
+        reader.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(2500, repository.count());
+  }
+
+  private void runConcurrently(ThreadBody body) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        int thread = t;
+        futures.add(executor.submit(() -> {
+          start.await();
+          body.run(thread);
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @FunctionalInterface
+  private interface ThreadBody {
+    void run(int thread);
+  }
+}
@@ -1,10 +1,14 @@
 package com.example.taskmanager.repositories;
 
 import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -196,4 +200,281 @@ class InMemoryTaskRepositoryTest {
     assertTrue(repository.existsById(task.getId()));
     assertFalse(repository.existsById("non-existent-id"));
   }
+
+  @Test
+  void testSaveReplacementKeepsPosition() {
+    Task task1 = new Task("id-1", "Task 1", "Description 1");
+    Task task2 = new Task("id-2", "Task 2", "Description 2");
+    repository.save(task1);
+    repository.save(task2);
+
+    Task replacement = new Task("id-1", "Replaced", "Description");
+    repository.save(replacement);
+
+    assertEquals(2, repository.count());
+    assertSame(replacement, repository.findByIndex(0).get());
+    assertSame(replacement, repository.findById("id-1").get());
+  }
+
+  @Test
+  void testDeleteByIdKeepsOrder() {
+    Task task1 = new Task("Task 1", "Description 1");
+    Task task2 = new Task("Task 2", "Description 2");
+    Task task3 = new Task("Task 3", "Description 3");
+    repository.save(task1);
+    repository.save(task2);
+    repository.save(task3);
+
+    repository.deleteById(task2.getId());
+
+    assertEquals(List.of(task1, task3), repository.findAll());
+    assertFalse(repository.existsById(task2.getId()));
+  }
+
+  @Test
+  void testPositionsSkipDeletedTasks() {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      tasks.add(repository.save(new Task("Task " + i, "")));
+    }
+
+    repository.deleteById(tasks.get(0).getId());
+    repository.deleteById(tasks.get(5).getId());
+
+    assertEquals(8, repository.count());
+    assertEquals(tasks.get(1), repository.findByIndex(0).get());
+    assertEquals(tasks.get(6), repository.findByIndex(4).get());
+    assertFalse(repository.findByIndex(8).isPresent());
+    assertTrue(repository.deleteByIndex(7));
+    assertEquals(tasks.subList(1, 5), repository.findAll().subList(0, 4));
+    assertEquals(7, repository.countByStatus(false));
+  }
+
+  @Test
+  void testDeletedTaskCanBeSavedAgain() {
+    Task task = repository.save(new Task("Task", ""));
+    repository.save(new Task("Other", ""));
+
+    repository.deleteById(task.getId());
+    repository.save(task);
+
+    assertEquals(2, repository.count());
+    assertEquals(task, repository.findByIndex(1).get());
+    assertEquals(List.of(task), repository.findByStatus(false).subList(1, 2));
+  }
+
+  @Test
+  void testDeleteByIndexRemovesFromIndex() {
+    Task task = new Task("Task", "Description");
+    repository.save(task);
+
+    repository.deleteByIndex(0);
+
+    assertFalse(repository.findById(task.getId()).isPresent());
+    assertFalse(repository.deleteById(task.getId()));
+  }
+
+  @Test
+  void testFindPageWalksAllTasks() {
+    for (int i = 0; i < 7; i++) {
+      repository.save(new Task("Task " + i, ""));
+    }
+
+    TaskPage first = repository.findPage(null, 3);
+    TaskPage second = repository.findPage(first.getNextCursor(), 3);
+    TaskPage third = repository.findPage(second.getNextCursor(), 3);
+
+    assertEquals(List.of("Task 0", "Task 1", "Task 2"), names(first));
+    assertEquals(List.of("Task 3", "Task 4", "Task 5"), names(second));
+    assertEquals(List.of("Task 6"), names(third));
+    assertEquals(6, third.getOffset());
+    assertFalse(third.hasNext());
+  }
+
+  @Test
+  void testFindPageCursorSurvivesEarlierDeletes() {
+    for (int i = 0; i < 6; i++) {
+      repository.save(new Task("Task " + i, ""));
+    }
+    TaskPage first = repository.findPage(null, 3);
+
+    repository.deleteByIndex(0);
+    repository.deleteByIndex(0);
+    TaskPage second = repository.findPage(first.getNextCursor(), 3);
+
+    assertEquals(List.of("Task 3", "Task 4", "Task 5"), names(second));
+    assertEquals(1, second.getOffset());
+  }
+
+  @Test
+  void testFindPageCursorAfterLastTaskOfPageRemoved() {
+    for (int i = 0; i < 6; i++) {
+      repository.save(new Task("Task " + i, ""));
+    }
+    TaskPage first = repository.findPage(null, 3);
+
+    repository.deleteByIndex(2);
+    TaskPage second = repository.findPage(first.getNextCursor(), 3);
+
+    assertEquals(List.of("Task 3", "Task 4", "Task 5"), names(second));
+  }
+
+  @Test
+  void testFindPageRejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> repository.findPage(null, 0));
+    assertThrows(IllegalArgumentException.class, () -> repository.findPage("%%%", 10));
+    assertTrue(repository.findPage(null, 10).getTasks().isEmpty());
+  }
+
+  @Test
+  void testSaveAllAppendsAndUpdates() {
+    Task existing = repository.save(new Task("Existing", ""));
+    existing.setName("Renamed");
+
+    List<Task> saved = repository.saveAll(List.of(new Task("New 1", ""), existing,
+        new Task("New 2", "")));
+
+    assertEquals(3, saved.size());
+    assertEquals(3, repository.count());
+    assertEquals("Renamed", repository.findByIndex(0).get().getName());
+    assertEquals("New 2", repository.findByIndex(2).get().getName());
+    assertThrows(IllegalArgumentException.class, () -> repository.saveAll(null));
+    assertThrows(IllegalArgumentException.class,
+        () -> repository.saveAll(Arrays.asList(new Task("Valid", ""), null)));
+  }
+
+  @Test
+  void testFindAllById() {
+    Task first = repository.save(new Task("First", ""));
+    Task second = repository.save(new Task("Second", ""));
+
+    List<Task> found = repository.findAllById(List.of(second.getId(), "missing", first.getId()));
+
+    assertEquals(List.of(second, first), found);
+    assertTrue(repository.findAllById(null).isEmpty());
+  }
+
+  @Test
+  void testDeleteAllByIdKeepsOrderOfRemainingTasks() {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      tasks.add(repository.save(new Task("Task " + i, "")));
+    }
+
+    int deleted = repository.deleteAllById(Arrays.asList(tasks.get(4).getId(),
+        tasks.get(1).getId(), tasks.get(1).getId(), "missing", null));
+
+    assertEquals(2, deleted);
+    assertEquals(4, repository.count());
+    assertEquals(List.of("Task 0", "Task 2", "Task 3", "Task 5"),
+        names(repository.findPage(null, 10)));
+    assertFalse(repository.existsById(tasks.get(4).getId()));
+    assertEquals(0, repository.deleteAllById(List.of()));
+  }
+
+  @Test
+  void testStatusCountsFollowSaves() {
+    Task first = repository.save(new Task("Task 1", ""));
+    Task second = repository.save(new Task("Task 2", ""));
+    repository.save(new Task("Task 3", ""));
+
+    first.markAsCompleted();
+    assertEquals(0, repository.countByStatus(true));
+    repository.save(first);
+    second.markAsCompleted();
+    repository.saveAll(List.of(second));
+
+    assertEquals(2, repository.countByStatus(true));
+    assertEquals(1, repository.countByStatus(false));
+
+    second.setCompleted(false);
+    repository.save(second);
+
+    assertEquals(1, repository.countByStatus(true));
+    assertEquals(2, repository.countByStatus(false));
+  }
+
+  @Test
+  void testStatusCountsFollowDeletes() {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      Task task = new Task("Task " + i, "");
+      task.setCompleted(i % 2 == 0);
+      tasks.add(repository.save(task));
+    }
+
+    repository.deleteById(tasks.get(0).getId());
+    repository.deleteByIndex(0);
+    repository.deleteAllById(List.of(tasks.get(2).getId(), tasks.get(5).getId()));
+
+    assertEquals(1, repository.countByStatus(true));
+    assertEquals(1, repository.countByStatus(false));
+    assertEquals(0, repository.countByStatus(true) + repository.countByStatus(false)
+        - repository.count());
+  }
+
+  @Test
+  void testFindByStatusKeepsPositionOrder() {
+    for (int i = 0; i < 6; i++) {
+      Task task = new Task("Task " + i, "");
+      task.setCompleted(i % 3 == 0);
+      repository.save(task);
+    }
+
+    List<Task> completed = repository.findByStatus(true);
+    List<Task> pending = repository.findByStatus(false);
+
+    assertEquals(List.of("Task 0", "Task 3"),
+        completed.stream().map(Task::getName).collect(Collectors.toList()));
+    assertEquals(List.of("Task 1", "Task 2", "Task 4", "Task 5"),
+        pending.stream().map(Task::getName).collect(Collectors.toList()));
+    assertThrows(UnsupportedOperationException.class, () -> pending.add(new Task("x", "")));
+  }
+
+  private static List<String> names(TaskPage page) {
+    return page.getTasks().stream().map(Task::getName).collect(Collectors.toList());
+  }
+
+  @Test
+  void testCompareAndSet() {
+    Task stored = repository.save(new Task("Original", ""));
+    Task first = stored.copy();
+    Task second = stored.copy();
+    first.setName("First");
+    second.setName("Second");
+
+    Task updated = repository.compareAndSet(first).get();
+    TaskVersionConflictException conflict = assertThrows(TaskVersionConflictException.class,
+        () -> repository.compareAndSet(second));
+
+    assertEquals(1, updated.getVersion());
+    assertEquals("First", repository.findById(stored.getId()).get().getName());
+    assertEquals("Original", stored.getName());
+    assertEquals(0, conflict.getExpectedVersion());
+    assertEquals(1, conflict.getActualVersion());
+    assertEquals(stored.getId(), conflict.getTaskId());
+    assertFalse(repository.compareAndSet(new Task("Missing", "")).isPresent());
+    assertThrows(IllegalArgumentException.class, () -> repository.compareAndSet(null));
+  }
+
+  @Test
+  void testCompareAndSetAllSkipsConflictsAndMissingTasks() {
+    Task fresh = repository.save(new Task("Fresh", ""));
+    Task stale = repository.save(new Task("Stale", ""));
+    Task staleCopy = stale.copy();
+    repository.compareAndSet(stale.copy());
+    Task missing = new Task("Missing", "");
+    fresh.markAsCompleted();
+    staleCopy.markAsCompleted();
+
+    List<Task> stored = repository.compareAndSetAll(List.of(missing, staleCopy, fresh));
+
+    assertEquals(List.of(fresh), stored);
+    assertEquals(1, stored.get(0).getVersion());
+    assertTrue(repository.findById(fresh.getId()).get().isCompleted());
+    assertFalse(repository.findById(stale.getId()).get().isCompleted());
+    assertFalse(repository.existsById(missing.getId()));
+    assertTrue(repository.compareAndSetAll(List.of()).isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> repository.compareAndSetAll(null));
+  }
 }
@@ -0,0 +1,189 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IndexedTaskRepository.
+ */
+class IndexedTaskRepositoryTest {
+
+  private InMemoryTaskRepository delegate;
+  private IndexedTaskRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    delegate = new InMemoryTaskRepository();
+    repository = new IndexedTaskRepository(delegate);
+  }
+
+  @Test
+  void testConstructorRejectsNull() {
+    assertThrows(IllegalArgumentException.class, () -> new IndexedTaskRepository(null));
+  }
+
+  @Test
+  void testIndexesExistingTasks() {
+    delegate.save(new Task("Buy milk", "From the corner shop"));
+
+    IndexedTaskRepository indexed = new IndexedTaskRepository(delegate);
+
+    assertEquals(Set.of("Buy milk"), names(indexed.search("shop")));
+  }
+
+  @Test
+  void testSearchMatchesAllTermsIgnoringCase() {
+    repository.save(new Task("Buy milk", "From the corner shop"));
+    repository.save(new Task("Buy bread", "Whole-grain, from the BAKERY"));
+    repository.save(new Task("Call bakery", ""));
+
+    assertEquals(Set.of("Buy milk", "Buy bread"), names(repository.search("buy")));
+    assertEquals(Set.of("Buy bread", "Call bakery"), names(repository.search("Bakery")));
+    assertEquals(Set.of("Buy bread"), names(repository.search("bakery BUY")));
+    assertEquals(Set.of("Buy bread"), names(repository.search("grain")));
+    assertTrue(repository.search("bak").isEmpty());
+    assertTrue(repository.search("buy unknown").isEmpty());
+    assertTrue(repository.search("  ,. ").isEmpty());
+    assertTrue(repository.search(null).isEmpty());
+  }
+
+  @Test
+  void testSavingAnEditedTaskUpdatesTheIndex() {
+    Task task = repository.save(new Task("Write report", "Quarterly numbers"));
+
+    task.setName("Review report");
+    task.setDescription("Annual numbers");
+    repository.save(task);
+
+    assertTrue(repository.search("write").isEmpty());
+    assertTrue(repository.search("quarterly").isEmpty());
+    assertEquals(Set.of("Review report"), names(repository.search("report annual")));
+  }
+
+  @Test
+  void testDeletesRemoveTasksFromTheIndex() {
+    Task first = repository.save(new Task("Alpha task", ""));
+    Task second = repository.save(new Task("Beta task", ""));
+    repository.save(new Task("Gamma task", ""));
+    Task fourth = repository.save(new Task("Delta task", ""));
+
+    assertTrue(repository.deleteById(first.getId()));
+    assertFalse(repository.deleteById(first.getId()));
+    assertTrue(repository.deleteByIndex(1));
+    assertFalse(repository.deleteByIndex(10));
+    assertEquals(1, repository.deleteAllById(List.of(fourth.getId(), "missing")));
+
+    assertEquals(Set.of("Beta task"), names(repository.search("task")));
+    assertEquals(second.getId(), repository.findByIndex(0).get().getId());
+    assertEquals(1, repository.count());
+  }
+
+  @Test
+  void testSaveAllIndexesEveryTask() {
+    repository.saveAll(List.of(new Task("One thing", ""), new Task("Two things", "")));
+
+    assertEquals(Set.of("One thing"), names(repository.search("thing")));
+    assertEquals(2, repository.count());
+  }
+
+  @Test
+  void testMatchesScanUnderRandomEdits() {
+    String[] words = {"red", "green", "blue", "fast", "slow", "report", "email", "call"};
+    Random random = new Random(11);
+    for (int i = 0; i < 3000; i++) {
+      int op = random.nextInt(4);
+      if (op < 2 || delegate.count() == 0) {
+        repository.save(new Task(words[random.nextInt(words.length)] + " " + i,
+            words[random.nextInt(words.length)]));
+      } else if (op == 2) {
+        Task task = delegate.findByIndex(random.nextInt(delegate.count())).get();
+        task.setDescription(words[random.nextInt(words.length)] + " "
+            + words[random.nextInt(words.length)]);
+        repository.save(task);
+      } else {
+        repository.deleteByIndex(random.nextInt(delegate.count()));
+      }
+    }
+
+    for (String first : words) {
+      for (String second : words) {
+        String query = first + " " + second;
+        assertEquals(new HashSet<>(delegate.search(query)), new HashSet<>(repository.search(query)),
+            query);
+      }
+    }
+  }
+
+  @Test
+  void testConcurrentWritersKeepIndexInStepWithStore() throws Exception {
+    ConcurrentTaskRepository store = new ConcurrentTaskRepository();
+    IndexedTaskRepository indexed = new IndexedTaskRepository(store);
+    String[] words = {"red", "green", "blue", "fast", "slow"};
+    int threads = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        Random random = new Random(t);
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < 2000; i++) {
+            String id = "id-" + random.nextInt(50);
+            if (random.nextInt(4) == 0) {
+              indexed.deleteById(id);
+            } else {
+              indexed.save(new Task(id, words[random.nextInt(words.length)],
+                  words[random.nextInt(words.length)]));
+            }
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (String first : words) {
+      for (String second : words) {
+        String query = first + " " + second;
+        assertEquals(new HashSet<>(store.search(query)), new HashSet<>(indexed.search(query)),
+            query);
+      }
+    }
+  }
+
+  private static Set<String> names(List<Task> tasks) {
+    return tasks.stream().map(Task::getName).collect(Collectors.toSet());
+  }
+
+  @Test
+  void testCompareAndSetUpdatesIndex() {
+    Task task = repository.save(new Task("Buy milk", ""));
+    Task copy = task.copy();
+    copy.setName("Buy bread");
+
+    repository.compareAndSet(copy);
+
+    assertTrue(repository.search("milk").isEmpty());
+    assertEquals(Set.of("Buy bread"), names(repository.search("bread")));
+    assertThrows(TaskVersionConflictException.class, () -> repository.compareAndSet(copy));
+  }
+}
@@ -0,0 +1,63 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.metrics.MetricsRegistry;
+import com.example.taskmanager.models.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InstrumentedTaskRepository.
+ */
+class InstrumentedTaskRepositoryTest {
+
+  private MetricsRegistry metrics;
+  private TaskRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    metrics = new MetricsRegistry();
+    repository = new InstrumentedTaskRepository(
+        new IndexedTaskRepository(new InMemoryTaskRepository()), metrics);
+  }
+
+  @Test
+  void testForwardsEveryOperation() {
+    Task first = repository.save(new Task("Buy milk", ""));
+    Task second = new Task("Walk dog", "");
+    first.markAsCompleted();
+    repository.saveAll(List.of(first, second));
+
+    assertEquals(List.of(first), repository.search("milk"));
+    assertEquals(List.of(first), repository.findByStatus(true));
+    assertEquals(1, repository.countByStatus(false));
+    assertEquals(2, repository.findAllById(List.of(first.getId(), second.getId())).size());
+    assertEquals(1, repository.deleteAllById(List.of(second.getId())));
+    assertTrue(repository.existsById(first.getId()));
+    assertEquals(1, repository.count());
+
+    assertEquals(1, metrics.operation("repository.save").getLatency().getCount());
+    assertEquals(1, metrics.operation("repository.saveAll").getLatency().getCount());
+    assertEquals(1, metrics.operation("repository.search").getLatency().getCount());
+    assertEquals(1, metrics.operation("repository.deleteAllById").getLatency().getCount());
+  }
+
+  @Test
+  void testRecordsErrors() {
+    assertThrows(IllegalArgumentException.class, () -> repository.save(null));
+
+    assertEquals(1, metrics.operation("repository.save").getErrorCount());
+  }
+
+  @Test
+  void testRecordsCompareAndSet() {
+    Task task = repository.save(new Task("Task", ""));
+
+    repository.compareAndSet(task.copy());
+    assertThrows(TaskVersionConflictException.class, () -> repository.compareAndSet(task));
+
+    assertEquals(2, metrics.operation("repository.compareAndSet").getLatency().getCount());
+    assertEquals(1, metrics.operation("repository.compareAndSet").getErrorCount());
+  }
+}
@@ -0,0 +1,164 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OffHeapTaskRepository.
+ */
+class OffHeapTaskRepositoryTest {
+
+  private OffHeapTaskRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new OffHeapTaskRepository(4096);
+  }
+
+  @Test
+  void testRejectsInvalidSlabSize() {
+    assertThrows(IllegalArgumentException.class, () -> new OffHeapTaskRepository(1000));
+    assertThrows(IllegalArgumentException.class, () -> new OffHeapTaskRepository(128));
+  }
+
+  @Test
+  void testSaveAndFind() {
+    Task task = new Task("Task", "Ünïcödé description");
+    task.markAsCompleted();
+
+    repository.save(task);
+    repository.save(new Task("custom-id", "Other", ""));
+
+    Task found = repository.findById(task.getId()).get();
+    assertNotSame(task, found);
+    assertEquals(task, found);
+    assertEquals("Ünïcödé description", found.getDescription());
+    assertTrue(found.isCompleted());
+    assertEquals("Other", repository.findById("custom-id").get().getName());
+    assertFalse(repository.findById("custom-i").isPresent());
+    assertFalse(repository.findById(null).isPresent());
+    assertThrows(IllegalArgumentException.class, () -> repository.save(null));
+  }
+
+  @Test
+  void testUpdateMovesRecordWhenItOutgrowsItsBlock() {
+    Task task = repository.save(new Task("Short", ""));
+    repository.save(new Task("Next", ""));
+
+    task.setDescription("x".repeat(500));
+    repository.save(task);
+    task.setName("Shorter");
+    repository.save(task);
+
+    assertEquals(2, repository.count());
+    Task stored = repository.findByIndex(0).get();
+    assertEquals("Shorter", stored.getName());
+    assertEquals(500, stored.getDescription().length());
+  }
+
+  @Test
+  void testDeletedBlocksAreReused() {
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      ids.add(repository.save(new Task("Task " + i, "")).getId());
+    }
+    long allocated = repository.allocatedBytes();
+
+    for (String id : ids) {
+      assertTrue(repository.deleteById(id));
+    }
+    for (int i = 0; i < 100; i++) {
+      repository.save(new Task("Again " + i, ""));
+    }
+
+    assertEquals(allocated, repository.allocatedBytes());
+    assertEquals(100, repository.count());
+  }
+
+  @Test
+  void testRejectsRecordLargerThanSlab() {
+    Task huge = new Task("Huge", "x".repeat(5000));
+
+    assertThrows(IllegalArgumentException.class, () -> repository.save(huge));
+    assertEquals(0, repository.count());
+  }
+
+  @Test
+  void testStatusAndBatchDelete() {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      Task task = new Task("Task " + i, "");
+      task.setCompleted(i % 2 == 0);
+      tasks.add(repository.save(task));
+    }
+
+    assertEquals(2, repository.deleteAllById(List.of(tasks.get(0).getId(),
+        tasks.get(3).getId(), "missing")));
+
+    assertEquals(2, repository.countByStatus(true));
+    assertEquals(2, repository.countByStatus(false));
+    assertEquals(List.of("Task 2", "Task 4"), repository.findByStatus(true).stream()
+        .map(Task::getName).collect(Collectors.toList()));
+    assertTrue(repository.deleteByIndex(0));
+    assertFalse(repository.deleteByIndex(5));
+    assertEquals(List.of("Task 2", "Task 4", "Task 5"), repository.findAll().stream()
+        .map(Task::getName).collect(Collectors.toList()));
+  }
+
+  @Test
+  void testMatchesInMemoryRepositoryUnderRandomOperations() {
+    InMemoryTaskRepository expected = new InMemoryTaskRepository();
+    Random random = new Random(13);
+
+    for (int i = 0; i < 20000; i++) {
+      int op = random.nextInt(5);
+      if (op < 2 || expected.count() == 0) {
+        Task task = new Task("Task " + i, "d".repeat(random.nextInt(200)));
+        expected.save(task);
+        repository.save(task);
+      } else if (op == 2) {
+        Task task = expected.findByIndex(random.nextInt(expected.count())).get();
+        task.setDescription("e".repeat(random.nextInt(300)));
+        task.setCompleted(random.nextBoolean());
+        expected.save(task);
+        repository.save(task);
+      } else if (op == 3) {
+        int position = random.nextInt(expected.count());
+        assertEquals(expected.deleteByIndex(position), repository.deleteByIndex(position));
+      } else {
+        String id = expected.findByIndex(random.nextInt(expected.count())).get().getId();
+        assertEquals(expected.deleteById(id), repository.deleteById(id));
+      }
+    }
+
+    List<Task> all = expected.findAll();
+    assertEquals(all.size(), repository.count());
+    for (int i = 0; i < all.size(); i++) {
+      Task actual = repository.findById(all.get(i).getId()).get();
+      assertEquals(all.get(i).getDescription(), actual.getDescription());
+      assertEquals(all.get(i).isCompleted(), actual.isCompleted());
+      assertEquals(all.get(i), repository.findByIndex(i).get());
+    }
+    assertEquals(expected.countByStatus(true), repository.countByStatus(true));
+  }
+
+  @Test
+  void testCompareAndSetStoresVersion() {
+    Task task = repository.save(new Task("Task", ""));
+    Task copy = repository.findById(task.getId()).get();
+    copy.setName("Renamed");
+
+    repository.compareAndSet(copy);
+    Task found = repository.findById(task.getId()).get();
+
+    assertEquals(1, found.getVersion());
+    assertEquals("Renamed", found.getName());
+    assertThrows(TaskVersionConflictException.class, () -> repository.compareAndSet(copy));
+  }
+}
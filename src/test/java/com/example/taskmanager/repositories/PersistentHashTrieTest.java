@@ -0,0 +1,69 @@
+package com.example.taskmanager.repositories;
+
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PersistentHashTrie.
+ */
+class PersistentHashTrieTest {
+
+  @Test
+  void testPutGetRemove() {
+    PersistentHashTrie<String, Integer> empty = PersistentHashTrie.empty();
+    PersistentHashTrie<String, Integer> one = empty.put("a", 1);
+    PersistentHashTrie<String, Integer> two = one.put("b", 2).put("a", 3);
+
+    assertNull(empty.get("a"));
+    assertEquals(1, one.get("a"));
+    assertEquals(3, two.get("a"));
+    assertEquals(2, two.size());
+    assertSame(two, two.remove("missing"));
+    assertEquals(1, two.remove("a").size());
+    assertNull(two.remove("a").get("a"));
+    assertEquals(3, two.get("a"));
+  }
+
+  @Test
+  void testMatchesHashMapUnderRandomOperations() {
+    Random random = new Random(42);
+    Map<Integer, Integer> expected = new HashMap<>();
+    PersistentHashTrie<Integer, Integer> trie = PersistentHashTrie.empty();
+    for (int i = 0; i < 20000; i++) {
+      int key = random.nextInt(5000) * (random.nextBoolean() ? 1 : 1 << 20);
+      if (random.nextInt(3) == 0) {
+        expected.remove(key);
+        trie = trie.remove(key);
+      } else {
+        expected.put(key, i);
+        trie = trie.put(key, i);
+      }
+    }
+
+    assertEquals(expected.size(), trie.size());
+    for (int key = 0; key < 5000; key++) {
+      assertEquals(expected.get(key), trie.get(key));
+      assertEquals(expected.get(key << 20), trie.get(key << 20));
+    }
+  }
+
+  @Test
+  void testCollidingHashes() {
+    // "Aa" and "BB" share a hash code
+    PersistentHashTrie<String, Integer> trie = PersistentHashTrie.<String, Integer>empty()
+        .put("Aa", 1).put("BB", 2).put("C", 3);
+
+    assertEquals(1, trie.get("Aa"));
+    assertEquals(2, trie.get("BB"));
+    assertEquals(3, trie.size());
+
+    PersistentHashTrie<String, Integer> removed = trie.remove("Aa");
+    assertNull(removed.get("Aa"));
+    assertEquals(2, removed.get("BB"));
+    assertEquals(2, removed.size());
+    assertEquals(0, removed.remove("BB").remove("C").size());
+  }
+}
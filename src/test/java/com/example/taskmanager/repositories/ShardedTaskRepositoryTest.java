@@ -0,0 +1,231 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit and multi-threaded tests for ShardedTaskRepository.
+ */
+class ShardedTaskRepositoryTest {
+
+  private static final int SHARDS = 4;
+
+  private ForkJoinPool pool;
+  private ShardedTaskRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(SHARDS);
+    repository = new ShardedTaskRepository(SHARDS, ConcurrentTaskRepository::new, pool);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void testConstructorRejectsBadArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new ShardedTaskRepository(0));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ShardedTaskRepository(2, null, pool));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ShardedTaskRepository(2, ConcurrentTaskRepository::new, null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ShardedTaskRepository(2, () -> null, pool));
+    assertThrows(IllegalArgumentException.class, () -> repository.save(null));
+  }
+
+  @Test
+  void testSaveAndFind() {
+    Task task1 = repository.save(new Task("Task 1", "Description 1"));
+    Task task2 = repository.save(new Task("Task 2", "Description 2"));
+
+    assertEquals(2, repository.count());
+    assertSame(task1, repository.findById(task1.getId()).get());
+    assertTrue(repository.existsById(task2.getId()));
+    assertEquals(Set.of(task1, task2), new HashSet<>(repository.findAll()));
+    assertFalse(repository.findById(null).isPresent());
+    assertFalse(repository.findByIndex(2).isPresent());
+    assertFalse(repository.findByIndex(-1).isPresent());
+  }
+
+  @Test
+  void testPositionsMatchFindAll() {
+    for (int i = 0; i < 100; i++) {
+      repository.save(new Task("Task " + i, ""));
+    }
+
+    List<Task> all = repository.findAll();
+    for (int i = 0; i < all.size(); i++) {
+      assertSame(all.get(i), repository.findByIndex(i).get());
+    }
+    TaskPage page = repository.findPage(null, 60);
+    assertEquals(all.subList(0, 60), page.getTasks());
+    assertEquals(all.subList(60, 100),
+        repository.findPage(page.getNextCursor(), 60).getTasks());
+  }
+
+  @Test
+  void testTasksSpreadOverShards() {
+    for (int i = 0; i < 1000; i++) {
+      repository.save(new Task("Task " + i, ""));
+    }
+
+    int[] sizes = repository.getShardSizes();
+    assertEquals(SHARDS, repository.getShardCount());
+    assertEquals(1000, Arrays.stream(sizes).sum());
+    for (int size : sizes) {
+      assertTrue(size > 150, "unbalanced shards: " + Arrays.toString(sizes));
+    }
+  }
+
+  @Test
+  void testDeleteByIdAndIndex() {
+    Task task1 = repository.save(new Task("Task 1", ""));
+    Task task2 = repository.save(new Task("Task 2", ""));
+    repository.save(new Task("Task 3", ""));
+
+    assertTrue(repository.deleteById(task1.getId()));
+    assertFalse(repository.deleteById(task1.getId()));
+    assertFalse(repository.deleteById(null));
+    Task first = repository.findByIndex(0).get();
+    assertTrue(repository.deleteByIndex(0));
+    assertFalse(repository.deleteByIndex(5));
+    assertFalse(repository.deleteByIndex(-1));
+
+    assertEquals(1, repository.count());
+    assertFalse(repository.existsById(first.getId()));
+    assertEquals(first != task2, repository.existsById(task2.getId()));
+  }
+
+  @Test
+  void testBatchOperationsKeepGivenOrder() {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      tasks.add(new Task("Task " + i, ""));
+    }
+
+    assertEquals(tasks, repository.saveAll(tasks));
+    List<String> ids = new ArrayList<>();
+    for (int i = tasks.size() - 1; i >= 0; i -= 2) {
+      ids.add(tasks.get(i).getId());
+    }
+    ids.add("missing");
+    ids.add(null);
+    List<Task> found = repository.findAllById(ids);
+
+    assertEquals(2500, found.size());
+    for (int i = 0; i < found.size(); i++) {
+      assertEquals(ids.get(i), found.get(i).getId());
+    }
+    assertEquals(2500, repository.deleteAllById(ids));
+    assertEquals(2500, repository.count());
+    assertEquals(0, repository.deleteAllById(null));
+    assertThrows(IllegalArgumentException.class, () -> repository.saveAll(null));
+  }
+
+  @Test
+  void testParallelQueriesMatchSequentialOnes() {
+    InMemoryTaskRepository expected = new InMemoryTaskRepository();
+    for (int i = 0; i < 10000; i++) {
+      Task task = new Task("Task " + i, i % 7 == 0 ? "weekly report" : "daily");
+      task.setCompleted(i % 3 == 0);
+      repository.save(task);
+      expected.save(task);
+    }
+
+    assertEquals(10000, repository.findAll().size());
+    assertEquals(new HashSet<>(expected.findAll()), new HashSet<>(repository.findAll()));
+    assertEquals(new HashSet<>(expected.findByStatus(true)),
+        new HashSet<>(repository.findByStatus(true)));
+    assertEquals(expected.countByStatus(true), repository.countByStatus(true));
+    assertEquals(expected.countByStatus(false), repository.countByStatus(false));
+    assertEquals(new HashSet<>(expected.search("weekly")),
+        new HashSet<>(repository.search("weekly")));
+    assertThrows(UnsupportedOperationException.class,
+        () -> repository.findAll().add(new Task("Task", "")));
+  }
+
+  @Test
+  void testCompareAndSetRoutesToShard() {
+    Task stored = repository.save(new Task("Task", ""));
+    Task changed = stored.copy();
+    changed.setName("Changed");
+
+    assertEquals(1, repository.compareAndSet(changed).get().getVersion());
+    assertThrows(TaskVersionConflictException.class, () -> repository.compareAndSet(changed));
+    assertFalse(repository.compareAndSet(new Task("Other", "")).isPresent());
+  }
+
+  @Test
+  void testConcurrentWritersAndReaders() throws Exception {
+    int threads = 4;
+    int perThread = 2000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+    try {
+      List<Future<?>> writers = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        int thread = t;
+        writers.add(executor.submit(() -> {
+          for (int i = 0; i < perThread; i++) {
+            repository.save(new Task(thread + "-" + i, "Task " + i, ""));
+          }
+          return null;
+        }));
+      }
+      Future<?> reader = executor.submit(() -> {
+        for (int i = 0; i < 50; i++) {
+          Set<String> ids = new HashSet<>();
+          for (Task task : repository.findAll()) {
+            assertTrue(ids.add(task.getId()), "duplicate task");
+          }
+        }
+        return null;
+      });
+      for (Future<?> writer : writers) {
+        writer.get(30, TimeUnit.SECONDS);
+      }
+      reader.get(30, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(threads * perThread, repository.count());
+    assertEquals(threads * perThread, repository.findAll().size());
+  }
+
+  @Test
+  void testCompareAndSetAllKeepsBatchOrder() {
+    List<Task> changed = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      changed.add(repository.save(new Task("Task " + i, "")).copy());
+    }
+    repository.compareAndSet(changed.get(7).copy());
+    for (Task task : changed) {
+      task.markAsCompleted();
+    }
+
+    List<Task> stored = repository.compareAndSetAll(changed);
+
+    List<Task> expected = new ArrayList<>(changed);
+    expected.remove(7);
+    assertEquals(expected, stored);
+    assertEquals(19, repository.countByStatus(true));
+    assertFalse(repository.findById(changed.get(7).getId()).get().isCompleted());
+  }
+}
@@ -0,0 +1,208 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SnapshotTaskRepository.
+ */
+class SnapshotTaskRepositoryTest {
+
+  @TempDir
+  Path dir;
+
+  private Path file;
+  private List<Task> tasks;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    file = dir.resolve("tasks.snapshot");
+    InMemoryTaskRepository source = new InMemoryTaskRepository();
+    tasks = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      Task task = new Task("Task " + i, i % 2 == 0 ? "" : "Description " + i);
+      task.setCompleted(i % 3 == 0);
+      source.save(task);
+      tasks.add(task);
+    }
+    TaskSnapshot.write(file, 7, source);
+  }
+
+  @Test
+  void testOpenRestoresTasksInOrder() throws IOException {
+    SnapshotTaskRepository repository = SnapshotTaskRepository.open(file);
+
+    assertEquals(100, repository.count());
+    for (int i = 0; i < tasks.size(); i++) {
+      Task restored = repository.findByIndex(i).get();
+      assertEquals(tasks.get(i).getId(), restored.getId());
+      assertEquals(tasks.get(i).getName(), restored.getName());
+      assertEquals(tasks.get(i).getDescription(), restored.getDescription());
+      assertEquals(tasks.get(i).isCompleted(), restored.isCompleted());
+    }
+  }
+
+  @Test
+  void testTasksAreDecodedOnceAndCached() throws IOException {
+    SnapshotTaskRepository repository = SnapshotTaskRepository.open(file);
+
+    Task first = repository.findByIndex(5).get();
+
+    assertSame(first, repository.findByIndex(5).get());
+    assertSame(first, repository.findById(first.getId()).get());
+  }
+
+  @Test
+  void testFindById() throws IOException {
+    SnapshotTaskRepository repository = SnapshotTaskRepository.open(file);
+
+    assertTrue(repository.existsById(tasks.get(42).getId()));
+    assertEquals("Task 42", repository.findById(tasks.get(42).getId()).get().getName());
+    assertFalse(repository.findById("non-existent-id").isPresent());
+    assertFalse(repository.findById(null).isPresent());
+  }
+
+  @Test
+  void testMutationsOnTopOfSnapshot() throws IOException {
+    SnapshotTaskRepository repository = SnapshotTaskRepository.open(file);
+    Task added = new Task("Added", "");
+
+    repository.save(added);
+    assertTrue(repository.deleteByIndex(0));
+    assertTrue(repository.deleteById(tasks.get(50).getId()));
+    assertFalse(repository.deleteById(tasks.get(50).getId()));
+    assertFalse(repository.deleteByIndex(500));
+
+    assertEquals(99, repository.count());
+    assertEquals(tasks.get(1).getId(), repository.findByIndex(0).get().getId());
+    assertSame(added, repository.findByIndex(98).get());
+    assertFalse(repository.existsById(tasks.get(0).getId()));
+  }
+
+  @Test
+  void testStatusCountsFollowSnapshotAndMutations() throws IOException {
+    SnapshotTaskRepository repository = SnapshotTaskRepository.open(file);
+
+    assertEquals(34, repository.countByStatus(true));
+    assertEquals(66, repository.countByStatus(false));
+    Task pending = repository.findByIndex(1).get();
+    pending.markAsCompleted();
+    repository.save(pending);
+    Task added = new Task("Added", "");
+    added.markAsCompleted();
+    repository.save(added);
+    repository.deleteByIndex(0);
+    repository.deleteById(tasks.get(3).getId());
+    repository.deleteAllById(List.of(tasks.get(6).getId(), tasks.get(7).getId()));
+
+    assertEquals(33, repository.countByStatus(true));
+    assertEquals(64, repository.countByStatus(false));
+    List<Task> completed = repository.findByStatus(true);
+    assertEquals(33, completed.size());
+    assertEquals(pending.getId(), completed.get(0).getId());
+    assertSame(added, completed.get(32));
+    assertTrue(completed.stream().allMatch(Task::isCompleted));
+    assertEquals(64, repository.findByStatus(false).size());
+  }
+
+  @Test
+  void testWriteSnapshotKeepsCleanAndDirtyRecords() throws IOException {
+    SnapshotTaskRepository repository = SnapshotTaskRepository.open(file);
+    Task updated = repository.findByIndex(3).get();
+    updated.setName("Updated");
+    updated.markAsCompleted();
+    repository.save(updated);
+    repository.deleteByIndex(0);
+    repository.save(new Task("Added", "New"));
+
+    Path next = dir.resolve("next.snapshot");
+    repository.writeSnapshot(next, 8);
+    SnapshotTaskRepository reopened = SnapshotTaskRepository.open(next);
+
+    assertEquals(repository.count(), reopened.count());
+    assertEquals(8, TaskSnapshot.open(next).generation());
+    List<Task> expected = repository.findAll();
+    List<Task> actual = reopened.findAll();
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getId(), actual.get(i).getId());
+      assertEquals(expected.get(i).getName(), actual.get(i).getName());
+      assertEquals(expected.get(i).isCompleted(), actual.get(i).isCompleted());
+    }
+    assertEquals("Updated", reopened.findById(updated.getId()).get().getName());
+  }
+
+  @Test
+  void testMatchesListUnderRandomOperations() throws IOException {
+    SnapshotTaskRepository repository = SnapshotTaskRepository.open(file);
+    List<String> expected = new ArrayList<>();
+    for (Task task : tasks) {
+      expected.add(task.getId());
+    }
+    Random random = new Random(7);
+
+    for (int i = 0; i < 2000; i++) {
+      int op = random.nextInt(3);
+      if (op == 0 || expected.isEmpty()) {
+        Task task = new Task("Random " + i, "");
+        repository.save(task);
+        expected.add(task.getId());
+      } else if (op == 1) {
+        int position = random.nextInt(expected.size());
+        expected.remove(position);
+        assertTrue(repository.deleteByIndex(position));
+      } else {
+        String id = expected.remove(random.nextInt(expected.size()));
+        assertTrue(repository.deleteById(id));
+      }
+    }
+
+    List<String> actual = new ArrayList<>();
+    for (Task task : repository.findAll()) {
+      actual.add(task.getId());
+    }
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void testDeleteAllById() throws IOException {
+    SnapshotTaskRepository repository = SnapshotTaskRepository.open(file);
+    Task added = repository.save(new Task("Added", ""));
+
+    int deleted = repository.deleteAllById(List.of(tasks.get(0).getId(), added.getId(),
+        tasks.get(60).getId(), "missing"));
+
+    assertEquals(3, deleted);
+    assertEquals(98, repository.count());
+    assertEquals(tasks.get(1).getId(), repository.findByIndex(0).get().getId());
+    assertEquals(tasks.get(61).getId(), repository.findByIndex(59).get().getId());
+    assertFalse(repository.existsById(added.getId()));
+  }
+
+  @Test
+  void testWriteRefusesSnapshotsOver2GbAndKeepsTheOldOne() throws IOException {
+    assertThrows(IOException.class, () -> TaskSnapshot.write(file, 8, Integer.MAX_VALUE,
+        (index, out) -> TaskRecords.writeTask(out, tasks.get(0))));
+
+    assertFalse(Files.exists(dir.resolve("tasks.snapshot.tmp")));
+    TaskSnapshot snapshot = TaskSnapshot.open(file);
+    assertEquals(7, snapshot.generation());
+    assertEquals(100, snapshot.count());
+  }
+
+  @Test
+  void testRejectsForeignFile() throws IOException {
+    Path foreign = dir.resolve("foreign");
+    Files.writeString(foreign, "definitely not a snapshot file");
+
+    assertThrows(IOException.class, () -> SnapshotTaskRepository.open(foreign));
+  }
+}
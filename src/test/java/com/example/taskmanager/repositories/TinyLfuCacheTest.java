@@ -0,0 +1,74 @@
+package com.example.taskmanager.repositories;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TinyLfuCache.
+ */
+class TinyLfuCacheTest {
+
+  @Test
+  void testRejectsNonPositiveSize() {
+    assertThrows(IllegalArgumentException.class, () -> new TinyLfuCache<String, String>(0));
+  }
+
+  @Test
+  void testNeverExceedsMaximumSize() {
+    TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100);
+
+    for (int i = 0; i < 10000; i++) {
+      cache.put(i, i);
+      assertTrue(cache.size() <= 100);
+    }
+    assertTrue(cache.evictionCount() > 0);
+  }
+
+  @Test
+  void testUpdatesAndRemovals() {
+    TinyLfuCache<String, String> cache = new TinyLfuCache<>(10);
+    cache.put("a", "1");
+    cache.put("a", "2");
+
+    assertEquals("2", cache.get("a"));
+    cache.remove("a");
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testFrequentEntriesSurviveScanBetterThanLru() {
+    TinyLfuCache<Integer, Integer> tinyLfu = new TinyLfuCache<>(100);
+    LruCache<Integer, Integer> lru = new LruCache<>(100);
+    for (int round = 0; round < 20; round++) {
+      for (int hot = 0; hot < 50; hot++) {
+        access(tinyLfu, hot);
+        access(lru, hot);
+      }
+    }
+
+    for (int cold = 1000; cold < 3000; cold++) {
+      access(tinyLfu, cold);
+      access(lru, cold);
+    }
+
+    assertTrue(survivors(tinyLfu) >= 45, "TinyLFU kept " + survivors(tinyLfu));
+    assertEquals(0, survivors(lru));
+  }
+
+  private static void access(BoundedCache<Integer, Integer> cache, int key) {
+    if (cache.get(key) == null) {
+      cache.put(key, key);
+    }
+  }
+
+  private static int survivors(BoundedCache<Integer, Integer> cache) {
+    int survivors = 0;
+    for (int hot = 0; hot < 50; hot++) {
+      if (cache.get(hot) != null) {
+        survivors++;
+      }
+    }
+    return survivors;
+  }
+}
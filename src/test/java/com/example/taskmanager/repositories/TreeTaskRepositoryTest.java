@@ -0,0 +1,171 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TreeTaskRepository.
+ */
+class TreeTaskRepositoryTest {
+
+  private TreeTaskRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new TreeTaskRepository();
+  }
+
+  @Test
+  void testSaveNewTask() {
+    Task task = new Task("Test Task", "Description");
+
+    Task saved = repository.save(task);
+
+    assertEquals(task.getId(), saved.getId());
+    assertEquals(1, repository.count());
+  }
+
+  @Test
+  void testSaveNullTask() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      repository.save(null);
+    });
+  }
+
+  @Test
+  void testSaveExistingTaskKeepsPosition() {
+    Task task1 = new Task("id-1", "Task 1", "Description 1");
+    Task task2 = new Task("id-2", "Task 2", "Description 2");
+    repository.save(task1);
+    repository.save(task2);
+
+    Task replacement = new Task("id-1", "Replaced", "Description");
+    repository.save(replacement);
+
+    assertEquals(2, repository.count());
+    assertSame(replacement, repository.findByIndex(0).get());
+  }
+
+  @Test
+  void testFindById() {
+    Task task = new Task("Test Task", "Description");
+    repository.save(task);
+
+    Optional<Task> found = repository.findById(task.getId());
+
+    assertTrue(found.isPresent());
+    assertFalse(repository.findById("non-existent-id").isPresent());
+    assertFalse(repository.findById(null).isPresent());
+  }
+
+  @Test
+  void testFindByIndexOutOfBounds() {
+    repository.save(new Task("Task", "Description"));
+
+    assertFalse(repository.findByIndex(1).isPresent());
+    assertFalse(repository.findByIndex(-1).isPresent());
+  }
+
+  @Test
+  void testFindAllIsOrderedAndUnmodifiable() {
+    Task task1 = new Task("Task 1", "Description 1");
+    Task task2 = new Task("Task 2", "Description 2");
+    repository.save(task1);
+    repository.save(task2);
+
+    List<Task> tasks = repository.findAll();
+
+    assertEquals(List.of(task1, task2), tasks);
+    assertThrows(UnsupportedOperationException.class, () -> {
+      tasks.add(new Task("New Task", "Description"));
+    });
+  }
+
+  @Test
+  void testDeleteById() {
+    Task task1 = new Task("Task 1", "Description 1");
+    Task task2 = new Task("Task 2", "Description 2");
+    Task task3 = new Task("Task 3", "Description 3");
+    repository.save(task1);
+    repository.save(task2);
+    repository.save(task3);
+
+    assertTrue(repository.deleteById(task2.getId()));
+    assertFalse(repository.deleteById(task2.getId()));
+    assertFalse(repository.deleteById(null));
+
+    assertEquals(List.of(task1, task3), repository.findAll());
+    assertFalse(repository.existsById(task2.getId()));
+  }
+
+  @Test
+  void testDeleteByIndex() {
+    Task task1 = new Task("Task 1", "Description 1");
+    Task task2 = new Task("Task 2", "Description 2");
+    repository.save(task1);
+    repository.save(task2);
+
+    assertTrue(repository.deleteByIndex(0));
+    assertFalse(repository.deleteByIndex(5));
+    assertFalse(repository.deleteByIndex(-1));
+
+    assertEquals(1, repository.count());
+    assertSame(task2, repository.findByIndex(0).get());
+    assertFalse(repository.existsById(task1.getId()));
+  }
+
+  @Test
+  void testStatusCountsFollowSavesAndDeletes() {
+    Task first = repository.save(new Task("Task 1", ""));
+    Task second = repository.save(new Task("Task 2", ""));
+    Task third = repository.save(new Task("Task 3", ""));
+
+    first.markAsCompleted();
+    repository.save(first);
+    third.markAsCompleted();
+    repository.save(third);
+    assertEquals(2, repository.countByStatus(true));
+    assertEquals(List.of(first, third), repository.findByStatus(true));
+
+    repository.deleteByIndex(0);
+    assertTrue(repository.deleteById(third.getId()));
+
+    assertEquals(0, repository.countByStatus(true));
+    assertEquals(1, repository.countByStatus(false));
+    assertEquals(List.of(second), repository.findByStatus(false));
+  }
+
+  @Test
+  void testMatchesListUnderRandomOperations() {
+    Random random = new Random(42);
+    List<Task> expected = new ArrayList<>();
+
+    for (int i = 0; i < 5000; i++) {
+      int op = random.nextInt(4);
+      if (op < 2 || expected.isEmpty()) {
+        Task task = new Task("Task " + i, "");
+        expected.add(task);
+        repository.save(task);
+      } else if (op == 2) {
+        int position = random.nextInt(expected.size());
+        expected.remove(position);
+        assertTrue(repository.deleteByIndex(position));
+      } else {
+        Task task = expected.remove(random.nextInt(expected.size()));
+        assertTrue(repository.deleteById(task.getId()));
+      }
+    }
+
+    assertEquals(expected.size(), repository.count());
+    assertEquals(expected, repository.findAll());
+    for (int i = 0; i < expected.size(); i++) {
+      assertSame(expected.get(i), repository.findByIndex(i).get());
+    }
+  }
+}
@@ -0,0 +1,362 @@
+package com.example.taskmanager.repositories;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.WriteAheadLogTaskRepository.Durability;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WriteAheadLogTaskRepository.
+ */
+class WriteAheadLogTaskRepositoryTest {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void testReopenRestoresTasks() throws IOException {
+    Path log = dir.resolve("tasks.log");
+    Task kept = new Task("Kept", "Description");
+    Task removed = new Task("Removed", "");
+    try (WriteAheadLogTaskRepository repository = open(log, Durability.PER_OPERATION)) {
+      repository.save(kept);
+      repository.save(removed);
+      kept.markAsCompleted();
+      repository.save(kept);
+      assertTrue(repository.deleteById(removed.getId()));
+    }
+
+    try (WriteAheadLogTaskRepository repository = open(log, Durability.PER_OPERATION)) {
+      assertEquals(1, repository.count());
+      Task restored = repository.findByIndex(0).get();
+      assertEquals(kept.getId(), restored.getId());
+      assertEquals("Kept", restored.getName());
+      assertEquals("Description", restored.getDescription());
+      assertTrue(restored.isCompleted());
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(Durability.class)
+  void testBatchOperationsAreReplayed(Durability durability) throws IOException {
+    Path log = dir.resolve("tasks.log");
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      tasks.add(new Task("Task " + i, ""));
+    }
+    try (WriteAheadLogTaskRepository repository = open(log, durability)) {
+      assertEquals(10, repository.saveAll(tasks).size());
+      assertEquals(3, repository.deleteAllById(List.of(tasks.get(0).getId(),
+          tasks.get(5).getId(), tasks.get(5).getId(), tasks.get(9).getId(), "missing")));
+      assertEquals(0, repository.deleteAllById(List.of("missing")));
+      assertEquals(2, repository.findAllById(List.of(tasks.get(1).getId(),
+          tasks.get(0).getId(), tasks.get(2).getId())).size());
+    }
+
+    try (WriteAheadLogTaskRepository repository = open(log, durability)) {
+      assertEquals(7, repository.count());
+      assertEquals("Task 1", repository.findByIndex(0).get().getName());
+      assertFalse(repository.existsById(tasks.get(5).getId()));
+    }
+  }
+
+  @Test
+  void testDeleteByIndexIsReplayedById() throws IOException {
+    Path log = dir.resolve("tasks.log");
+    Task first = new Task("First", "");
+    Task second = new Task("Second", "");
+    try (WriteAheadLogTaskRepository repository = open(log, Durability.PER_OPERATION)) {
+      repository.save(first);
+      repository.save(second);
+      assertTrue(repository.deleteByIndex(0));
+      assertFalse(repository.deleteByIndex(5));
+      assertFalse(repository.deleteById("missing"));
+    }
+
+    try (WriteAheadLogTaskRepository repository = open(log, Durability.PER_OPERATION)) {
+      assertEquals(List.of(second), repository.findAll());
+    }
+  }
+
+  @Test
+  void testTornTailIsTruncated() throws IOException {
+    Path log = dir.resolve("tasks.log");
+    try (WriteAheadLogTaskRepository repository = open(log, Durability.PER_OPERATION)) {
+      repository.save(new Task("One", ""));
+      repository.save(new Task("Two", ""));
+    }
+    long intactSize = Files.size(log);
+    try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+      // Simulate a crash half-way through writing the last record
+      channel.truncate(intactSize - 3);
+    }
+
+    try (WriteAheadLogTaskRepository repository = open(log, Durability.PER_OPERATION)) {
+      assertEquals(1, repository.count());
+      repository.save(new Task("Three", ""));
+    }
+    try (WriteAheadLogTaskRepository repository = open(log, Durability.PER_OPERATION)) {
+      assertEquals(2, repository.count());
+      assertEquals("Three", repository.findByIndex(1).get().getName());
+    }
+  }
+
+  @Test
+  void testRejectsForeignFile() throws IOException {
+    Path log = dir.resolve("not-a-log.txt");
+    Files.writeString(log, "hello world");
+
+    assertThrows(IOException.class, () -> open(log, Durability.PER_OPERATION));
+  }
+
+  @Test
+  void testWritesAfterCloseFail() throws IOException {
+    WriteAheadLogTaskRepository repository = open(dir.resolve("tasks.log"), Durability.ASYNC);
+    repository.close();
+
+    assertThrows(IllegalStateException.class, () -> repository.save(new Task("Late", "")));
+  }
+
+  @Test
+  void testFailedWriteStopsReadsOfTheDivergedState() throws IOException {
+    Path log = dir.resolve("tasks.log");
+    WriteAheadLogTaskRepository repository = open(log, Durability.PER_OPERATION);
+    Task durable = repository.save(new Task("Durable", ""));
+    // An interrupted committer closes the channel, so its next write fails
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.getName().equals("task-log-committer")) {
+        thread.interrupt();
+      }
+    }
+
+    assertThrows(UncheckedIOException.class, () -> repository.save(new Task("Lost", "")));
+    assertThrows(UncheckedIOException.class, repository::findAll);
+    assertThrows(UncheckedIOException.class, () -> repository.findById(durable.getId()));
+    assertThrows(UncheckedIOException.class, repository::count);
+    assertThrows(UncheckedIOException.class, () -> repository.save(new Task("Later", "")));
+    repository.close();
+
+    try (WriteAheadLogTaskRepository reopened = open(log, Durability.PER_OPERATION)) {
+      assertEquals(List.of(durable.getId()), reopened.findAll().stream()
+          .map(Task::getId).toList());
+    }
+  }
+
+  @Test
+  void testAsyncFlushMakesRecordsDurable() throws IOException {
+    Path log = dir.resolve("tasks.log");
+    WriteAheadLogTaskRepository repository = open(log, Durability.ASYNC);
+    repository.save(new Task("Async", ""));
+    repository.flush();
+
+    // Copy the log while the writer is still open, as a crash would leave it
+    Files.copy(log, log.resolveSibling("snapshot.log"));
+    try (WriteAheadLogTaskRepository copy =
+        open(log.resolveSibling("snapshot.log"), Durability.ASYNC)) {
+      assertEquals(1, copy.count());
+    }
+    repository.close();
+  }
+
+  @Test
+  void testCheckpointWritesSnapshotAndResetsLog() throws IOException {
+    Path log = dir.resolve("tasks.log");
+    Path snapshot = dir.resolve("tasks.snapshot");
+    Task before = new Task("Before", "");
+    Task after = new Task("After", "");
+    try (WriteAheadLogTaskRepository repository =
+        WriteAheadLogTaskRepository.open(log, snapshot, Durability.PER_OPERATION)) {
+      for (int i = 0; i < 50; i++) {
+        repository.save(new Task("Bulk " + i, ""));
+      }
+      repository.save(before);
+      long sizeBefore = Files.size(log);
+
+      repository.checkpoint();
+
+      assertTrue(Files.exists(WriteAheadLogTaskRepository.snapshotPath(snapshot, 0)));
+      assertTrue(Files.size(log) < sizeBefore);
+      repository.save(after);
+      repository.deleteByIndex(0);
+    }
+
+    try (WriteAheadLogTaskRepository repository =
+        WriteAheadLogTaskRepository.open(log, snapshot, Durability.PER_OPERATION)) {
+      assertEquals(51, repository.count());
+      assertEquals("Bulk 1", repository.findByIndex(0).get().getName());
+      assertTrue(repository.existsById(before.getId()));
+      assertTrue(repository.existsById(after.getId()));
+      repository.checkpoint();
+    }
+
+    try (WriteAheadLogTaskRepository repository =
+        WriteAheadLogTaskRepository.open(log, snapshot, Durability.PER_OPERATION)) {
+      assertEquals(51, repository.count());
+      assertEquals("After", repository.findByIndex(50).get().getName());
+    }
+  }
+
+  @Test
+  void testCheckpointsNeverReplaceTheMappedSnapshot() throws IOException {
+    Path log = dir.resolve("tasks.log");
+    Path snapshot = dir.resolve("tasks.snapshot");
+    try (WriteAheadLogTaskRepository repository =
+        WriteAheadLogTaskRepository.open(log, snapshot, Durability.PER_OPERATION)) {
+      repository.save(new Task("First", ""));
+      repository.checkpoint();
+    }
+    Path mapped = WriteAheadLogTaskRepository.snapshotPath(snapshot, 0);
+    long mappedSize = Files.size(mapped);
+
+    try (WriteAheadLogTaskRepository repository =
+        WriteAheadLogTaskRepository.open(log, snapshot, Durability.PER_OPERATION)) {
+      repository.save(new Task("Second", ""));
+      repository.checkpoint();
+      repository.save(new Task("Third", ""));
+      repository.checkpoint();
+
+      // Each checkpoint wrote a new file; older ones are deleted where allowed
+      assertTrue(Files.exists(WriteAheadLogTaskRepository.snapshotPath(snapshot, 2)));
+      assertFalse(Files.exists(WriteAheadLogTaskRepository.snapshotPath(snapshot, 1)));
+      assertTrue(!Files.exists(mapped) || Files.size(mapped) == mappedSize);
+      assertEquals(3, repository.count());
+    }
+
+    try (WriteAheadLogTaskRepository repository =
+        WriteAheadLogTaskRepository.open(log, snapshot, Durability.PER_OPERATION)) {
+      assertEquals(3, repository.count());
+      assertEquals("Third", repository.findByIndex(2).get().getName());
+    }
+  }
+
+  @Test
+  void testLogCoveredBySnapshotIsNotReplayed() throws IOException {
+    Path log = dir.resolve("tasks.log");
+    Path snapshot = dir.resolve("tasks.snapshot");
+    Path staleLog = dir.resolve("stale.log");
+    try (WriteAheadLogTaskRepository repository =
+        WriteAheadLogTaskRepository.open(log, snapshot, Durability.PER_OPERATION)) {
+      Task removed = repository.save(new Task("Removed", ""));
+      repository.save(new Task("Kept", ""));
+      Files.copy(log, staleLog);
+      repository.deleteById(removed.getId());
+      repository.checkpoint();
+    }
+    // Simulate a crash after the snapshot was written but before the log was reset
+    Files.copy(staleLog, log, StandardCopyOption.REPLACE_EXISTING);
+
+    try (WriteAheadLogTaskRepository repository =
+        WriteAheadLogTaskRepository.open(log, snapshot, Durability.PER_OPERATION)) {
+      assertEquals(1, repository.count());
+      assertEquals("Kept", repository.findByIndex(0).get().getName());
+    }
+  }
+
+  @Test
+  void testCheckpointWithoutSnapshotFileFails() throws IOException {
+    try (WriteAheadLogTaskRepository repository =
+        open(dir.resolve("tasks.log"), Durability.PER_OPERATION)) {
+      assertThrows(IllegalStateException.class, repository::checkpoint);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(Durability.class)
+  void testConcurrentWritersAreAllPersisted(Durability durability) throws Exception {
+    Path log = dir.resolve(durability + ".log");
+    int threads = 8;
+    int perThread = 200;
+    try (WriteAheadLogTaskRepository repository = open(log, durability)) {
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+          futures.add(executor.submit(() -> {
+            for (int i = 0; i < perThread; i++) {
+              Task task = repository.save(new Task("Task " + i, ""));
+              if (i % 4 == 0) {
+                repository.deleteById(task.getId());
+              }
+            }
+          }));
+        }
+        for (Future<?> future : futures) {
+          future.get(60, TimeUnit.SECONDS);
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    try (WriteAheadLogTaskRepository repository = open(log, durability)) {
+      assertEquals(threads * perThread * 3 / 4, repository.count());
+    }
+  }
+
+  private static WriteAheadLogTaskRepository open(Path log, Durability durability)
+      throws IOException {
+    return WriteAheadLogTaskRepository.open(log, durability);
+  }
+
+  @Test
+  void testVersionsSurviveReopen() throws IOException {
+    Path log = dir.resolve("tasks.log");
+    Task task = new Task("Task", "");
+    try (WriteAheadLogTaskRepository repository = open(log, Durability.PER_OPERATION)) {
+      repository.save(task);
+      Task copy = task.copy();
+      copy.markAsCompleted();
+      repository.compareAndSet(copy);
+      assertThrows(TaskVersionConflictException.class, () -> repository.compareAndSet(copy));
+    }
+
+    try (WriteAheadLogTaskRepository repository = open(log, Durability.PER_OPERATION)) {
+      Task restored = repository.findById(task.getId()).get();
+      assertEquals(1, restored.getVersion());
+      assertTrue(restored.isCompleted());
+      assertThrows(TaskVersionConflictException.class, () -> repository.compareAndSet(task));
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(Durability.class)
+  void testCompareAndSetAllIsReplayed(Durability durability) throws IOException {
+    Path log = dir.resolve("tasks.log");
+    Task first = new Task("First", "");
+    Task second = new Task("Second", "");
+    try (WriteAheadLogTaskRepository repository = open(log, durability)) {
+      repository.saveAll(List.of(first, second));
+      Task stale = second.copy();
+      repository.compareAndSet(second.copy());
+      Task changed = first.copy();
+      changed.markAsCompleted();
+      stale.markAsCompleted();
+
+      assertEquals(1, repository.compareAndSetAll(List.of(changed, stale)).size());
+    }
+
+    try (WriteAheadLogTaskRepository repository = open(log, Durability.PER_OPERATION)) {
+      Task restored = repository.findById(first.getId()).get();
+      assertEquals(1, restored.getVersion());
+      assertTrue(restored.isCompleted());
+      assertEquals(1, repository.findById(second.getId()).get().getVersion());
+      assertFalse(repository.findById(second.getId()).get().isCompleted());
+    }
+  }
+}
@@ -0,0 +1,342 @@
+package com.example.taskmanager.server;
+
+import com.example.taskmanager.io.TaskJson;
+import com.example.taskmanager.metrics.MetricsRegistry;
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.replication.ReplicationFollower;
+import com.example.taskmanager.repositories.ConcurrentTaskRepository;
+import com.example.taskmanager.repositories.TaskRepository;
+import com.example.taskmanager.services.TaskService;
+import com.example.taskmanager.services.TaskServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TaskHttpServer.
+ */
+class TaskHttpServerTest {
+
+  private TaskService taskService;
+  private TaskHttpServer server;
+  private HttpClient client;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    taskService = new TaskServiceImpl(new ConcurrentTaskRepository());
+    server = new TaskHttpServer(taskService, new InetSocketAddress("127.0.0.1", 0), 4);
+    server.start();
+    client = HttpClient.newHttpClient();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  @Test
+  void testConstructorValidation() {
+    InetSocketAddress address = new InetSocketAddress("127.0.0.1", 0);
+
+    assertThrows(IllegalArgumentException.class, () -> new TaskHttpServer(null, address, 1));
+    assertThrows(IllegalArgumentException.class,
+        () -> new TaskHttpServer(taskService, null, 1));
+    assertThrows(IllegalArgumentException.class,
+        () -> new TaskHttpServer(taskService, address, 0));
+  }
+
+  @Test
+  void testCreateAndGetTask() throws Exception {
+    HttpResponse<String> created = send("POST", "/tasks",
+        "{\"name\":\"Write \\\"docs\\\"\",\"description\":\"For the server\"}");
+
+    assertEquals(201, created.statusCode());
+    Map<String, Object> task = TaskJson.parseObject(created.body());
+    assertEquals("Write \"docs\"", task.get("name"));
+    assertEquals(Boolean.FALSE, task.get("completed"));
+
+    HttpResponse<String> fetched = send("GET", "/tasks/" + task.get("id"), null);
+    assertEquals(200, fetched.statusCode());
+    assertEquals(created.body(), fetched.body());
+  }
+
+  @Test
+  void testCompleteAndDeleteTask() throws Exception {
+    Task task = taskService.createTask("Task");
+
+    assertEquals(204, send("POST", "/tasks/" + task.getId() + "/complete", null).statusCode());
+    assertTrue(taskService.getTaskById(task.getId()).get().isCompleted());
+    assertEquals(204, send("DELETE", "/tasks/" + task.getId(), null).statusCode());
+    assertEquals(404, send("DELETE", "/tasks/" + task.getId(), null).statusCode());
+    assertEquals(404, send("GET", "/tasks/" + task.getId(), null).statusCode());
+  }
+
+  @Test
+  void testConditionalUpdate() throws Exception {
+    Task task = taskService.createTask("Draft");
+    String path = "/tasks/" + task.getId();
+    String etag = send("GET", path, null).headers().firstValue("ETag").orElse(null);
+    assertEquals("\"0\"", etag);
+    String body = "{\"name\":\"Final\",\"description\":\"Done\"}";
+
+    HttpResponse<String> updated = sendIfMatch(path, body, etag);
+    assertEquals(200, updated.statusCode());
+    assertEquals("\"1\"", updated.headers().firstValue("ETag").orElse(null));
+    assertEquals("Final", taskService.getTaskById(task.getId()).get().getName());
+    assertTrue(send("GET", "/tasks", null).body().contains("\"version\":1}"));
+
+    HttpResponse<String> stale = sendIfMatch(path, "{\"name\":\"Lost\"}", etag);
+    assertEquals(412, stale.statusCode());
+    assertEquals("\"1\"", stale.headers().firstValue("ETag").orElse(null));
+    assertEquals("Final", taskService.getTaskById(task.getId()).get().getName());
+
+    assertEquals(428, send("PUT", path, body).statusCode());
+    assertEquals(400, sendIfMatch(path, body, "\"abc\"").statusCode());
+    assertEquals(404, sendIfMatch("/tasks/missing", body, "\"0\"").statusCode());
+  }
+
+  @Test
+  void testListTasksWithFilters() throws Exception {
+    Task first = taskService.createTask("Buy milk");
+    taskService.createTask("Walk dog");
+    taskService.completeTask(first.getId());
+
+    assertEquals(2, parseArray(send("GET", "/tasks", null).body()));
+    assertEquals(1, parseArray(send("GET", "/tasks?status=completed", null).body()));
+    assertEquals(1, parseArray(send("GET", "/tasks?status=pending", null).body()));
+    assertEquals(1, parseArray(send("GET", "/tasks?q=milk", null).body()));
+    assertEquals(400, send("GET", "/tasks?status=unknown", null).statusCode());
+  }
+
+  @Test
+  void testListTasksInPages() throws Exception {
+    for (int i = 0; i < 5; i++) {
+      taskService.createTask("Task " + i);
+    }
+
+    String page = send("GET", "/tasks?limit=3", null).body();
+
+    assertEquals(3, parseArray(page));
+    assertTrue(page.endsWith(",\"offset\":0,\"totalCount\":5,\"nextCursor\":\""
+        + taskService.getTaskPage(null, 3).getNextCursor() + "\"}"));
+    String next = send("GET", "/tasks?limit=3&cursor="
+        + taskService.getTaskPage(null, 3).getNextCursor(), null).body();
+    assertEquals(2, parseArray(next));
+    assertTrue(next.endsWith(",\"offset\":3,\"totalCount\":5,\"nextCursor\":null}"));
+  }
+
+  @Test
+  void testReadOnlyServerRefusesWrites() throws Exception {
+    server.setReadOnly(true);
+
+    HttpResponse<String> response = send("POST", "/tasks", "{\"name\":\"Task\"}");
+
+    assertEquals(405, response.statusCode());
+    assertEquals("GET", response.headers().firstValue("Allow").orElse(null));
+    assertEquals(405, send("DELETE", "/tasks/some-id", null).statusCode());
+    assertEquals(200, send("GET", "/tasks", null).statusCode());
+    assertEquals(0, taskService.getTaskCount());
+  }
+
+  @Test
+  void testBackendFailuresAreInternalErrors() throws Exception {
+    server.close();
+    TaskRepository replica = new ReplicationFollower(new ConcurrentTaskRepository(),
+        new InetSocketAddress("127.0.0.1", 1)).getRepository();
+    server = new TaskHttpServer(new TaskServiceImpl(replica),
+        new InetSocketAddress("127.0.0.1", 0), 4);
+    server.start();
+
+    HttpResponse<String> response = send("POST", "/tasks", "{\"name\":\"Task\"}");
+
+    assertEquals(500, response.statusCode());
+    assertFalse(response.headers().firstValue("Allow").isPresent());
+    assertEquals("{\"error\":\"Internal error\"}", response.body());
+  }
+
+  @Test
+  void testFailureWhileStreamingDropsTheConnection() throws Exception {
+    server.close();
+    TaskRepository failing = new ConcurrentTaskRepository() {
+      @Override
+      public List<Task> findAll() {
+        return new AbstractList<>() {
+          @Override
+          public Task get(int index) {
+            if (index == 1) {
+              throw new IllegalStateException("Storage failed");
+            }
+            return new Task("id-" + index, "Task " + index, "");
+          }
+
+          @Override
+          public int size() {
+            return 2;
+          }
+        };
+      }
+    };
+    server = new TaskHttpServer(new TaskServiceImpl(failing),
+        new InetSocketAddress("127.0.0.1", 0), 4);
+    server.start();
+
+    assertThrows(IOException.class, () -> send("GET", "/tasks", null));
+    assertEquals(200, send("GET", "/tasks/count", null).statusCode());
+  }
+
+  @Test
+  void testBatchOperationsAndCount() throws Exception {
+    Task first = taskService.createTask("First");
+    Task second = taskService.createTask("Second");
+    taskService.createTask("Third");
+    String ids = "{\"ids\":[\"" + first.getId() + "\",\"" + second.getId() + "\"]}";
+
+    assertEquals("{\"completed\":2}", send("POST", "/tasks/complete", ids).body());
+    assertEquals("{\"total\":3,\"completed\":2,\"pending\":1}",
+        send("GET", "/tasks/count", null).body());
+    assertEquals("{\"removed\":2}", send("POST", "/tasks/delete", ids).body());
+    assertEquals(1, taskService.getTaskCount());
+  }
+
+  @Test
+  void testErrors() throws Exception {
+    assertEquals(400, send("POST", "/tasks", "{\"name\":\"\"}").statusCode());
+    assertEquals(400, send("POST", "/tasks", "not json").statusCode());
+    assertEquals(400, send("POST", "/tasks/complete", "{\"ids\":\"x\"}").statusCode());
+    HttpResponse<String> notAllowed = send("PUT", "/tasks", "");
+    assertEquals(405, notAllowed.statusCode());
+    assertEquals("GET, POST", notAllowed.headers().firstValue("Allow").orElse(null));
+    assertEquals(404, send("GET", "/tasks/a/b/c", null).statusCode());
+  }
+
+  @Test
+  void testOversizedBodiesAreRefused() throws IOException {
+    String declared = "POST /tasks HTTP/1.1\r\nHost: localhost\r\nContent-Length: "
+        + (TaskHttpServer.MAX_BODY_BYTES + 1) + "\r\n\r\n";
+    assertEquals("HTTP/1.1 413 Request Entity Too Large",
+        statusLine(declared.getBytes(StandardCharsets.US_ASCII)));
+
+    int length = TaskHttpServer.MAX_BODY_BYTES + 1;
+    byte[] head = ("POST /tasks HTTP/1.1\r\nHost: localhost\r\n"
+        + "Transfer-Encoding: chunked\r\n\r\n" + Integer.toHexString(length) + "\r\n")
+        .getBytes(StandardCharsets.US_ASCII);
+    byte[] chunked = new byte[head.length + length + 7];
+    System.arraycopy(head, 0, chunked, 0, head.length);
+    Arrays.fill(chunked, head.length, head.length + length, (byte) 'x');
+    System.arraycopy("\r\n0\r\n\r\n".getBytes(StandardCharsets.US_ASCII), 0,
+        chunked, head.length + length, 7);
+    assertEquals("HTTP/1.1 413 Request Entity Too Large", statusLine(chunked));
+    assertEquals(0, taskService.getTaskCount());
+  }
+
+  @Test
+  void testExposeMetrics() throws Exception {
+    assertEquals(404, send("GET", "/metrics", null).statusCode());
+    MetricsRegistry metrics = new MetricsRegistry();
+    metrics.operation("service.createTask").time(() -> 1);
+
+    server.exposeMetrics(metrics);
+    HttpResponse<String> response = send("GET", "/metrics", null);
+
+    assertEquals(200, response.statusCode());
+    assertTrue(response.body().contains(
+        "taskmanager_operation_latency_seconds_count{operation=\"service.createTask\"} 1"));
+  }
+
+  @Test
+  void testPipelinedRequestsOnOneConnection() throws IOException {
+    taskService.createTask("Pipelined");
+    String request = "GET /tasks/count HTTP/1.1\r\nHost: localhost\r\n\r\n";
+
+    try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+      OutputStream out = socket.getOutputStream();
+      out.write((request + request).getBytes(StandardCharsets.US_ASCII));
+      out.flush();
+      BufferedReader in = new BufferedReader(
+          new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+      for (int i = 0; i < 2; i++) {
+        assertEquals("HTTP/1.1 200 OK", in.readLine());
+        int length = -1;
+        for (String line = in.readLine(); !line.isEmpty(); line = in.readLine()) {
+          if (line.toLowerCase().startsWith("content-length:")) {
+            length = Integer.parseInt(line.substring(15).trim());
+          }
+        }
+        char[] body = new char[length];
+        int read = 0;
+        while (read < length) {
+          read += in.read(body, read, length - read);
+        }
+        assertEquals("{\"total\":1,\"completed\":0,\"pending\":1}", new String(body));
+      }
+    }
+  }
+
+  @Test
+  void testConcurrentRequests() {
+    List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      responses.add(client.sendAsync(request("POST", "/tasks", "{\"name\":\"Task " + i + "\"}"),
+          HttpResponse.BodyHandlers.ofString()));
+    }
+
+    for (CompletableFuture<HttpResponse<String>> response : responses) {
+      assertEquals(201, response.join().statusCode());
+    }
+    assertEquals(200, taskService.getTaskCount());
+  }
+
+  private String statusLine(byte[] request) throws IOException {
+    try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+      OutputStream out = socket.getOutputStream();
+      out.write(request);
+      out.flush();
+      return new BufferedReader(new InputStreamReader(socket.getInputStream(),
+          StandardCharsets.US_ASCII)).readLine();
+    }
+  }
+
+  private HttpResponse<String> send(String method, String path, String body) throws Exception {
+    return client.send(request(method, path, body), HttpResponse.BodyHandlers.ofString());
+  }
+
+  private HttpResponse<String> sendIfMatch(String path, String body, String etag)
+      throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(
+            URI.create("http://127.0.0.1:" + server.getPort() + path))
+        .header("If-Match", etag)
+        .PUT(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+    return client.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+
+  private HttpRequest request(String method, String path, String body) {
+    return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path))
+        .method(method, body != null
+            ? HttpRequest.BodyPublishers.ofString(body)
+            : HttpRequest.BodyPublishers.noBody())
+        .build();
+  }
+
+  private static int parseArray(String json) {
+    return json.split("\"id\":", -1).length - 1;
+  }
+}
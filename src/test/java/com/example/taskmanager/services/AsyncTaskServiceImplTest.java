@@ -0,0 +1,166 @@
+package com.example.taskmanager.services;
+
+import com.example.taskmanager.models.Task;
+import com.example.taskmanager.repositories.ConcurrentTaskRepository;
+import com.example.taskmanager.repositories.TaskRepository;
+import com.example.taskmanager.repositories.TaskVersionConflictException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AsyncTaskServiceImpl.
+ */
+class AsyncTaskServiceImplTest {
+
+  private TaskRepository taskRepository;
+  private AsyncTaskServiceImpl asyncService;
+
+  @BeforeEach
+  void setUp() {
+    taskRepository = new ConcurrentTaskRepository();
+    asyncService = new AsyncTaskServiceImpl(new TaskServiceImpl(taskRepository), 8, 1000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    asyncService.close();
+  }
+
+  @Test
+  void testConstructorValidation() {
+    TaskService service = new TaskServiceImpl(taskRepository);
+
+    assertThrows(IllegalArgumentException.class, () -> new AsyncTaskServiceImpl(null, 1, 1));
+    assertThrows(IllegalArgumentException.class, () -> new AsyncTaskServiceImpl(service, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new AsyncTaskServiceImpl(service, 1, 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> new AsyncTaskServiceImpl(service, null, 1, 1));
+  }
+
+  @Test
+  void testMirrorsTaskService() {
+    Task task = asyncService.createTask("Async", "Description").join();
+
+    assertEquals(task.getId(), asyncService.getTaskById(task.getId()).join().get().getId());
+    assertEquals(1, asyncService.getTaskCount().join());
+    assertTrue(asyncService.completeTask(task.getId()).join());
+    assertEquals(1, asyncService.getCompletedTaskCount().join());
+    assertEquals(List.of(task), asyncService.getCompletedTasks().join());
+    assertTrue(asyncService.removeTask(task.getId()).join());
+    assertEquals(0, asyncService.getTaskCount().join());
+  }
+
+  @Test
+  void testFailuresCompleteFutureExceptionally() {
+    CompletableFuture<Task> future = asyncService.createTask("");
+
+    CompletionException thrown = assertThrows(CompletionException.class, future::join);
+    assertTrue(thrown.getCause() instanceof IllegalArgumentException);
+  }
+
+  @Test
+  void testErrorsCompleteFutureExceptionally() throws Exception {
+    TaskRepository broken = new ConcurrentTaskRepository() {
+      @Override
+      public int count() {
+        throw new AssertionError("broken repository");
+      }
+    };
+    try (AsyncTaskServiceImpl service =
+        new AsyncTaskServiceImpl(new TaskServiceImpl(broken), 1, 1)) {
+      CompletableFuture<Integer> future = service.getTaskCount();
+
+      ExecutionException thrown = assertThrows(ExecutionException.class,
+          () -> future.get(5, TimeUnit.SECONDS));
+      assertTrue(thrown.getCause() instanceof AssertionError);
+      assertEquals(0, service.getInFlightCount());
+    }
+  }
+
+  @Test
+  void testManyConcurrentOperations() {
+    List<CompletableFuture<Task>> futures = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      futures.add(asyncService.createTask("Task " + i));
+    }
+
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+    assertEquals(500, taskRepository.count());
+    assertEquals(0, asyncService.getInFlightCount());
+  }
+
+  @Test
+  void testLimitsConcurrentOperations() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    TaskService blocking = new TaskServiceImpl(taskRepository) {
+      @Override
+      public int getTaskCount() {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+        return super.getTaskCount();
+      }
+    };
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      AsyncTaskServiceImpl limited = new AsyncTaskServiceImpl(blocking, executor, 2, 6);
+      List<CompletableFuture<Integer>> accepted = new ArrayList<>();
+      for (int i = 0; i < 6; i++) {
+        accepted.add(limited.getTaskCount());
+      }
+
+      CompletableFuture<Integer> rejected = limited.getTaskCount();
+      CompletionException thrown = assertThrows(CompletionException.class, rejected::join);
+      assertTrue(thrown.getCause() instanceof RejectedExecutionException);
+      assertEquals(6, limited.getInFlightCount());
+
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (running.get() < 2 && System.nanoTime() < deadline) {
+        Thread.sleep(1);
+      }
+      Thread.sleep(20);
+      release.countDown();
+      for (CompletableFuture<Integer> future : accepted) {
+        assertEquals(0, future.join());
+      }
+      assertEquals(2, maxRunning.get());
+      assertEquals(0, limited.getInFlightCount());
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void testConditionalUpdateConflictFailsFuture() {
+    Task task = asyncService.createTask("Async").join();
+
+    Task updated = asyncService.updateTask(task.getId(), 0, "Renamed", "").join().get();
+    CompletableFuture<Optional<Task>> stale = asyncService.updateTask(task.getId(), 0, "Lost", "");
+
+    assertEquals(1, updated.getVersion());
+    CompletionException thrown = assertThrows(CompletionException.class, stale::join);
+    assertTrue(thrown.getCause() instanceof TaskVersionConflictException);
+  }
+}
@@ -0,0 +1,65 @@
+package com.example.taskmanager.services;
+
+import com.example.taskmanager.metrics.MetricsRegistry;
+import com.example.taskmanager.repositories.InMemoryTaskRepository;
+import com.example.taskmanager.repositories.TaskVersionConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InstrumentedTaskService.
+ */
+class InstrumentedTaskServiceTest {
+
+  private MetricsRegistry metrics;
+  private TaskService taskService;
+
+  @BeforeEach
+  void setUp() {
+    metrics = new MetricsRegistry();
+    taskService = new InstrumentedTaskService(
+        new TaskServiceImpl(new InMemoryTaskRepository()), metrics);
+  }
+
+  @Test
+  void testConstructorWithNullArguments() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new InstrumentedTaskService(null, metrics));
+    assertThrows(IllegalArgumentException.class,
+        () -> new InstrumentedTaskService(taskService, null));
+  }
+
+  @Test
+  void testRecordsCallsAndResults() {
+    String id = taskService.createTask("Task", "Description").getId();
+    taskService.createTask("Other");
+
+    assertTrue(taskService.completeTask(id));
+    assertEquals(2, taskService.getTaskCount());
+    assertEquals(2, metrics.operation("service.createTask").getLatency().getCount());
+    assertEquals(1, metrics.operation("service.completeTask").getLatency().getCount());
+    assertEquals(1, metrics.operation("service.getTaskCount").getLatency().getCount());
+    assertEquals(0, metrics.operation("service.getAllTasks").getLatency().getCount());
+  }
+
+  @Test
+  void testRecordsErrors() {
+    assertThrows(IllegalArgumentException.class, () -> taskService.createTask(""));
+
+    assertEquals(1, metrics.operation("service.createTask").getErrorCount());
+    assertEquals(1, metrics.operation("service.createTask").getLatency().getCount());
+  }
+
+  @Test
+  void testRecordsConditionalUpdate() {
+    String id = taskService.createTask("Task").getId();
+
+    assertEquals(1, taskService.updateTask(id, 0, "Renamed", "").get().getVersion());
+    assertThrows(TaskVersionConflictException.class,
+        () -> taskService.updateTask(id, 0, "Lost", ""));
+
+    assertEquals(2, metrics.operation("service.updateTask").getLatency().getCount());
+    assertEquals(1, metrics.operation("service.updateTask").getErrorCount());
+  }
+}
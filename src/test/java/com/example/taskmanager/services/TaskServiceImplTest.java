@@ -1,12 +1,26 @@
 package com.example.taskmanager.services;
 
+import com.example.taskmanager.events.TaskChangeEvent;
 import com.example.taskmanager.models.Task;
+import com.example.taskmanager.models.TaskIdGenerator;
+import com.example.taskmanager.models.TaskId;
+import com.example.taskmanager.models.TaskPage;
+import com.example.taskmanager.repositories.ConcurrentTaskRepository;
 import com.example.taskmanager.repositories.InMemoryTaskRepository;
 import com.example.taskmanager.repositories.TaskRepository;
+import com.example.taskmanager.repositories.TaskVersionConflictException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -217,4 +231,369 @@ class TaskServiceImplTest {
     taskService.createTask("Task 2", "Description");
     assertEquals(2, taskService.getTaskCount());
   }
+
+  @Test
+  void testCreateTasks() {
+    List<Task> created = taskService.createTasks(List.of(new Task("Task 1", "Description"),
+        new Task("Task 2", "")));
+
+    assertEquals(2, created.size());
+    assertEquals(2, taskService.getTaskCount());
+    assertEquals("Task 2", taskService.getTaskByIndex(2).get().getName());
+    assertThrows(IllegalArgumentException.class, () -> taskService.createTasks(null));
+  }
+
+  @Test
+  void testCreateTasksAssignsNewIdsInsteadOfOverwriting() {
+    Task existing = taskService.createTask("Existing", "Keep me");
+    Task clash = new Task(existing.getId(), "Clash", "");
+    clash.setCompleted(true);
+
+    Task created = taskService.createTasks(List.of(clash)).get(0);
+
+    assertNotEquals(existing.getId(), created.getId());
+    assertEquals("Clash", created.getName());
+    assertFalse(created.isCompleted());
+    assertEquals(2, taskService.getTaskCount());
+    assertEquals("Keep me", taskService.getTaskById(existing.getId()).get().getDescription());
+    assertThrows(IllegalArgumentException.class,
+        () -> taskService.createTasks(Arrays.asList(new Task("A", ""), null)));
+  }
+
+  @Test
+  void testCompleteAll() {
+    Task first = taskService.createTask("Task 1");
+    Task second = taskService.createTask("Task 2");
+    Task third = taskService.createTask("Task 3");
+
+    int completed = taskService.completeAll(List.of(first.getId(), third.getId(), "missing"));
+
+    assertEquals(2, completed);
+    assertTrue(taskService.getTaskById(first.getId()).get().isCompleted());
+    assertFalse(taskService.getTaskById(second.getId()).get().isCompleted());
+    assertTrue(taskService.getTaskById(third.getId()).get().isCompleted());
+  }
+
+  @Test
+  void testCompleteAllRetriesOnlyConflictingTasks() {
+    List<Integer> batches = new ArrayList<>();
+    TaskRepository contended = new InMemoryTaskRepository() {
+      @Override
+      public List<Task> compareAndSetAll(Collection<Task> tasks) {
+        if (batches.isEmpty()) {
+          // Another writer renames the second task between read and write
+          Task other = findByIndex(1).get().copy();
+          other.setName("Renamed");
+          compareAndSet(other);
+        }
+        batches.add(tasks.size());
+        return super.compareAndSetAll(tasks);
+      }
+    };
+    TaskService service = new TaskServiceImpl(contended);
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      ids.add(service.createTask("Task " + i).getId());
+    }
+
+    assertEquals(3, service.completeAll(ids));
+
+    assertEquals(List.of(3, 1), batches);
+    assertEquals(3, service.getCompletedTaskCount());
+    Task renamed = service.getTaskById(ids.get(1)).get();
+    assertEquals("Renamed", renamed.getName());
+    assertEquals(2, renamed.getVersion());
+  }
+
+  @Test
+  void testRemoveAll() {
+    Task first = taskService.createTask("Task 1");
+    Task second = taskService.createTask("Task 2");
+    taskService.createTask("Task 3");
+
+    int removed = taskService.removeAll(List.of(first.getId(), second.getId(), "missing"));
+
+    assertEquals(2, removed);
+    assertEquals(1, taskService.getTaskCount());
+    assertEquals("Task 3", taskService.getTaskByIndex(1).get().getName());
+  }
+
+  @Test
+  void testSearchTasks() {
+    Task task = taskService.createTask("Buy milk", "From the shop");
+    taskService.createTask("Buy bread", "");
+
+    taskService.updateTask(1, "Buy oat milk", "From the market");
+
+    List<Task> found = taskService.searchTasks("milk MARKET");
+    assertEquals(1, found.size());
+    assertEquals(task.getId(), found.get(0).getId());
+    assertEquals(2, taskService.searchTasks("buy").size());
+    assertTrue(taskService.searchTasks("shop").isEmpty());
+  }
+
+  @Test
+  void testStatusCountsAndListings() {
+    Task first = taskService.createTask("Task 1");
+    taskService.createTask("Task 2");
+    Task third = taskService.createTask("Task 3");
+
+    taskService.completeTask(first.getId());
+    taskService.completeAll(List.of(third.getId()));
+
+    assertEquals(2, taskService.getCompletedTaskCount());
+    assertEquals(1, taskService.getPendingTaskCount());
+    assertEquals("Task 2", taskService.getPendingTasks().get(0).getName());
+    assertEquals(List.of(first, third), taskService.getCompletedTasks());
+
+    taskService.removeTask(first.getId());
+
+    assertEquals(1, taskService.getCompletedTaskCount());
+  }
+
+  @Test
+  void testCreateTaskUsesIdGenerator() {
+    TaskService service = new TaskServiceImpl(taskRepository, () -> TaskId.of(7));
+
+    Task task = service.createTask("Task");
+
+    assertEquals("0000000000000007", task.getId());
+    assertTrue(service.getTaskById("0000000000000007").isPresent());
+    assertThrows(IllegalArgumentException.class, () -> new TaskServiceImpl(taskRepository, null));
+  }
+
+  @Test
+  void testGetTaskPage() {
+    for (int i = 0; i < 5; i++) {
+      taskService.createTask("Task " + i);
+    }
+
+    TaskPage first = taskService.getTaskPage(null, 2);
+    TaskPage second = taskService.getTaskPage(first.getNextCursor(), 2);
+    TaskPage last = taskService.getTaskPage(second.getNextCursor(), 2);
+
+    assertEquals(0, first.getOffset());
+    assertEquals(5, first.getTotalCount());
+    assertEquals("Task 2", second.getTasks().get(0).getName());
+    assertEquals(1, last.getTasks().size());
+    assertFalse(last.hasNext());
+  }
+
+  @Test
+  void testPublishesChanges() {
+    List<String> changes = new ArrayList<>();
+    TaskService publishing = new TaskServiceImpl(taskRepository, TaskIdGenerator.sequential(),
+        (type, id, task) -> changes.add(type + " " + id + " "
+            + (task == null ? "-" : task.getName() + "/" + task.isCompleted())));
+
+    Task first = publishing.createTask("First");
+    Task second = publishing.createTask("Second");
+    Task third = publishing.createTask("Third");
+    publishing.updateTask(1, "Renamed", "");
+    publishing.completeTask(second.getId());
+    publishing.completeTask("missing");
+    publishing.removeTaskByIndex(1);
+    publishing.removeAll(List.of(second.getId(), "missing"));
+    publishing.removeTask(third.getId());
+    publishing.removeTask(third.getId());
+
+    assertEquals(List.of(
+        "CREATED " + first.getId() + " First/false",
+        "CREATED " + second.getId() + " Second/false",
+        "CREATED " + third.getId() + " Third/false",
+        "UPDATED " + first.getId() + " Renamed/false",
+        "COMPLETED " + second.getId() + " Second/true",
+        "REMOVED " + first.getId() + " -",
+        "REMOVED " + second.getId() + " -",
+        "REMOVED " + third.getId() + " -"), changes);
+  }
+
+  @Test
+  void testRemoveByIndexPublishesTheTaskItRemoved() {
+    List<String> removed = new ArrayList<>();
+    boolean[] interfered = new boolean[1];
+    TaskRepository shifting = new InMemoryTaskRepository() {
+      @Override
+      public Optional<Task> findByIndex(int index) {
+        Optional<Task> found = super.findByIndex(index);
+        if (!interfered[0] && count() == 3) {
+          // Another caller removes the first task right after the lookup
+          interfered[0] = true;
+          deleteByIndex(0);
+        }
+        return found;
+      }
+    };
+    TaskService service = new TaskServiceImpl(shifting, TaskIdGenerator.sequential(),
+        (type, id, task) -> removed.add(id));
+    service.createTask("First");
+    Task second = service.createTask("Second");
+    Task third = service.createTask("Third");
+    removed.clear();
+
+    assertTrue(service.removeTaskByIndex(2));
+
+    assertEquals(List.of(second.getId()), removed);
+    assertEquals(List.of(third), service.getAllTasks());
+  }
+
+  @Test
+  void testRemoveAllPublishesOnlyConfirmedDeletes() {
+    List<String> removed = new ArrayList<>();
+    TaskService service = new TaskServiceImpl(taskRepository, TaskIdGenerator.sequential(),
+        (type, id, task) -> {
+          if (type == TaskChangeEvent.Type.REMOVED) {
+            removed.add(id);
+          }
+        });
+    Task first = service.createTask("First");
+    Task second = service.createTask("Second");
+    taskRepository.deleteById(second.getId());
+
+    int count = service.removeAll(List.of(first.getId(), first.getId(), second.getId()));
+
+    assertEquals(1, count);
+    assertEquals(List.of(first.getId()), removed);
+    assertEquals(0, service.removeAll(null));
+  }
+
+  @Test
+  void testPublishesBatchChanges() {
+    List<TaskChangeEvent.Type> types = new ArrayList<>();
+    TaskService publishing = new TaskServiceImpl(taskRepository, TaskIdGenerator.sequential(),
+        (type, id, task) -> types.add(type));
+
+    List<Task> created = publishing.createTasks(List.of(new Task("A", ""), new Task("B", "")));
+    publishing.completeAll(List.of(created.get(0).getId(), created.get(1).getId()));
+
+    assertEquals(List.of(TaskChangeEvent.Type.CREATED, TaskChangeEvent.Type.CREATED,
+        TaskChangeEvent.Type.COMPLETED, TaskChangeEvent.Type.COMPLETED), types);
+  }
+
+  @Test
+  void testConstructorWithNullPublisher() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new TaskServiceImpl(taskRepository, TaskIdGenerator.sequential(), null));
+  }
+
+  @Test
+  void testUpdatesDoNotMutateStoredTasks() {
+    Task task = taskService.createTask("Original", "");
+
+    assertTrue(taskService.updateTask(1, "Renamed", "Described"));
+    assertTrue(taskService.completeTask(task.getId()));
+
+    assertEquals("Original", task.getName());
+    assertFalse(task.isCompleted());
+    Task stored = taskService.getTaskById(task.getId()).get();
+    assertEquals("Renamed", stored.getName());
+    assertTrue(stored.isCompleted());
+    assertEquals(2, stored.getVersion());
+  }
+
+  @Test
+  void testConditionalUpdate() {
+    Task task = taskService.createTask("Draft", "");
+
+    Task updated = taskService.updateTask(task.getId(), 0, "Final", "Done").get();
+    TaskVersionConflictException conflict = assertThrows(TaskVersionConflictException.class,
+        () -> taskService.updateTask(task.getId(), 0, "Lost", ""));
+
+    assertEquals(1, updated.getVersion());
+    assertEquals("Final", taskService.getTaskById(task.getId()).get().getName());
+    assertEquals(1, conflict.getActualVersion());
+    assertFalse(taskService.updateTask("missing", 0, "Name", "").isPresent());
+    assertThrows(IllegalArgumentException.class,
+        () -> taskService.updateTask(task.getId(), 1, " ", ""));
+  }
+
+  @Test
+  void testUpdateByIndexRetriesTheTaskFirstFound() {
+    boolean[] interfered = new boolean[1];
+    TaskRepository shifting = new InMemoryTaskRepository() {
+      @Override
+      public Optional<Task> compareAndSet(Task task) {
+        if (!interfered[0]) {
+          interfered[0] = true;
+          // Another writer changes the task and deletes the one before it
+          super.compareAndSet(findById(task.getId()).get().copy());
+          deleteByIndex(0);
+        }
+        return super.compareAndSet(task);
+      }
+    };
+    TaskService service = new TaskServiceImpl(shifting);
+    service.createTask("First");
+    Task second = service.createTask("Second");
+    service.createTask("Third");
+
+    assertTrue(service.updateTask(2, "Renamed", ""));
+
+    assertEquals("Renamed", service.getTaskById(second.getId()).get().getName());
+    assertEquals("Third", service.getTaskByIndex(2).get().getName());
+  }
+
+  @Test
+  void testUpdateByIndexGivesUpWhenTheTaskIsGone() {
+    TaskRepository deleting = new InMemoryTaskRepository() {
+      @Override
+      public Optional<Task> compareAndSet(Task task) {
+        deleteById(task.getId());
+        throw new TaskVersionConflictException(task.getId(), task.getVersion(), -1);
+      }
+    };
+    TaskService service = new TaskServiceImpl(deleting);
+    service.createTask("First");
+    service.createTask("Second");
+
+    assertFalse(service.updateTask(1, "Renamed", ""));
+    assertEquals("Second", service.getTaskByIndex(1).get().getName());
+  }
+
+  @Test
+  void testConcurrentUpdatesRetryOnConflict() throws Exception {
+    TaskService shared = new TaskServiceImpl(new ConcurrentTaskRepository());
+    String id = shared.createTask("Task", "").getId();
+    int threads = 4;
+    int rounds = 200;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        boolean renames = t % 2 == 0;
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < rounds; i++) {
+            assertTrue(renames ? shared.updateTask(1, "Task " + i, "") : shared.completeTask(id));
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Task task = shared.getTaskById(id).get();
+    assertEquals(threads * rounds, task.getVersion());
+    assertTrue(task.isCompleted());
+  }
+
+  @Test
+  void testUpdateGivesUpAfterRepeatedConflicts() {
+    TaskRepository contended = new InMemoryTaskRepository() {
+      @Override
+      public Optional<Task> compareAndSet(Task task) {
+        throw new TaskVersionConflictException(task.getId(), task.getVersion(), -1);
+      }
+    };
+    TaskService service = new TaskServiceImpl(contended);
+    Task task = service.createTask("Task");
+
+    assertThrows(TaskVersionConflictException.class, () -> service.completeTask(task.getId()));
+  }
 }